@@ -17,6 +17,10 @@ module org.example.envahissementarmorique {
     exports org.example.envahissementarmorique.model.place;
     exports org.example.envahissementarmorique.model.item;
     exports org.example.envahissementarmorique.model.theater;
+    exports org.example.envahissementarmorique.model.combat;
+    exports org.example.envahissementarmorique.model.random;
+    exports org.example.envahissementarmorique.model.event;
+    exports org.example.envahissementarmorique.model.log;
     exports org.example.envahissementarmorique.model.character.base.Lycan;
     opens org.example.envahissementarmorique.model.character.base.Lycan to javafx.base, javafx.fxml;
     exports org.example.envahissementarmorique.model.character.base.Gaulish;
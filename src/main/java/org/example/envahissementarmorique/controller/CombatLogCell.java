@@ -0,0 +1,184 @@
+package org.example.envahissementarmorique.controller;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.Separator;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import org.example.envahissementarmorique.model.theater.CombatResult;
+
+/**
+ * Cell of the combat log list.
+ * <p>
+ * The list only creates cells for its visible rows. Each cell builds its three layouts
+ * (duel, event, separator) once, then shows the one matching its current row and only
+ * updates texts and style classes when the row changes.
+ * </p>
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+final class CombatLogCell extends ListCell<CombatLogEntry> {
+
+    private static final String ALIVE_STYLE = "-fx-text-fill: #27ae60;";
+    private static final String DEAD_STYLE = "-fx-text-fill: #c0392b; -fx-font-weight: bold;";
+
+    // Duel layout
+    private final VBox battleBox = new VBox(5);
+    private final Label fighters = new Label();
+    private final Label before = new Label();
+    private final Label damage = new Label();
+    private final Label after1 = new Label();
+    private final Label after2 = new Label();
+    private final HBox deathBox = new HBox(5);
+    private final Label deaths = new Label();
+
+    // Event layout
+    private final HBox eventBox = new HBox(10);
+    private final Label eventIcon = new Label();
+    private final Label eventMessage = new Label();
+
+    // Separator layout
+    private final VBox separatorBox = new VBox(5);
+    private final Label separatorTitle = new Label();
+
+    CombatLogCell() {
+        buildBattleBox();
+        buildEventBox();
+        buildSeparatorBox();
+        setText(null);
+    }
+
+    @Override
+    protected void updateItem(CombatLogEntry entry, boolean empty) {
+        super.updateItem(entry, empty);
+        if (empty || entry == null) {
+            setGraphic(null);
+            return;
+        }
+
+        switch (entry.kind()) {
+            case SEPARATOR -> {
+                separatorTitle.setText("═══ " + entry.text() + " ═══");
+                setGraphic(separatorBox);
+            }
+            case BATTLE -> {
+                showBattle(entry.result());
+                setGraphic(battleBox);
+            }
+            default -> {
+                eventBox.getStyleClass().setAll("combat-entry", entry.kind().getStyleClass());
+                eventIcon.setText(entry.kind().getIcon());
+                eventMessage.setText(entry.text());
+                setGraphic(eventBox);
+            }
+        }
+    }
+
+    private void showBattle(CombatResult result) {
+        int fighter1HealthBefore = result.getFighter1HealthAfter() + result.getDamageToFighter1();
+        int fighter2HealthBefore = result.getFighter2HealthAfter() + result.getDamageToFighter2();
+
+        fighters.setText(result.getFighter1Name() + " (" + result.getFighter1Faction() + ") vs " +
+                result.getFighter2Name() + " (" + result.getFighter2Faction() + ")");
+        before.setText("Before: " + result.getFighter1Name() + " [HP: " + fighter1HealthBefore + "] | " +
+                result.getFighter2Name() + " [HP: " + fighter2HealthBefore + "]");
+        damage.setText("Damage: " + result.getFighter1Name() + " dealt " + result.getDamageToFighter2() + " HP | " +
+                result.getFighter2Name() + " dealt " + result.getDamageToFighter1() + " HP");
+
+        after1.setText("After: " + result.getFighter1Name() + " → " + result.getFighter1HealthAfter() + " HP");
+        after2.setText(result.getFighter2Name() + " → " + result.getFighter2HealthAfter() + " HP");
+        showHealth(after1, result.isFighter1Died());
+        showHealth(after2, result.isFighter2Died());
+
+        boolean casualty = result.hasCasualty();
+        if (casualty) {
+            StringBuilder fallen = new StringBuilder();
+            if (result.isFighter1Died()) {
+                fallen.append(result.getFighter1Name());
+            }
+            if (result.isFighter2Died()) {
+                if (!fallen.isEmpty()) fallen.append(" and ");
+                fallen.append(result.getFighter2Name());
+            }
+            deaths.setText(fallen.append(" has fallen!").toString());
+            battleBox.getStyleClass().setAll("combat-entry", "combat-entry-battle", "combat-entry-death");
+        } else {
+            battleBox.getStyleClass().setAll("combat-entry", "combat-entry-battle");
+        }
+        deathBox.setVisible(casualty);
+        deathBox.setManaged(casualty);
+    }
+
+    private static void showHealth(Label label, boolean died) {
+        label.getStyleClass().setAll("label", "combat-text", died ? "combat-text-death" : "combat-text-damage");
+        label.setStyle(died ? DEAD_STYLE : ALIVE_STYLE);
+    }
+
+    private void buildBattleBox() {
+        battleBox.setPadding(new Insets(10));
+
+        // Combat header
+        HBox header = new HBox(10);
+        header.setAlignment(Pos.CENTER_LEFT);
+        Label icon = new Label(CombatLogEntry.Kind.BATTLE.getIcon());
+        icon.getStyleClass().add("combat-icon");
+        icon.setStyle("-fx-font-size: 16px;");
+        fighters.getStyleClass().addAll("combat-text", "combat-text-fighter");
+        fighters.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+        header.getChildren().addAll(icon, fighters);
+
+        // Health before combat, damage dealt, health after combat
+        before.getStyleClass().add("combat-text");
+        before.setStyle("-fx-font-style: italic; -fx-text-fill: #7f8c8d;");
+        damage.getStyleClass().add("combat-text");
+        damage.setStyle("-fx-font-weight: bold; -fx-text-fill: #e74c3c;");
+        HBox beforeHealth = indented(5, before);
+        HBox damageDealt = indented(2, damage);
+        HBox details = indented(2, after1, after2);
+
+        // Death notification, shown only when a fighter fell
+        deathBox.setPadding(new Insets(5, 0, 0, 25));
+        deathBox.setAlignment(Pos.CENTER_LEFT);
+        Label skullIcon = new Label("💀");
+        skullIcon.getStyleClass().add("combat-icon");
+        skullIcon.setStyle("-fx-font-size: 16px;");
+        deaths.getStyleClass().addAll("combat-text", "combat-text-death");
+        deaths.setStyle("-fx-font-weight: bold; -fx-text-fill: #c0392b; -fx-font-size: 13px;");
+        deathBox.getChildren().addAll(skullIcon, deaths);
+
+        battleBox.getChildren().addAll(header, beforeHealth, damageDealt, details, deathBox);
+    }
+
+    private static HBox indented(double top, Label... labels) {
+        HBox box = new HBox(20);
+        box.setPadding(new Insets(top, 0, 0, 25));
+        box.getChildren().addAll(labels);
+        return box;
+    }
+
+    private void buildEventBox() {
+        eventBox.setPadding(new Insets(8));
+        eventBox.setAlignment(Pos.CENTER_LEFT);
+        eventIcon.getStyleClass().add("combat-icon");
+        eventMessage.getStyleClass().add("combat-text");
+        eventMessage.setWrapText(true);
+        eventBox.getChildren().addAll(eventIcon, eventMessage);
+    }
+
+    private void buildSeparatorBox() {
+        separatorBox.setPadding(new Insets(15, 0, 10, 0));
+        separatorBox.setAlignment(Pos.CENTER);
+        separatorBox.setStyle("-fx-background-color: #ecf0f1; -fx-background-radius: 5;");
+
+        separatorTitle.setStyle("-fx-font-weight: bold; -fx-font-size: 16px; -fx-text-fill: #2c3e50; -fx-padding: 5;");
+
+        Separator line = new Separator();
+        line.setMaxWidth(Double.MAX_VALUE);
+        line.setStyle("-fx-background-color: #3498db;");
+
+        separatorBox.getChildren().addAll(line, separatorTitle, new Separator());
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.envahissementarmorique.controller;
+
+import org.example.envahissementarmorique.model.theater.CombatResult;
+
+/**
+ * Row of the combat log: a section separator, a duel or a simulation event.
+ * <p>
+ * Only the data is kept; the nodes that display it belong to the visible cells of the
+ * list ({@link CombatLogCell}) and are reused from one row to the next.
+ * </p>
+ *
+ * @param kind the kind of row
+ * @param text the separator title or the event message (null for a duel)
+ * @param result the duel result (null for other rows)
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+record CombatLogEntry(Kind kind, String text, CombatResult result) {
+
+    /**
+     * Kinds of combat log rows, each with its own icon and style class.
+     */
+    enum Kind {
+        SEPARATOR("", null),
+        BATTLE("⚔️", "combat-entry-battle"),
+        FOOD("🍖", "combat-entry-food"),
+        WARNING("⚠️", "combat-entry-warning"),
+        EVENT("ℹ️", "combat-entry-event");
+
+        private final String icon;
+        private final String styleClass;
+
+        Kind(String icon, String styleClass) {
+            this.icon = icon;
+            this.styleClass = styleClass;
+        }
+
+        /** @return the icon shown before the row text */
+        String getIcon() {
+            return icon;
+        }
+
+        /** @return the style class of the row (null for a separator) */
+        String getStyleClass() {
+            return styleClass;
+        }
+    }
+
+    /**
+     * @param title the section title
+     * @return a separator row
+     */
+    static CombatLogEntry separator(String title) {
+        return new CombatLogEntry(Kind.SEPARATOR, title, null);
+    }
+
+    /**
+     * @param result the duel result
+     * @return a duel row
+     */
+    static CombatLogEntry battle(CombatResult result) {
+        return new CombatLogEntry(Kind.BATTLE, null, result);
+    }
+
+    /**
+     * @param kind the kind of event (FOOD, WARNING or EVENT)
+     * @param message the event message
+     * @return an event row
+     */
+    static CombatLogEntry event(Kind kind, String message) {
+        return new CombatLogEntry(kind, message, null);
+    }
+}
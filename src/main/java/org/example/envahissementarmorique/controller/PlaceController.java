@@ -116,7 +116,7 @@ public class PlaceController {
         placeAreaLabel.setText(place.getArea() + " m²");
         chiefNameLabel.setText(place.getChief() != null ? place.getChief().getName() : "No Chief");
         charactersCountLabel.setText(String.valueOf(place.getNumberOfCharacters()));
-        foodCountLabel.setText(String.valueOf(place.getFoods().size()));
+        foodCountLabel.setText(String.valueOf(place.getFoodCount()));
 
         charactersObservableList.setAll(place.getCharacters());
         foodObservableList.setAll(place.getFoods());
@@ -255,7 +255,7 @@ public class PlaceController {
      */
     @FXML
     private void handleFeedAll() {
-        if (place.getFoods().isEmpty()) {
+        if (place.getFoodInventory().isEmpty()) {
             showWarning("No Food", "There is no food available to feed characters.");
             return;
         }
@@ -0,0 +1,120 @@
+package org.example.envahissementarmorique.controller;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Observable list of fixed capacity, backed by a ring buffer.
+ * <p>
+ * Elements are only appended ({@link #append(Collection)}); once the list is full, each
+ * new element replaces the oldest one. Memory use therefore stays bounded however long
+ * the list is fed, and an append costs the number of appended elements, not the size of
+ * the list. Each append fires a single change: the dropped elements removed from the
+ * head, the new ones added at the tail.
+ * </p>
+ *
+ * @param <E> the element type
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+final class RingBufferObservableList<E> extends ObservableListBase<E> {
+
+    private final Object[] items;
+
+    /** Index of the oldest element in {@link #items}. */
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param capacity the maximum number of elements kept
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    RingBufferObservableList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    /** @return the maximum number of elements kept */
+    int capacity() {
+        return items.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) items[(head + index) % items.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(E element) {
+        append(Collections.singletonList(element));
+        return true;
+    }
+
+    /**
+     * Appends elements at the tail, dropping the oldest ones beyond the capacity.
+     *
+     * @param added the elements to append, in order
+     */
+    void append(Collection<? extends E> added) {
+        if (added.isEmpty()) return;
+
+        int capacity = items.length;
+        // Only the last "capacity" elements can survive the append
+        int skipped = Math.max(0, added.size() - capacity);
+        int kept = added.size() - skipped;
+        int dropped = Math.max(0, size + kept - capacity);
+
+        beginChange();
+        if (dropped > 0) {
+            List<E> removed = new ArrayList<>(dropped);
+            for (int i = 0; i < dropped; i++) {
+                removed.add(get(i));
+                items[(head + i) % capacity] = null;
+            }
+            head = (head + dropped) % capacity;
+            size -= dropped;
+            nextRemove(0, removed);
+        }
+
+        int from = size;
+        Iterator<? extends E> it = added.iterator();
+        for (int i = 0; i < skipped; i++) it.next();
+        while (it.hasNext()) {
+            items[(head + size) % capacity] = it.next();
+            size++;
+        }
+        nextAdd(from, size);
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) return;
+
+        beginChange();
+        List<E> removed = new ArrayList<>(this);
+        Arrays.fill(items, null);
+        head = 0;
+        size = 0;
+        nextRemove(0, removed);
+        endChange();
+    }
+}
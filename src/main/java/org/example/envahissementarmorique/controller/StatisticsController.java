@@ -11,13 +11,11 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
+import org.example.envahissementarmorique.model.character.base.FactionRegistry;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.place.Place;
 import org.example.envahissementarmorique.model.theater.InvasionTheater;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Controller for the statistics view.
  * Displays comprehensive theater statistics with charts.
@@ -95,7 +93,7 @@ public class StatisticsController {
         int totalFood = 0;
 
         for (Place place : theater.getPlaces()) {
-            totalFood += place.getFoods().size();
+            totalFood += place.getFoodCount();
             for (GameCharacter character : place.getCharacters()) {
                 if (character.isDead()) {
                     casualties++;
@@ -115,20 +113,21 @@ public class StatisticsController {
      * Updates the faction distribution pie chart.
      */
     private void updateFactionChart() {
-        Map<String, Integer> factionCounts = new HashMap<>();
+        int[] factionCounts = new int[FactionRegistry.size()];
 
         for (Place place : theater.getPlaces()) {
             for (GameCharacter character : place.getCharacters()) {
                 if (!character.isDead()) {
-                    String faction = character.getFaction();
-                    factionCounts.put(faction, factionCounts.getOrDefault(faction, 0) + 1);
+                    factionCounts[character.getFactionId()]++;
                 }
             }
         }
 
         ObservableList<PieChart.Data> pieChartData = FXCollections.observableArrayList();
-        for (Map.Entry<String, Integer> entry : factionCounts.entrySet()) {
-            pieChartData.add(new PieChart.Data(entry.getKey(), entry.getValue()));
+        for (int faction = 0; faction < factionCounts.length; faction++) {
+            if (factionCounts[faction] > 0) {
+                pieChartData.add(new PieChart.Data(factionLabel(faction), factionCounts[faction]));
+            }
         }
 
         factionPieChart.setData(pieChartData);
@@ -138,17 +137,15 @@ public class StatisticsController {
      * Updates the average health bar chart.
      */
     private void updateHealthChart() {
-        Map<String, Integer> factionHealthSum = new HashMap<>();
-        Map<String, Integer> factionCount = new HashMap<>();
+        long[] factionHealthSum = new long[FactionRegistry.size()];
+        int[] factionCount = new int[factionHealthSum.length];
 
         for (Place place : theater.getPlaces()) {
             for (GameCharacter character : place.getCharacters()) {
                 if (!character.isDead()) {
-                    String faction = character.getFaction();
-                    factionHealthSum.put(faction,
-                        factionHealthSum.getOrDefault(faction, 0) + character.getHealth());
-                    factionCount.put(faction,
-                        factionCount.getOrDefault(faction, 0) + 1);
+                    int faction = character.getFactionId();
+                    factionHealthSum[faction] += character.getHealth();
+                    factionCount[faction]++;
                 }
             }
         }
@@ -156,16 +153,28 @@ public class StatisticsController {
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Average Health");
 
-        for (Map.Entry<String, Integer> entry : factionHealthSum.entrySet()) {
-            String faction = entry.getKey();
-            double avgHealth = (double) entry.getValue() / factionCount.get(faction);
-            series.getData().add(new XYChart.Data<>(faction, avgHealth));
+        for (int faction = 0; faction < factionCount.length; faction++) {
+            if (factionCount[faction] > 0) {
+                double avgHealth = (double) factionHealthSum[faction] / factionCount[faction];
+                series.getData().add(new XYChart.Data<>(factionLabel(faction), avgHealth));
+            }
         }
 
         healthBarChart.getData().clear();
         healthBarChart.getData().add(series);
     }
 
+    /**
+     * Returns the display name of a faction.
+     *
+     * @param faction the faction id
+     * @return the faction name, or "None" for characters without a faction
+     */
+    private static String factionLabel(int faction) {
+        String name = FactionRegistry.nameOf(faction);
+        return name != null ? name : "None";
+    }
+
     /**
      * Updates the places table.
      */
@@ -177,7 +186,7 @@ public class StatisticsController {
                 place.getName(),
                 place.getClass().getSimpleName(),
                 place.getNumberOfCharacters(),
-                place.getFoods().size(),
+                place.getFoodCount(),
                 place.getArea()
             ));
         }
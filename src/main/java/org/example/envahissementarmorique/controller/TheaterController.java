@@ -1,23 +1,23 @@
 package org.example.envahissementarmorique.controller;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
-import javafx.geometry.Insets;
-import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
 import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.theater.ClanLeaderPolicy;
 import org.example.envahissementarmorique.model.theater.InvasionTheater;
+import org.example.envahissementarmorique.model.theater.PhasePipeline;
+import org.example.envahissementarmorique.model.theater.RoundResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,6 +29,9 @@ import java.util.Optional;
  */
 public class TheaterController {
 
+    /** Number of combat log rows kept; older rows are dropped. */
+    private static final int COMBAT_LOG_CAPACITY = 2000;
+
     @FXML private Label theaterNameLabel;
     @FXML private Label placesCountLabel;
     @FXML private Label totalCharactersLabel;
@@ -50,7 +53,7 @@ public class TheaterController {
     @FXML private Label battlesCountLabel;
     @FXML private Label casualtiesCountLabel;
     @FXML private Label foodSpawnedLabel;
-    @FXML private VBox combatLogContainer;
+    @FXML private ListView<CombatLogEntry> combatLogListView;
 
     private InvasionTheater theater;
     private Stage primaryStage;
@@ -61,6 +64,9 @@ public class TheaterController {
     private int totalBattles = 0;
     private int totalCasualties = 0;
     private int totalFoodSpawned = 0;
+    private final RingBufferObservableList<CombatLogEntry> combatLog =
+            new RingBufferObservableList<>(COMBAT_LOG_CAPACITY);
+    private final UiUpdateChannel ui = new UiUpdateChannel(text -> consoleTextArea.appendText(text));
 
     /**
      * Sets the theater instance.
@@ -119,6 +125,9 @@ public class TheaterController {
             }
         });
 
+        combatLogListView.setItems(combatLog);
+        combatLogListView.setCellFactory(lv -> new CombatLogCell());
+
         intervalsSpinner.setValueFactory(
             new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 100, 5)
         );
@@ -142,14 +151,31 @@ public class TheaterController {
     }
 
     /**
-     * Logs a message to the console.
+     * Logs a message to the console. The line is timestamped now and appended with the
+     * other lines of the frame.
      *
      * @param message the message to log
      */
     private void logToConsole(String message) {
-        Platform.runLater(() -> {
-            consoleTextArea.appendText("[" + java.time.LocalTime.now() + "] " + message + "\n");
-        });
+        ui.log("[" + java.time.LocalTime.now() + "] " + message);
+    }
+
+    /**
+     * Sets the status text; a status set before the next frame replaces this one.
+     *
+     * @param status the status text
+     */
+    private void setStatus(String status) {
+        ui.set(simulationStatusLabel, () -> simulationStatusLabel.setText(status));
+    }
+
+    /**
+     * Sets the progress bar; a progress set before the next frame replaces this one.
+     *
+     * @param progress the progress, between 0 and 1
+     */
+    private void setProgress(double progress) {
+        ui.set(simulationProgressBar, () -> simulationProgressBar.setProgress(progress));
     }
 
     /**
@@ -304,9 +330,13 @@ public class TheaterController {
         totalFoodSpawned = 0;
 
         int intervals = intervalsSpinner.getValue();
-        simulationStatusLabel.setText("Simulation running...");
+        setStatus("Simulation running...");
         logToConsole("Starting simulation with " + intervals + " intervals");
 
+        PhasePipeline pipeline = theater.createPipeline(ClanLeaderPolicy.passive(), 0);
+        pipeline.setEnabled(InvasionTheater.PHASE_LEADERS, false);
+        pipeline.setPhaseListener(this::showPhaseResult);
+
         new Thread(() -> {
             try {
                 for (int i = 1; i <= intervals; i++) {
@@ -315,115 +345,118 @@ public class TheaterController {
                     final int currentInterval = i;
                     currentRound = i;
 
-                    Platform.runLater(() -> {
-                        simulationProgressBar.setProgress((double) currentInterval / intervals);
-                        simulationStatusLabel.setText("Interval " + currentInterval + " / " + intervals);
-                        currentRoundLabel.setText("Round: " + currentInterval);
-                        logToConsole("=== INTERVAL " + currentInterval + " ===");
-
-                        // Add separator for new round (keep previous rounds in history)
-                        addCombatLogSeparator("ROUND " + currentInterval);
-                    });
-
-                    // Conduct battles and capture results
-                    logToConsole("Conducting battles...");
-                    var combatResults = theater.conductBattles();
-
-                    Platform.runLater(() -> {
-                        int roundCasualties = 0;
-                        for (var result : combatResults) {
-                            addCombatEntry(result);
-                            if (result.hasCasualty()) {
-                                roundCasualties += (result.isFighter1Died() ? 1 : 0) + (result.isFighter2Died() ? 1 : 0);
-                            }
-                        }
-
-                        totalBattles += combatResults.size();
-                        totalCasualties += roundCasualties;
-
-                        battlesCountLabel.setText(String.valueOf(combatResults.size()));
-                        casualtiesCountLabel.setText(String.valueOf(roundCasualties));
-                    });
-
-                    Thread.sleep(500);
-
-                    // Modify character states
-                    logToConsole("Modifying character states...");
-                    var stateChanges = theater.randomlyModifyCharacters();
-                    Platform.runLater(() -> {
-                        if (!stateChanges.isEmpty()) {
-                            addCombatLogSeparator("Character State Changes");
-                            for (String message : stateChanges) {
-                                addEventEntry(message, "warning");
-                            }
-                        }
-                    });
-
-                    Thread.sleep(500);
+                    setProgress((double) currentInterval / intervals);
+                    setStatus("Interval " + currentInterval + " / " + intervals);
+                    ui.set(currentRoundLabel, () -> currentRoundLabel.setText("Round: " + currentInterval));
+                    logToConsole("=== INTERVAL " + currentInterval + " ===");
 
-                    // Spawn food
-                    logToConsole("Spawning food...");
-                    var foodMessages = theater.spawnFood();
-                    Platform.runLater(() -> {
-                        totalFoodSpawned += foodMessages.size();
-                        foodSpawnedLabel.setText(String.valueOf(foodMessages.size()));
-
-                        if (!foodMessages.isEmpty()) {
-                            addCombatLogSeparator("Food Spawning");
-                            for (String message : foodMessages) {
-                                addEventEntry(message, "food");
-                            }
-                        }
-                    });
+                    // Add separator for new round (keep previous rounds in history)
+                    ui.post(() -> combatLog.add(CombatLogEntry.separator("ROUND " + currentInterval)));
 
-                    Thread.sleep(500);
+                    RoundResult round = pipeline.runRound(currentInterval);
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedException("interrupted during round " + currentInterval);
+                    }
 
-                    // Degrade food
-                    logToConsole("Degrading food...");
-                    var degradationMessages = theater.degradeFood();
-                    Platform.runLater(() -> {
-                        if (!degradationMessages.isEmpty()) {
-                            addCombatLogSeparator("Food Degradation");
-                            for (String message : degradationMessages) {
-                                addEventEntry(message, "event");
-                            }
-                        }
-                    });
-
-                    Thread.sleep(1000);
-
-                    Platform.runLater(() -> {
-                        updateUI();
-                        addCombatLogSeparator("End of Round " + currentInterval);
-                        logToConsole("Round " + currentInterval + " complete - Battles: " + combatResults.size() +
-                                    ", Casualties: " + (casualtiesCountLabel.getText()) +
-                                    ", Food: " + foodMessages.size());
-                    });
+                    ui.set(placesListView, this::updateUI);
+                    ui.post(() -> combatLog.add(CombatLogEntry.separator("End of Round " + currentInterval)));
+                    logToConsole("Round " + currentInterval + " complete - Battles: " + round.getTotalBattles() +
+                                ", Casualties: " + round.getCasualties() +
+                                ", Food: " + round.getFoodSpawned() +
+                                String.format(" (%.2f ms of simulation)", round.getTotalDuration() / 1e6));
 
                     Thread.sleep(500);
                 }
 
-                Platform.runLater(() -> {
-                    simulationStatusLabel.setText("Simulation completed!");
-                    simulationProgressBar.setProgress(1.0);
+                setStatus("Simulation completed!");
+                setProgress(1.0);
+                ui.post(() -> {
                     startSimulationButton.setDisable(false);
                     pauseSimulationButton.setDisable(true);
                     stopSimulationButton.setDisable(true);
-                    logToConsole("Simulation completed successfully!");
-                    logToConsole("Total Statistics - Battles: " + totalBattles +
-                               ", Casualties: " + totalCasualties +
-                               ", Food Spawned: " + totalFoodSpawned);
                 });
+                logToConsole("Simulation completed successfully!");
+                logToConsole("Total Statistics - Battles: " + totalBattles +
+                           ", Casualties: " + totalCasualties +
+                           ", Food Spawned: " + totalFoodSpawned);
+                logToConsole("Phase timings:\n" + pipeline.getTimingReport());
 
             } catch (InterruptedException e) {
-                Platform.runLater(() -> {
-                    simulationStatusLabel.setText("Simulation interrupted");
-                    logToConsole("Simulation interrupted: " + e.getMessage());
-                });
+                setStatus("Simulation interrupted");
+                logToConsole("Simulation interrupted: " + e.getMessage());
             }
         }).start();
     }
 
+    /**
+     * Shows the outcome of a simulation phase, then pauses so the user can follow the round.
+     * Called on the simulation thread at the end of each phase.
+     *
+     * @param phase the name of the completed phase
+     * @param round the result of the current round
+     */
+    private void showPhaseResult(String phase, RoundResult round) {
+        logToConsole(String.format("Phase %s done in %.3f ms", phase, round.getPhaseDuration(phase) / 1e6));
+
+        long pauseMillis = 500;
+        switch (phase) {
+            case InvasionTheater.PHASE_BATTLES -> {
+                var combatResults = round.getCombatResults();
+                int roundCasualties = round.getCasualties();
+                totalBattles += combatResults.size();
+                totalCasualties += roundCasualties;
+
+                ui.set(battlesCountLabel, () -> battlesCountLabel.setText(String.valueOf(combatResults.size())));
+                ui.set(casualtiesCountLabel, () -> casualtiesCountLabel.setText(String.valueOf(roundCasualties)));
+                List<CombatLogEntry> entries = new ArrayList<>(combatResults.size());
+                for (var result : combatResults) {
+                    entries.add(CombatLogEntry.battle(result));
+                }
+                ui.post(() -> combatLog.append(entries));
+            }
+            case InvasionTheater.PHASE_STATE_CHANGES ->
+                    postEventEntries("Character State Changes", round.getStateChangeMessages(), CombatLogEntry.Kind.WARNING);
+            case InvasionTheater.PHASE_FOOD_SPAWN -> {
+                var foodMessages = round.getFoodSpawningMessages();
+                totalFoodSpawned += foodMessages.size();
+
+                ui.set(foodSpawnedLabel, () -> foodSpawnedLabel.setText(String.valueOf(foodMessages.size())));
+                postEventEntries("Food Spawning", foodMessages, CombatLogEntry.Kind.FOOD);
+            }
+            case InvasionTheater.PHASE_FOOD_DEGRADATION -> {
+                postEventEntries("Food Degradation", round.getFoodDegradationMessages(), CombatLogEntry.Kind.EVENT);
+                pauseMillis = 1000;
+            }
+            default -> {
+            }
+        }
+
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            // Restore the flag: the simulation loop stops at the end of the round
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues a section of event rows for the combat log, one row per message.
+     *
+     * @param title the section title
+     * @param messages the event messages (nothing is added when empty)
+     * @param kind the kind of event (FOOD, WARNING or EVENT)
+     */
+    private void postEventEntries(String title, List<String> messages, CombatLogEntry.Kind kind) {
+        if (messages.isEmpty()) return;
+
+        List<CombatLogEntry> entries = new ArrayList<>(messages.size() + 1);
+        entries.add(CombatLogEntry.separator(title));
+        for (String message : messages) {
+            entries.add(CombatLogEntry.event(kind, message));
+        }
+        ui.post(() -> combatLog.append(entries));
+    }
+
     /**
      * Handles pausing the simulation.
      */
@@ -431,7 +464,7 @@ public class TheaterController {
     private void handlePauseSimulation() {
         simulationRunning = false;
         pauseSimulationButton.setDisable(true);
-        simulationStatusLabel.setText("Simulation paused");
+        setStatus("Simulation paused");
         logToConsole("Simulation paused by user");
     }
 
@@ -444,8 +477,8 @@ public class TheaterController {
         startSimulationButton.setDisable(false);
         pauseSimulationButton.setDisable(true);
         stopSimulationButton.setDisable(true);
-        simulationProgressBar.setProgress(0);
-        simulationStatusLabel.setText("Simulation stopped");
+        setProgress(0);
+        setStatus("Simulation stopped");
         logToConsole("Simulation stopped by user");
     }
 
@@ -520,167 +553,4 @@ public class TheaterController {
         alert.setContentText(message);
         alert.showAndWait();
     }
-
-    /**
-     * Adds a combat entry to the combat log.
-     *
-     * @param result the combat result
-     */
-    private void addCombatEntry(org.example.envahissementarmorique.model.theater.CombatResult result) {
-        VBox entry = new VBox(5);
-        entry.getStyleClass().addAll("combat-entry", "combat-entry-battle");
-        entry.setPadding(new Insets(10));
-
-        // Combat header
-        HBox header = new HBox(10);
-        header.setAlignment(Pos.CENTER_LEFT);
-
-        Label icon = new Label("⚔️");
-        icon.getStyleClass().add("combat-icon");
-        icon.setStyle("-fx-font-size: 16px;");
-
-        Label fighters = new Label(result.getFighter1Name() + " (" + result.getFighter1Faction() + ") vs " +
-                                   result.getFighter2Name() + " (" + result.getFighter2Faction() + ")");
-        fighters.getStyleClass().addAll("combat-text", "combat-text-fighter");
-        fighters.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
-
-        header.getChildren().addAll(icon, fighters);
-
-        // Health before combat
-        HBox beforeHealth = new HBox(20);
-        beforeHealth.setPadding(new Insets(5, 0, 0, 25));
-
-        int fighter1HealthBefore = result.getFighter1HealthAfter() + result.getDamageToFighter1();
-        int fighter2HealthBefore = result.getFighter2HealthAfter() + result.getDamageToFighter2();
-
-        Label beforeLabel = new Label("Before: " + result.getFighter1Name() + " [HP: " + fighter1HealthBefore + "] | " +
-                                     result.getFighter2Name() + " [HP: " + fighter2HealthBefore + "]");
-        beforeLabel.getStyleClass().add("combat-text");
-        beforeLabel.setStyle("-fx-font-style: italic; -fx-text-fill: #7f8c8d;");
-
-        beforeHealth.getChildren().add(beforeLabel);
-
-        // Combat details - damage dealt
-        HBox damageDealt = new HBox(20);
-        damageDealt.setPadding(new Insets(2, 0, 0, 25));
-
-        Label damageInfo = new Label("Damage: " + result.getFighter1Name() + " dealt " + result.getDamageToFighter2() + " HP | " +
-                                    result.getFighter2Name() + " dealt " + result.getDamageToFighter1() + " HP");
-        damageInfo.getStyleClass().add("combat-text");
-        damageInfo.setStyle("-fx-font-weight: bold; -fx-text-fill: #e74c3c;");
-
-        damageDealt.getChildren().add(damageInfo);
-
-        // Health after combat
-        HBox details = new HBox(20);
-        details.setPadding(new Insets(2, 0, 0, 25));
-
-        Label damage1 = new Label("After: " + result.getFighter1Name() + " → " +
-                                  result.getFighter1HealthAfter() + " HP");
-        damage1.getStyleClass().addAll("combat-text", result.isFighter1Died() ? "combat-text-death" : "combat-text-damage");
-        damage1.setStyle(result.isFighter1Died() ? "-fx-text-fill: #c0392b; -fx-font-weight: bold;" : "-fx-text-fill: #27ae60;");
-
-        Label damage2 = new Label(result.getFighter2Name() + " → " +
-                                  result.getFighter2HealthAfter() + " HP");
-        damage2.getStyleClass().addAll("combat-text", result.isFighter2Died() ? "combat-text-death" : "combat-text-damage");
-        damage2.setStyle(result.isFighter2Died() ? "-fx-text-fill: #c0392b; -fx-font-weight: bold;" : "-fx-text-fill: #27ae60;");
-
-        details.getChildren().addAll(damage1, damage2);
-
-        entry.getChildren().addAll(header, beforeHealth, damageDealt, details);
-
-        // Add death notification if applicable
-        if (result.hasCasualty()) {
-            HBox deathBox = new HBox(5);
-            deathBox.setPadding(new Insets(5, 0, 0, 25));
-            deathBox.setAlignment(Pos.CENTER_LEFT);
-
-            Label skullIcon = new Label("💀");
-            skullIcon.getStyleClass().add("combat-icon");
-            skullIcon.setStyle("-fx-font-size: 16px;");
-
-            StringBuilder deaths = new StringBuilder();
-            if (result.isFighter1Died()) {
-                deaths.append(result.getFighter1Name());
-            }
-            if (result.isFighter2Died()) {
-                if (!deaths.isEmpty()) deaths.append(" and ");
-                deaths.append(result.getFighter2Name());
-            }
-            deaths.append(" has fallen!");
-
-            Label deathLabel = new Label(deaths.toString());
-            deathLabel.getStyleClass().addAll("combat-text", "combat-text-death");
-            deathLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #c0392b; -fx-font-size: 13px;");
-
-            deathBox.getChildren().addAll(skullIcon, deathLabel);
-            entry.getChildren().add(deathBox);
-            entry.getStyleClass().add("combat-entry-death");
-        }
-
-        combatLogContainer.getChildren().add(entry);
-    }
-
-    /**
-     * Adds an event entry to the combat log.
-     *
-     * @param message the event message
-     * @param type the type of event (food, event, warning)
-     */
-    private void addEventEntry(String message, String type) {
-        HBox entry = new HBox(10);
-        entry.getStyleClass().add("combat-entry");
-        entry.setPadding(new Insets(8));
-        entry.setAlignment(Pos.CENTER_LEFT);
-
-        String icon;
-        String styleClass;
-        switch (type) {
-            case "food":
-                icon = "🍖";
-                styleClass = "combat-entry-food";
-                break;
-            case "warning":
-                icon = "⚠️";
-                styleClass = "combat-entry-warning";
-                break;
-            default:
-                icon = "ℹ️";
-                styleClass = "combat-entry-event";
-        }
-
-        entry.getStyleClass().add(styleClass);
-
-        Label iconLabel = new Label(icon);
-        iconLabel.getStyleClass().add("combat-icon");
-
-        Label messageLabel = new Label(message);
-        messageLabel.getStyleClass().add("combat-text");
-        messageLabel.setWrapText(true);
-
-        entry.getChildren().addAll(iconLabel, messageLabel);
-        combatLogContainer.getChildren().add(entry);
-    }
-
-    /**
-     * Adds a separator with text to the combat log.
-     *
-     * @param text the separator text
-     */
-    private void addCombatLogSeparator(String text) {
-        VBox separator = new VBox(5);
-        separator.setPadding(new Insets(15, 0, 10, 0));
-        separator.setAlignment(Pos.CENTER);
-        separator.setStyle("-fx-background-color: #ecf0f1; -fx-background-radius: 5;");
-
-        Label label = new Label("═══ " + text + " ═══");
-        label.setStyle("-fx-font-weight: bold; -fx-font-size: 16px; -fx-text-fill: #2c3e50; -fx-padding: 5;");
-
-        Separator line = new Separator();
-        line.setMaxWidth(Double.MAX_VALUE);
-        line.setStyle("-fx-background-color: #3498db;");
-
-        separator.getChildren().addAll(line, label, new Separator());
-        combatLogContainer.getChildren().add(separator);
-    }
 }
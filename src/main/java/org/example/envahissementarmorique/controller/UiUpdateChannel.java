@@ -0,0 +1,166 @@
+package org.example.envahissementarmorique.controller;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Single channel between the simulation thread and the JavaFX thread.
+ * <p>
+ * Updates are queued by the simulation and applied together once per frame by an
+ * {@link AnimationTimer}, instead of one {@code Platform.runLater} per update:
+ * </p>
+ * <ul>
+ *     <li>{@link #set(Object, Runnable)}: latest value only. A label or counter updated
+ *     several times between two frames is redrawn once, with its last value.</li>
+ *     <li>{@link #log(String)}: console lines, appended to the console in one batch per frame.</li>
+ *     <li>{@link #post(Runnable)}: ordered actions (combat log entries), applied in order,
+ *     at most {@link #ACTIONS_PER_FRAME} per frame.</li>
+ * </ul>
+ * <p>
+ * Lines and actions wait in bounded queues: when the UI falls behind, the simulation
+ * thread blocks on the next update until a frame has drained the queue, so the
+ * simulation slows down to the pace of the UI. The timer only runs while updates are
+ * pending.
+ * </p>
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+final class UiUpdateChannel {
+
+    /** Maximum number of pending console lines or actions. */
+    static final int CAPACITY = 1024;
+
+    /** Maximum number of ordered actions applied in a single frame. */
+    static final int ACTIONS_PER_FRAME = 256;
+
+    private final Map<Object, Runnable> latest = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(CAPACITY);
+    private final BlockingQueue<Runnable> actions = new ArrayBlockingQueue<>(CAPACITY);
+    private final Consumer<String> console;
+    private final AtomicBoolean armed = new AtomicBoolean();
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            drain();
+        }
+    };
+
+    /**
+     * Creates a channel.
+     *
+     * @param console receives the console text of each frame, called on the JavaFX thread
+     */
+    UiUpdateChannel(Consumer<String> console) {
+        this.console = console;
+    }
+
+    /**
+     * Schedules an update that only matters with its latest value. A pending update for
+     * the same key is replaced.
+     *
+     * @param key the updated element (typically the control itself)
+     * @param update the update, run on the JavaFX thread
+     */
+    void set(Object key, Runnable update) {
+        latest.put(key, update);
+        wake();
+    }
+
+    /**
+     * Queues a console line. Blocks while the console queue is full.
+     *
+     * @param line the line, without trailing newline
+     */
+    void log(String line) {
+        enqueue(lines, line);
+    }
+
+    /**
+     * Queues an action that must run in order with the other posted actions. Blocks while
+     * the action queue is full.
+     *
+     * @param action the action, run on the JavaFX thread
+     */
+    void post(Runnable action) {
+        enqueue(actions, action);
+    }
+
+    /**
+     * Adds an element to a bounded queue. The JavaFX thread cannot wait for itself: when
+     * the queue is full, it drains the channel right away. Any other thread waits; if it is
+     * interrupted meanwhile, the update is dropped and the interrupt flag is restored.
+     */
+    private <T> void enqueue(BlockingQueue<T> queue, T element) {
+        if (Platform.isFxApplicationThread()) {
+            if (!queue.offer(element)) {
+                drain();
+                queue.add(element);
+            }
+        } else {
+            try {
+                queue.put(element);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        wake();
+    }
+
+    private void wake() {
+        if (armed.compareAndSet(false, true)) {
+            if (Platform.isFxApplicationThread()) {
+                timer.start();
+            } else {
+                Platform.runLater(timer::start);
+            }
+        }
+    }
+
+    private void drain() {
+        for (Object key : latest.keySet()) {
+            Runnable update = latest.remove(key);
+            if (update != null) update.run();
+        }
+
+        List<String> lineBatch = new ArrayList<>(lines.size());
+        lines.drainTo(lineBatch);
+        if (!lineBatch.isEmpty()) {
+            StringBuilder text = new StringBuilder();
+            for (String line : lineBatch) {
+                text.append(line).append('\n');
+            }
+            console.accept(text.toString());
+        }
+
+        List<Runnable> actionBatch = new ArrayList<>(Math.min(actions.size(), ACTIONS_PER_FRAME));
+        actions.drainTo(actionBatch, ACTIONS_PER_FRAME);
+        for (Runnable action : actionBatch) {
+            action.run();
+        }
+
+        if (isIdle()) {
+            armed.set(false);
+            timer.stop();
+            // An update queued between the check and the reset would otherwise wait for the next one
+            if (!isIdle() && armed.compareAndSet(false, true)) {
+                timer.start();
+            }
+        }
+    }
+
+    private boolean isIdle() {
+        return latest.isEmpty() && lines.isEmpty() && actions.isEmpty();
+    }
+}
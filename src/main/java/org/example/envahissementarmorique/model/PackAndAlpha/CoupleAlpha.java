@@ -3,10 +3,13 @@ package org.example.envahissementarmorique.model.PackAndAlpha;
 import org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge;
 import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
 import org.example.envahissementarmorique.model.character.base.Lycan.Sexe;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 
 /**
  * Représente un couple alpha dans une meute.
@@ -50,29 +53,34 @@ public class CoupleAlpha {
 
     /** Affiche le couple alpha */
     public void display() {
+        SimulationLog.flush();
         System.out.printf("Couple alpha : %s & %s%n", male.getIdentifier(), female.getIdentifier());
     }
 
     /**
-     * Fait se reproduire le couple alpha et génère une liste de jeunes lycanthropes.
+     * Fait se reproduire le couple alpha en tirant la portée dans le générateur donné.
+     * Les jeunes gardent ce générateur jusqu'à ce qu'une meute leur donne le sien.
      *
+     * @param random le générateur aléatoire (taille de la portée, sexe et force des jeunes)
      * @return liste des jeunes nés du couple
      */
-    public List<Lycanthropes> reproduce() {
-        int size = ThreadLocalRandom.current().nextInt(1, 8);
+    public List<Lycanthropes> reproduce(Random random) {
+        int size = random.nextInt(1, 8);
         List<Lycanthropes> youngs = new ArrayList<>();
 
         for (int i = 0; i < size; i++) {
-            Sexe sex = ThreadLocalRandom.current().nextBoolean() ? Sexe.MALE : Sexe.FEMALE;
+            Sexe sex = random.nextBoolean() ? Sexe.MALE : Sexe.FEMALE;
             int avgStrength = (male.getStrength() + female.getStrength()) / 2;
-            int youngStrength = Math.max(1, avgStrength + ThreadLocalRandom.current().nextInt(-3, 4));
-            double impetuosity = 0.2 + ThreadLocalRandom.current().nextDouble() * 0.3;
+            int youngStrength = Math.max(1, avgStrength + random.nextInt(-3, 4));
+            double impetuosity = 0.2 + random.nextDouble() * 0.3;
 
-            Lycanthropes young = new Lycanthropes(sex, CategorieAge.YOUNG, youngStrength, impetuosity, 2);
+            Lycanthropes young = new Lycanthropes(sex, CategorieAge.YOUNG, youngStrength, impetuosity, 2, random);
             youngs.add(young);
         }
 
-        System.out.printf("Reproduction : %d jeune(s) né(s)%n", youngs.size());
+        if (SimulationLog.isEnabled(LogCategory.LYCAN, LogLevel.INFO)) {
+            SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, "Reproduction : {} jeune(s) né(s)", youngs.size());
+        }
         return youngs;
     }
 }
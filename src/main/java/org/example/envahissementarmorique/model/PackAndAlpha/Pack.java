@@ -2,6 +2,10 @@ package org.example.envahissementarmorique.model.PackAndAlpha;
 
 import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
 import org.example.envahissementarmorique.model.character.base.Lycan.Sexe;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -35,15 +39,32 @@ public class Pack {
     /** Liste des membres de la meute */
     private List<Lycanthropes> members = new ArrayList<>();
 
+    /** Flux aléatoire de la meute, dont dérivent ceux des membres et des portées */
+    private final SimulationRandom random;
+
+    /** Nombre de lycanthropes ayant rejoint la meute (clé du flux de chaque membre) */
+    private long arrivals;
+
+    /** Nombre de portées nées dans la meute (clé du flux de chaque portée) */
+    private long litters;
+
+    /** Nombre de modifications de la liste des membres (arrivées et départs) */
+    private int modificationCount;
+
     /**
-     * Crée une nouvelle meute avec un couple alpha initial.
+     * Crée une nouvelle meute dont les tirages aléatoires dérivent du flux donné.
      *
      * @param name          nom de la meute
      * @param maleAlpha     lycanthrope mâle alpha
      * @param femaleAlpha   lycanthrope femelle alpha
+     * @param random        flux aléatoire de la meute
      */
-    public Pack(String name, Lycanthropes maleAlpha, Lycanthropes femaleAlpha) {
+    public Pack(String name, Lycanthropes maleAlpha, Lycanthropes femaleAlpha, SimulationRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null.");
+        }
         this.name = name;
+        this.random = random;
         this.alphaCouple = new CoupleAlpha(maleAlpha, femaleAlpha);
 
         addLycanthrope(maleAlpha);
@@ -59,6 +80,12 @@ public class Pack {
     /** @return la liste des membres */
     public List<Lycanthropes> getMembers() { return members; }
 
+    /** @return le flux aléatoire de la meute */
+    public SimulationRandom getRandom() { return random; }
+
+    /** @return un compteur qui augmente à chaque arrivée ou départ d'un membre */
+    public int getModificationCount() { return modificationCount; }
+
     /* ------------------- AJOUT / RETRAIT ------------------- */
 
     /**
@@ -70,6 +97,8 @@ public class Pack {
         if (!members.contains(l)) {
             members.add(l);
             l.setPack(this);
+            l.setRandom(random.child("membre").child(arrivals++));
+            modificationCount++;
         }
     }
 
@@ -79,7 +108,22 @@ public class Pack {
      * @param l lycanthrope à retirer
      */
     public void removeLycanthrope(Lycanthropes l) {
-        members.remove(l);
+        if (members.remove(l)) {
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Fait se reproduire le couple alpha et intègre les jeunes à la meute.
+     *
+     * @return la liste des jeunes nés
+     */
+    public List<Lycanthropes> reproduce() {
+        List<Lycanthropes> youngs = alphaCouple.reproduce(random.child("portée").child(litters++));
+        for (Lycanthropes young : youngs) {
+            addLycanthrope(young);
+        }
+        return youngs;
     }
 
     /* ------------------- GESTION ALPHA ------------------- */
@@ -95,10 +139,8 @@ public class Pack {
         Lycanthropes female = alphaCouple.getFemale();
         alphaCouple = new CoupleAlpha(newMaleAlpha, female);
 
-        System.out.printf(
-                ">>> Nouveau couple alpha dans le pack %s : %s (M) + %s (F)%n",
-                name, newMaleAlpha.getIdentifier(), female.getIdentifier()
-        );
+        SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, ">>> Nouveau couple alpha dans le pack {} : {} (M) + {} (F)",
+                name, newMaleAlpha.getIdentifier(), female.getIdentifier());
     }
 
     /**
@@ -108,7 +150,7 @@ public class Pack {
      * @param removedSexe le sexe de l'alpha destitué
      */
     public void manageAlphaRemoval(Sexe removedSexe) {
-        System.out.printf("⚠ Alpha %s destitué dans le pack %s%n",
+        SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, "⚠ Alpha {} destitué dans le pack {}",
                 removedSexe == Sexe.MALE ? "male" : "female", name);
 
         Lycanthropes newAlpha = members.stream()
@@ -119,7 +161,7 @@ public class Pack {
                 .orElse(null);
 
         if (newAlpha == null) {
-            System.out.println("→ Aucun remplaçant possible !");
+            SimulationLog.log(LogCategory.LYCAN, LogLevel.WARN, "→ Aucun remplaçant possible !");
             return;
         }
 
@@ -129,16 +171,15 @@ public class Pack {
             alphaCouple = new CoupleAlpha(alphaCouple.getMale(), newAlpha);
         }
 
-        System.out.printf(
-                ">>> Nouveau %s alpha : %s%n",
-                removedSexe == Sexe.MALE ? "male" : "female", newAlpha.getIdentifier()
-        );
+        SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, ">>> Nouveau {} alpha : {}",
+                removedSexe == Sexe.MALE ? "male" : "female", newAlpha.getIdentifier());
     }
 
     /* ------------------- AFFICHAGE ------------------- */
 
     /** Affiche les informations du pack et de ses membres */
     public void display() {
+        SimulationLog.flush();
         System.out.println("=== Pack " + name + " ===");
         alphaCouple.display();
         System.out.println("Members :");
@@ -2,6 +2,9 @@ package org.example.envahissementarmorique.model.Yell;
 
 import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
 import org.example.envahissementarmorique.model.character.base.Lycan.YellType;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Représente un hurlement (Yell) émis par un lycanthrope.
@@ -41,10 +44,15 @@ public class Yell {
         this.message = m;
     }
 
-    /** Affiche le hurlement avec les informations de l'émetteur */
+    /**
+     * Journalise le hurlement avec les informations de l'émetteur. Identifiant et rang sont
+     * relevés au moment du hurlement, et seulement si le journal des lycanthropes est actif.
+     */
     public void display() {
-        System.out.printf("[%s] %s hurle: %s (%s)%n",
-                emitter.getIdentifier(), emitter.getRank(), type, message);
+        if (SimulationLog.isEnabled(LogCategory.LYCAN, LogLevel.INFO)) {
+            SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, "[{}] {} hurle: {} ({})",
+                    emitter.getIdentifier(), emitter.getRank(), type, message);
+        }
     }
 
     /** @return true si le hurlement a déjà été répété */
@@ -0,0 +1,44 @@
+package org.example.envahissementarmorique.model.character.base;
+
+/**
+ * Étiquette de type d'un personnage.
+ * <p>
+ * Chaque classe de personnage renvoie sa propre étiquette ({@link GameCharacter#getKind()}),
+ * ce qui permet de tester un rôle par une simple comparaison, et d'indexer des tables
+ * par {@link #ordinal()} plutôt que de comparer des noms de classes.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public enum CharacterKind {
+    GAULOIS(true, false),
+    DRUID(true, false),
+    BLACKSMITH(true, false),
+    INNKEEPER(true, false),
+    MERCHANT(true, false),
+    ROMAN(false, true),
+    LEGIONNARY(false, true),
+    GENERAL(false, true),
+    PREFECT(false, true),
+    CREATURE(false, false),
+    OTHER(false, false);
+
+    private final boolean gaulish;
+    private final boolean roman;
+
+    CharacterKind(boolean gaulish, boolean roman) {
+        this.gaulish = gaulish;
+        this.roman = roman;
+    }
+
+    /** @return true pour les personnages du camp gaulois */
+    public boolean isGaulish() {
+        return gaulish;
+    }
+
+    /** @return true pour les personnages du camp romain */
+    public boolean isRoman() {
+        return roman;
+    }
+}
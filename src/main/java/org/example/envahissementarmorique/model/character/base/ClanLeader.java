@@ -4,6 +4,9 @@ import org.example.envahissementarmorique.model.character.base.Gaulish.Druid;
 import org.example.envahissementarmorique.model.item.Potion;
 import org.example.envahissementarmorique.model.place.Place;
 import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 
@@ -61,9 +64,11 @@ public class ClanLeader {
      */
     public void examinePlace() {
         if (this.place != null) {
-            System.out.println(this.place.toString());
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{}", this.place.toString());
+            }
         } else {
-            System.out.println(this.name + " n'a pas de lieu attribué.");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "{} n'a pas de lieu attribué.", this.name);
         }
     }
 
@@ -87,7 +92,7 @@ public class ClanLeader {
 
         if (this.place != null) {
             this.place.addCharacter(newGameCharacter);
-            System.out.println(name + " a rejoint " + this.place.getName());
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} a rejoint {}", name, this.place.getName());
         }
     }
 
@@ -151,10 +156,12 @@ public class ClanLeader {
             for (GameCharacter gameCharacter : gameCharacters) {
                 this.place.removeCharacter(gameCharacter);
                 destination.addCharacter(gameCharacter);
-                System.out.println(gameCharacter.getName() + " transféré vers " + destination.getName());
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} transféré vers {}",
+                        gameCharacter.getName(), destination.getName());
             }
         } else {
-            System.out.println("Transfert impossible : Destination invalide (doit être Champ de bataille ou Enclos).");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN,
+                    "Transfert impossible : Destination invalide (doit être Champ de bataille ou Enclos).");
         }
     }
 }
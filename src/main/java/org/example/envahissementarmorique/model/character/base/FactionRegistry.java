@@ -0,0 +1,96 @@
+package org.example.envahissementarmorique.model.character.base;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registre des factions : chaque nom de faction reçoit une fois pour toutes un petit
+ * identifiant entier.
+ * <p>
+ * Les personnages portent cet identifiant ({@link GameCharacter#getFactionId()}) : comparer
+ * deux factions revient à comparer deux entiers, et les agrégats par faction peuvent être
+ * rangés dans des tableaux indexés par identifiant, de taille {@link #size()}. Le nom reste
+ * disponible pour l'affichage ({@link #nameOf(int)}).
+ * </p>
+ * <p>
+ * Les identifiants sont attribués dans l'ordre d'enregistrement, à partir de {@link #NONE}
+ * (absence de faction). Le registre peut être lu et complété depuis plusieurs fils.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FactionRegistry {
+
+    /** Identifiant de l'absence de faction (nom null). */
+    public static final int NONE = 0;
+
+    /** Identifiant de la faction gauloise. */
+    public static final int GAULOIS;
+
+    /** Identifiant de la faction romaine. */
+    public static final int ROMAN;
+
+    /** Identifiant des créatures fantastiques. */
+    public static final int CREATURE;
+
+    /** Identifiant de chaque nom enregistré. */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    /** Nom de chaque identifiant ; remplacé, jamais modifié, quand il s'agrandit. */
+    private static volatile String[] names = {null};
+
+    static {
+        GAULOIS = idOf("Gaulois");
+        ROMAN = idOf("Roman");
+        CREATURE = idOf("Créature");
+    }
+
+    private FactionRegistry() {
+    }
+
+    /**
+     * Renvoie l'identifiant d'une faction, en l'enregistrant si elle est nouvelle.
+     *
+     * @param name le nom de la faction (null pour aucune faction)
+     * @return l'identifiant de la faction
+     */
+    public static int idOf(String name) {
+        if (name == null) return NONE;
+
+        Integer id = IDS.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * @param id un identifiant de faction
+     * @return le nom de la faction (null pour {@link #NONE})
+     */
+    public static String nameOf(int id) {
+        String[] current = names;
+        if (id < 0 || id >= current.length) {
+            throw new IllegalArgumentException("Unknown faction id: " + id);
+        }
+        return current[id];
+    }
+
+    /**
+     * @return le nombre d'identifiants attribués, {@link #NONE} compris : borne des tableaux
+     *         indexés par faction
+     */
+    public static int size() {
+        return names.length;
+    }
+
+    private static synchronized int register(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) return id;
+
+        String[] grown = Arrays.copyOf(names, names.length + 1);
+        grown[grown.length - 1] = name;
+        names = grown;
+        IDS.put(name, grown.length - 1);
+        return grown.length - 1;
+    }
+}
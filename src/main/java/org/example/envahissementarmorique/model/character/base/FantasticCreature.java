@@ -31,4 +31,9 @@ public class FantasticCreature extends GameCharacter {
         super(name, genre, "Créature", height, age, strength, endurance, health, hunger, belligerence, magicpotion);
         this.maxHealth = health;
     }
+
+    @Override
+    public CharacterKind getKind() {
+        return CharacterKind.CREATURE;
+    }
 }
@@ -1,8 +1,12 @@
 package org.example.envahissementarmorique.model.character.base;
 
 import org.example.envahissementarmorique.model.character.interfaces.Fighter;
+import org.example.envahissementarmorique.model.combat.DefaultCombatModel;
 import org.example.envahissementarmorique.model.item.Food;
 import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Représente un personnage de jeu avec divers attributs et capacités.
@@ -18,7 +22,7 @@ import org.example.envahissementarmorique.model.place.Place;
  * @author Envahissement Armorique
  * @version 1.0
  */
-public class GameCharacter implements Fighter {
+public class GameCharacter implements Fighter, Cloneable {
 
     /** Le nom du personnage. */
     private String name;
@@ -26,8 +30,8 @@ public class GameCharacter implements Fighter {
     /** Le genre du personnage. */
     private String genre;
 
-    /** La faction à laquelle le personnage appartient (Gaulois, Romain, etc.). */
-    private String faction;
+    /** Identifiant de la faction du personnage (Gaulois, Romain, etc.), voir {@link FactionRegistry}. */
+    private int factionId;
 
     /** La taille du personnage en mètres. */
     private double height;
@@ -56,6 +60,9 @@ public class GameCharacter implements Fighter {
     /** Les points de vie maximum que le personnage peut avoir. */
     protected int maxHealth;
 
+    /** Le lieu où se trouve le personnage, prévenu de ses changements d'état (ou null). */
+    private Place currentPlace;
+
     /**
      * Crée un nouveau personnage de jeu avec les attributs spécifiés.
      *
@@ -74,7 +81,7 @@ public class GameCharacter implements Fighter {
     public GameCharacter(String name, String genre, String faction, double height, int age, int strength, int endurance, int health, int hunger, int belligerence, int magicpotion) {
         this.name = name;
         this.genre = genre;
-        this.faction = faction;
+        this.factionId = FactionRegistry.idOf(faction);
         this.height = height;
         this.age = age;
         this.strength = strength;
@@ -89,13 +96,32 @@ public class GameCharacter implements Fighter {
     // ---------------- Getters et Setters ---------------- //
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        String oldName = this.name;
+        this.name = name;
+        if (currentPlace != null) currentPlace.characterRenamed(this, oldName);
+    }
 
     public String getGenre() { return genre; }
     public void setGenre(String genre) { this.genre = genre; }
 
-    public String getFaction() { return faction; }
-    public void setFaction(String faction) { this.faction = faction; }
+    /**
+     * Renvoie l'étiquette de type du personnage ; chaque sous-classe renvoie la sienne.
+     *
+     * @return l'étiquette de type
+     */
+    public CharacterKind getKind() { return CharacterKind.OTHER; }
+
+    public String getFaction() { return FactionRegistry.nameOf(factionId); }
+    public void setFaction(String faction) { this.factionId = FactionRegistry.idOf(faction); }
+
+    /**
+     * Renvoie l'identifiant de la faction du personnage : deux personnages sont de la même
+     * faction si et seulement si leurs identifiants sont égaux.
+     *
+     * @return l'identifiant de la faction, voir {@link FactionRegistry}
+     */
+    public int getFactionId() { return factionId; }
 
     public double getHeight() { return height; }
     public void setHeight(double height) { this.height = height; }
@@ -110,13 +136,43 @@ public class GameCharacter implements Fighter {
     public void setEndurance(int endurance) { this.endurance = endurance; }
 
     public int getHealth() { return health; }
-    public void setHealth(int health) { this.health = health; }
+    public void setHealth(int health) {
+        boolean wasDead = isDead();
+        boolean wasBelligerent = isBelligerent();
+        this.health = health;
+        stateChanged(wasDead, wasBelligerent);
+    }
+
+    public int getMaxHealth() { return maxHealth; }
 
     public int getHunger() { return hunger; }
     public void setHunger(int hunger) { this.hunger = hunger; }
 
     public int getBelligerence() { return belligerence; }
-    public void setBelligerence(int belligerence) { this.belligerence = belligerence; }
+    public void setBelligerence(int belligerence) {
+        boolean wasDead = isDead();
+        boolean wasBelligerent = isBelligerent();
+        this.belligerence = belligerence;
+        stateChanged(wasDead, wasBelligerent);
+    }
+
+    /** @return le lieu où se trouve le personnage, ou null */
+    public Place getCurrentPlace() { return currentPlace; }
+
+    /**
+     * Rattache le personnage à un lieu. Réservé à {@link Place}, qui tient ses index
+     * à jour grâce aux changements d'état signalés par le personnage.
+     *
+     * @param currentPlace le lieu, ou null
+     */
+    public void setCurrentPlace(Place currentPlace) { this.currentPlace = currentPlace; }
+
+    /** Prévient le lieu courant si le personnage est mort, revenu à la vie ou a changé de belliquosité. */
+    private void stateChanged(boolean wasDead, boolean wasBelligerent) {
+        if (currentPlace != null && (wasDead != isDead() || wasBelligerent != isBelligerent())) {
+            currentPlace.characterStateChanged(this, wasDead, wasBelligerent);
+        }
+    }
 
     public int getMagicpotion() { return magicpotion; }
     public void setMagicpotion(int magicpotion) { this.magicpotion = magicpotion; }
@@ -131,10 +187,7 @@ public class GameCharacter implements Fighter {
     public void ToHeal(int amount) {
         if (amount <= 0) return;
 
-        this.health += amount;
-        if (this.health > this.maxHealth) {
-            this.health = this.maxHealth;
-        }
+        setHealth(Math.min(this.health + amount, this.maxHealth));
     }
 
     /**
@@ -145,7 +198,7 @@ public class GameCharacter implements Fighter {
      */
     public void ToEat(Food food) {
         if (this.health <= 0) {
-            System.out.println(name + " est mort et ne peut pas manger.");
+            SimulationLog.log(LogCategory.CHARACTER, LogLevel.WARN, "{} est mort et ne peut pas manger.", name);
             return;
         }
         food.consume(this);
@@ -159,7 +212,7 @@ public class GameCharacter implements Fighter {
      */
     public void ToDrinkPotion(org.example.envahissementarmorique.model.item.Potion potion) {
         if (this.health <= 0) {
-            System.out.println(name + " est mort et ne peut pas boire de potion.");
+            SimulationLog.log(LogCategory.CHARACTER, LogLevel.WARN, "{} est mort et ne peut pas boire de potion.", name);
             return;
         }
         potion.drink(this);
@@ -171,8 +224,36 @@ public class GameCharacter implements Fighter {
     /** Vérifie si le personnage est belliqueux. */
     public boolean isBelligerent() { return this.belligerence > 0; }
 
-    /** Permet de combattre un autre personnage. */
-    public void fight(GameCharacter opponent) { /* logique de combat */ }
+    /**
+     * Permet de combattre un autre personnage : le personnage frappe, puis l'adversaire
+     * riposte s'il est encore en vie. Les dégâts suivent le {@link DefaultCombatModel}.
+     *
+     * @param opponent l'adversaire
+     */
+    public void fight(GameCharacter opponent) {
+        DefaultCombatModel.INSTANCE.resolve(this, opponent);
+    }
+
+    /**
+     * Crée une copie indépendante du personnage, de la même classe et avec le même état.
+     * <p>
+     * Les attributs d'un personnage sont tous des valeurs ou des objets immuables :
+     * la copie ne partage donc aucun état modifiable avec l'original. La copie n'est
+     * rattachée à aucun lieu.
+     * </p>
+     *
+     * @return la copie
+     */
+    public GameCharacter copy() {
+        GameCharacter copy;
+        try {
+            copy = (GameCharacter) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+        copy.currentPlace = null;
+        return copy;
+    }
 
     /** Renvoie le lieu d'origine du personnage (à implémenter selon la logique). */
     public Place getOriginPlace() { return null; }
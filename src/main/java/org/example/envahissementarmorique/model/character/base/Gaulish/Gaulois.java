@@ -1,5 +1,6 @@
 package org.example.envahissementarmorique.model.character.base.Gaulish;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 
 /**
@@ -31,4 +32,9 @@ public class Gaulois extends GameCharacter {
         super(name, genre, "Gaulois", height, age, strength, endurance, health, hunger, belligerence, magicpotion);
         this.maxHealth = health;
     }
+
+    @Override
+    public CharacterKind getKind() {
+        return CharacterKind.GAULOIS;
+    }
 }
@@ -1,5 +1,6 @@
 package org.example.envahissementarmorique.model.character.base.Gaulish;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 
 /**
@@ -34,4 +35,9 @@ public class Merchant extends GameCharacter {
         super(name, genre, faction, height, age, strength, endurance, health, hunger, belligerence, magicpotion);
     }
 
+    @Override
+    public CharacterKind getKind() {
+        return CharacterKind.MERCHANT;
+    }
+
 }
@@ -2,9 +2,11 @@ package org.example.envahissementarmorique.model.character.base.Lycan;
 
 import org.example.envahissementarmorique.model.PackAndAlpha.Pack;
 import org.example.envahissementarmorique.model.Yell.Yell;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Représente un lycanthrope (loup-garou) dans la simulation.
@@ -45,7 +47,7 @@ public class Lycanthropes {
     private double impulsivenessFactor;
     private Pack pack;
     private boolean isHuman = false;
-    private Random rnd = ThreadLocalRandom.current();
+    private Random rnd;
 
     /**
      * Construit un nouveau lycanthrope.
@@ -55,8 +57,15 @@ public class Lycanthropes {
      * @param strength       la force initiale
      * @param impulsiveness  le facteur d'impétuosité
      * @param rankIndex      l'indice du rang
+     * @param random         le générateur aléatoire du lycan, remplacé par un flux de sa
+     *                       meute quand il en rejoint une
      */
-    public Lycanthropes(Sexe sexe, CategorieAge cat, int strength, double impulsiveness, int rankIndex) {
+    public Lycanthropes(Sexe sexe, CategorieAge cat, int strength, double impulsiveness, int rankIndex,
+                        Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null.");
+        }
+        this.rnd = random;
         this.id = idCounter++;
         this.sexe = sexe;
         this.ageCategory = cat;
@@ -92,6 +101,19 @@ public class Lycanthropes {
     public void setPack(Pack p) { this.pack = p; }
     public Pack getPack() { return pack; }
 
+    /**
+     * Remplace le générateur aléatoire du lycan (hurlements, vieillissement,
+     * transformation). Une meute donne à chacun de ses membres un flux dérivé du sien.
+     *
+     * @param random le générateur aléatoire
+     */
+    public void setRandom(Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null.");
+        }
+        this.rnd = random;
+    }
+
     public Sexe getSexe() { return sexe; }
     public CategorieAge getAgeCategory() { return ageCategory; }
     public int getStrength() { return strength; }
@@ -125,6 +147,7 @@ public class Lycanthropes {
 
     /** Affiche les infos du lycan */
     public void display() {
+        SimulationLog.flush();
         String status = isLone() ? "(solitaire)" : "";
         System.out.printf("%s | sexe=%s age=%s strength=%d rank=%s dom=%d imp=%.2f lvl=%.2f %s%n",
                 getIdentifier(), sexe, ageCategory, strength, getRank(),
@@ -222,7 +245,10 @@ public class Lycanthropes {
                 }
             }
 
-            System.out.printf("%s s'est transformé en humain et quitte la simulation.%n", getIdentifier());
+            if (SimulationLog.isEnabled(LogCategory.LYCAN, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO,
+                        "{} s'est transformé en humain et quitte la simulation.", getIdentifier());
+            }
             return true;
         }
         return false;
@@ -243,7 +269,9 @@ public class Lycanthropes {
         if (pack != null) {
             pack.removeLycanthrope(this);
             pack = null;
-            System.out.printf("%s devient solitaire.%n", getIdentifier());
+            if (SimulationLog.isEnabled(LogCategory.LYCAN, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.LYCAN, LogLevel.INFO, "{} devient solitaire.", getIdentifier());
+            }
         }
     }
 }
@@ -1,7 +1,11 @@
 package org.example.envahissementarmorique.model.character.base.Roman;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.character.interfaces.TypeCombat;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Represents a General (Roman military commander) character.
@@ -35,31 +39,38 @@ public class General extends GameCharacter implements TypeCombat {
                 health, hunger, belligerence, magicpotion);
     }
 
+    @Override
+    public CharacterKind getKind() {
+        return CharacterKind.GENERAL;
+    }
+
     @Override
     public void battre(GameCharacter ally) {
         if (!this.getName().equals(ally.getFaction())) {
-            System.out.println(ally.getName() + " et " + this.getName() + " ne font pas partie de la même faction !");
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.WARN, "{} et {} ne font pas partie de la même faction !",
+                    ally.getName(), this.getName());
             return;
         }
         if (ally.getStrength() < this.getStrength()) { //TODO : Ensure that both combatants lose life
-            System.out.println(ally.getName() + " est plus fort que " + this.getName());
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "{} est plus fort que {}", ally.getName(), this.getName());
         }
         else { //TODO : Ensure that both combatants lose life
-            System.out.println(this.getName() + " est plus fort que " + ally.getName());
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "{} est plus fort que {}", this.getName(), ally.getName());
         }
     }
 
     @Override
     public void combattre(GameCharacter ennemy, String location) {
-        if (this.getFaction().equals(ennemy.getFaction())) {
-            System.out.println(ennemy.getName() + " et " + this.getName() + " font partie de la même faction !");
+        if (this.getFactionId() == ennemy.getFactionId()) {
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.WARN, "{} et {} font partie de la même faction !",
+                    ennemy.getName(), this.getName());
             return;
         }
         if (ennemy.getStrength() < this.getStrength()) { //TODO : Ensure that both combatants lose life
-            System.out.println(this.getName() + " est plus fort que " + ennemy.getName());
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "{} est plus fort que {}", this.getName(), ennemy.getName());
         }
         else { //TODO : Ensure that both combatants lose life
-            System.out.println(ennemy.getName() + " est plus fort que " + this.getName());
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "{} est plus fort que {}", ennemy.getName(), this.getName());
         }
     }
 }
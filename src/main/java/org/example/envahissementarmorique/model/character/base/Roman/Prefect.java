@@ -1,5 +1,6 @@
 package org.example.envahissementarmorique.model.character.base.Roman;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 
 /**
@@ -29,4 +30,9 @@ public class Prefect extends GameCharacter {
     public Prefect(String name, String genre, String faction, double height, int age, int strength, int endurance, int health, int hunger, int belligerence, int magicpotion) {
         super(name, genre, faction, height, age, strength, endurance, health, hunger, belligerence, magicpotion);
     }
+
+    @Override
+    public CharacterKind getKind() {
+        return CharacterKind.PREFECT;
+    }
 }
@@ -0,0 +1,121 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Effectif des combattants encore en vie d'une faction pendant une bataille.
+ * <p>
+ * Les combattants sont rangés dans un tableau compact : le retrait d'un mort se fait
+ * par échange avec le dernier élément (swap-remove) et le tirage aléatoire d'un
+ * combattant est un simple accès indexé. Ajout, retrait et tirage sont en O(1).
+ * L'ordre interne n'est donc pas conservé après un retrait.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class AliveRoster {
+
+    /** Combattants présents, rangés de façon compacte. */
+    private final List<GameCharacter> members;
+
+    /** Position de chaque combattant dans {@link #members}. */
+    private final Map<GameCharacter, Integer> positions;
+
+    /** Crée un effectif vide. */
+    public AliveRoster() {
+        this(16);
+    }
+
+    /**
+     * Crée un effectif vide dimensionné pour une taille attendue.
+     *
+     * @param expectedSize le nombre de combattants attendu
+     */
+    public AliveRoster(int expectedSize) {
+        this.members = new ArrayList<>(expectedSize);
+        this.positions = new IdentityHashMap<>(expectedSize);
+    }
+
+    /**
+     * Ajoute un combattant à l'effectif.
+     *
+     * @param fighter le combattant à ajouter
+     * @return true si le combattant a été ajouté, false s'il était déjà présent
+     */
+    public boolean add(GameCharacter fighter) {
+        if (positions.containsKey(fighter)) {
+            return false;
+        }
+        positions.put(fighter, members.size());
+        members.add(fighter);
+        return true;
+    }
+
+    /**
+     * Retire un combattant en le remplaçant par le dernier de l'effectif.
+     *
+     * @param fighter le combattant à retirer
+     * @return true si le combattant a été retiré, false s'il était absent
+     */
+    public boolean remove(GameCharacter fighter) {
+        Integer position = positions.remove(fighter);
+        if (position == null) {
+            return false;
+        }
+
+        int lastIndex = members.size() - 1;
+        GameCharacter last = members.remove(lastIndex);
+        if (position != lastIndex) {
+            members.set(position, last);
+            positions.put(last, position);
+        }
+        return true;
+    }
+
+    /**
+     * Tire un combattant au hasard, de façon uniforme.
+     *
+     * @param random le générateur aléatoire
+     * @return un combattant de l'effectif
+     * @throws IllegalStateException si l'effectif est vide
+     */
+    public GameCharacter pickRandom(Random random) {
+        if (members.isEmpty()) {
+            throw new IllegalStateException("Cannot pick a fighter from an empty roster.");
+        }
+        return members.get(random.nextInt(members.size()));
+    }
+
+    /**
+     * @param fighter le combattant recherché
+     * @return true si le combattant fait partie de l'effectif
+     */
+    public boolean contains(GameCharacter fighter) {
+        return positions.containsKey(fighter);
+    }
+
+    /**
+     * @param index l'indice dans l'effectif
+     * @return le combattant à cet indice
+     */
+    public GameCharacter get(int index) {
+        return members.get(index);
+    }
+
+    /** @return le nombre de combattants dans l'effectif */
+    public int size() {
+        return members.size();
+    }
+
+    /** @return true si l'effectif est vide */
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+}
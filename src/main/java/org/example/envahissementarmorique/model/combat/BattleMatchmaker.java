@@ -0,0 +1,143 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.FactionRegistry;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Étape de mise en relation (matchmaking) des combattants d'un champ de bataille.
+ * <p>
+ * Les combattants vivants et belliqueux sont regroupés une seule fois par faction
+ * (tableau indexé par {@link GameCharacter#getFactionId()}), puis des paires
+ * inter-factions sont tirées de ces groupes. À chaque tirage, les deux
+ * factions ayant le plus de combattants encore disponibles fournissent chacune un
+ * combattant : le nombre de duels est ainsi maximal et chaque combattant participe
+ * à au plus un duel par appel.
+ * </p>
+ * <p>
+ * Coût : O(n + p log f) pour n combattants, p paires et f factions, au lieu des
+ * O(n²) comparaisons de factions d'un parcours de toutes les paires.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class BattleMatchmaker {
+
+    /**
+     * Regroupe les combattants éligibles par faction et tire les paires de duels.
+     * <p>
+     * L'ordre des combattants au sein d'une faction est celui de la liste fournie,
+     * et les factions sont départagées par ordre d'apparition : le résultat est donc
+     * déterministe pour une liste donnée.
+     * </p>
+     *
+     * @param fighters les combattants présents sur le champ de bataille
+     * @return la liste ordonnée des duels à livrer
+     */
+    public List<Matchup> match(List<GameCharacter> fighters) {
+        FactionGroup[] byFaction = new FactionGroup[FactionRegistry.size()];
+        List<FactionGroup> groups = new ArrayList<>();
+        for (GameCharacter fighter : fighters) {
+            if (fighter.isDead() || !fighter.isBelligerent()) continue;
+            int faction = fighter.getFactionId();
+            if (faction >= byFaction.length) {
+                byFaction = Arrays.copyOf(byFaction, FactionRegistry.size());
+            }
+            FactionGroup group = byFaction[faction];
+            if (group == null) {
+                group = new FactionGroup(groups.size());
+                byFaction[faction] = group;
+                groups.add(group);
+            }
+            group.members.add(fighter);
+        }
+
+        List<Matchup> matchups = new ArrayList<>();
+        if (groups.size() < 2) {
+            return matchups;
+        }
+
+        PriorityQueue<FactionGroup> queue = new PriorityQueue<>(groups.size());
+        queue.addAll(groups);
+
+        while (queue.size() >= 2) {
+            FactionGroup first = queue.poll();
+            FactionGroup second = queue.poll();
+
+            GameCharacter a = first.next();
+            GameCharacter b = second.next();
+            // L'ordre d'apparition sur le champ de bataille est conservé dans la paire
+            matchups.add(first.order < second.order ? new Matchup(a, b) : new Matchup(b, a));
+
+            if (first.remaining() > 0) queue.add(first);
+            if (second.remaining() > 0) queue.add(second);
+        }
+
+        return matchups;
+    }
+
+    /**
+     * Groupe de combattants d'une même faction, consommé dans l'ordre.
+     */
+    private static final class FactionGroup implements Comparable<FactionGroup> {
+
+        /** Rang d'apparition de la faction sur le champ de bataille. */
+        private final int order;
+
+        /** Combattants éligibles de la faction. */
+        private final List<GameCharacter> members = new ArrayList<>();
+
+        /** Indice du prochain combattant disponible. */
+        private int cursor;
+
+        private FactionGroup(int order) {
+            this.order = order;
+        }
+
+        private GameCharacter next() {
+            return members.get(cursor++);
+        }
+
+        private int remaining() {
+            return members.size() - cursor;
+        }
+
+        @Override
+        public int compareTo(FactionGroup other) {
+            int byRemaining = Integer.compare(other.remaining(), remaining());
+            return byRemaining != 0 ? byRemaining : Integer.compare(order, other.order);
+        }
+    }
+
+    /**
+     * Un duel tiré par le matchmaking.
+     */
+    public static final class Matchup {
+
+        /** Premier combattant (le premier dans l'ordre du champ de bataille). */
+        private final GameCharacter first;
+
+        /** Second combattant. */
+        private final GameCharacter second;
+
+        /**
+         * Crée un duel entre deux combattants.
+         *
+         * @param first le premier combattant
+         * @param second le second combattant
+         */
+        public Matchup(GameCharacter first, GameCharacter second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public GameCharacter getFirst() { return first; }
+
+        public GameCharacter getSecond() { return second; }
+    }
+}
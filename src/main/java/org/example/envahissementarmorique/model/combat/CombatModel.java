@@ -0,0 +1,68 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+
+/**
+ * Modèle de résolution des combats (point d'extension).
+ * <p>
+ * Un modèle calcule les dégâts d'une attaque à partir de la force, de l'endurance,
+ * des points de vie et du niveau de potion magique des deux combattants. Le calcul
+ * ne travaille que sur des entiers : une implémentation n'a pas besoin d'allouer
+ * d'objet, et elle peut être appliquée à un instantané des statistiques plutôt
+ * qu'aux personnages eux-mêmes.
+ * </p>
+ * <p>
+ * Les boucles de bataille ({@code InvasionTheater}, {@code ClanWarSimulation},
+ * {@code Battlefield}) appellent directement le modèle qui leur est configuré, ce qui
+ * permet de remplacer le modèle par défaut ({@link DefaultCombatModel}) par un modèle
+ * plus économique ou plus détaillé, et de les comparer.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CombatModel {
+
+    /**
+     * Calcule les dégâts infligés par un attaquant à un défenseur.
+     *
+     * @param attackerStrength la force de l'attaquant
+     * @param attackerHealth les points de vie de l'attaquant
+     * @param attackerMagicPotion le niveau de potion magique de l'attaquant
+     * @param defenderEndurance l'endurance du défenseur
+     * @param defenderHealth les points de vie du défenseur
+     * @param defenderMagicPotion le niveau de potion magique du défenseur
+     * @return les dégâts infligés (jamais négatifs)
+     */
+    int computeDamage(int attackerStrength, int attackerHealth, int attackerMagicPotion,
+                      int defenderEndurance, int defenderHealth, int defenderMagicPotion);
+
+    /**
+     * Calcule les dégâts d'une attaque à partir de l'état courant des personnages.
+     *
+     * @param attacker l'attaquant
+     * @param defender le défenseur
+     * @return les dégâts infligés
+     */
+    default int computeDamage(GameCharacter attacker, GameCharacter defender) {
+        return computeDamage(attacker.getStrength(), attacker.getHealth(), attacker.getMagicpotion(),
+                defender.getEndurance(), defender.getHealth(), defender.getMagicpotion());
+    }
+
+    /**
+     * Résout un échange de coups : l'attaquant frappe, puis le défenseur riposte s'il
+     * est encore en vie. Rien ne se passe si l'un des deux est déjà mort.
+     *
+     * @param attacker le personnage qui engage le combat
+     * @param defender son adversaire
+     */
+    default void resolve(GameCharacter attacker, GameCharacter defender) {
+        if (attacker.isDead() || defender.isDead()) return;
+
+        defender.takeDamage(computeDamage(attacker, defender));
+        if (!defender.isDead()) {
+            attacker.takeDamage(computeDamage(defender, attacker));
+        }
+    }
+}
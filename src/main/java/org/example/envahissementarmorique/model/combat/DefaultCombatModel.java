@@ -0,0 +1,52 @@
+package org.example.envahissementarmorique.model.combat;
+
+/**
+ * Modèle de combat par défaut, en arithmétique entière et sans allocation.
+ * <p>
+ * Règles :
+ * </p>
+ * <ul>
+ *   <li>La puissance d'une attaque vaut la force de l'attaquant, réduite jusqu'à
+ *       moitié lorsqu'il est blessé (points de vie plafonnés à 100).</li>
+ *   <li>Chaque niveau de potion magique de l'attaquant ajoute 10 % de puissance,
+ *       jusqu'à la doubler.</li>
+ *   <li>L'endurance du défenseur absorbe la moitié de sa valeur.</li>
+ *   <li>Un défenseur sous potion magique ne subit que la moitié des dégâts.</li>
+ *   <li>Une attaque porte toujours au moins 1 point, sauf si l'attaquant n'a aucune force.</li>
+ * </ul>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class DefaultCombatModel implements CombatModel {
+
+    /** Instance partagée : le modèle est sans état. */
+    public static final DefaultCombatModel INSTANCE = new DefaultCombatModel();
+
+    /** Points de vie au-delà desquels un combattant frappe à pleine puissance. */
+    private static final int FULL_VIGOUR_HEALTH = 100;
+
+    /** Nombre de niveaux de potion donnant le bonus de puissance maximal. */
+    private static final int MAX_POTION_BONUS_LEVELS = 10;
+
+    private DefaultCombatModel() {
+    }
+
+    @Override
+    public int computeDamage(int attackerStrength, int attackerHealth, int attackerMagicPotion,
+                             int defenderEndurance, int defenderHealth, int defenderMagicPotion) {
+        if (attackerStrength <= 0) return 0;
+
+        int vigour = Math.max(0, Math.min(attackerHealth, FULL_VIGOUR_HEALTH));
+        int power = attackerStrength * (FULL_VIGOUR_HEALTH + vigour) / (2 * FULL_VIGOUR_HEALTH);
+
+        int potionLevels = Math.max(0, Math.min(attackerMagicPotion, MAX_POTION_BONUS_LEVELS));
+        power += power * potionLevels / MAX_POTION_BONUS_LEVELS;
+
+        int damage = power - Math.max(0, defenderEndurance) / 2;
+        if (defenderMagicPotion > 0) {
+            damage >>= 1;
+        }
+        return Math.max(1, damage);
+    }
+}
@@ -0,0 +1,336 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+
+/**
+ * Estimation analytique (loi linéaire de Lanchester) de l'issue d'une bataille entre deux factions.
+ * <p>
+ * Dans la boucle de duels de {@code ClanWarSimulation}, une seule paire de combattants
+ * s'affronte à chaque itération, quelle que soit la taille des armées : chaque faction
+ * perd donc en moyenne le même nombre de points de vie par itération. C'est la loi
+ * linéaire de Lanchester. L'estimateur calcule, à partir des moyennes de force,
+ * d'endurance, de points de vie et de potion de chaque faction, les dégâts moyens d'un
+ * échange ({@link CombatModel}), puis le nombre d'itérations nécessaires pour épuiser
+ * la réserve de points de vie de chaque camp. La faction la plus longue à épuiser l'emporte.
+ * </p>
+ * <p>
+ * Le modèle brut néglige la dispersion des dégâts entre combattants et la baisse de
+ * puissance des blessés. Il est donc étalonné : {@link #calibrate} compare la prédiction
+ * brute aux résultats réels de la boucle de duels (sur de petites armées échantillonnées)
+ * et en déduit des facteurs correctifs pour la durée et les pertes du vainqueur.
+ * L'erreur relative estimée est l'erreur type de ces facteurs sur les batailles d'étalonnage.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class LanchesterEstimator {
+
+    /** Modèle de combat dont on estime les batailles. */
+    private final CombatModel combatModel;
+
+    /** Nombre de batailles d'étalonnage enregistrées. */
+    private int calibrationRuns;
+
+    /** Nombre de batailles d'étalonnage dont le vainqueur n'a pas été prédit. */
+    private int winnerMismatches;
+
+    /** Sommes (et sommes des carrés) des rapports réel / prédit de la durée. */
+    private int durationSamples;
+    private double durationRatioSum;
+    private double durationRatioSquares;
+
+    /** Sommes (et sommes des carrés) des rapports réel / prédit des pertes du vainqueur. */
+    private int casualtySamples;
+    private double casualtyRatioSum;
+    private double casualtyRatioSquares;
+
+    /**
+     * Crée un estimateur pour le modèle de combat donné.
+     *
+     * @param combatModel le modèle de calcul des dégâts
+     */
+    public LanchesterEstimator(CombatModel combatModel) {
+        if (combatModel == null) {
+            throw new IllegalArgumentException("Combat model cannot be null.");
+        }
+        this.combatModel = combatModel;
+    }
+
+    /**
+     * Prédit l'issue d'une bataille, corrigée par l'étalonnage s'il a eu lieu.
+     *
+     * @param faction1 les agrégats de la première faction
+     * @param faction2 les agrégats de la seconde faction
+     * @return la prédiction
+     */
+    public Prediction predict(FactionAggregate faction1, FactionAggregate faction2) {
+        Prediction raw = predictRaw(faction1, faction2);
+        if (raw.winner == 0) {
+            return raw;
+        }
+
+        FactionAggregate winner = raw.winner == 1 ? faction1 : faction2;
+        int rawCasualties = winner.size - raw.getWinnerSurvivors();
+        int casualties = (int) Math.min(winner.size - 1L, Math.round(rawCasualties * getCasualtyScale()));
+        int survivors = winner.size - Math.max(0, casualties);
+        long iterations = Math.max(1, Math.round(raw.iterations * getDurationScale()));
+
+        return new Prediction(raw.winner, iterations,
+                raw.winner == 1 ? survivors : 0,
+                raw.winner == 2 ? survivors : 0,
+                raw.winnerHealthFraction, getEstimatedError());
+    }
+
+    /**
+     * Enregistre le résultat réel d'une bataille pour étalonner l'estimateur.
+     *
+     * @param faction1 les agrégats de la première faction au début de la bataille
+     * @param faction2 les agrégats de la seconde faction au début de la bataille
+     * @param actualIterations le nombre réel d'itérations de la boucle de duels
+     * @param actualSurvivors1 le nombre réel de survivants de la première faction
+     * @param actualSurvivors2 le nombre réel de survivants de la seconde faction
+     */
+    public void calibrate(FactionAggregate faction1, FactionAggregate faction2,
+                          long actualIterations, int actualSurvivors1, int actualSurvivors2) {
+        Prediction raw = predictRaw(faction1, faction2);
+        calibrationRuns++;
+
+        int actualWinner = actualSurvivors2 == 0 && actualSurvivors1 > 0 ? 1
+                : actualSurvivors1 == 0 && actualSurvivors2 > 0 ? 2 : 0;
+        if (actualWinner != raw.winner) {
+            winnerMismatches++;
+            return;
+        }
+        if (raw.winner == 0) {
+            return;
+        }
+
+        if (raw.iterations > 0) {
+            double ratio = (double) actualIterations / raw.iterations;
+            durationSamples++;
+            durationRatioSum += ratio;
+            durationRatioSquares += ratio * ratio;
+        }
+
+        FactionAggregate winner = raw.winner == 1 ? faction1 : faction2;
+        int rawCasualties = winner.size - raw.getWinnerSurvivors();
+        int actualCasualties = winner.size - (raw.winner == 1 ? actualSurvivors1 : actualSurvivors2);
+        if (rawCasualties > 0) {
+            double ratio = (double) actualCasualties / rawCasualties;
+            casualtySamples++;
+            casualtyRatioSum += ratio;
+            casualtyRatioSquares += ratio * ratio;
+        }
+    }
+
+    /** @return true si au moins une bataille d'étalonnage a été enregistrée */
+    public boolean isCalibrated() {
+        return calibrationRuns > 0;
+    }
+
+    /** @return le nombre de batailles d'étalonnage enregistrées */
+    public int getCalibrationRuns() {
+        return calibrationRuns;
+    }
+
+    /** @return le facteur correctif appliqué à la durée prédite */
+    public double getDurationScale() {
+        return durationSamples == 0 ? 1.0 : durationRatioSum / durationSamples;
+    }
+
+    /** @return le facteur correctif appliqué aux pertes prédites du vainqueur */
+    public double getCasualtyScale() {
+        return casualtySamples == 0 ? 1.0 : casualtyRatioSum / casualtySamples;
+    }
+
+    /**
+     * Erreur relative estimée d'une prédiction étalonnée (durée et pertes du vainqueur) :
+     * la plus grande erreur type relative des facteurs correctifs, ou la proportion de
+     * vainqueurs mal prédits si elle est plus grande.
+     *
+     * @return l'erreur relative estimée, ou {@link Double#NaN} avec moins de deux batailles d'étalonnage
+     */
+    public double getEstimatedError() {
+        if (calibrationRuns < 2) {
+            return Double.NaN;
+        }
+        double error = (double) winnerMismatches / calibrationRuns;
+        error = Math.max(error, relativeStandardError(durationSamples, durationRatioSum, durationRatioSquares));
+        error = Math.max(error, relativeStandardError(casualtySamples, casualtyRatioSum, casualtyRatioSquares));
+        return error;
+    }
+
+    /** Prédiction de la loi linéaire, sans correction. */
+    private Prediction predictRaw(FactionAggregate faction1, FactionAggregate faction2) {
+        if (faction1.size == 0 || faction2.size == 0) {
+            int winner = faction1.size > 0 ? 1 : faction2.size > 0 ? 2 : 0;
+            return new Prediction(winner, 0, faction1.size, faction2.size, 1.0, Double.NaN);
+        }
+
+        int damageTo2 = combatModel.computeDamage(
+                faction1.meanStrength(), faction1.meanHealth(), faction1.meanMagicPotion(),
+                faction2.meanEndurance(), faction2.meanHealth(), faction2.meanMagicPotion());
+        int damageTo1 = combatModel.computeDamage(
+                faction2.meanStrength(), faction2.meanHealth(), faction2.meanMagicPotion(),
+                faction1.meanEndurance(), faction1.meanHealth(), faction1.meanMagicPotion());
+
+        if (damageTo1 <= 0 && damageTo2 <= 0) {
+            return new Prediction(0, 0, faction1.size, faction2.size, 1.0, Double.NaN);
+        }
+
+        // Itérations nécessaires pour épuiser la réserve de points de vie de chaque camp
+        double exhaust1 = damageTo1 <= 0 ? Double.POSITIVE_INFINITY : (double) faction1.totalHealth / damageTo1;
+        double exhaust2 = damageTo2 <= 0 ? Double.POSITIVE_INFINITY : (double) faction2.totalHealth / damageTo2;
+
+        boolean faction1Wins = exhaust2 <= exhaust1;
+        double duration = faction1Wins ? exhaust2 : exhaust1;
+        double lostFraction = duration / (faction1Wins ? exhaust1 : exhaust2);
+        FactionAggregate winner = faction1Wins ? faction1 : faction2;
+        int survivors = (int) Math.max(1, Math.round(winner.size * (1.0 - lostFraction)));
+
+        return new Prediction(faction1Wins ? 1 : 2, Math.round(Math.ceil(duration)),
+                faction1Wins ? survivors : 0,
+                faction1Wins ? 0 : survivors,
+                1.0 - lostFraction, Double.NaN);
+    }
+
+    private static double relativeStandardError(int samples, double sum, double squares) {
+        if (samples < 2) {
+            return 0.0;
+        }
+        double mean = sum / samples;
+        double variance = Math.max(0.0, (squares - samples * mean * mean) / (samples - 1));
+        return mean == 0.0 ? 0.0 : Math.sqrt(variance / samples) / mean;
+    }
+
+    /**
+     * Statistiques agrégées d'une faction : effectif et sommes des caractéristiques.
+     */
+    public static final class FactionAggregate {
+
+        private final int size;
+        private final long totalStrength;
+        private final long totalEndurance;
+        private final long totalHealth;
+        private final long totalMagicPotion;
+
+        private FactionAggregate(int size, long totalStrength, long totalEndurance,
+                                 long totalHealth, long totalMagicPotion) {
+            this.size = size;
+            this.totalStrength = totalStrength;
+            this.totalEndurance = totalEndurance;
+            this.totalHealth = totalHealth;
+            this.totalMagicPotion = totalMagicPotion;
+        }
+
+        /**
+         * Agrège les combattants d'un effectif.
+         *
+         * @param roster l'effectif des combattants vivants d'une faction
+         * @return les agrégats de la faction
+         */
+        public static FactionAggregate of(AliveRoster roster) {
+            long strength = 0;
+            long endurance = 0;
+            long health = 0;
+            long potion = 0;
+            for (int i = 0; i < roster.size(); i++) {
+                GameCharacter fighter = roster.get(i);
+                strength += fighter.getStrength();
+                endurance += fighter.getEndurance();
+                health += Math.max(0, fighter.getHealth());
+                potion += fighter.getMagicpotion();
+            }
+            return new FactionAggregate(roster.size(), strength, endurance, health, potion);
+        }
+
+        /** @return le nombre de combattants */
+        public int getSize() {
+            return size;
+        }
+
+        /** @return la somme des points de vie des combattants */
+        public long getTotalHealth() {
+            return totalHealth;
+        }
+
+        private int meanStrength() {
+            return mean(totalStrength);
+        }
+
+        private int meanEndurance() {
+            return mean(totalEndurance);
+        }
+
+        private int meanHealth() {
+            return mean(totalHealth);
+        }
+
+        private int meanMagicPotion() {
+            return mean(totalMagicPotion);
+        }
+
+        private int mean(long total) {
+            return size == 0 ? 0 : (int) Math.round((double) total / size);
+        }
+    }
+
+    /**
+     * Issue prédite d'une bataille.
+     */
+    public static final class Prediction {
+
+        /** 1 ou 2 pour la faction victorieuse, 0 si aucune ne peut l'emporter. */
+        private final int winner;
+        private final long iterations;
+        private final int faction1Survivors;
+        private final int faction2Survivors;
+        private final double winnerHealthFraction;
+        private final double estimatedError;
+
+        private Prediction(int winner, long iterations, int faction1Survivors, int faction2Survivors,
+                           double winnerHealthFraction, double estimatedError) {
+            this.winner = winner;
+            this.iterations = iterations;
+            this.faction1Survivors = faction1Survivors;
+            this.faction2Survivors = faction2Survivors;
+            this.winnerHealthFraction = winnerHealthFraction;
+            this.estimatedError = estimatedError;
+        }
+
+        /** @return 1 ou 2 pour la faction victorieuse, 0 si aucune ne peut l'emporter */
+        public int getWinner() {
+            return winner;
+        }
+
+        /** @return le nombre d'itérations prédit pour la boucle de duels */
+        public long getIterations() {
+            return iterations;
+        }
+
+        /** @return le nombre de survivants prédit pour la première faction */
+        public int getFaction1Survivors() {
+            return faction1Survivors;
+        }
+
+        /** @return le nombre de survivants prédit pour la seconde faction */
+        public int getFaction2Survivors() {
+            return faction2Survivors;
+        }
+
+        /** @return la part de la réserve de points de vie du vainqueur restant à la fin */
+        public double getWinnerHealthFraction() {
+            return winnerHealthFraction;
+        }
+
+        /** @return l'erreur relative estimée, ou {@link Double#NaN} si l'estimateur n'est pas étalonné */
+        public double getEstimatedError() {
+            return estimatedError;
+        }
+
+        private int getWinnerSurvivors() {
+            return winner == 1 ? faction1Survivors : faction2Survivors;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.interfaces.Fighter;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Moteur de bataille synchrone, tick par tick, à double tampon.
+ * <p>
+ * À chaque tick, les combattants sont mis en relation par le {@link BattleMatchmaker},
+ * puis leurs statistiques sont copiées dans des tableaux (l'instantané, en lecture
+ * seule). Toutes les attaques du tick sont calculées à partir de cet instantané et
+ * écrites dans un tableau de dégâts distinct ; les dégâts ne sont appliqués qu'à la
+ * fin du tick, en un seul lot, via {@link Fighter#takeDamage(int)}.
+ * </p>
+ * <p>
+ * Les deux adversaires d'une paire frappent donc simultanément : aucun combattant
+ * n'est avantagé par sa position dans la liste, et deux combattants peuvent tomber
+ * dans le même tick. Comme le calcul des attaques ne modifie aucun personnage, il peut
+ * être réparti sur plusieurs threads ({@link #setParallel(boolean)}).
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class TickBattleEngine {
+
+    /** Nombre d'attaques en dessous duquel le calcul parallèle ne vaut pas son coût. */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 2_048;
+
+    /** Modèle de calcul des dégâts. */
+    private final CombatModel combatModel;
+
+    /** Mise en relation des combattants à chaque tick. */
+    private final BattleMatchmaker matchmaker = new BattleMatchmaker();
+
+    /** Indique si le calcul des attaques est réparti sur plusieurs threads. */
+    private boolean parallel;
+
+    /** Nombre minimal d'attaques pour passer en calcul parallèle. */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Crée un moteur utilisant le modèle de combat donné.
+     *
+     * @param combatModel le modèle de calcul des dégâts
+     */
+    public TickBattleEngine(CombatModel combatModel) {
+        if (combatModel == null) {
+            throw new IllegalArgumentException("Combat model cannot be null.");
+        }
+        this.combatModel = combatModel;
+    }
+
+    /** @return true si le calcul des attaques est réparti sur plusieurs threads */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** @param parallel true pour calculer les attaques d'un tick en parallèle */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Définit le nombre minimal d'attaques d'un tick pour passer en calcul parallèle.
+     *
+     * @param parallelThreshold le seuil (au moins 1)
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive.");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Joue un tick : chaque paire de combattants échange ses coups simultanément.
+     *
+     * @param fighters les combattants présents
+     * @return le total des dégâts infligés pendant le tick (0 si aucune attaque n'a porté)
+     */
+    public long tick(List<GameCharacter> fighters) {
+        List<BattleMatchmaker.Matchup> matchups = matchmaker.match(fighters);
+        int count = matchups.size() * 2;
+        if (count == 0) {
+            return 0;
+        }
+
+        // Instantané : le combattant i affronte le combattant i ^ 1
+        GameCharacter[] engaged = new GameCharacter[count];
+        int[] strength = new int[count];
+        int[] endurance = new int[count];
+        int[] health = new int[count];
+        int[] potion = new int[count];
+        for (int m = 0; m < matchups.size(); m++) {
+            engaged[2 * m] = matchups.get(m).getFirst();
+            engaged[2 * m + 1] = matchups.get(m).getSecond();
+        }
+        for (int i = 0; i < count; i++) {
+            GameCharacter fighter = engaged[i];
+            strength[i] = fighter.getStrength();
+            endurance[i] = fighter.getEndurance();
+            health[i] = fighter.getHealth();
+            potion[i] = fighter.getMagicpotion();
+        }
+
+        // Calcul des attaques : lecture seule de l'instantané, écriture dans un tampon séparé
+        int[] damage = new int[count];
+        IntStream attacks = IntStream.range(0, count);
+        if (parallel && count >= parallelThreshold) {
+            attacks = attacks.parallel();
+        }
+        attacks.forEach(i -> {
+            int target = i ^ 1;
+            damage[i] = combatModel.computeDamage(strength[i], health[i], potion[i],
+                    endurance[target], health[target], potion[target]);
+        });
+
+        // Application en un seul lot
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            int received = damage[i ^ 1];
+            if (received > 0) {
+                Fighter target = engaged[i];
+                target.takeDamage(received);
+                total += received;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Enchaîne les ticks jusqu'à ce qu'aucune attaque ne porte plus, ou jusqu'au
+     * nombre maximal de ticks.
+     *
+     * @param fighters les combattants présents
+     * @param maxTicks le nombre maximal de ticks
+     * @return le nombre de ticks ayant infligé des dégâts
+     */
+    public int run(List<GameCharacter> fighters, int maxTicks) {
+        int ticks = 0;
+        while (ticks < maxTicks && tick(fighters) > 0) {
+            ticks++;
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.envahissementarmorique.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Échéancier d'événements discrets, ordonnés par date dans une file de priorité.
+ * <p>
+ * Le temps est compté en intervalles de simulation. Les événements de même date sont
+ * exécutés dans leur ordre de programmation, ce qui rend l'exécution reproductible.
+ * Un événement peut programmer d'autres événements (en général sa propre répétition) ;
+ * ceux qui tombent dans la fenêtre en cours sont exécutés dans la même passe.
+ * </p>
+ * <p>
+ * Les dates étant entières, la file de priorité ne contient que les dates distinctes,
+ * chacune avec la file des événements programmés à cette date. Programmer ou exécuter
+ * un événement coûte O(log d), où d est le nombre de dates en attente (quelques dizaines
+ * en pratique), au lieu d'un tas de tous les événements dont chaque opération parcourt
+ * la mémoire au hasard. Le coût d'une passe est proportionnel au nombre d'événements
+ * dus, pas au nombre d'entités suivies.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class EventScheduler {
+
+    /** Événements en attente, par date croissante puis par ordre de programmation. */
+    private final TreeMap<Long, ArrayDeque<Event>> queue = new TreeMap<>();
+
+    /** Nombre d'événements en attente. */
+    private int size;
+
+    /** Date courante. */
+    private long now;
+
+    /** Nombre d'événements exécutés depuis la création. */
+    private long processed;
+
+    /** @return la date courante */
+    public long getNow() {
+        return now;
+    }
+
+    /** @return le nombre d'événements en attente (y compris annulés non encore retirés) */
+    public int size() {
+        return size;
+    }
+
+    /** @return le nombre d'événements exécutés depuis la création */
+    public long getProcessed() {
+        return processed;
+    }
+
+    /**
+     * Programme une action à une date donnée.
+     *
+     * @param time la date d'exécution, au moins la date courante
+     * @param action l'action à exécuter
+     * @return l'événement programmé, qui peut être annulé
+     */
+    public Event schedule(long time, Runnable action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Event action cannot be null.");
+        }
+        if (time < now) {
+            throw new IllegalArgumentException("Cannot schedule an event in the past.");
+        }
+        Event event = new Event(time, action);
+        queue.computeIfAbsent(time, date -> new ArrayDeque<>()).addLast(event);
+        size++;
+        return event;
+    }
+
+    /**
+     * Programme une action après un délai.
+     *
+     * @param delay le délai en intervalles, positif ou nul
+     * @param action l'action à exécuter
+     * @return l'événement programmé, qui peut être annulé
+     */
+    public Event scheduleAfter(long delay, Runnable action) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Event delay cannot be negative.");
+        }
+        return schedule(now + delay, action);
+    }
+
+    /**
+     * Exécute, dans l'ordre, tous les événements dont la date est au plus la date donnée,
+     * puis avance la date courante jusqu'à elle.
+     *
+     * @param time la date jusqu'à laquelle avancer
+     * @return le nombre d'événements exécutés
+     */
+    public int runUntil(long time) {
+        if (time < now) {
+            throw new IllegalArgumentException("Cannot run the scheduler backwards.");
+        }
+        int executed = 0;
+        Map.Entry<Long, ArrayDeque<Event>> due;
+        while ((due = queue.firstEntry()) != null && due.getKey() <= time) {
+            now = due.getKey();
+            ArrayDeque<Event> events = due.getValue();
+            // Un événement peut en programmer d'autres à la même date : ils sont ajoutés
+            // au bout de cette file et exécutés dans la même boucle
+            Event event;
+            while ((event = events.pollFirst()) != null) {
+                size--;
+                if (event.cancelled) continue;
+
+                event.action.run();
+                executed++;
+            }
+            queue.remove(now);
+        }
+        now = time;
+        processed += executed;
+        return executed;
+    }
+
+    /**
+     * Retire tous les événements en attente.
+     */
+    public void clear() {
+        queue.clear();
+        size = 0;
+    }
+
+    /**
+     * Événement programmé.
+     */
+    public static final class Event {
+
+        private final long time;
+        private final Runnable action;
+        private boolean cancelled;
+
+        private Event(long time, Runnable action) {
+            this.time = time;
+            this.action = action;
+        }
+
+        /** @return la date d'exécution de l'événement */
+        public long getTime() {
+            return time;
+        }
+
+        /** Annule l'événement : il sera ignoré à son échéance. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /** @return true si l'événement a été annulé */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
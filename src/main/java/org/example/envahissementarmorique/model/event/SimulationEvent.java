@@ -0,0 +1,121 @@
+package org.example.envahissementarmorique.model.event;
+
+import org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge;
+import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+
+/**
+ * Événement produit par une phase de la simulation (changement d'état d'un personnage,
+ * apparition ou dégradation de nourriture...).
+ * <p>
+ * Un événement ne garde que des données brutes : type, personnage et lieu (par leur nom,
+ * sans copie), quantité. Le texte n'est construit que lorsqu'un consommateur le demande
+ * ({@link #format()}) : console en mode verbeux, journal de l'interface, fichier. Une
+ * simulation sans affichage ne paie donc ni concaténation ni entrée-sortie.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public sealed interface SimulationEvent permits SimulationEvent.CharacterChanged, SimulationEvent.LycanAged,
+        SimulationEvent.FoodSpawned, SimulationEvent.FoodDegraded, SimulationEvent.Message {
+
+    /**
+     * @return le texte de l'événement, construit à chaque appel
+     */
+    String format();
+
+    /**
+     * Types de changement d'état d'un personnage.
+     */
+    enum Change {
+        /** La faim augmente (la jauge de faim baisse). */
+        HUNGER,
+        /** L'effet de la potion magique s'estompe. */
+        POTION_WEAR_OFF,
+        /** Blessure mineure. */
+        INJURY,
+        /** Perte de points de vie due à la faim. */
+        STARVATION
+    }
+
+    /**
+     * Changement d'état d'un personnage.
+     *
+     * @param change le type de changement
+     * @param character le nom du personnage
+     * @param delta l'ampleur du changement (toujours positive)
+     */
+    record CharacterChanged(Change change, String character, int delta) implements SimulationEvent {
+
+        @Override
+        public String format() {
+            return switch (change) {
+                case HUNGER -> character + " a faim (-" + delta + ")";
+                case POTION_WEAR_OFF -> character + " perd de l'effet de sa potion (-" + delta + ")";
+                case INJURY -> character + " subit une blessure mineure (-" + delta + " PV)";
+                case STARVATION -> character + " souffre de la faim (-" + delta + " PV)";
+            };
+        }
+    }
+
+    /**
+     * Vieillissement d'un lycanthrope.
+     *
+     * @param lycan le lycanthrope
+     * @param age sa nouvelle catégorie d'âge
+     */
+    record LycanAged(Lycanthropes lycan, CategorieAge age) implements SimulationEvent {
+
+        @Override
+        public String format() {
+            return lycan.getIdentifier() + " vieillit (" + age + ")";
+        }
+    }
+
+    /**
+     * Apparition d'un aliment frais dans un lieu.
+     *
+     * @param place le nom du lieu
+     * @param food le type d'aliment
+     */
+    record FoodSpawned(String place, Foods food) implements SimulationEvent {
+
+        @Override
+        public String format() {
+            return "Nourriture fraîche (" + food.getLabel() + ") apparue à " + place;
+        }
+    }
+
+    /**
+     * Dégradation d'une pile d'aliments d'un lieu.
+     *
+     * @param place le nom du lieu
+     * @param food le type d'aliment
+     * @param from la fraîcheur avant dégradation
+     * @param to la fraîcheur après dégradation
+     * @param count le nombre d'aliments concernés
+     */
+    record FoodDegraded(String place, Foods food, Freshness from, Freshness to, int count) implements SimulationEvent {
+
+        @Override
+        public String format() {
+            return "Nourriture à " + place + " dégradée : " + food.getLabel() + " x" + count
+                    + " (" + from.getLabel() + " -> " + to.getLabel() + ")";
+        }
+    }
+
+    /**
+     * Événement libre, au texte déjà construit (effets personnalisés).
+     *
+     * @param text le texte de l'événement
+     */
+    record Message(String text) implements SimulationEvent {
+
+        @Override
+        public String format() {
+            return text;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.envahissementarmorique.model.item;
 
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Représente un aliment dans la simulation.
@@ -51,6 +54,15 @@ public final class Food extends Consumable {
         return freshness;
     }
 
+    /**
+     * Crée une copie indépendante de l'aliment, avec la même fraîcheur.
+     *
+     * @return la copie
+     */
+    public Food copy() {
+        return new Food(foods, freshness);
+    }
+
     /**
      * Fait se dégrader la fraîcheur de l'aliment avec le temps.
      * <p>
@@ -94,12 +106,18 @@ public final class Food extends Consumable {
             int hungerLoss = consumer.getHunger() / 3;
             consumer.setHunger(consumer.getHunger() - hungerLoss);
 
-            System.out.println(consumer.getName() + " a mangé " + getName() + " pourri et a perdu " + healthLoss + " PV et " + hungerLoss + " de faim !");
+            if (SimulationLog.isEnabled(LogCategory.FOOD, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.FOOD, LogLevel.INFO, "{} a mangé {} pourri et a perdu {} PV et {} de faim !",
+                        consumer.getName(), getName(), healthLoss, hungerLoss);
+            }
         } else {
             int newHunger = consumer.getHunger() + foods.getNutrition();
             consumer.setHunger(newHunger);
 
-            System.out.println(consumer.getName() + " a mangé " + getName() + " et a gagné " + foods.getNutrition() + " de faim !");
+            if (SimulationLog.isEnabled(LogCategory.FOOD, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.FOOD, LogLevel.INFO, "{} a mangé {} et a gagné {} de faim !",
+                        consumer.getName(), getName(), foods.getNutrition());
+            }
         }
     }
 
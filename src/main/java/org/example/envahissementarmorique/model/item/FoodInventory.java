@@ -0,0 +1,295 @@
+package org.example.envahissementarmorique.model.item;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Stock de nourriture d'un lieu, tenu sous forme de compteurs.
+ * <p>
+ * Un aliment n'est défini que par son type ({@link Foods}) et sa fraîcheur
+ * ({@link Freshness}) : le stock garde un compteur par couple, au lieu d'un objet
+ * {@link Food} par aliment. Ajouter, retirer, compter et faire changer de fraîcheur
+ * coûtent O(1), quelle que soit la quantité. Des objets {@link Food} ne sont créés
+ * qu'aux frontières de l'API (repas d'un personnage, affichage, interface graphique).
+ * </p>
+ * <p>
+ * Le stock se parcourt par piles ({@link Stack}) : une pile par couple non vide.
+ * </p>
+ * <p>
+ * Le stock ne se dégrade pas de lui-même : chaque arrivée est signalée à l'observateur
+ * des ajouts ({@link #setArrivalListener(ArrivalListener)}), en pratique la roue de
+ * dégradation du théâtre, qui range le lot selon son échéance et le fait passer au
+ * cran suivant par {@link #move(Foods, Freshness, Freshness, int)} le moment venu.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FoodInventory implements Iterable<FoodInventory.Stack> {
+
+    private static final Foods[] FOODS = Foods.values();
+    private static final Freshness[] FRESHNESS = Freshness.values();
+
+    /** Compteurs, indexés par {@code type * nombre de fraîcheurs + fraîcheur}. */
+    private int[] counts = new int[FOODS.length * FRESHNESS.length];
+
+    /** Nombre total d'aliments. */
+    private int size;
+
+    /** Prévenu des aliments ajoutés, ou null. */
+    private ArrivalListener arrivalListener;
+
+    /**
+     * Pile d'aliments identiques : même type, même fraîcheur.
+     *
+     * @param food le type d'aliment
+     * @param freshness la fraîcheur
+     * @param count le nombre d'aliments de la pile
+     */
+    public record Stack(Foods food, Freshness freshness, int count) {
+
+        @Override
+        public String toString() {
+            String label = food.getLabel() + " (" + freshness.getLabel() + ")";
+            return count == 1 ? label : label + " x" + count;
+        }
+    }
+
+    /**
+     * Observateur des aliments ajoutés au stock.
+     */
+    @FunctionalInterface
+    public interface ArrivalListener {
+
+        /**
+         * @param food le type d'aliment
+         * @param freshness la fraîcheur
+         * @param count le nombre d'aliments ajoutés
+         */
+        void arrived(Foods food, Freshness freshness, int count);
+    }
+
+    private static int index(Foods food, Freshness freshness) {
+        return food.ordinal() * FRESHNESS.length + freshness.ordinal();
+    }
+
+    /** @return le nombre total d'aliments */
+    public int size() {
+        return size;
+    }
+
+    /** @return true si le stock est vide */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param food le type d'aliment
+     * @param freshness la fraîcheur
+     * @return le nombre d'aliments de ce type et de cette fraîcheur
+     */
+    public int count(Foods food, Freshness freshness) {
+        return counts[index(food, freshness)];
+    }
+
+    /**
+     * @param food le type d'aliment
+     * @return le nombre d'aliments de ce type, toutes fraîcheurs confondues
+     */
+    public int count(Foods food) {
+        int total = 0;
+        for (Freshness freshness : FRESHNESS) {
+            total += counts[index(food, freshness)];
+        }
+        return total;
+    }
+
+    /**
+     * @param freshness la fraîcheur
+     * @return le nombre d'aliments de cette fraîcheur, tous types confondus
+     */
+    public int count(Freshness freshness) {
+        int total = 0;
+        for (int i = freshness.ordinal(); i < counts.length; i += FRESHNESS.length) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Ajoute des aliments au stock.
+     *
+     * @param food le type d'aliment
+     * @param freshness la fraîcheur
+     * @param count le nombre d'aliments à ajouter, positif ou nul
+     */
+    public void add(Foods food, Freshness freshness, int count) {
+        if (food == null || freshness == null) {
+            throw new IllegalArgumentException("Food and freshness cannot be null.");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Food count cannot be negative.");
+        }
+        counts[index(food, freshness)] += count;
+        size += count;
+        if (arrivalListener != null && count > 0) {
+            arrivalListener.arrived(food, freshness, count);
+        }
+    }
+
+    /**
+     * Définit l'observateur prévenu de chaque ajout. Un seul observateur à la fois ;
+     * les copies du stock n'en ont pas.
+     *
+     * @param arrivalListener l'observateur, ou null pour ne plus prévenir personne
+     */
+    public void setArrivalListener(ArrivalListener arrivalListener) {
+        this.arrivalListener = arrivalListener;
+    }
+
+    /**
+     * Ajoute un aliment au stock.
+     *
+     * @param food l'aliment (seuls son type et sa fraîcheur sont gardés)
+     */
+    public void add(Food food) {
+        add(food.getFoods(), food.getFreshness(), 1);
+    }
+
+    /**
+     * Retire des aliments du stock, s'il y en a assez.
+     *
+     * @param food le type d'aliment
+     * @param freshness la fraîcheur
+     * @param count le nombre d'aliments à retirer
+     * @return true si les aliments ont été retirés, false s'il n'y en avait pas assez
+     */
+    public boolean remove(Foods food, Freshness freshness, int count) {
+        int i = index(food, freshness);
+        if (count < 0 || counts[i] < count) return false;
+
+        counts[i] -= count;
+        size -= count;
+        return true;
+    }
+
+    /**
+     * Fait passer des aliments d'une fraîcheur à une autre, dans la limite du stock,
+     * sans prévenir l'observateur des ajouts.
+     *
+     * @param food le type d'aliment
+     * @param from la fraîcheur actuelle
+     * @param to la nouvelle fraîcheur
+     * @param count le nombre d'aliments à faire passer
+     * @return le nombre d'aliments effectivement passés
+     */
+    public int move(Foods food, Freshness from, Freshness to, int count) {
+        int i = index(food, from);
+        int moved = Math.min(Math.max(count, 0), counts[i]);
+        counts[i] -= moved;
+        counts[index(food, to)] += moved;
+        return moved;
+    }
+
+    /**
+     * Retire un aliment identique à celui donné (même type, même fraîcheur).
+     *
+     * @param food l'aliment
+     * @return true si un aliment a été retiré
+     */
+    public boolean remove(Food food) {
+        return remove(food.getFoods(), food.getFreshness(), 1);
+    }
+
+    /**
+     * Vide le stock.
+     */
+    public void clear() {
+        counts = new int[counts.length];
+        size = 0;
+    }
+
+    /**
+     * Crée une copie indépendante du stock, sans observateur.
+     *
+     * @return la copie
+     */
+    public FoodInventory copy() {
+        FoodInventory copy = new FoodInventory();
+        copy.counts = counts.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Crée un objet {@link Food} par aliment du stock. Coûteux pour un gros stock :
+     * réservé à l'interface graphique et aux petits lieux.
+     *
+     * @return la liste des aliments, les plus frais d'abord
+     */
+    public List<Food> toFoodList() {
+        List<Food> list = new ArrayList<>(size);
+        for (Freshness freshness : FRESHNESS) {
+            for (Foods food : FOODS) {
+                for (int n = counts[index(food, freshness)]; n > 0; n--) {
+                    list.add(new Food(food, freshness));
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Parcourt les piles non vides, les plus fraîches d'abord.
+     *
+     * @return un itérateur sur les piles
+     */
+    @Override
+    public Iterator<Stack> iterator() {
+        return new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                int position = from;
+                while (position < counts.length && counts[order(position)] == 0) {
+                    position++;
+                }
+                return position;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < counts.length;
+            }
+
+            @Override
+            public Stack next() {
+                if (!hasNext()) throw new NoSuchElementException();
+
+                int i = order(next);
+                Stack stack = new Stack(FOODS[i / FRESHNESS.length], FRESHNESS[i % FRESHNESS.length], counts[i]);
+                next = advance(next + 1);
+                return stack;
+            }
+        };
+    }
+
+    /** Indice du compteur au rang donné, dans l'ordre des fraîcheurs puis des types. */
+    private static int order(int position) {
+        int freshness = position / FOODS.length;
+        int food = position % FOODS.length;
+        return food * FRESHNESS.length + freshness;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Stack stack : this) {
+            if (text.length() > 0) text.append(", ");
+            text.append(stack);
+        }
+        return text.toString();
+    }
+}
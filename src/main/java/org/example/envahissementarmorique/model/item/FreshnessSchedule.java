@@ -0,0 +1,71 @@
+package org.example.envahissementarmorique.model.item;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Durées de vie des états de fraîcheur, en intervalles de simulation.
+ * <p>
+ * Un aliment reste dans un état périssable ({@link Freshness#FRESH}, {@link Freshness#OKAY})
+ * pendant la durée fixée pour cet état, puis passe à l'état suivant
+ * ({@link Freshness#degrade()}). Un aliment pourri ne change plus. Par défaut, chaque
+ * état périssable dure un intervalle : un aliment perd un cran par intervalle.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FreshnessSchedule {
+
+    /** Durée de chaque état périssable, en intervalles. */
+    private final Map<Freshness, Integer> durations = new EnumMap<>(Freshness.class);
+
+    /**
+     * Crée un calendrier où chaque état périssable dure un intervalle.
+     */
+    public FreshnessSchedule() {
+        for (Freshness freshness : Freshness.values()) {
+            if (isPerishable(freshness)) {
+                durations.put(freshness, 1);
+            }
+        }
+    }
+
+    /**
+     * @param freshness un état de fraîcheur
+     * @return true si un aliment dans cet état finit par changer d'état
+     */
+    public static boolean isPerishable(Freshness freshness) {
+        return freshness.degrade() != freshness;
+    }
+
+    /**
+     * Change la durée d'un état périssable.
+     *
+     * @param freshness l'état périssable
+     * @param ticks la nouvelle durée, en intervalles, au moins 1
+     * @return ce calendrier, pour enchaîner les réglages
+     */
+    public FreshnessSchedule setDuration(Freshness freshness, int ticks) {
+        if (freshness == null || !isPerishable(freshness)) {
+            throw new IllegalArgumentException("Only perishable freshness states have a duration.");
+        }
+        if (ticks < 1) {
+            throw new IllegalArgumentException("Freshness duration must be at least one tick.");
+        }
+        durations.put(freshness, ticks);
+        return this;
+    }
+
+    /**
+     * @param freshness l'état périssable
+     * @return la durée de cet état, en intervalles
+     */
+    public int getDuration(Freshness freshness) {
+        Integer ticks = durations.get(freshness);
+        if (ticks == null) {
+            throw new IllegalArgumentException("Freshness state never changes: " + freshness);
+        }
+        return ticks;
+    }
+}
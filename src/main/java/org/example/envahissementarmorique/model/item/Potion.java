@@ -1,7 +1,11 @@
 package org.example.envahissementarmorique.model.item;
 
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -67,7 +71,7 @@ public final class Potion extends Consumable {
     public Potion(Foods foods) {
         super(foods);
         this.doses = 1;
-        this.ingredients = new java.util.ArrayList<>();
+        this.ingredients = new ArrayList<>();
         this.ingredients.add(foods);
     }
 
@@ -80,7 +84,7 @@ public final class Potion extends Consumable {
     public Potion(Foods foods, int doses) {
         super(foods);
         this.doses = doses;
-        this.ingredients = new java.util.ArrayList<>();
+        this.ingredients = new ArrayList<>();
         this.ingredients.add(foods);
     }
 
@@ -93,6 +97,17 @@ public final class Potion extends Consumable {
         return doses;
     }
 
+    /**
+     * Crée une copie indépendante de la potion (doses et ingrédients).
+     *
+     * @return la copie
+     */
+    public Potion copy() {
+        Potion copy = new Potion(foods, doses);
+        copy.ingredients = new ArrayList<>(ingredients);
+        return copy;
+    }
+
     /**
      * Ajoute un ingrédient à la potion.
      *
@@ -110,7 +125,7 @@ public final class Potion extends Consumable {
      * @return Une liste des ingrédients.
      */
     public java.util.List<Foods> getIngredients() {
-        return new java.util.ArrayList<>(ingredients);
+        return new ArrayList<>(ingredients);
     }
 
     /**
@@ -144,7 +159,7 @@ public final class Potion extends Consumable {
             consumer.setStrength(0);
             consumer.setEndurance(0);
             consumer.setMagicpotion(newPotionLevel);
-            System.out.println(consumer.getName() + " a été transformé en statue de granit !");
+            SimulationLog.log(LogCategory.POTION, LogLevel.INFO, "{} a été transformé en statue de granit !", consumer.getName());
             return;
         }
 
@@ -155,9 +170,9 @@ public final class Potion extends Consumable {
         // Si 1 marmite ou plus (≥10 doses), effets permanents
         if (newPotionLevel >= DOSES_PER_CAULDRON) {
             consumer.setEndurance(consumer.getEndurance() + 1000);
-            System.out.println(consumer.getName() + " gagne une force surhumaine permanente et l'invincibilité !");
+            SimulationLog.log(LogCategory.POTION, LogLevel.INFO, "{} gagne une force surhumaine permanente et l'invincibilité !", consumer.getName());
         } else {
-            System.out.println(consumer.getName() + " gagne une force surhumaine temporaire !");
+            SimulationLog.log(LogCategory.POTION, LogLevel.INFO, "{} gagne une force surhumaine temporaire !", consumer.getName());
         }
 
         // Mise à jour du niveau de potion magique
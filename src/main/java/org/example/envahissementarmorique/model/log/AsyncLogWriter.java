@@ -0,0 +1,147 @@
+package org.example.envahissementarmorique.model.log;
+
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fil d'écriture du journal : vide la file bornée des messages par lots et les écrit en
+ * une seule fois sur la sortie.
+ * <p>
+ * Les messages sont mis en forme ici, hors des fils de la simulation. Quand la file est
+ * pleine, le fil qui journalise attend qu'une place se libère : aucun message n'est perdu,
+ * et la mémoire du journal reste bornée.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+final class AsyncLogWriter implements Runnable {
+
+    /** Nombre maximal de messages en attente d'écriture. */
+    static final int CAPACITY = 4096;
+
+    /**
+     * Message en attente : un motif et ses arguments, ou un événement.
+     *
+     * @param pattern le motif, dont chaque {@code {}} reçoit l'argument suivant
+     * @param args les arguments du motif
+     * @param event l'événement à mettre en forme (null pour un motif)
+     */
+    private record Entry(String pattern, Object[] args, SimulationEvent event) {
+    }
+
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final AtomicLong submitted = new AtomicLong();
+    private final Object progress = new Object();
+    private final Thread thread;
+    private long written;
+
+    AsyncLogWriter() {
+        thread = new Thread(this, "simulation-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void submit(String pattern, Object... args) {
+        enqueue(new Entry(pattern, args, null));
+    }
+
+    void submit(SimulationEvent event) {
+        enqueue(new Entry(null, null, event));
+    }
+
+    private void enqueue(Entry entry) {
+        submitted.incrementAndGet();
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markWritten(1);
+        }
+    }
+
+    /**
+     * Attend que tous les messages soumis avant l'appel soient écrits.
+     */
+    void flush() {
+        if (Thread.currentThread() == thread) return;
+
+        long target = submitted.get();
+        synchronized (progress) {
+            while (written < target) {
+                try {
+                    progress.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        List<Entry> batch = new ArrayList<>(CAPACITY);
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            for (Entry entry : batch) {
+                try {
+                    append(text, entry);
+                } catch (RuntimeException e) {
+                    text.append("[journal] message illisible : ").append(e).append(System.lineSeparator());
+                }
+            }
+            PrintStream out = SimulationLog.output();
+            out.print(text);
+            out.flush();
+
+            markWritten(batch.size());
+            batch.clear();
+            text.setLength(0);
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (progress) {
+            written += count;
+            progress.notifyAll();
+        }
+    }
+
+    private static void append(StringBuilder text, Entry entry) {
+        if (entry.event() != null) {
+            text.append(entry.event().format());
+        } else {
+            format(text, entry.pattern(), entry.args());
+        }
+        text.append(System.lineSeparator());
+    }
+
+    /**
+     * Remplace chaque {@code {}} du motif par l'argument suivant ; les {@code {}} en trop
+     * restent tels quels.
+     */
+    static void format(StringBuilder text, String pattern, Object[] args) {
+        int from = 0;
+        int next = 0;
+        int at;
+        while (next < args.length && (at = pattern.indexOf("{}", from)) >= 0) {
+            text.append(pattern, from, at).append(args[next++]);
+            from = at + 2;
+        }
+        text.append(pattern, from, pattern.length());
+    }
+}
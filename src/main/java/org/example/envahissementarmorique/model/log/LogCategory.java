@@ -0,0 +1,24 @@
+package org.example.envahissementarmorique.model.log;
+
+/**
+ * Catégories du journal de la simulation : chacune a son propre seuil.
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public enum LogCategory {
+    /** Entrées et sorties des lieux. */
+    PLACE,
+    /** Consommation d'aliments. */
+    FOOD,
+    /** Consommation de potion magique. */
+    POTION,
+    /** Actions des personnages. */
+    CHARACTER,
+    /** Lycanthropes : hurlements, transformations, meutes. */
+    LYCAN,
+    /** Déroulement des tours d'un théâtre. */
+    THEATER,
+    /** Détail des combats. */
+    COMBAT
+}
@@ -0,0 +1,23 @@
+package org.example.envahissementarmorique.model.log;
+
+/**
+ * Niveaux du journal de la simulation, du plus bavard au plus sévère.
+ * <p>
+ * Un message est écrit si son niveau est supérieur ou égal au seuil de sa catégorie
+ * ({@link SimulationLog#setLevel(LogCategory, LogLevel)}). {@link #OFF} ne sert que de
+ * seuil : il coupe la catégorie entière.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public enum LogLevel {
+    /** Détails de mise au point. */
+    DEBUG,
+    /** Déroulement normal de la simulation (entrées, repas, hurlements...). */
+    INFO,
+    /** Refus et actions impossibles. */
+    WARN,
+    /** Seuil uniquement : aucun message. */
+    OFF
+}
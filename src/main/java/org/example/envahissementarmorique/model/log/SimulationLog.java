@@ -0,0 +1,186 @@
+package org.example.envahissementarmorique.model.log;
+
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Journal de la simulation : remplace les {@code System.out.println} du modèle.
+ * <p>
+ * Chaque message porte une catégorie ({@link LogCategory}) et un niveau ({@link LogLevel}) ;
+ * il n'est retenu que si son niveau atteint le seuil de sa catégorie (INFO par défaut, ce
+ * qui reproduit l'affichage habituel). Un message retenu est confié à un fil d'écriture
+ * par une file bornée, et mis en forme sur ce fil : la simulation ne paie ni la
+ * concaténation ni l'écriture sur la console.
+ * </p>
+ * <p>
+ * Les messages s'écrivent avec un motif et des arguments ({@code "{} entre dans {}"}) :
+ * quand le niveau est coupé, l'appel s'arrête au test du seuil, sans construire de texte.
+ * Les arguments, eux, sont évalués avant l'appel, et un argument primitif ({@code int},
+ * {@code double}...) y est converti en objet avant le test : sur un chemin fréquent, un
+ * appel qui passe des primitifs ou un argument coûteux à calculer se protège par
+ * {@link #isEnabled(LogCategory, LogLevel)}. Les arguments étant mis en forme plus tard,
+ * sur un autre fil, il faut passer des valeurs figées (noms, nombres) et non des objets
+ * qui changeront d'ici là.
+ * </p>
+ * <p>
+ * L'écriture étant différée, un affichage direct sur la console (tableau d'état, menu)
+ * doit d'abord appeler {@link #flush()} pour passer après les messages en attente.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class SimulationLog {
+
+    private static final LogCategory[] CATEGORIES = LogCategory.values();
+
+    /** Seuil de chaque catégorie (ordinal du niveau) ; remplacé, jamais modifié. */
+    private static volatile int[] thresholds = defaultThresholds();
+
+    /** Sortie du journal ; null pour la console du moment ({@code System.out}). */
+    private static volatile PrintStream output;
+
+    private static final AsyncLogWriter WRITER = new AsyncLogWriter();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SimulationLog::flush, "simulation-log-flush"));
+    }
+
+    private SimulationLog() {
+    }
+
+    /**
+     * @param category la catégorie du message
+     * @param level le niveau du message
+     * @return true si un message de ce niveau serait écrit
+     */
+    public static boolean isEnabled(LogCategory category, LogLevel level) {
+        return level.ordinal() >= thresholds[category.ordinal()];
+    }
+
+    /**
+     * @param category une catégorie
+     * @return le seuil de la catégorie
+     */
+    public static LogLevel getLevel(LogCategory category) {
+        return LogLevel.values()[thresholds[category.ordinal()]];
+    }
+
+    /**
+     * Règle le seuil d'une catégorie.
+     *
+     * @param category la catégorie
+     * @param level le niveau minimal des messages écrits ({@link LogLevel#OFF} pour tout couper)
+     */
+    public static synchronized void setLevel(LogCategory category, LogLevel level) {
+        if (category == null || level == null) {
+            throw new IllegalArgumentException("Log category and level cannot be null");
+        }
+        int[] updated = thresholds.clone();
+        updated[category.ordinal()] = level.ordinal();
+        thresholds = updated;
+    }
+
+    /**
+     * Règle le seuil de toutes les catégories.
+     *
+     * @param level le niveau minimal des messages écrits ({@link LogLevel#OFF} pour tout couper)
+     */
+    public static synchronized void setLevel(LogLevel level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Log level cannot be null");
+        }
+        int[] updated = new int[CATEGORIES.length];
+        Arrays.fill(updated, level.ordinal());
+        thresholds = updated;
+    }
+
+    /**
+     * Remet toutes les catégories au seuil par défaut (INFO).
+     */
+    public static synchronized void resetLevels() {
+        thresholds = defaultThresholds();
+    }
+
+    /**
+     * Redirige le journal. Les messages déjà en attente peuvent encore partir vers
+     * l'ancienne sortie : appeler {@link #flush()} avant pour l'éviter.
+     *
+     * @param out la nouvelle sortie (null pour revenir à {@code System.out})
+     */
+    public static void setOutput(PrintStream out) {
+        output = out;
+    }
+
+    static PrintStream output() {
+        PrintStream out = output;
+        return out != null ? out : System.out;
+    }
+
+    /**
+     * Attend que tous les messages journalisés jusqu'ici soient écrits.
+     */
+    public static void flush() {
+        WRITER.flush();
+    }
+
+    /**
+     * Journalise un message déjà construit (texte constant de préférence).
+     *
+     * @param category la catégorie du message
+     * @param level le niveau du message
+     * @param message le texte
+     */
+    public static void log(LogCategory category, LogLevel level, String message) {
+        if (isEnabled(category, level)) WRITER.submit(message);
+    }
+
+    /**
+     * Journalise un message à motif : chaque {@code {}} reçoit l'argument suivant, mis en
+     * forme par le fil d'écriture. Les variantes à deux, trois et quatre arguments évitent
+     * le tableau d'un appel à nombre variable d'arguments ; elles n'évitent pas la
+     * conversion en objet d'un argument primitif, faite par l'appelant avant le test du
+     * seuil (voir {@link #isEnabled(LogCategory, LogLevel)}).
+     *
+     * @param category la catégorie du message
+     * @param level le niveau du message
+     * @param pattern le motif
+     * @param a l'argument
+     */
+    public static void log(LogCategory category, LogLevel level, String pattern, Object a) {
+        if (isEnabled(category, level)) WRITER.submit(pattern, a);
+    }
+
+    public static void log(LogCategory category, LogLevel level, String pattern, Object a, Object b) {
+        if (isEnabled(category, level)) WRITER.submit(pattern, a, b);
+    }
+
+    public static void log(LogCategory category, LogLevel level, String pattern, Object a, Object b, Object c) {
+        if (isEnabled(category, level)) WRITER.submit(pattern, a, b, c);
+    }
+
+    public static void log(LogCategory category, LogLevel level, String pattern,
+                           Object a, Object b, Object c, Object d) {
+        if (isEnabled(category, level)) WRITER.submit(pattern, a, b, c, d);
+    }
+
+    /**
+     * Journalise un événement de la simulation, mis en forme ({@link SimulationEvent#format()})
+     * par le fil d'écriture.
+     *
+     * @param category la catégorie du message
+     * @param level le niveau du message
+     * @param event l'événement
+     */
+    public static void log(LogCategory category, LogLevel level, SimulationEvent event) {
+        if (isEnabled(category, level)) WRITER.submit(event);
+    }
+
+    private static int[] defaultThresholds() {
+        int[] defaults = new int[CATEGORIES.length];
+        Arrays.fill(defaults, LogLevel.INFO.ordinal());
+        return defaults;
+    }
+}
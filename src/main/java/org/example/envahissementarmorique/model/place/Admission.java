@@ -0,0 +1,78 @@
+package org.example.envahissementarmorique.model.place;
+
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
+
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.example.envahissementarmorique.model.character.base.CharacterKind.*;
+
+/**
+ * Matrice d'admission : quels types de personnages ({@link CharacterKind}) chaque type de
+ * lieu accepte.
+ * <p>
+ * La matrice est calculée une fois, avec une ligne par sous-type de {@link Place} et une
+ * colonne par type de personnage. Chaque lieu garde sa ligne à la construction, si bien
+ * que tester une entrée revient à lire une case. Un sous-type de {@link Place} sans ligne
+ * fait échouer l'initialisation de la classe.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+final class Admission {
+
+    /** Types de personnages acceptés, par type de lieu. */
+    private static final Map<Class<?>, Set<CharacterKind>> RULES = Map.of(
+            Battlefield.class, EnumSet.allOf(CharacterKind.class),
+            Camp.class, EnumSet.of(ROMAN, LEGIONNARY, GENERAL, CREATURE),
+            Enclosure.class, EnumSet.of(CREATURE),
+            GalloRomanTown.class, EnumSet.of(GAULOIS, ROMAN),
+            GaulishVillage.class, EnumSet.of(GAULOIS, CREATURE),
+            RomanCamp.class, EnumSet.of(ROMAN, CREATURE),
+            RomanCity.class, EnumSet.of(ROMAN, CREATURE),
+            Village.class, EnumSet.of(GAULOIS, DRUID, BLACKSMITH, INNKEEPER, MERCHANT, CREATURE));
+
+    /** Ligne de la matrice de chaque type de lieu. */
+    private static final Map<Class<?>, boolean[]> MATRIX = new IdentityHashMap<>();
+
+    static {
+        for (Class<?> type : Place.class.getPermittedSubclasses()) {
+            Set<CharacterKind> admitted = RULES.get(type);
+            if (admitted == null) {
+                throw new IllegalStateException("No admission rule for " + type.getSimpleName() + ".");
+            }
+            boolean[] row = new boolean[CharacterKind.values().length];
+            for (CharacterKind kind : admitted) {
+                row[kind.ordinal()] = true;
+            }
+            MATRIX.put(type, row);
+        }
+    }
+
+    private Admission() {
+    }
+
+    /**
+     * @param type le type de lieu
+     * @return la ligne de la matrice du type de lieu, indexée par {@link CharacterKind#ordinal()}
+     */
+    static boolean[] rowOf(Class<? extends Place> type) {
+        boolean[] row = MATRIX.get(type);
+        if (row == null) {
+            throw new IllegalArgumentException("Unknown place type: " + type.getName());
+        }
+        return row;
+    }
+
+    /**
+     * @param type le type de lieu
+     * @param kind le type de personnage
+     * @return true si ce type de lieu accepte ce type de personnage
+     */
+    static boolean admits(Class<? extends Place> type, CharacterKind kind) {
+        return rowOf(type)[kind.ordinal()];
+    }
+}
@@ -4,7 +4,13 @@ import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
 import org.example.envahissementarmorique.model.character.base.Roman.Roman;
 import org.example.envahissementarmorique.model.character.base.FantasticCreature;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.combat.CombatModel;
+import org.example.envahissementarmorique.model.combat.DefaultCombatModel;
+import org.example.envahissementarmorique.model.combat.TickBattleEngine;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +25,18 @@ import java.util.List;
  */
 public final class Battlefield extends Place {
 
+    /** Nombre maximal de ticks d'une bataille en mode synchrone. */
+    private static final int DEFAULT_MAX_BATTLE_TICKS = 10_000;
+
+    /** Modèle de résolution des combats. */
+    private CombatModel combatModel = DefaultCombatModel.INSTANCE;
+
+    /** Indique si les batailles se jouent en mode synchrone (tick par tick). */
+    private boolean tickSynchronous;
+
+    /** Indique si, en mode synchrone, les attaques d'un tick sont calculées en parallèle. */
+    private boolean parallelTicks;
+
     /**
      * Constructeur d'un champ de bataille.
      *
@@ -29,15 +47,59 @@ public final class Battlefield extends Place {
         super(name, area, null); // Pas de chef pour un champ de bataille
     }
 
+    /** @return le modèle de combat utilisé par ce champ de bataille */
+    public CombatModel getCombatModel() {
+        return combatModel;
+    }
+
+    /**
+     * Remplace le modèle de combat utilisé par ce champ de bataille.
+     *
+     * @param combatModel le nouveau modèle de combat
+     */
+    public void setCombatModel(CombatModel combatModel) {
+        if (combatModel == null) {
+            throw new IllegalArgumentException("Combat model cannot be null.");
+        }
+        this.combatModel = combatModel;
+    }
+
+    /** @return true si les batailles se jouent en mode synchrone (tick par tick) */
+    public boolean isTickSynchronous() {
+        return tickSynchronous;
+    }
+
+    /**
+     * Active ou désactive le mode synchrone : toutes les attaques d'un tick sont
+     * calculées sur un instantané des combattants, puis appliquées ensemble.
+     *
+     * @param tickSynchronous true pour jouer les batailles tick par tick
+     */
+    public void setTickSynchronous(boolean tickSynchronous) {
+        this.tickSynchronous = tickSynchronous;
+    }
+
+    /** @return true si les attaques d'un tick sont calculées en parallèle */
+    public boolean isParallelTicks() {
+        return parallelTicks;
+    }
+
+    /** @param parallelTicks true pour calculer les attaques d'un tick en parallèle */
+    public void setParallelTicks(boolean parallelTicks) {
+        this.parallelTicks = parallelTicks;
+    }
+
     /**
-     * Vérifie si un personnage peut entrer dans ce lieu.
+     * Vérifie si un personnage peut entrer dans ce lieu. L'admission ne dépend que de la
+     * matrice {@link Admission}, dont la ligne du champ de bataille accepte tous les types
+     * de personnages ; aucune condition propre au champ de bataille ne s'y ajoute.
      *
      * @param c personnage à tester
-     * @return true si le personnage peut entrer, false sinon
+     * @return true si le type du personnage est admis par la matrice, false sinon
      */
     @Override
     protected boolean canAddCharacter(GameCharacter c) {
-        return true; // Tous les personnages peuvent entrer sur un champ de bataille
+        return admits(c);
     }
 
     /**
@@ -45,6 +107,7 @@ public final class Battlefield extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("BATTLEFIELD : " + name);
         System.out.println("Area : " + area + " m²");
@@ -64,7 +127,7 @@ public final class Battlefield extends Place {
         System.out.println("\nNumber of foods : " + foods.size());
         if (!foods.isEmpty()) {
             System.out.println("Foods present :");
-            for (Food f : foods) {
+            for (FoodInventory.Stack f : foods) {
                 System.out.println("  • " + f.toString());
             }
         } else {
@@ -77,10 +140,15 @@ public final class Battlefield extends Place {
      * Organise un combat entre les personnages présents sur le champ de bataille.
      */
     public void organizeBattle() {
-        System.out.println("\nBATTLE ON " + name.toUpperCase());
+        SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "\nBATTLE ON {}", name.toUpperCase());
 
         if (characters.size() < 2) {
-            System.out.println("Not enough fighters to organize a battle.");
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.WARN, "Not enough fighters to organize a battle.");
+            return;
+        }
+
+        if (tickSynchronous) {
+            organizeTickBattle();
             return;
         }
 
@@ -95,7 +163,24 @@ public final class Battlefield extends Place {
             battleWithCreatures(creatures, romans);
         }
 
-        System.out.println("End of battle on " + name);
+        SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "End of battle on {}", name);
+    }
+
+    /**
+     * Bataille en mode synchrone : les combattants de factions différentes s'affrontent
+     * par paires, tick par tick, les dégâts de chaque tick étant appliqués ensemble.
+     */
+    private void organizeTickBattle() {
+        TickBattleEngine engine = new TickBattleEngine(combatModel);
+        engine.setParallel(parallelTicks);
+
+        int ticks = engine.run(characters, DEFAULT_MAX_BATTLE_TICKS);
+
+        if (SimulationLog.isEnabled(LogCategory.COMBAT, LogLevel.INFO)) {
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "Battle resolved in {} ticks, {} fighters still standing.",
+                    ticks, getAliveCharactersCount());
+        }
+        SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "End of battle on {}", name);
     }
 
     /**
@@ -108,8 +193,8 @@ public final class Battlefield extends Place {
             GameCharacter c2 = camp2.get(j);
 
             if (!c1.isDead() && !c2.isDead() && c1.isBelligerent() && c2.isBelligerent()) {
-                System.out.println("\n" + c1.getName() + " fights " + c2.getName());
-                c1.fight(c2);
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "\n{} fights {}", c1.getName(), c2.getName());
+                combatModel.resolve(c1, c2);
             }
 
             if (c1.isDead()) i++;
@@ -130,8 +215,8 @@ public final class Battlefield extends Place {
             for (GameCharacter other : others) {
                 if (other.isDead() || !other.isBelligerent()) continue;
 
-                System.out.println("\n" + creature.getName() + " attacks " + other.getName());
-                creature.fight(other);
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "\n{} attacks {}", creature.getName(), other.getName());
+                combatModel.resolve(creature, other);
 
                 if (creature.isDead()) break;
             }
@@ -140,29 +225,17 @@ public final class Battlefield extends Place {
 
     /** @return la liste des personnages gaulois présents */
     private List<GameCharacter> getGaulishCharacters() {
-        List<GameCharacter> result = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (c instanceof Gaulois) result.add(c);
-        }
-        return result;
+        return getCharactersByType(Gaulois.class);
     }
 
     /** @return la liste des personnages romains présents */
     private List<GameCharacter> getRomanCharacters() {
-        List<GameCharacter> result = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (c instanceof Roman) result.add(c);
-        }
-        return result;
+        return getCharactersByType(Roman.class);
     }
 
     /** @return la liste des créatures fantastiques présentes */
     private List<GameCharacter> getFantasticCreatures() {
-        List<GameCharacter> result = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (c instanceof FantasticCreature) result.add(c);
-        }
-        return result;
+        return getCharactersByType(FantasticCreature.class);
     }
 
     /**
@@ -171,7 +244,7 @@ public final class Battlefield extends Place {
      * @param allPlaces liste de tous les lieux
      */
     public void sendBackSurvivors(List<Place> allPlaces) {
-        System.out.println("\nSending back survivors to their original places...");
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\nSending back survivors to their original places...");
 
         List<GameCharacter> toRemove = new ArrayList<>();
         for (GameCharacter c : characters) {
@@ -180,13 +253,15 @@ public final class Battlefield extends Place {
                 if (originPlace != null && originPlace != this) {
                     if (originPlace.addCharacter(c)) {
                         toRemove.add(c);
-                        System.out.println(c.getName() + " returns to " + originPlace.getName());
+                        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} returns to {}", c.getName(), originPlace.getName());
                     }
                 }
             }
         }
 
-        characters.removeAll(toRemove);
+        for (GameCharacter c : toRemove) {
+            detach(c);
+        }
         removeDeadCharacters();
     }
 
@@ -196,10 +271,6 @@ public final class Battlefield extends Place {
      * @return nombre de personnages morts
      */
     public int countDeaths() {
-        int count = 0;
-        for (GameCharacter c : characters) {
-            if (c.isDead()) count++;
-        }
-        return count;
+        return characters.size() - getAliveCharactersCount();
     }
 }
@@ -1,13 +1,14 @@
 package org.example.envahissementarmorique.model.place;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
 import org.example.envahissementarmorique.model.character.interfaces.Fighter;
-import org.example.envahissementarmorique.model.character.base.Roman.Roman;
-import org.example.envahissementarmorique.model.character.base.FantasticCreature;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,13 +36,11 @@ public final class Camp extends Place {
      * Vérifie si un personnage peut entrer dans le camp.
      *
      * @param c personnage à tester
-     * @return true si le personnage est un combattant romain ou une créature fantastique
+     * @return true si le personnage est un soldat romain (légionnaire, général) ou une créature fantastique
      */
     @Override
     protected boolean canAddCharacter(GameCharacter c) {
-        if (c instanceof FantasticCreature) return true;
-        if (c instanceof Roman && c instanceof Fighter) return true;
-        return false;
+        return admits(c);
     }
 
     /**
@@ -49,6 +48,7 @@ public final class Camp extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("ROMAN FORTIFIED CAMP : " + name);
         System.out.println("Area : " + area + " m²");
@@ -70,9 +70,9 @@ public final class Camp extends Place {
                 String status = c.isDead() ? " [DEAD]" : " [Health: " + c.getHealth() + "]";
                 System.out.println("  • " + c.toString() + status);
 
-                if (c instanceof FantasticCreature) creatures++;
-                else if (c.getClass().getSimpleName().equals("General")) generals++;
-                else if (c.getClass().getSimpleName().equals("Legionnaire")) legionnaires++;
+                if (c.getKind() == CharacterKind.CREATURE) creatures++;
+                else if (c.getKind() == CharacterKind.GENERAL) generals++;
+                else if (c.getKind() == CharacterKind.LEGIONNARY) legionnaires++;
             }
 
             System.out.println("\nGarrison composition:");
@@ -86,7 +86,7 @@ public final class Camp extends Place {
         System.out.println("\nNumber of foods : " + foods.size());
         if (!foods.isEmpty()) {
             System.out.println("Supplies :");
-            for (Food f : foods) {
+            for (FoodInventory.Stack f : foods) {
                 System.out.println("  • " + f.toString());
             }
         } else {
@@ -101,47 +101,31 @@ public final class Camp extends Place {
      * @return true si le camp compte au moins 3 combattants vivants
      */
     public boolean isDefended() {
-        int aliveFighters = 0;
-        for (GameCharacter c : characters) {
-            if (!c.isDead() && c instanceof Fighter) aliveFighters++;
-        }
-        return aliveFighters >= 3;
+        return countAlive(Fighter.class) >= 3;
     }
 
     /**
      * Renvoie la liste des légionnaires présents dans le camp.
      */
     public List<GameCharacter> getLegionnaires() {
-        List<GameCharacter> legionnaires = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (c.getClass().getSimpleName().equals("Legionnaire")) {
-                legionnaires.add(c);
-            }
-        }
-        return legionnaires;
+        return getCharactersOfKind(CharacterKind.LEGIONNARY);
     }
 
     /**
      * Renvoie la liste des généraux présents dans le camp.
      */
     public List<GameCharacter> getGenerals() {
-        List<GameCharacter> generals = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (c.getClass().getSimpleName().equals("General")) {
-                generals.add(c);
-            }
-        }
-        return generals;
+        return getCharactersOfKind(CharacterKind.GENERAL);
     }
 
     /**
      * Prépare tous les combattants du camp pour la bataille.
      */
     public void prepareForBattle() {
-        System.out.println("\n" + name + " is preparing troops for battle!");
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\n{} is preparing troops for battle!", name);
         for (GameCharacter c : characters) {
             if (!c.isDead() && c instanceof Fighter) {
-                System.out.println("  - " + c.getName() + " is preparing for battle");
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  - {} is preparing for battle", c.getName());
             }
         }
     }
@@ -150,18 +134,20 @@ public final class Camp extends Place {
      * Entraîne les légionnaires présents dans le camp.
      */
     public void trainTroops() {
-        System.out.println("\nTraining at camp " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\nTraining at camp {}", name);
         int trained = 0;
         for (GameCharacter c : characters) {
-            if (!c.isDead() && c.getClass().getSimpleName().equals("Legionnaire")) {
-                System.out.println("  - " + c.getName() + " is training");
+            if (!c.isDead() && c.getKind() == CharacterKind.LEGIONNARY) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  - {} is training", c.getName());
                 trained++;
             }
         }
         if (trained == 0) {
-            System.out.println("  No legionnaire available for training");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "  No legionnaire available for training");
         } else {
-            System.out.println("  " + trained + " legionnaire(s) trained");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  {} legionnaire(s) trained", trained);
+            }
         }
     }
 
@@ -169,13 +155,14 @@ public final class Camp extends Place {
      * Affiche l'état actuel de la garnison.
      */
     public void displayGarrisonStatus() {
+        SimulationLog.flush();
         System.out.println("\nGarrison status - " + name);
         int total = 0;
         int alive = 0;
         int wounded = 0;
 
         for (GameCharacter c : characters) {
-            if (c instanceof Roman) {
+            if (c.getKind().isRoman()) {
                 total++;
                 if (!c.isDead()) {
                     alive++;
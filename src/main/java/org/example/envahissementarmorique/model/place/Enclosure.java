@@ -1,8 +1,10 @@
 package org.example.envahissementarmorique.model.place;
 
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
-import org.example.envahissementarmorique.model.character.base.FantasticCreature;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 
 
@@ -50,9 +52,11 @@ public final class Enclosure extends Place {
      */
     @Override
     protected boolean canAddCharacter(GameCharacter character) {
-        if (!(character instanceof FantasticCreature)) return false;
+        if (!admits(character)) return false;
         if (characters.size() >= maxCapacity) {
-            System.out.println("Enclosure full! Maximum capacity reached (" + maxCapacity + ")");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.WARN)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Enclosure full! Maximum capacity reached ({})", maxCapacity);
+            }
             return false;
         }
         return true;
@@ -67,23 +71,25 @@ public final class Enclosure extends Place {
     @Override
     public boolean addCharacter(GameCharacter character) {
         if (character == null) {
-            System.out.println("Error: null creature");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Error: null creature");
             return false;
         }
 
-        if (!(character instanceof FantasticCreature)) {
-            System.out.println(character.getName() + " is not a fantastic creature");
+        if (!admits(character)) {
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "{} is not a fantastic creature", character.getName());
             return false;
         }
 
         if (characters.size() >= maxCapacity) {
-            System.out.println("Enclosure " + name + " is full (" + characters.size() + "/" + maxCapacity + ")");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.WARN)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Enclosure {} is full ({}/{})", name, characters.size(), maxCapacity);
+            }
             return false;
         }
 
         if (canAddCharacter(character)) {
-            characters.add(character);
-            System.out.println(character.getName() + " enters the enclosure " + name);
+            attach(character);
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} enters the enclosure {}", character.getName(), name);
             return true;
         }
 
@@ -95,6 +101,7 @@ public final class Enclosure extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("ENCLOSURE: " + name);
         System.out.println("Area: " + area + " m²");
@@ -118,7 +125,7 @@ public final class Enclosure extends Place {
         System.out.println("\nAvailable food: " + foods.size());
         if (!foods.isEmpty()) {
             System.out.println("Food:");
-            for (Food f : foods) {
+            for (FoodInventory.Stack f : foods) {
                 System.out.println("  • " + f.toString());
             }
         } else {
@@ -160,34 +167,26 @@ public final class Enclosure extends Place {
     }
 
     /**
-     * Nourrit toutes les créatures de l'enclos.
+     * Nourrit toutes les créatures de l'enclos, les plus affamées d'abord
+     * (voir {@link FeedingAllocator}).
      */
     @Override
     public void feedAll() {
-        System.out.println("\nFeeding creatures in enclosure " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\nFeeding creatures in enclosure {}", name);
 
         if (foods.isEmpty()) {
-            System.out.println("No food available!");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "No food available!");
             return;
         }
 
-        int fed = 0;
-        for (GameCharacter c : characters) {
-            if (c.isDead()) continue;
-            if (c.getHunger() < 100) {
-                Food food = findSuitableFoodForCreature(c);
-                if (food != null) {
-                    c.ToEat(food);
-                    foods.remove(food);
-                    fed++;
-                }
-            }
-        }
+        int fed = FeedingAllocator.feed(characters, foods);
 
         if (fed == 0) {
-            System.out.println("No creature needed food");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "No creature needed food");
         } else {
-            System.out.println(fed + " creature(s) fed");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} creature(s) fed", fed);
+            }
         }
     }
 
@@ -198,21 +197,23 @@ public final class Enclosure extends Place {
      */
     @Override
     public void healAll(int amount) {
-        System.out.println("\nHealing creatures in enclosure " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\nHealing creatures in enclosure {}", name);
 
         int healed = 0;
         for (GameCharacter c : characters) {
             if (!c.isDead() && c.getHealth() < 100) {
                 c.ToHeal(amount);
                 healed++;
-                System.out.println("  - " + c.getName() + " has been healed");
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  - {} has been healed", c.getName());
             }
         }
 
         if (healed == 0) {
-            System.out.println("No creature needed healing");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "No creature needed healing");
         } else {
-            System.out.println(healed + " creature(s) healed");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} creature(s) healed", healed);
+            }
         }
     }
 
@@ -220,21 +221,23 @@ public final class Enclosure extends Place {
      * Calme les créatures agressives de l'enclos.
      */
     public void calmCreatures() {
-        System.out.println("\nCalming creatures in enclosure " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\nCalming creatures in enclosure {}", name);
 
         int calmed = 0;
         for (GameCharacter c : characters) {
             if (!c.isDead() && c.getBelligerence() > 50) {
                 c.setBelligerence(c.getBelligerence() - 20);
                 calmed++;
-                System.out.println("  - " + c.getName() + " calmed down");
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  - {} calmed down", c.getName());
             }
         }
 
         if (calmed == 0) {
-            System.out.println("All creatures are already calm");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "All creatures are already calm");
         } else {
-            System.out.println(calmed + " creature(s) calmed");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} creature(s) calmed", calmed);
+            }
         }
     }
 
@@ -247,10 +250,4 @@ public final class Enclosure extends Place {
     public void setMaxCapacity(int maxCapacity) {
         this.maxCapacity = maxCapacity;
     }
-
-    /** Renvoie la première nourriture disponible pour une créature */
-    private Food findSuitableFoodForCreature(GameCharacter c) {
-        if (!foods.isEmpty()) return foods.get(0);
-        return null;
-    }
 }
@@ -0,0 +1,96 @@
+package org.example.envahissementarmorique.model.place;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Répartition de la nourriture d'un lieu entre ses personnages affamés.
+ * <p>
+ * Les personnages vivants dont la faim est sous {@link #SATED} sont servis du plus
+ * affamé au moins affamé (tas sur la faim), un aliment chacun. Le plus affamé reçoit
+ * le meilleur aliment disponible : le plus nourrissant, puis le plus frais. Les aliments
+ * pourris ne sont servis que lorsqu'il ne reste rien d'autre. Le stock étant tenu par
+ * compteurs, choisir le meilleur aliment revient à avancer un curseur sur un ordre fixé
+ * une fois pour toutes : une répartition coûte O(c log c + nombre de types).
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FeedingAllocator {
+
+    /** Faim à partir de laquelle un personnage n'a plus besoin de manger. */
+    public static final int SATED = 100;
+
+    /** Du plus affamé au moins affamé. */
+    private static final Comparator<GameCharacter> HUNGRIEST_FIRST = Comparator.comparingInt(GameCharacter::getHunger);
+
+    /** Types d'aliments, du meilleur au moins bon ; {@link #SERVING_FRESHNESS} à même rang. */
+    private static final Foods[] SERVING_FOODS;
+
+    /** Fraîcheur de chaque aliment de {@link #SERVING_FOODS}. */
+    private static final Freshness[] SERVING_FRESHNESS;
+
+    static {
+        List<Food> order = new ArrayList<>();
+        for (Foods food : Foods.values()) {
+            for (Freshness freshness : Freshness.values()) {
+                order.add(new Food(food, freshness));
+            }
+        }
+        order.sort(Comparator.comparing((Food food) -> food.getFreshness() == Freshness.ROTTEN)
+                .thenComparing(Comparator.comparingInt(Food::getNutritionalValue).reversed())
+                .thenComparing(Food::getFreshness));
+
+        SERVING_FOODS = new Foods[order.size()];
+        SERVING_FRESHNESS = new Freshness[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            SERVING_FOODS[i] = order.get(i).getFoods();
+            SERVING_FRESHNESS[i] = order.get(i).getFreshness();
+        }
+    }
+
+    private FeedingAllocator() {
+    }
+
+    /**
+     * Nourrit les personnages affamés avec le stock donné, un aliment par personnage,
+     * tant qu'il reste de la nourriture.
+     *
+     * @param characters les personnages du lieu
+     * @param inventory le stock de nourriture du lieu
+     * @return le nombre de personnages nourris
+     */
+    public static int feed(List<GameCharacter> characters, FoodInventory inventory) {
+        if (inventory.isEmpty()) return 0;
+
+        PriorityQueue<GameCharacter> hungry = new PriorityQueue<>(Math.max(1, characters.size()), HUNGRIEST_FIRST);
+        for (GameCharacter character : characters) {
+            if (!character.isDead() && character.getHunger() < SATED) {
+                hungry.add(character);
+            }
+        }
+
+        int fed = 0;
+        int next = 0;
+        while (!hungry.isEmpty()) {
+            while (next < SERVING_FOODS.length && inventory.count(SERVING_FOODS[next], SERVING_FRESHNESS[next]) == 0) {
+                next++;
+            }
+            if (next == SERVING_FOODS.length) break;
+
+            inventory.remove(SERVING_FOODS[next], SERVING_FRESHNESS[next], 1);
+            hungry.poll().ToEat(new Food(SERVING_FOODS[next], SERVING_FRESHNESS[next]));
+            fed++;
+        }
+        return fed;
+    }
+}
@@ -4,7 +4,10 @@ import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
 import org.example.envahissementarmorique.model.character.base.Roman.Roman;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,7 +64,7 @@ public final class GalloRomanTown extends Place {
      */
     @Override
     protected boolean canAddCharacter(GameCharacter character) {
-        return (character instanceof Gaulois || character instanceof Roman);
+        return admits(character);
     }
 
     /**
@@ -73,19 +76,19 @@ public final class GalloRomanTown extends Place {
     @Override
     public boolean addCharacter(GameCharacter character) {
         if (character == null) {
-            System.out.println("Error: null character");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Error: null character");
             return false;
         }
 
-        if (!(character instanceof Gaulois || character instanceof Roman)) {
-            System.out.println("❌ " + character.getName() + " cannot enter this Gallo-Roman town");
-            System.out.println("   (Only Gauls and Romans are allowed)");
+        if (!admits(character)) {
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "❌ {} cannot enter this Gallo-Roman town", character.getName());
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "   (Only Gauls and Romans are allowed)");
             return false;
         }
 
         if (canAddCharacter(character)) {
-            characters.add(character);
-            System.out.println("🏘️ " + character.getName() + " enters the town " + name);
+            attach(character);
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "🏘️ {} enters the town {}", character.getName(), name);
 
             if (character.getBelligerence() > 70) {
                 decreasePeacefulness(5);
@@ -102,6 +105,7 @@ public final class GalloRomanTown extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("🏘️ GALLO-ROMAN TOWN: " + name);
         System.out.println("Area: " + area + " m²");
@@ -133,7 +137,7 @@ public final class GalloRomanTown extends Place {
 
         System.out.println("\nAvailable food: " + foods.size());
         if (!foods.isEmpty()) {
-            for (Food f : foods) {
+            for (FoodInventory.Stack f : foods) {
                 System.out.println("  • " + f.toString());
             }
         } else {
@@ -151,20 +155,12 @@ public final class GalloRomanTown extends Place {
 
     /** @return nombre de Gaulois vivants */
     private int countGaulois() {
-        int count = 0;
-        for (GameCharacter c : characters) {
-            if (c instanceof Gaulois && !c.isDead()) count++;
-        }
-        return count;
+        return countAlive(Gaulois.class);
     }
 
     /** @return nombre de Romains vivants */
     private int countRomans() {
-        int count = 0;
-        for (GameCharacter c : characters) {
-            if (c instanceof Roman && !c.isDead()) count++;
-        }
-        return count;
+        return countAlive(Roman.class);
     }
 
     /** @return liste des Gaulois */
@@ -208,10 +204,10 @@ public final class GalloRomanTown extends Place {
 
     /** Favorise le commerce et ajuste la paix */
     public void promoteCommerce() {
-        System.out.println("\n💰 Promoting commerce in " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\n💰 Promoting commerce in {}", name);
 
         if (characters.size() < 2) {
-            System.out.println("  Not enough residents to trade");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "  Not enough residents to trade");
             return;
         }
 
@@ -220,15 +216,17 @@ public final class GalloRomanTown extends Place {
         int foodPerPerson = foods.size() / characters.size();
         if (foodPerPerson > 0) increasePeacefulness(5);
 
-        System.out.println("  Commerce level: " + commerceLevel + "%");
+        if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  Commerce level: {}%", commerceLevel);
+        }
     }
 
     /** Organise une fête pour améliorer la cohésion */
     public void organizeFeast() {
-        System.out.println("\n🎉 Organizing feast in " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\n🎉 Organizing feast in {}", name);
 
         if (foods.size() < characters.size()) {
-            System.out.println("  ⚠️ Not enough food for everyone");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "  ⚠️ Not enough food for everyone");
             decreasePeacefulness(10);
             return;
         }
@@ -240,12 +238,12 @@ public final class GalloRomanTown extends Place {
         }
 
         increasePeacefulness(20);
-        System.out.println("  Feast improves relations between Gauls and Romans!");
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  Feast improves relations between Gauls and Romans!");
     }
 
     /** Gère les conflits potentiels dans la bourgade */
     public void manageConflicts() {
-        System.out.println("\n⚖️ Managing conflicts in " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "\n⚖️ Managing conflicts in {}", name);
 
         List<GameCharacter> troublemakers = new ArrayList<>();
         for (GameCharacter c : characters) {
@@ -253,10 +251,12 @@ public final class GalloRomanTown extends Place {
         }
 
         if (troublemakers.isEmpty()) {
-            System.out.println("  No conflicts detected");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  No conflicts detected");
             increasePeacefulness(5);
         } else {
-            System.out.println("  " + troublemakers.size() + " troublemaker(s) identified");
+            if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "  {} troublemaker(s) identified", troublemakers.size());
+            }
             for (GameCharacter t : troublemakers) {
                 t.setBelligerence(t.getBelligerence() - 25);
             }
@@ -5,8 +5,11 @@ import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
 import org.example.envahissementarmorique.model.character.base.Gaulish.Druid;
 import org.example.envahissementarmorique.model.character.base.FantasticCreature;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
 import org.example.envahissementarmorique.model.item.Potion;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,29 +45,39 @@ public final class GaulishVillage extends Place {
         this.potions = new ArrayList<>();
     }
 
+    @Override
+    public GaulishVillage copy() {
+        GaulishVillage copy = (GaulishVillage) super.copy();
+        copy.potions = new ArrayList<>(potions.size());
+        for (Potion potion : potions) {
+            copy.potions.add(potion.copy());
+        }
+        return copy;
+    }
+
     @Override
     protected boolean canAddCharacter(GameCharacter c) {
-        return (c instanceof Gaulois || c instanceof FantasticCreature);
+        return admits(c);
     }
 
     @Override
     public boolean addCharacter(GameCharacter c) {
         if (c == null) {
-            System.out.println("Error: null character");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Error: null character");
             return false;
         }
 
-        if (!(c instanceof Gaulois || c instanceof FantasticCreature)) {
-            System.out.println("❌ " + c.getName() + " cannot enter this Gaulish village");
+        if (!admits(c)) {
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "❌ {} cannot enter this Gaulish village", c.getName());
             return false;
         }
 
         if (canAddCharacter(c)) {
-            characters.add(c);
-            System.out.println("🛡️ " + c.getName() + " enters the village " + name);
+            attach(c);
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "🛡️ {} enters the village {}", c.getName(), name);
 
             if (c instanceof Druid) {
-                System.out.println("   ✨ A druid boosts village morale!");
+                SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "   ✨ A druid boosts village morale!");
                 increaseMorale(10);
             }
 
@@ -75,6 +88,7 @@ public final class GaulishVillage extends Place {
 
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("🛡️ GAULISH VILLAGE: " + name);
         System.out.println("Area: " + area + " m²");
@@ -102,7 +116,7 @@ public final class GaulishVillage extends Place {
         }
 
         System.out.println("\nFood available: " + foods.size());
-        if (!foods.isEmpty()) for (Food f : foods) System.out.println("  • " + f);
+        if (!foods.isEmpty()) for (FoodInventory.Stack f : foods) System.out.println("  • " + f);
 
         System.out.println("\nVillage status: " + getVillageStatus());
         if (isUnderThreat()) System.out.println("⚠️ ALERT: Village under threat!");
@@ -116,9 +130,9 @@ public final class GaulishVillage extends Place {
         return "";
     }
 
-    private int countGaulois() { return (int) characters.stream().filter(c -> c instanceof Gaulois && !c.isDead()).count(); }
-    private int countDruids() { return (int) characters.stream().filter(c -> c instanceof Druid && !c.isDead()).count(); }
-    private int countCreatures() { return (int) characters.stream().filter(c -> c instanceof FantasticCreature && !c.isDead()).count(); }
+    private int countGaulois() { return countAlive(Gaulois.class); }
+    private int countDruids() { return countAlive(Druid.class); }
+    private int countCreatures() { return countAlive(FantasticCreature.class); }
 
     public List<GameCharacter> getGaulois() {
         List<GameCharacter> list = new ArrayList<>();
@@ -144,11 +158,11 @@ public final class GaulishVillage extends Place {
         potions.add(potion);
         increaseMorale(5);
         increaseResistance(5);
-        System.out.println("✨ Magic potion added to village stock!");
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "✨ Magic potion added to village stock!");
     }
 
     public void distributePotions(int doses) {
-        if (potions.isEmpty()) { System.out.println("❌ No potion available!"); return; }
+        if (potions.isEmpty()) { SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "❌ No potion available!"); return; }
         int distributed = 0;
         for (GameCharacter c : characters) {
             if (distributed >= doses) break;
@@ -158,7 +172,9 @@ public final class GaulishVillage extends Place {
             }
         }
         if (distributed > 0) increaseMorale(10);
-        System.out.println("Distributed " + distributed + " potion dose(s)");
+        if (SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO)) {
+            SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "Distributed {} potion dose(s)", distributed);
+        }
     }
 
     public void organizeBanquet() { increaseMorale(20); increaseResistance(10); feedAll(); }
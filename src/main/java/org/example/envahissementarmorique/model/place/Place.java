@@ -1,11 +1,19 @@
 package org.example.envahissementarmorique.model.place;
 
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.item.*;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Classe abstraite représentant un lieu dans le jeu.
@@ -26,8 +34,14 @@ import java.util.List;
  *     <li>Soigner tous les personnages</li>
  *     <li>Afficher les informations du lieu</li>
  * </ul>
+ *
+ * Les personnages présents sont indexés par nom et par classe, avec des compteurs de
+ * vivants et de belliqueux tenus à jour à chaque entrée, sortie et changement d'état
+ * (les personnages préviennent leur lieu courant, voir
+ * {@link GameCharacter#getCurrentPlace()}) : les recherches et les comptages ne
+ * parcourent pas la liste des personnages.
  */
-public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRomanTown, GaulishVillage, RomanCamp, RomanCity, Village {
+public abstract sealed class Place implements Cloneable permits Battlefield, Camp, Enclosure, GalloRomanTown, GaulishVillage, RomanCamp, RomanCity, Village {
 
     /** Nom du lieu */
     protected String name;
@@ -38,11 +52,35 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
     /** Chef du lieu */
     protected ClanLeader chief;
 
-    /** Liste des personnages présents */
+    /** Liste des personnages présents ; à modifier uniquement par {@link #attach} et {@link #detach} */
     protected List<GameCharacter> characters = new ArrayList<>();
 
-    /** Liste des aliments disponibles */
-    protected List<Food> foods = new ArrayList<>();
+    /** Vue non modifiable de la liste des personnages */
+    private List<GameCharacter> charactersView = Collections.unmodifiableList(characters);
+
+    /** Premier personnage présent de chaque nom */
+    private Map<String, GameCharacter> charactersByName = new HashMap<>();
+
+    /** Personnages présents, par classe exacte */
+    private Map<Class<?>, ClassBucket> charactersByClass = new LinkedHashMap<>();
+
+    /** Nombre de personnages vivants */
+    private int aliveCount;
+
+    /** Nombre de personnages vivants et belliqueux */
+    private int belligerentCount;
+
+    /** Nombre de modifications de la liste des personnages (arrivées et départs) */
+    private int modificationCount;
+
+    /** Stock d'aliments disponibles, tenu par compteurs (type, fraîcheur) */
+    protected FoodInventory foods = new FoodInventory();
+
+    /** Indique si les entrées et sorties de personnages sont affichées */
+    private boolean verbose = true;
+
+    /** Ligne de la matrice d'admission de ce type de lieu, indexée par type de personnage */
+    private final boolean[] admittedKinds = Admission.rowOf(getClass());
 
     /**
      * Constructeur d'un lieu.
@@ -71,19 +109,74 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
     /** Définit un nouveau chef pour le lieu */
     public void setChief(ClanLeader chief) { this.chief = chief; }
 
-    /** @return la liste des personnages présents */
-    public List<GameCharacter> getCharacters() { return characters; }
+    /** @return la liste des personnages présents (non modifiable : passer par addCharacter et removeCharacter) */
+    public List<GameCharacter> getCharacters() { return charactersView; }
 
-    /** @return la liste des aliments disponibles */
-    public List<Food> getFoods() { return foods; }
+    /**
+     * Crée un objet {@link Food} par aliment du stock : coûteux pour un gros stock,
+     * réservé à l'affichage. Modifier la liste ne modifie pas le lieu.
+     *
+     * @return une copie de la liste des aliments disponibles, les plus frais d'abord
+     */
+    public List<Food> getFoods() { return foods.toFoodList(); }
+
+    /** @return le stock d'aliments du lieu */
+    public FoodInventory getFoodInventory() { return foods; }
+
+    /** @return le nombre d'aliments disponibles */
+    public int getFoodCount() { return foods.size(); }
 
     /** @return le nombre de personnages présents */
     public int getNumberOfCharacters() { return characters.size(); }
 
+    /**
+     * @return un compteur qui augmente à chaque arrivée ou départ d'un personnage, pour
+     *         repérer un changement de la liste même quand sa taille ne change pas
+     */
+    public int getModificationCount() { return modificationCount; }
+
+    /** @return true si les entrées et sorties de personnages sont affichées */
+    public boolean isVerbose() { return verbose; }
+
+    /** @param verbose false pour ne plus afficher les entrées et sorties de personnages */
+    public void setVerbose(boolean verbose) { this.verbose = verbose; }
+
+    /**
+     * Crée une copie indépendante du lieu : les personnages et les aliments sont copiés,
+     * et le chef éventuel est remplacé par un nouveau chef rattaché à la copie.
+     *
+     * @return la copie
+     */
+    public Place copy() {
+        Place copy;
+        try {
+            copy = (Place) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+
+        copy.characters = new ArrayList<>(characters.size());
+        copy.charactersView = Collections.unmodifiableList(copy.characters);
+        copy.charactersByName = new HashMap<>();
+        copy.charactersByClass = new LinkedHashMap<>();
+        copy.aliveCount = 0;
+        copy.belligerentCount = 0;
+        copy.modificationCount = 0;
+        for (GameCharacter c : characters) {
+            copy.attach(c.copy());
+        }
+        copy.foods = foods.copy();
+        if (chief != null) {
+            copy.chief = new ClanLeader(chief.getName(), chief.getGenre(), chief.getAge(), copy);
+        }
+        return copy;
+    }
+
     // ============== AFFICHAGE ==============
 
     /** Affiche les informations du lieu, des personnages et des aliments */
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("Lieu : " + name + " (" + area + " m²)");
         System.out.println("Type : " + this.getClass().getSimpleName());
@@ -107,8 +200,8 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
         System.out.println("\nNombre d'aliments : " + foods.size());
         if (!foods.isEmpty()) {
             System.out.println("Aliments présents :");
-            for (Food f : foods) {
-                System.out.println("  • " + f.toString());
+            for (FoodInventory.Stack stack : foods) {
+                System.out.println("  • " + stack);
             }
         } else {
             System.out.println("  (Aucun aliment)");
@@ -126,17 +219,17 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
      */
     public boolean addCharacter(GameCharacter c) {
         if (c == null) {
-            System.out.println("Erreur : personnage null");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Erreur : personnage null");
             return false;
         }
 
         if (canAddCharacter(c)) {
-            characters.add(c);
-            System.out.println(c.getName() + " entre dans " + name);
+            attach(c);
+            if (verbose) SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} entre dans {}", c.getName(), name);
             return true;
         }
 
-        System.out.println(c.getName() + " ne peut pas entrer dans " + name);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "{} ne peut pas entrer dans {}", c.getName(), name);
         return false;
     }
 
@@ -147,44 +240,77 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
      * @return true si le personnage a été retiré, false sinon
      */
     public boolean removeCharacter(GameCharacter c) {
-        if (characters.remove(c)) {
-            System.out.println(c.getName() + " quitte " + name);
+        if (detach(c)) {
+            if (verbose) SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} quitte {}", c.getName(), name);
             return true;
         }
         return false;
     }
 
-    /** Supprime tous les personnages morts du lieu */
+    /**
+     * Supprime tous les personnages morts du lieu. Comme avec {@link #detach}, chacun est
+     * détaché du lieu : s'il est soigné ou renommé ensuite, le lieu n'en est plus prévenu.
+     */
     public void removeDeadCharacters() {
-        characters.removeIf(GameCharacter::isDead);
+        if (aliveCount == characters.size()) return;
+
+        characters.removeIf(c -> {
+            if (!c.isDead()) return false;
+            c.setCurrentPlace(null);
+            return true;
+        });
+        modificationCount++;
+        for (ClassBucket bucket : charactersByClass.values()) {
+            if (bucket.alive < bucket.members.size()) {
+                bucket.members.removeIf(GameCharacter::isDead);
+            }
+        }
+        charactersByClass.values().removeIf(bucket -> bucket.members.isEmpty());
+        charactersByName.values().removeIf(GameCharacter::isDead);
+        for (GameCharacter c : characters) {
+            charactersByName.putIfAbsent(c.getName(), c);
+        }
     }
 
     /**
      * Recherche un personnage par son nom.
      *
      * @param name nom du personnage
-     * @return le personnage si trouvé, null sinon
+     * @return le premier personnage arrivé portant ce nom, null sinon
      */
     public GameCharacter getCharacterByName(String name) {
-        for (GameCharacter c : characters) {
-            if (c.getName().equals(name)) {
-                return c;
-            }
-        }
-        return null;
+        return charactersByName.get(name);
     }
 
     /**
-     * Retourne la liste des personnages d'un certain type.
+     * Retourne la liste des personnages d'un certain type (classe ou interface),
+     * regroupés par classe exacte puis dans l'ordre d'arrivée.
      *
      * @param type classe recherchée
      * @return liste des personnages du type spécifié
      */
     public List<GameCharacter> getCharactersByType(Class<?> type) {
         List<GameCharacter> result = new ArrayList<>();
-        for (GameCharacter c : characters) {
-            if (type.isInstance(c)) {
-                result.add(c);
+        for (Map.Entry<Class<?>, ClassBucket> entry : charactersByClass.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                result.addAll(entry.getValue().members);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retourne la liste des personnages d'un certain type ({@link CharacterKind}),
+     * regroupés par classe exacte puis dans l'ordre d'arrivée.
+     *
+     * @param kind type recherché
+     * @return liste des personnages du type spécifié
+     */
+    public List<GameCharacter> getCharactersOfKind(CharacterKind kind) {
+        List<GameCharacter> result = new ArrayList<>();
+        for (ClassBucket bucket : charactersByClass.values()) {
+            if (bucket.kind == kind) {
+                result.addAll(bucket.members);
             }
         }
         return result;
@@ -192,13 +318,144 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
 
     /** @return le nombre de personnages vivants */
     public int getAliveCharactersCount() {
+        return aliveCount;
+    }
+
+    /** @return le nombre de personnages vivants et belliqueux */
+    public int getBelligerentCharactersCount() {
+        return belligerentCount;
+    }
+
+    /**
+     * Compte les personnages vivants d'un certain type (classe ou interface).
+     *
+     * @param type classe recherchée
+     * @return le nombre de personnages vivants du type spécifié
+     */
+    public int countAlive(Class<?> type) {
         int count = 0;
-        for (GameCharacter c : characters) {
-            if (!c.isDead()) count++;
+        for (Map.Entry<Class<?>, ClassBucket> entry : charactersByClass.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) {
+                count += entry.getValue().alive;
+            }
         }
         return count;
     }
 
+    // ============== INDEX ==============
+
+    /**
+     * Ajoute un personnage à la liste et aux index, sans contrôle ni message, et le
+     * rattache au lieu.
+     *
+     * @param c personnage à ajouter
+     */
+    protected final void attach(GameCharacter c) {
+        characters.add(c);
+        modificationCount++;
+        charactersByName.putIfAbsent(c.getName(), c);
+        ClassBucket bucket = charactersByClass.computeIfAbsent(c.getClass(), type -> new ClassBucket(c.getKind()));
+        bucket.members.add(c);
+        if (!c.isDead()) {
+            aliveCount++;
+            bucket.alive++;
+            if (c.isBelligerent()) {
+                belligerentCount++;
+                bucket.belligerent++;
+            }
+        }
+        c.setCurrentPlace(this);
+    }
+
+    /**
+     * Retire un personnage de la liste et des index, sans message.
+     *
+     * @param c personnage à retirer
+     * @return true si le personnage était présent
+     */
+    protected final boolean detach(GameCharacter c) {
+        if (!characters.remove(c)) return false;
+        modificationCount++;
+
+        ClassBucket bucket = charactersByClass.get(c.getClass());
+        bucket.members.remove(c);
+        if (!c.isDead()) {
+            aliveCount--;
+            bucket.alive--;
+            if (c.isBelligerent()) {
+                belligerentCount--;
+                bucket.belligerent--;
+            }
+        }
+        if (bucket.members.isEmpty()) {
+            charactersByClass.remove(c.getClass());
+        }
+        if (charactersByName.get(c.getName()) == c) {
+            reindexName(c.getName());
+        }
+        if (c.getCurrentPlace() == this) {
+            c.setCurrentPlace(null);
+        }
+        return true;
+    }
+
+    /**
+     * Met à jour les compteurs après un changement d'état d'un personnage présent.
+     * Appelé par le personnage lui-même.
+     *
+     * @param c le personnage
+     * @param wasDead true s'il était mort avant le changement
+     * @param wasBelligerent true s'il était belliqueux avant le changement
+     */
+    public void characterStateChanged(GameCharacter c, boolean wasDead, boolean wasBelligerent) {
+        ClassBucket bucket = charactersByClass.get(c.getClass());
+        if (bucket == null) return;
+
+        int alive = (c.isDead() ? 0 : 1) - (wasDead ? 0 : 1);
+        int belligerent = (!c.isDead() && c.isBelligerent() ? 1 : 0) - (!wasDead && wasBelligerent ? 1 : 0);
+        aliveCount += alive;
+        bucket.alive += alive;
+        belligerentCount += belligerent;
+        bucket.belligerent += belligerent;
+    }
+
+    /**
+     * Met à jour l'index des noms après le renommage d'un personnage présent.
+     * Appelé par le personnage lui-même.
+     *
+     * @param c le personnage
+     * @param oldName son ancien nom
+     */
+    public void characterRenamed(GameCharacter c, String oldName) {
+        if (charactersByName.get(oldName) == c) {
+            reindexName(oldName);
+        }
+        reindexName(c.getName());
+    }
+
+    /** Réindexe un nom sur le premier personnage présent qui le porte (parcours, cas rare) */
+    private void reindexName(String name) {
+        charactersByName.remove(name);
+        for (GameCharacter c : characters) {
+            if (c.getName().equals(name)) {
+                charactersByName.put(name, c);
+                return;
+            }
+        }
+    }
+
+    /** Personnages d'une même classe et leurs compteurs */
+    private static final class ClassBucket {
+        private final CharacterKind kind;
+        private final List<GameCharacter> members = new ArrayList<>();
+        private int alive;
+        private int belligerent;
+
+        private ClassBucket(CharacterKind kind) {
+            this.kind = kind;
+        }
+    }
+
     // ============== SOINS ==============
 
     /**
@@ -216,29 +473,18 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
 
     // ============== NOURRITURE ==============
 
-    /** Nourrit tous les personnages vivants du lieu */
+    /**
+     * Nourrit les personnages vivants du lieu, les plus affamés d'abord, avec les
+     * meilleurs aliments disponibles (voir {@link FeedingAllocator}).
+     */
     public void feedAll() {
-        for (GameCharacter c : characters) {
-            if (!c.isDead() && c.getHunger() < 100) {
-                Food food = findSuitableFood();
-                if (food != null) {
-                    c.ToEat(food);
-                    foods.remove(food);
-                }
-            }
-        }
-    }
-
-    /** Cherche un aliment disponible adapté */
-    private Food findSuitableFood() {
-        if (!foods.isEmpty()) {
-            return foods.get(0);
-        }
-        return null;
+        FeedingAllocator.feed(characters, foods);
     }
 
+    /** Ajoute un aliment au stock (seuls son type et sa fraîcheur sont gardés) */
     public void addFood(Food food) { foods.add(food); }
-    public void addFoods(List<Food> foodList) { foods.addAll(foodList); }
+    public void addFoods(List<Food> foodList) { foodList.forEach(foods::add); }
+    /** Retire du stock un aliment de même type et de même fraîcheur */
     public void removeFood(Food food) { foods.remove(food); }
     public void clearFoods() { foods.clear(); }
 
@@ -252,4 +498,16 @@ public abstract sealed class Place permits Battlefield, Camp, Enclosure, GalloRo
      * @return true si le personnage peut entrer, false sinon
      */
     protected abstract boolean canAddCharacter(GameCharacter c);
+
+    /**
+     * Vérifie si le type du personnage est accepté par ce type de lieu, d'après la
+     * matrice d'admission. Les sous-classes y ajoutent leurs propres conditions
+     * (capacité, etc.) dans {@link #canAddCharacter}.
+     *
+     * @param c personnage à tester
+     * @return true si le type du personnage est accepté
+     */
+    protected final boolean admits(GameCharacter c) {
+        return admittedKinds[c.getKind().ordinal()];
+    }
 }
@@ -1,9 +1,10 @@
 package org.example.envahissementarmorique.model.place;
 
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
-import org.example.envahissementarmorique.model.character.base.Roman.Roman;
-import org.example.envahissementarmorique.model.character.base.FantasticCreature;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Camp retranché romain.
@@ -34,7 +35,7 @@ public final class RomanCamp extends Place {
      */
     @Override
     protected boolean canAddCharacter(GameCharacter c) {
-        return (c instanceof Roman || c instanceof FantasticCreature);
+        return admits(c);
     }
 
     /**
@@ -46,19 +47,18 @@ public final class RomanCamp extends Place {
     @Override
     public boolean addCharacter(GameCharacter c) {
         if (c == null) {
-            System.out.println("Erreur : personnage null");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Erreur : personnage null");
             return false;
         }
 
         if (!canAddCharacter(c)) {
-            System.out.println(c.getName()
-                    + " ne peut pas entrer dans le camp romain !");
-            System.out.println("   (Seuls les Romains et créatures fantastiques sont acceptés)");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "{} ne peut pas entrer dans le camp romain !", c.getName());
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "   (Seuls les Romains et créatures fantastiques sont acceptés)");
             return false;
         }
 
-        characters.add(c);
-        System.out.println(c.getName() + " entre dans le camp " + name);
+        attach(c);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} entre dans le camp {}", c.getName(), name);
         return true;
     }
 
@@ -69,6 +69,7 @@ public final class RomanCamp extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("CAMP ROMAIN : " + name);
         System.out.println("Superficie : " + area + " m²");
@@ -2,7 +2,9 @@ package org.example.envahissementarmorique.model.place;
 
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
-import org.example.envahissementarmorique.model.character.base.FantasticCreature;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 /**
  * Représente un village gaulois.
@@ -33,7 +35,7 @@ public final class Village extends Place {
      */
     @Override
     protected boolean canAddCharacter(GameCharacter c) {
-        return c.getFaction().equals("Gaulois") || c instanceof FantasticCreature;
+        return admits(c);
     }
 
     /**
@@ -45,18 +47,18 @@ public final class Village extends Place {
     @Override
     public boolean addCharacter(GameCharacter c) {
         if (c == null) {
-            System.out.println("Erreur : personnage null");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Erreur : personnage null");
             return false;
         }
 
         if (!canAddCharacter(c)) {
-            System.out.println(c.getName() + " n'est pas autorisé à entrer dans le village !");
-            System.out.println("(Seuls les Gaulois et les créatures fantastiques sont acceptés)");
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "{} n'est pas autorisé à entrer dans le village !", c.getName());
+            SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "(Seuls les Gaulois et les créatures fantastiques sont acceptés)");
             return false;
         }
 
-        characters.add(c);
-        System.out.println(c.getName() + " entre dans le village " + name);
+        attach(c);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} entre dans le village {}", c.getName(), name);
         return true;
     }
 
@@ -67,6 +69,7 @@ public final class Village extends Place {
      */
     @Override
     public void display() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("VILLAGE : " + name);
         System.out.println("Superficie : " + area + " m²");
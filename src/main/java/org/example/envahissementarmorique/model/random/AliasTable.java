@@ -0,0 +1,102 @@
+package org.example.envahissementarmorique.model.random;
+
+import java.util.Random;
+
+/**
+ * Table d'alias de Walker pour tirer un indice selon des poids quelconques.
+ * <p>
+ * La construction (méthode de Vose) coûte O(n) ; chaque tirage coûte O(1) et ne tire
+ * qu'un seul nombre : la partie entière de {@code u * n} choisit une colonne, la partie
+ * fractionnaire décide entre la colonne et son alias. Aucun tirage n'alloue de mémoire.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class AliasTable {
+
+    /** Probabilité de garder la colonne plutôt que son alias. */
+    private final double[] probability;
+
+    /** Alias de chaque colonne. */
+    private final int[] alias;
+
+    /**
+     * Construit la table à partir de poids positifs ou nuls, dont au moins un non nul.
+     *
+     * @param weights le poids de chaque indice
+     */
+    public AliasTable(double[] weights) {
+        int n = weights == null ? 0 : weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight.");
+        }
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Restes dus aux arrondis : colonnes pleines
+        while (largeCount > 0) {
+            int more = large[--largeCount];
+            probability[more] = 1.0;
+            alias[more] = more;
+        }
+        while (smallCount > 0) {
+            int less = small[--smallCount];
+            probability[less] = 1.0;
+            alias[less] = less;
+        }
+    }
+
+    /** @return le nombre d'indices de la table */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Tire un indice selon les poids de la table.
+     *
+     * @param random le flux aléatoire
+     * @return un indice entre 0 et {@link #size()} exclu
+     */
+    public int sample(Random random) {
+        double x = random.nextDouble() * probability.length;
+        int column = (int) x;
+        return x - column < probability[column] ? column : alias[column];
+    }
+}
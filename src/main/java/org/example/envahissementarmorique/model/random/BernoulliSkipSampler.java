@@ -0,0 +1,70 @@
+package org.example.envahissementarmorique.model.random;
+
+import java.util.Random;
+
+/**
+ * Échantillonneur de Bernoulli par sauts géométriques.
+ * <p>
+ * Pour parcourir une suite d'essais indépendants de même probabilité {@code p}, au lieu
+ * de tirer un nombre par essai, on tire directement le nombre d'échecs avant le prochain
+ * succès, qui suit une loi géométrique : {@code floor(E / -ln(1 - p))} pour {@code E} de
+ * loi exponentielle de paramètre 1 (équivalent à {@code floor(ln(1 - u) / ln(1 - p))},
+ * mais tiré par la méthode ziggurat, sans logarithme dans le cas courant). Un seul tirage
+ * par succès, quelle que soit la longueur de la suite ; les succès obtenus ont exactement
+ * la même loi qu'avec un tirage par essai.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class BernoulliSkipSampler {
+
+    /** Probabilité de succès d'un essai. */
+    private final double probability;
+
+    /** {@code -1 / ln(1 - p)}, précalculé : le saut est une loi exponentielle mise à cette échelle. */
+    private final double gapScale;
+
+    /**
+     * @param probability la probabilité de succès d'un essai, entre 0 et 1
+     */
+    public BernoulliSkipSampler(double probability) {
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException("Probability must be between 0 and 1.");
+        }
+        this.probability = probability;
+        this.gapScale = -1.0 / Math.log1p(-probability);
+    }
+
+    /** @return la probabilité de succès d'un essai */
+    public double getProbability() {
+        return probability;
+    }
+
+    /**
+     * Tire le nombre d'échecs avant le prochain succès.
+     *
+     * @param random le flux aléatoire
+     * @return le nombre d'essais à sauter, {@link Long#MAX_VALUE} si la probabilité est nulle
+     */
+    public long nextGap(Random random) {
+        if (probability == 0.0) return Long.MAX_VALUE;
+        if (probability == 1.0) return 0;
+
+        double gap = Math.floor(random.nextExponential() * gapScale);
+        return gap >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) gap;
+    }
+
+    /**
+     * Donne l'indice du prochain succès à partir d'un indice donné.
+     *
+     * @param random le flux aléatoire
+     * @param from le premier indice candidat
+     * @return l'indice du prochain succès, au moins {@code from} ;
+     *         {@link Integer#MAX_VALUE} s'il tombe au-delà
+     */
+    public int nextIndex(Random random, int from) {
+        long index = from + Math.min(nextGap(random), Integer.MAX_VALUE);
+        return (int) Math.min(index, Integer.MAX_VALUE);
+    }
+}
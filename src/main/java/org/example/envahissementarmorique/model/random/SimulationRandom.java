@@ -0,0 +1,139 @@
+package org.example.envahissementarmorique.model.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Générateur aléatoire reproductible et divisible de la simulation.
+ * <p>
+ * Chaque générateur part d'une graine ({@link #getSeed()}) et produit une suite
+ * SplitMix64. {@link #child(long)} et {@link #child(String)} dérivent un flux enfant
+ * indépendant à partir de la graine et d'une clé (indice de lieu, numéro de tour, nom
+ * de phase...) : l'enfant ne dépend pas des tirages déjà faits par le parent. Un lieu,
+ * un champ de bataille ou une meute reçoit ainsi son propre flux, et le résultat d'une
+ * exécution ne dépend que de la graine racine, pas de l'ordre dans lequel les threads
+ * consomment leurs flux.
+ * </p>
+ * <p>
+ * Un générateur n'est pas fait pour être partagé entre threads : chaque tâche parallèle
+ * doit travailler sur son propre flux enfant. La classe étend {@link Random} pour
+ * s'utiliser partout où un {@code Random} est attendu.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public class SimulationRandom extends Random {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Source des graines des générateurs créés sans graine explicite. */
+    private static final AtomicLong SEED_SOURCE = new AtomicLong(System.nanoTime());
+
+    /** Graine d'origine, qui détermine le flux et tous ses enfants. */
+    private final long seed;
+
+    /** État courant de la suite SplitMix64. */
+    private long state;
+
+    /**
+     * Crée un générateur avec une graine arbitraire. La graine reste lisible par
+     * {@link #getSeed()} pour rejouer l'exécution.
+     */
+    public SimulationRandom() {
+        this(mix(SEED_SOURCE.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime()));
+    }
+
+    /**
+     * Crée un générateur à partir d'une graine.
+     *
+     * @param seed la graine
+     */
+    public SimulationRandom(long seed) {
+        super(0L);
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /** @return la graine d'origine de ce flux */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Dérive le flux enfant associé à une clé. Deux appels avec la même clé donnent
+     * des flux identiques ; des clés différentes donnent des flux indépendants.
+     *
+     * @param key la clé de l'enfant (indice, numéro de tour...)
+     * @return le flux enfant
+     */
+    public SimulationRandom child(long key) {
+        return new SimulationRandom(mix(seed ^ mix(key + GOLDEN_GAMMA)));
+    }
+
+    /**
+     * Dérive le flux enfant associé à un nom.
+     *
+     * @param name le nom de l'enfant (phase, lieu...)
+     * @return le flux enfant
+     * @see #child(long)
+     */
+    public SimulationRandom child(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Stream name cannot be null.");
+        }
+        // FNV-1a 64 bits : hashCode() n'a que 32 bits et provoquerait des collisions
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return child(hash);
+    }
+
+    /**
+     * Réinitialise le flux sur une nouvelle position. La graine d'origine, et donc les
+     * enfants, ne changent pas.
+     *
+     * @param seed la nouvelle position
+     */
+    @Override
+    public void setSeed(long seed) {
+        // Appelée par le constructeur de Random avant l'initialisation des champs
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /** Fonction de mélange de SplitMix64. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.envahissementarmorique.model.theater;
+
+/**
+ * Issue d'une bataille menée par {@link ClanWarSimulation#conductBattle()}.
+ * <p>
+ * Une bataille se termine toujours par l'une de ces issues : victoire d'une faction,
+ * impasse (plus aucun échange ne fait progresser le combat), budget d'itérations
+ * épuisé, ou absence de bataille.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public enum BattleOutcome {
+    /** La première faction a éliminé tous les combattants adverses. */
+    FACTION1_VICTORY("Victoire de la faction 1"),
+
+    /** La seconde faction a éliminé tous les combattants adverses. */
+    FACTION2_VICTORY("Victoire de la faction 2"),
+
+    /** Le combat ne progresse plus : aucun combattant ne peut ou ne veut blesser l'adversaire. */
+    STALEMATE("Impasse"),
+
+    /** Le nombre maximal d'itérations a été atteint avant la fin du combat. */
+    STEP_BUDGET_EXHAUSTED("Budget d'itérations épuisé"),
+
+    /** Aucune bataille n'a pu avoir lieu (pas de champ de bataille ou pas d'adversaires). */
+    NO_BATTLE("Pas de bataille");
+
+    private final String label;
+
+    BattleOutcome(String label) {
+        this.label = label;
+    }
+
+    /** @return le libellé de l'issue */
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.envahissementarmorique.model.theater;
+
+/**
+ * Bilan d'une bataille menée par {@link ClanWarSimulation#conductBattle()}.
+ * <p>
+ * En plus de l'issue et des survivants, le bilan indique combien d'itérations de la
+ * boucle de duels ont été consommées et combien ont été perdues, c'est-à-dire n'ont
+ * fait perdre aucun point de vie à personne. Ces compteurs servent à régler le coût
+ * des batailles (budget d'itérations et seuil d'impasse).
+ * </p>
+ * <p>
+ * Une bataille estimée par la loi de Lanchester plutôt que simulée porte l'erreur
+ * relative estimée de la prédiction ; ses itérations sont alors une prédiction.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class BattleReport {
+
+    /** Issue de la bataille. */
+    private final BattleOutcome outcome;
+
+    /** Nombre d'itérations de la boucle de duels. */
+    private final long iterations;
+
+    /** Nombre d'itérations sans aucun dégât infligé. */
+    private final long wastedIterations;
+
+    /** Combattants encore en vie dans la première faction. */
+    private final int faction1Survivors;
+
+    /** Combattants encore en vie dans la seconde faction. */
+    private final int faction2Survivors;
+
+    /** Erreur relative estimée si la bataille a été estimée, {@link Double#NaN} sinon. */
+    private final double estimatedError;
+
+    /** Indique si la bataille a été estimée plutôt que simulée. */
+    private final boolean estimated;
+
+    /**
+     * Crée un bilan de bataille simulée duel par duel.
+     *
+     * @param outcome l'issue de la bataille
+     * @param iterations le nombre d'itérations consommées
+     * @param wastedIterations le nombre d'itérations sans dégâts
+     * @param faction1Survivors les survivants de la première faction
+     * @param faction2Survivors les survivants de la seconde faction
+     */
+    public BattleReport(BattleOutcome outcome, long iterations, long wastedIterations,
+                        int faction1Survivors, int faction2Survivors) {
+        this(outcome, iterations, wastedIterations, faction1Survivors, faction2Survivors, Double.NaN, false);
+    }
+
+    /**
+     * Crée le bilan d'une bataille estimée plutôt que simulée.
+     *
+     * @param outcome l'issue prédite
+     * @param iterations le nombre d'itérations prédit
+     * @param wastedIterations le nombre d'itérations sans dégâts
+     * @param faction1Survivors les survivants de la première faction
+     * @param faction2Survivors les survivants de la seconde faction
+     * @param estimatedError l'erreur relative estimée de la prédiction
+     */
+    public BattleReport(BattleOutcome outcome, long iterations, long wastedIterations,
+                        int faction1Survivors, int faction2Survivors, double estimatedError) {
+        this(outcome, iterations, wastedIterations, faction1Survivors, faction2Survivors, estimatedError, true);
+    }
+
+    private BattleReport(BattleOutcome outcome, long iterations, long wastedIterations,
+                         int faction1Survivors, int faction2Survivors, double estimatedError, boolean estimated) {
+        this.outcome = outcome;
+        this.iterations = iterations;
+        this.wastedIterations = wastedIterations;
+        this.faction1Survivors = faction1Survivors;
+        this.faction2Survivors = faction2Survivors;
+        this.estimatedError = estimatedError;
+        this.estimated = estimated;
+    }
+
+    /**
+     * Crée le bilan d'une bataille qui n'a pas pu avoir lieu.
+     *
+     * @param faction1Survivors les combattants de la première faction
+     * @param faction2Survivors les combattants de la seconde faction
+     * @return un bilan {@link BattleOutcome#NO_BATTLE} sans itération
+     */
+    public static BattleReport noBattle(int faction1Survivors, int faction2Survivors) {
+        return new BattleReport(BattleOutcome.NO_BATTLE, 0, 0, faction1Survivors, faction2Survivors);
+    }
+
+    /** @return l'issue de la bataille */
+    public BattleOutcome getOutcome() {
+        return outcome;
+    }
+
+    /** @return le nombre d'itérations consommées */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /** @return le nombre d'itérations sans aucun dégât infligé */
+    public long getWastedIterations() {
+        return wastedIterations;
+    }
+
+    /** @return la part d'itérations perdues, entre 0 et 1 */
+    public double getWastedRatio() {
+        return iterations == 0 ? 0.0 : (double) wastedIterations / iterations;
+    }
+
+    /** @return le nombre de survivants de la première faction */
+    public int getFaction1Survivors() {
+        return faction1Survivors;
+    }
+
+    /** @return le nombre de survivants de la seconde faction */
+    public int getFaction2Survivors() {
+        return faction2Survivors;
+    }
+
+    /** @return true si la bataille a été estimée (loi de Lanchester) plutôt que simulée */
+    public boolean isEstimated() {
+        return estimated;
+    }
+
+    /** @return l'erreur relative estimée d'une bataille estimée, {@link Double#NaN} sinon */
+    public double getEstimatedError() {
+        return estimatedError;
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format("%s - %d itérations (%d perdues), survivants : %d / %d",
+                outcome.getLabel(), iterations, wastedIterations, faction1Survivors, faction2Survivors);
+        if (estimated) {
+            summary += Double.isNaN(estimatedError)
+                    ? " [estimé]"
+                    : String.format(" [estimé, erreur ± %.0f %%]", estimatedError * 100);
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.event.SimulationEvent.CharacterChanged;
+import org.example.envahissementarmorique.model.random.BernoulliSkipSampler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Table des événements aléatoires qui frappent les personnages à chaque intervalle
+ * (faim, perte d'effet de la potion, blessures mineures...).
+ * <p>
+ * Chaque événement a un nom, une probabilité par personnage et par intervalle, et un
+ * effet. Les événements sont appliqués dans l'ordre de la table. Les personnages touchés
+ * sont choisis par sauts géométriques ({@link BernoulliSkipSampler}) : un tirage par
+ * événement survenu, pas un tirage par personnage et par événement.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class CharacterEventTable {
+
+    /** Nom de l'événement de faim. */
+    public static final String HUNGER = "faim";
+
+    /** Nom de l'événement de perte d'effet de la potion. */
+    public static final String POTION_WEAR_OFF = "potion";
+
+    /** Nom de l'événement de blessure mineure. */
+    public static final String INJURY = "blessure";
+
+    /** Événements, dans leur ordre d'application. */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Effet d'un événement sur un personnage vivant.
+     */
+    @FunctionalInterface
+    public interface CharacterEffect {
+
+        /**
+         * @param character le personnage touché
+         * @param random le flux aléatoire du lieu
+         * @return l'événement décrivant l'effet, ou null si l'événement est resté sans effet
+         */
+        SimulationEvent apply(GameCharacter character, Random random);
+    }
+
+    /**
+     * @return la table par défaut : faim (0,3), potion (0,2) et blessure mineure (0,1)
+     */
+    public static CharacterEventTable defaults() {
+        return new CharacterEventTable()
+                .add(HUNGER, 0.3, (character, random) -> {
+                    int hungerDecrease = random.nextInt(20) + 10;
+                    character.setHunger(Math.max(0, character.getHunger() - hungerDecrease));
+                    return new CharacterChanged(SimulationEvent.Change.HUNGER, character.getName(), hungerDecrease);
+                })
+                .add(POTION_WEAR_OFF, 0.2, (character, random) -> {
+                    if (character.getMagicpotion() <= 0) return null;
+
+                    int potionDecrease = random.nextInt(3) + 1;
+                    character.setMagicpotion(Math.max(0, character.getMagicpotion() - potionDecrease));
+                    return new CharacterChanged(SimulationEvent.Change.POTION_WEAR_OFF, character.getName(), potionDecrease);
+                })
+                .add(INJURY, 0.1, (character, random) -> {
+                    int healthLoss = random.nextInt(10) + 5;
+                    character.setHealth(Math.max(0, character.getHealth() - healthLoss));
+                    return new CharacterChanged(SimulationEvent.Change.INJURY, character.getName(), healthLoss);
+                });
+    }
+
+    /**
+     * Ajoute un événement à la fin de la table.
+     *
+     * @param name le nom de l'événement, unique dans la table
+     * @param probability la probabilité par personnage et par intervalle
+     * @param effect l'effet de l'événement
+     * @return cette table, pour enchaîner les ajouts
+     */
+    public CharacterEventTable add(String name, double probability, CharacterEffect effect) {
+        if (name == null || effect == null) {
+            throw new IllegalArgumentException("Event name and effect cannot be null.");
+        }
+        if (find(name) != null) {
+            throw new IllegalArgumentException("Event already registered: " + name);
+        }
+        entries.add(new Entry(name, new BernoulliSkipSampler(probability), effect));
+        return this;
+    }
+
+    /**
+     * Change la probabilité d'un événement.
+     *
+     * @param name le nom de l'événement
+     * @param probability la nouvelle probabilité par personnage et par intervalle
+     */
+    public void setProbability(String name, double probability) {
+        get(name).sampler = new BernoulliSkipSampler(probability);
+    }
+
+    /**
+     * @param name le nom de l'événement
+     * @return la probabilité de l'événement par personnage et par intervalle
+     */
+    public double getProbability(String name) {
+        return get(name).sampler.getProbability();
+    }
+
+    /** @return les noms des événements, dans leur ordre d'application */
+    public List<String> getEventNames() {
+        List<String> names = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            names.add(entry.name);
+        }
+        return names;
+    }
+
+    /** @return le nombre d'événements de la table */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param index la position de l'événement dans la table
+     * @return l'échantillonneur des personnages touchés par l'événement
+     */
+    BernoulliSkipSampler sampler(int index) {
+        return entries.get(index).sampler;
+    }
+
+    /**
+     * @param index la position de l'événement dans la table
+     * @return l'effet de l'événement
+     */
+    CharacterEffect effect(int index) {
+        return entries.get(index).effect;
+    }
+
+    /**
+     * Applique les événements de la table à une liste de personnages, pour un intervalle.
+     * <p>
+     * Les personnages vivants sont relevés en une passe ; chaque événement, dans l'ordre
+     * de la table, saute ensuite directement d'un vivant touché au suivant. Les événements
+     * sortent donc groupés par événement de la table, puis dans l'ordre des personnages.
+     * </p>
+     *
+     * @param characters les personnages du lieu
+     * @param random le flux aléatoire du lieu
+     * @param events reçoit les événements produits par les effets
+     */
+    void apply(List<GameCharacter> characters, Random random, List<SimulationEvent> events) {
+        if (entries.isEmpty()) return;
+
+        GameCharacter[] living = new GameCharacter[characters.size()];
+        int count = 0;
+        for (GameCharacter character : characters) {
+            if (!character.isDead()) living[count++] = character;
+        }
+        if (count == 0) return;
+
+        for (Entry entry : entries) {
+            for (int index = entry.sampler.nextIndex(random, 0); index < count;
+                 index = entry.sampler.nextIndex(random, index + 1)) {
+                SimulationEvent event = entry.effect.apply(living[index], random);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+        }
+    }
+
+    private Entry find(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private Entry get(String name) {
+        Entry entry = find(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown character event: " + name);
+        }
+        return entry;
+    }
+
+    /**
+     * Événement enregistré.
+     */
+    private static final class Entry {
+
+        private final String name;
+        private BernoulliSkipSampler sampler;
+        private final CharacterEffect effect;
+
+        private Entry(String name, BernoulliSkipSampler sampler, CharacterEffect effect) {
+            this.name = name;
+            this.sampler = sampler;
+            this.effect = effect;
+        }
+    }
+}
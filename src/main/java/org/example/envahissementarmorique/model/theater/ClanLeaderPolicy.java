@@ -0,0 +1,96 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.log.SimulationLog;
+
+import java.util.Scanner;
+
+/**
+ * Stratégie de décision d'un chef de clan pendant son tour.
+ * <p>
+ * La simulation demande une action à la stratégie tant que le chef dispose d'actions.
+ * La stratégie interactive ({@link #interactive(Scanner)}) pose la question au joueur ;
+ * les autres décident seules, ce qui permet de faire tourner une simulation sans
+ * intervention (voir {@link HeadlessRunner}).
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ClanLeaderPolicy {
+
+    /**
+     * Choisit la prochaine action du chef.
+     *
+     * @param leader le chef de clan
+     * @param place le lieu géré par le chef
+     * @param actionNumber le numéro de l'action à choisir (à partir de 1)
+     * @param maxActions le nombre d'actions disponibles pendant ce tour
+     * @return l'action choisie (jamais null)
+     */
+    LeaderAction chooseAction(ClanLeader leader, Place place, int actionNumber, int maxActions);
+
+    /**
+     * @return une stratégie qui passe toujours son tour
+     */
+    static ClanLeaderPolicy passive() {
+        return (leader, place, actionNumber, maxActions) -> LeaderAction.PASS;
+    }
+
+    /**
+     * Stratégie d'intendance : nourrir l'équipe si quelqu'un a faim et qu'il reste de
+     * la nourriture, sinon soigner si quelqu'un est blessé, sinon passer le tour.
+     *
+     * @return la stratégie d'intendance
+     */
+    static ClanLeaderPolicy caretaker() {
+        return (leader, place, actionNumber, maxActions) -> {
+            boolean hungry = false;
+            boolean wounded = false;
+            for (GameCharacter character : place.getCharacters()) {
+                if (character.isDead()) continue;
+                hungry |= character.getHunger() < 100;
+                wounded |= character.getHealth() < character.getMaxHealth();
+            }
+            if (hungry && !place.getFoodInventory().isEmpty()) return LeaderAction.FEED;
+            if (wounded) return LeaderAction.HEAL;
+            return LeaderAction.PASS;
+        };
+    }
+
+    /**
+     * Stratégie interactive : affiche le menu et lit le choix du joueur.
+     *
+     * @param scanner scanner pour la saisie utilisateur
+     * @return la stratégie interactive
+     */
+    static ClanLeaderPolicy interactive(Scanner scanner) {
+        return (leader, place, actionNumber, maxActions) -> {
+            SimulationLog.flush();
+            while (true) {
+                for (LeaderAction action : LeaderAction.values()) {
+                    System.out.println(action.getMenuNumber() + ". " + action.getLabel());
+                }
+                System.out.print("Choisir une action : ");
+
+                if (!scanner.hasNextInt()) {
+                    scanner.next();
+                    System.out.println("Entrée invalide. Veuillez entrer un nombre.");
+                    continue;
+                }
+
+                int choice = scanner.nextInt();
+                scanner.nextLine();
+
+                LeaderAction action = LeaderAction.fromMenuNumber(choice);
+                if (action != null) {
+                    return action;
+                }
+                System.out.println("Choix invalide. Réessayez.");
+            }
+        };
+    }
+}
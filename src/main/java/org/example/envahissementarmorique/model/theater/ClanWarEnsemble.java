@@ -0,0 +1,321 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Exécution Monte-Carlo d'un scénario de {@link ClanWarSimulation}.
+ * <p>
+ * Le scénario configuré (clans, lieux, champ de bataille, paramètres de combat) est
+ * répliqué par {@link ClanWarSimulation#copy(long)} : chaque réplique possède ses propres
+ * lieux et personnages, et son propre générateur aléatoire initialisé avec une graine
+ * dérivée de la graine de l'ensemble et du numéro de la réplique. Les répliques sont
+ * jouées en parallèle (déploiement puis bataille, sans affichage) et leurs bilans sont
+ * combinés : taux de victoire avec intervalles de confiance de Wilson, distribution des
+ * survivants de chaque faction et durée moyenne des batailles.
+ * </p>
+ * <p>
+ * Pour une graine donnée, le résultat est reproductible quel que soit le nombre de
+ * threads. Le scénario ne doit pas être modifié pendant l'exécution.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class ClanWarEnsemble {
+
+    /** Quantile de la loi normale pour un intervalle de confiance à 95 %. */
+    private static final double Z_95 = 1.959963984540054;
+
+    /** Scénario à répliquer. */
+    private final ClanWarSimulation scenario;
+
+    /** Pool de threads utilisé pour jouer les répliques. */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Crée un ensemble pour le scénario donné.
+     *
+     * @param scenario la simulation configurée servant de modèle aux répliques
+     */
+    public ClanWarEnsemble(ClanWarSimulation scenario) {
+        if (scenario == null) {
+            throw new IllegalArgumentException("Scenario cannot be null.");
+        }
+        this.scenario = scenario;
+    }
+
+    /**
+     * Définit le pool utilisé pour jouer les répliques (par défaut le pool commun).
+     *
+     * @param pool le pool de threads
+     */
+    public void setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Ensemble pool cannot be null.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Joue les répliques du scénario et combine leurs bilans.
+     *
+     * @param replicas le nombre de répliques
+     * @param seed la graine de l'ensemble
+     * @return le bilan combiné
+     */
+    public EnsembleReport run(int replicas, long seed) {
+        if (replicas <= 0) {
+            throw new IllegalArgumentException("Replicas must be positive.");
+        }
+
+        SimulationRandom root = new SimulationRandom(seed);
+        BattleReport[] reports = new BattleReport[replicas];
+        long start = System.nanoTime();
+        pool.submit(() -> IntStream.range(0, replicas).parallel()
+                .forEach(i -> reports[i] = runReplica(root.child(i).getSeed()))).join();
+        return new EnsembleReport(reports, System.nanoTime() - start);
+    }
+
+    /**
+     * Joue une réplique : copie du scénario, déploiement puis bataille, sans affichage.
+     */
+    private BattleReport runReplica(long seed) {
+        ClanWarSimulation replica = scenario.copy(seed);
+        replica.setVerbose(false);
+        for (Place place : replica.getPlaces()) {
+            place.setVerbose(false);
+        }
+        replica.deployWarriorsToBattlefield();
+        return replica.conductBattle();
+    }
+
+    /**
+     * Intervalle de score de Wilson pour une proportion.
+     *
+     * @param successes le nombre de succès
+     * @param trials le nombre d'essais
+     * @return l'intervalle de confiance à 95 %
+     */
+    static Interval wilson(int successes, int trials) {
+        double p = (double) successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double centre = (p + z2 / (2.0 * trials)) / denominator;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        double low = successes == 0 ? 0.0 : Math.max(0.0, centre - margin);
+        double high = successes == trials ? 1.0 : Math.min(1.0, centre + margin);
+        return new Interval(low, high);
+    }
+
+    /**
+     * Intervalle de confiance.
+     */
+    public static final class Interval {
+
+        private final double low;
+        private final double high;
+
+        private Interval(double low, double high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        /** @return la borne inférieure */
+        public double getLow() {
+            return low;
+        }
+
+        /** @return la borne supérieure */
+        public double getHigh() {
+            return high;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%.3f ; %.3f]", low, high);
+        }
+    }
+
+    /**
+     * Distribution du nombre de survivants d'une faction sur l'ensemble des répliques.
+     */
+    public static final class SurvivorDistribution {
+
+        /** Survivants de chaque réplique, triés. */
+        private final int[] sorted;
+        private final double mean;
+        private final double standardDeviation;
+
+        private SurvivorDistribution(int[] survivors) {
+            this.sorted = survivors.clone();
+            Arrays.sort(sorted);
+
+            double sum = 0;
+            for (int value : sorted) {
+                sum += value;
+            }
+            this.mean = sum / sorted.length;
+
+            double squares = 0;
+            for (int value : sorted) {
+                squares += (value - mean) * (value - mean);
+            }
+            this.standardDeviation = sorted.length > 1 ? Math.sqrt(squares / (sorted.length - 1)) : 0.0;
+        }
+
+        /** @return le nombre moyen de survivants */
+        public double getMean() {
+            return mean;
+        }
+
+        /** @return l'écart type du nombre de survivants */
+        public double getStandardDeviation() {
+            return standardDeviation;
+        }
+
+        /** @return l'intervalle de confiance à 95 % de la moyenne */
+        public Interval getMeanInterval() {
+            double margin = Z_95 * standardDeviation / Math.sqrt(sorted.length);
+            return new Interval(mean - margin, mean + margin);
+        }
+
+        /** @return le plus petit nombre de survivants observé */
+        public int getMin() {
+            return sorted[0];
+        }
+
+        /** @return le plus grand nombre de survivants observé */
+        public int getMax() {
+            return sorted[sorted.length - 1];
+        }
+
+        /**
+         * @param fraction le rang du quantile, entre 0 et 1
+         * @return le quantile du nombre de survivants (méthode du rang le plus proche)
+         */
+        public int getPercentile(double fraction) {
+            if (fraction < 0 || fraction > 1) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+            }
+            int rank = (int) Math.ceil(fraction * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("moyenne %.1f %s, écart type %.1f, min %d, médiane %d, 5%%-95%% [%d ; %d], max %d",
+                    mean, getMeanInterval(), standardDeviation, getMin(), getPercentile(0.5),
+                    getPercentile(0.05), getPercentile(0.95), getMax());
+        }
+    }
+
+    /**
+     * Bilan combiné des répliques.
+     */
+    public static final class EnsembleReport {
+
+        private final int replicas;
+        private final Map<BattleOutcome, Integer> outcomes = new EnumMap<>(BattleOutcome.class);
+        private final SurvivorDistribution faction1Survivors;
+        private final SurvivorDistribution faction2Survivors;
+        private final double meanIterations;
+        private final long elapsedNanos;
+
+        private EnsembleReport(BattleReport[] reports, long elapsedNanos) {
+            this.replicas = reports.length;
+            this.elapsedNanos = elapsedNanos;
+
+            int[] survivors1 = new int[reports.length];
+            int[] survivors2 = new int[reports.length];
+            double iterations = 0;
+            for (int i = 0; i < reports.length; i++) {
+                BattleReport report = reports[i];
+                outcomes.merge(report.getOutcome(), 1, Integer::sum);
+                survivors1[i] = report.getFaction1Survivors();
+                survivors2[i] = report.getFaction2Survivors();
+                iterations += report.getIterations();
+            }
+            this.faction1Survivors = new SurvivorDistribution(survivors1);
+            this.faction2Survivors = new SurvivorDistribution(survivors2);
+            this.meanIterations = iterations / reports.length;
+        }
+
+        /** @return le nombre de répliques jouées */
+        public int getReplicas() {
+            return replicas;
+        }
+
+        /**
+         * @param outcome une issue de bataille
+         * @return le nombre de répliques terminées par cette issue
+         */
+        public int getCount(BattleOutcome outcome) {
+            return outcomes.getOrDefault(outcome, 0);
+        }
+
+        /**
+         * @param outcome une issue de bataille
+         * @return la proportion de répliques terminées par cette issue
+         */
+        public double getRate(BattleOutcome outcome) {
+            return (double) getCount(outcome) / replicas;
+        }
+
+        /**
+         * @param outcome une issue de bataille
+         * @return l'intervalle de confiance de Wilson à 95 % de cette proportion
+         */
+        public Interval getRateInterval(BattleOutcome outcome) {
+            return wilson(getCount(outcome), replicas);
+        }
+
+        /** @return la distribution des survivants de la première faction */
+        public SurvivorDistribution getFaction1Survivors() {
+            return faction1Survivors;
+        }
+
+        /** @return la distribution des survivants de la seconde faction */
+        public SurvivorDistribution getFaction2Survivors() {
+            return faction2Survivors;
+        }
+
+        /** @return le nombre moyen d'itérations de la boucle de duels */
+        public double getMeanIterations() {
+            return meanIterations;
+        }
+
+        /** @return la durée totale de l'exécution en nanosecondes */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /** @return le débit, en répliques par seconde */
+        public double getReplicasPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : replicas * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder();
+            summary.append(String.format("%d répliques en %.1f ms (%.0f répliques/s)%n",
+                    replicas, elapsedNanos / 1e6, getReplicasPerSecond()));
+            for (BattleOutcome outcome : BattleOutcome.values()) {
+                if (getCount(outcome) > 0) {
+                    summary.append(String.format("  %-28s %5.1f %% %s%n",
+                            outcome.getLabel(), getRate(outcome) * 100, getRateInterval(outcome)));
+                }
+            }
+            summary.append("  Survivants faction 1 : ").append(faction1Survivors).append(System.lineSeparator());
+            summary.append("  Survivants faction 2 : ").append(faction2Survivors).append(System.lineSeparator());
+            summary.append(String.format("  Itérations moyennes : %.1f", meanIterations));
+            return summary.toString();
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package org.example.envahissementarmorique.model.theater;
 
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.character.base.FactionRegistry;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
-import org.example.envahissementarmorique.model.item.Food;
-import org.example.envahissementarmorique.model.item.Foods;
-import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.combat.AliveRoster;
+import org.example.envahissementarmorique.model.combat.CombatModel;
+import org.example.envahissementarmorique.model.combat.DefaultCombatModel;
+import org.example.envahissementarmorique.model.combat.LanchesterEstimator;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.event.SimulationEvent.CharacterChanged;
+import org.example.envahissementarmorique.model.item.FreshnessSchedule;
 import org.example.envahissementarmorique.model.place.Battlefield;
 import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Scanner;
 
@@ -25,6 +36,8 @@ import java.util.Scanner;
  *   <li>Affichage des résultats de la guerre</li>
  *   <li>Contrôle par les chefs de clan entre les tours</li>
  * </ul>
+ * Chaque tour est un {@link PhasePipeline} construit par
+ * {@link #createPipeline(ClanLeaderPolicy, int)}.
  * </p>
  *
  * @author Envahissement Armorique Team
@@ -32,6 +45,41 @@ import java.util.Scanner;
  */
 public class ClanWarSimulation {
 
+    /**
+     * Nom de la phase de déploiement des guerriers sur le champ de bataille.
+     */
+    public static final String PHASE_DEPLOYMENT = "déploiement";
+
+    /**
+     * Nom de la phase de retour des survivants dans leur lieu d'origine.
+     */
+    public static final String PHASE_RETURN = "retour";
+
+    /**
+     * Budget d'itérations par défaut d'une bataille.
+     */
+    public static final int DEFAULT_MAX_BATTLE_STEPS = 1_000_000;
+
+    /**
+     * Nombre par défaut d'itérations consécutives sans dégâts avant de déclarer une impasse.
+     */
+    public static final int DEFAULT_STALL_LIMIT = 1_000;
+
+    /**
+     * Nombre par défaut de combattants au-delà duquel une bataille est estimée plutôt que simulée.
+     */
+    public static final int DEFAULT_FAST_FORWARD_THRESHOLD = 20_000;
+
+    /**
+     * Taille de la plus grande armée échantillonnée pour étalonner l'estimation.
+     */
+    private static final int DEFAULT_CALIBRATION_SAMPLE_SIZE = 200;
+
+    /**
+     * Nombre de batailles d'étalonnage.
+     */
+    private static final int DEFAULT_CALIBRATION_RUNS = 8;
+
     /**
      * Le nom de la simulation.
      */
@@ -73,9 +121,74 @@ public class ClanWarSimulation {
     private Battlefield mainBattlefield;
 
     /**
-     * Générateur aléatoire pour les événements.
+     * Flux aléatoire racine : chaque bataille et chaque lieu reçoivent leur propre flux enfant.
+     */
+    private SimulationRandom random;
+
+    /**
+     * Nombre de batailles déjà menées.
      */
-    private Random random;
+    private long battleRound;
+
+    /**
+     * Nombre de passes de modifications aléatoires déjà jouées.
+     */
+    private long modificationRound;
+
+    /**
+     * Nombre de passes d'apparition de nourriture déjà jouées.
+     */
+    private long spawnRound;
+
+    /**
+     * Modèle de résolution des combats.
+     */
+    private CombatModel combatModel = DefaultCombatModel.INSTANCE;
+
+    /**
+     * Choix des aliments qui apparaissent selon le type de lieu.
+     */
+    private FoodSpawner foodSpawner = FoodSpawner.defaults();
+
+    /**
+     * Échéances de dégradation de la nourriture des lieux.
+     */
+    private final FoodDegradationWheel foodWheel = new FoodDegradationWheel(new FreshnessSchedule());
+
+    /**
+     * Nombre maximal d'itérations de la boucle de duels par bataille.
+     */
+    private int maxBattleSteps = DEFAULT_MAX_BATTLE_STEPS;
+
+    /**
+     * Nombre d'itérations consécutives sans dégâts au-delà duquel la bataille est déclarée en impasse.
+     */
+    private int stallLimit = DEFAULT_STALL_LIMIT;
+
+    /**
+     * Bilan de la dernière bataille, ou null si aucune bataille n'a été menée.
+     */
+    private BattleReport lastBattleReport;
+
+    /**
+     * Nombre de combattants au-delà duquel une bataille est estimée plutôt que simulée.
+     */
+    private int fastForwardThreshold = DEFAULT_FAST_FORWARD_THRESHOLD;
+
+    /**
+     * Taille de la plus grande armée échantillonnée pour l'étalonnage.
+     */
+    private int calibrationSampleSize = DEFAULT_CALIBRATION_SAMPLE_SIZE;
+
+    /**
+     * Nombre de batailles d'étalonnage.
+     */
+    private int calibrationRuns = DEFAULT_CALIBRATION_RUNS;
+
+    /**
+     * Indique si le déroulement de la guerre est affiché sur la console.
+     */
+    private boolean verbose = true;
 
     /**
      * Crée une nouvelle simulation de guerre entre clans.
@@ -87,7 +200,7 @@ public class ClanWarSimulation {
         this.name = name;
         this.maxPlaces = maxPlaces;
         this.places = new ArrayList<>();
-        this.random = new Random();
+        this.random = new SimulationRandom();
     }
 
     /**
@@ -99,6 +212,247 @@ public class ClanWarSimulation {
         return name;
     }
 
+    /** @return le modèle de combat utilisé par la bataille */
+    public CombatModel getCombatModel() {
+        return combatModel;
+    }
+
+    /**
+     * Remplace le modèle de combat utilisé par la bataille.
+     *
+     * @param combatModel le nouveau modèle de combat
+     */
+    public void setCombatModel(CombatModel combatModel) {
+        if (combatModel == null) {
+            throw new IllegalArgumentException("Combat model cannot be null.");
+        }
+        this.combatModel = combatModel;
+    }
+
+    /**
+     * Obtient le budget d'itérations d'une bataille.
+     *
+     * @return le nombre maximal d'itérations de la boucle de duels
+     */
+    public int getMaxBattleSteps() {
+        return maxBattleSteps;
+    }
+
+    /**
+     * Définit le budget d'itérations d'une bataille.
+     *
+     * @param maxBattleSteps le nombre maximal d'itérations de la boucle de duels
+     */
+    public void setMaxBattleSteps(int maxBattleSteps) {
+        if (maxBattleSteps <= 0) {
+            throw new IllegalArgumentException("Max battle steps must be positive.");
+        }
+        this.maxBattleSteps = maxBattleSteps;
+    }
+
+    /**
+     * Obtient le seuil de détection d'impasse.
+     *
+     * @return le nombre d'itérations consécutives sans dégâts toléré
+     */
+    public int getStallLimit() {
+        return stallLimit;
+    }
+
+    /**
+     * Définit le seuil de détection d'impasse.
+     *
+     * @param stallLimit le nombre d'itérations consécutives sans dégâts toléré
+     */
+    public void setStallLimit(int stallLimit) {
+        if (stallLimit <= 0) {
+            throw new IllegalArgumentException("Stall limit must be positive.");
+        }
+        this.stallLimit = stallLimit;
+    }
+
+    /**
+     * Obtient le bilan de la dernière bataille.
+     *
+     * @return le bilan, ou null si aucune bataille n'a encore été menée
+     */
+    public BattleReport getLastBattleReport() {
+        return lastBattleReport;
+    }
+
+    /**
+     * Indique si le déroulement de la guerre est affiché sur la console.
+     *
+     * @return true en mode verbeux
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Active ou désactive l'affichage console du déroulement de la guerre
+     * (déploiement, duels, retour des survivants, événements, tours des chefs).
+     *
+     * @param verbose false pour une exécution silencieuse
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Crée une réplique indépendante de la simulation, pour la rejouer avec un autre tirage.
+     * <p>
+     * Les lieux, leurs personnages, leurs aliments et les chefs de clan sont copiés :
+     * la réplique ne partage aucun état modifiable avec l'original. Le paramétrage
+     * (modèle de combat, budget, seuils, mode verbeux) est repris à l'identique et le
+     * générateur aléatoire de la réplique est initialisé avec la graine donnée.
+     * </p>
+     *
+     * @param seed la graine du générateur aléatoire de la réplique
+     * @return la réplique
+     */
+    public ClanWarSimulation copy(long seed) {
+        ClanWarSimulation copy = new ClanWarSimulation(name, maxPlaces);
+        copy.random = new SimulationRandom(seed);
+        copy.combatModel = combatModel;
+        copy.foodSpawner = foodSpawner;
+        copy.foodWheel.setSchedule(foodWheel.getSchedule());
+        copy.maxBattleSteps = maxBattleSteps;
+        copy.stallLimit = stallLimit;
+        copy.fastForwardThreshold = fastForwardThreshold;
+        copy.calibrationSampleSize = calibrationSampleSize;
+        copy.calibrationRuns = calibrationRuns;
+        copy.verbose = verbose;
+
+        Map<Place, Place> placeCopies = new IdentityHashMap<>();
+        for (Place place : places) {
+            Place placeCopy = place.copy();
+            placeCopy.setVerbose(place.isVerbose());
+            placeCopies.put(place, placeCopy);
+            copy.places.add(placeCopy);
+            copy.foodWheel.track(placeCopy);
+        }
+
+        copy.clan1Place = placeCopies.get(clan1Place);
+        copy.clan2Place = placeCopies.get(clan2Place);
+        copy.mainBattlefield = (Battlefield) placeCopies.get(mainBattlefield);
+        copy.clanLeader1 = copyLeader(clanLeader1, clan1Place, copy.clan1Place);
+        copy.clanLeader2 = copyLeader(clanLeader2, clan2Place, copy.clan2Place);
+        return copy;
+    }
+
+    /**
+     * Copie un chef de clan en le rattachant à la copie de son lieu. Si le chef est
+     * aussi le chef du lieu, c'est le chef déjà copié avec le lieu qui est repris.
+     */
+    private static ClanLeader copyLeader(ClanLeader leader, Place place, Place placeCopy) {
+        if (leader == null) {
+            return null;
+        }
+        if (place != null && place.getChief() == leader) {
+            return placeCopy.getChief();
+        }
+        return new ClanLeader(leader.getName(), leader.getGenre(), leader.getAge(), placeCopy);
+    }
+
+    /**
+     * Obtient la graine du flux aléatoire racine.
+     *
+     * @return la graine, pour rejouer la simulation
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Fixe la graine de la simulation. À graine égale et à configuration égale, deux
+     * exécutions donnent exactement les mêmes duels et les mêmes événements aléatoires.
+     *
+     * @param seed la graine du flux aléatoire racine
+     */
+    public void setSeed(long seed) {
+        this.random = new SimulationRandom(seed);
+        this.battleRound = 0;
+        this.modificationRound = 0;
+        this.spawnRound = 0;
+    }
+
+    /**
+     * Obtient le générateur des aliments qui apparaissent dans les lieux.
+     *
+     * @return le générateur d'aliments
+     */
+    public FoodSpawner getFoodSpawner() {
+        return foodSpawner;
+    }
+
+    /**
+     * Remplace le générateur des aliments qui apparaissent dans les lieux.
+     *
+     * @param foodSpawner le nouveau générateur
+     */
+    public void setFoodSpawner(FoodSpawner foodSpawner) {
+        if (foodSpawner == null) {
+            throw new IllegalArgumentException("Food spawner cannot be null.");
+        }
+        this.foodSpawner = foodSpawner;
+    }
+
+    /**
+     * Obtient les durées de vie des états de fraîcheur de la nourriture.
+     *
+     * @return le calendrier de fraîcheur
+     */
+    public FreshnessSchedule getFreshnessSchedule() {
+        return foodWheel.getSchedule();
+    }
+
+    /**
+     * Remplace les durées de vie des états de fraîcheur. Les aliments déjà en attente
+     * gardent leur échéance.
+     *
+     * @param schedule le nouveau calendrier
+     */
+    public void setFreshnessSchedule(FreshnessSchedule schedule) {
+        foodWheel.setSchedule(schedule);
+    }
+
+    /**
+     * Obtient le seuil d'estimation rapide.
+     *
+     * @return le nombre de combattants belliqueux au-delà duquel une bataille est estimée
+     */
+    public int getFastForwardThreshold() {
+        return fastForwardThreshold;
+    }
+
+    /**
+     * Définit le seuil d'estimation rapide.
+     *
+     * @param fastForwardThreshold le nombre de combattants belliqueux (les deux factions
+     *                             réunies) au-delà duquel une bataille est estimée
+     */
+    public void setFastForwardThreshold(int fastForwardThreshold) {
+        if (fastForwardThreshold <= 0) {
+            throw new IllegalArgumentException("Fast-forward threshold must be positive.");
+        }
+        this.fastForwardThreshold = fastForwardThreshold;
+    }
+
+    /**
+     * Définit l'étalonnage de l'estimation rapide, fait au début de chaque bataille estimée.
+     *
+     * @param sampleSize la taille de la plus grande armée échantillonnée
+     * @param runs le nombre de batailles d'étalonnage
+     */
+    public void setFastForwardCalibration(int sampleSize, int runs) {
+        if (sampleSize <= 0 || runs <= 0) {
+            throw new IllegalArgumentException("Calibration sample size and runs must be positive.");
+        }
+        this.calibrationSampleSize = sampleSize;
+        this.calibrationRuns = runs;
+    }
+
     /**
      * Configure le premier clan.
      *
@@ -143,18 +497,19 @@ public class ClanWarSimulation {
      */
     public boolean addPlace(Place place) {
         if (place == null) {
-            System.out.println("Impossible d'ajouter un lieu null");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.WARN, "Impossible d'ajouter un lieu null");
             return false;
         }
 
         if (places.size() >= maxPlaces) {
-            System.out.println("La simulation est pleine ! Impossible d'ajouter plus de lieux.");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.WARN, "La simulation est pleine ! Impossible d'ajouter plus de lieux.");
             return false;
         }
 
         if (!places.contains(place)) {
             places.add(place);
-            System.out.println("Lieu '" + place.getName() + "' ajouté à la simulation.");
+            foodWheel.track(place);
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Lieu '{}' ajouté à la simulation.", place.getName());
             return true;
         }
         return false;
@@ -186,6 +541,7 @@ public class ClanWarSimulation {
      * Affiche l'état actuel de la simulation.
      */
     public void displayStatus() {
+        SimulationLog.flush();
         System.out.println("\n╔════════════════════════════════════════════════════════╗");
         System.out.println("║  ÉTAT DE LA SIMULATION DE GUERRE ENTRE CLANS          ║");
         System.out.println("╚════════════════════════════════════════════════════════╝");
@@ -238,10 +594,10 @@ public class ClanWarSimulation {
      * Transfert tous les guerriers vivants vers le champ de bataille.
      */
     public void deployWarriorsToBattlefield() {
-        System.out.println("\n=== DÉPLOIEMENT DES GUERRIERS SUR LE CHAMP DE BATAILLE ===");
+        log("\n=== DÉPLOIEMENT DES GUERRIERS SUR LE CHAMP DE BATAILLE ===");
 
         if (mainBattlefield == null) {
-            System.out.println("Erreur : Aucun champ de bataille configuré !");
+            log("Erreur : Aucun champ de bataille configuré !");
             return;
         }
 
@@ -252,7 +608,7 @@ public class ClanWarSimulation {
                 if (!warrior.isDead()) {
                     clan1Place.removeCharacter(warrior);
                     mainBattlefield.addCharacter(warrior);
-                    System.out.println(warrior.getName() + " (Clan 1) déployé sur le champ de bataille");
+                    log(warrior.getName() + " (Clan 1) déployé sur le champ de bataille");
                 }
             }
         }
@@ -264,124 +620,322 @@ public class ClanWarSimulation {
                 if (!warrior.isDead()) {
                     clan2Place.removeCharacter(warrior);
                     mainBattlefield.addCharacter(warrior);
-                    System.out.println(warrior.getName() + " (Clan 2) déployé sur le champ de bataille");
+                    log(warrior.getName() + " (Clan 2) déployé sur le champ de bataille");
                 }
             }
         }
 
-        System.out.println("Total de combattants sur le champ de bataille : " + mainBattlefield.getNumberOfCharacters());
+        log("Total de combattants sur le champ de bataille : " + mainBattlefield.getNumberOfCharacters());
     }
 
     /**
      * Organise un combat sur le champ de bataille.
+     * <p>
+     * Seuls les combattants vivants et belliqueux entrent dans les effectifs tirés au
+     * sort. La boucle de duels s'arrête dès qu'une faction est éliminée, lorsque le
+     * budget d'itérations ({@link #setMaxBattleSteps(int)}) est épuisé, ou lorsque
+     * {@link #setStallLimit(int) trop d'itérations consécutives} n'ont infligé aucun dégât.
+     * </p>
+     * <p>
+     * Au-delà de {@link #setFastForwardThreshold(int) un certain nombre de combattants},
+     * la bataille n'est pas simulée duel par duel : son issue est estimée par la loi de
+     * Lanchester (voir {@link LanchesterEstimator}) puis appliquée aux combattants.
+     * </p>
+     *
+     * @return le bilan de la bataille (également disponible via {@link #getLastBattleReport()})
      */
-    public void conductBattle() {
-        System.out.println("\n╔════════════════════════════════════════════════════════╗");
-        System.out.println("║              DÉBUT DU COMBAT                          ║");
-        System.out.println("╚════════════════════════════════════════════════════════╝");
+    public BattleReport conductBattle() {
+        log("\n╔════════════════════════════════════════════════════════╗");
+        log("║              DÉBUT DU COMBAT                          ║");
+        log("╚════════════════════════════════════════════════════════╝");
 
         if (mainBattlefield == null) {
-            System.out.println("Erreur : Aucun champ de bataille configuré !");
-            return;
+            log("Erreur : Aucun champ de bataille configuré !");
+            return recordBattle(BattleReport.noBattle(0, 0));
         }
 
         List<GameCharacter> fighters = mainBattlefield.getCharacters();
 
         if (fighters.size() < 2) {
-            System.out.println("Pas assez de combattants pour organiser un combat.");
-            return;
+            log("Pas assez de combattants pour organiser un combat.");
+            return recordBattle(BattleReport.noBattle(fighters.size(), 0));
         }
 
-        // Séparer les combattants par faction
-        List<GameCharacter> faction1 = new ArrayList<>();
-        List<GameCharacter> faction2 = new ArrayList<>();
-        String firstFaction = null;
+        // Séparer les combattants vivants par faction ; seuls les belliqueux
+        // peuvent être tirés au sort pour un duel
+        AliveRoster faction1 = new AliveRoster(fighters.size());
+        AliveRoster faction2 = new AliveRoster(fighters.size());
+        int alive1 = 0;
+        int alive2 = 0;
+        int firstFaction = -1;
 
         for (GameCharacter fighter : fighters) {
-            if (!fighter.isDead()) {
-                if (firstFaction == null) {
-                    firstFaction = fighter.getFaction();
-                    faction1.add(fighter);
-                } else if (fighter.getFaction().equals(firstFaction)) {
-                    faction1.add(fighter);
-                } else {
-                    faction2.add(fighter);
-                }
+            if (fighter.isDead()) continue;
+
+            if (firstFaction < 0) {
+                firstFaction = fighter.getFactionId();
+            }
+            boolean inFirstFaction = fighter.getFactionId() == firstFaction;
+            if (inFirstFaction) {
+                alive1++;
+            } else {
+                alive2++;
+            }
+            if (fighter.isBelligerent()) {
+                (inFirstFaction ? faction1 : faction2).add(fighter);
             }
         }
 
-        System.out.println("\nFaction 1 (" + (firstFaction != null ? firstFaction : "Inconnu") + ") : " + faction1.size() + " combattants");
-        System.out.println("Faction 2 : " + faction2.size() + " combattants");
+        log("\nFaction 1 (" + (firstFaction > FactionRegistry.NONE ? FactionRegistry.nameOf(firstFaction) : "Inconnu") + ") : " + faction1.size() + " combattants");
+        log("Faction 2 : " + faction2.size() + " combattants");
+
+        if (alive1 == 0 || alive2 == 0) {
+            log("Pas d'adversaires : aucune bataille.");
+            return recordBattle(BattleReport.noBattle(alive1, alive2));
+        }
+
+        SimulationRandom battleRandom = random.child("bataille").child(battleRound++);
+        BattleReport report;
+        if (faction1.size() + faction2.size() > fastForwardThreshold) {
+            report = fastForward(faction1, faction2, alive1, alive2, battleRandom);
+        } else {
+            report = runDuels(faction1, faction2, alive1, alive2,
+                    verbose && SimulationLog.isEnabled(LogCategory.COMBAT, LogLevel.INFO), battleRandom);
+        }
+
+        // Nettoyer les morts du champ de bataille
+        mainBattlefield.removeDeadCharacters();
+
+        log("\nBilan : " + report);
+
+        log("\n╔════════════════════════════════════════════════════════╗");
+        log("║              FIN DU COMBAT                            ║");
+        log("╚════════════════════════════════════════════════════════╝");
+        return recordBattle(report);
+    }
+
+    /**
+     * Boucle de duels : à chaque itération, un combattant de chaque faction est tiré
+     * au sort et ils échangent leurs coups. Seuls les deux duellistes peuvent mourir,
+     * ils sont retirés de leur effectif en O(1).
+     *
+     * @param faction1 les combattants belliqueux de la première faction
+     * @param faction2 les combattants belliqueux de la seconde faction
+     * @param alive1 le nombre de combattants vivants de la première faction
+     * @param alive2 le nombre de combattants vivants de la seconde faction
+     * @param trace true pour journaliser le détail de chaque duel
+     * @param battleRandom le flux aléatoire de la bataille
+     * @return le bilan de la bataille
+     */
+    private BattleReport runDuels(AliveRoster faction1, AliveRoster faction2, int alive1, int alive2,
+                                  boolean trace, Random battleRandom) {
+        long iterations = 0;
+        long wastedIterations = 0;
+        int stalledIterations = 0;
+        BattleOutcome outcome = null;
 
-        // Combat tour par tour
         while (!faction1.isEmpty() && !faction2.isEmpty()) {
-            GameCharacter fighter1 = faction1.get(random.nextInt(faction1.size()));
-            GameCharacter fighter2 = faction2.get(random.nextInt(faction2.size()));
+            if (iterations >= maxBattleSteps) {
+                outcome = BattleOutcome.STEP_BUDGET_EXHAUSTED;
+                break;
+            }
+            iterations++;
 
-            if (!fighter1.isDead() && !fighter2.isDead() && fighter1.isBelligerent() && fighter2.isBelligerent()) {
-                // Store health before combat
-                int fighter1HealthBefore = fighter1.getHealth();
-                int fighter2HealthBefore = fighter2.getHealth();
+            GameCharacter fighter1 = faction1.pickRandom(battleRandom);
+            GameCharacter fighter2 = faction2.pickRandom(battleRandom);
 
-                System.out.println("\n⚔ COMBAT: " + fighter1.getName() + " (" + fighter1.getFaction() + ") vs " +
-                                 fighter2.getName() + " (" + fighter2.getFaction() + ")");
-                System.out.println("  Before: " + fighter1.getName() + " [HP: " + fighter1HealthBefore + "] | " +
-                                 fighter2.getName() + " [HP: " + fighter2HealthBefore + "]");
+            // Store health before combat
+            int fighter1HealthBefore = fighter1.getHealth();
+            int fighter2HealthBefore = fighter2.getHealth();
 
-                fighter1.fight(fighter2);
+            if (trace) {
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "\n⚔ COMBAT: {} ({}) vs {} ({})",
+                        fighter1.getName(), fighter1.getFaction(), fighter2.getName(), fighter2.getFaction());
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "  Before: {} [HP: {}] | {} [HP: {}]",
+                        fighter1.getName(), fighter1HealthBefore, fighter2.getName(), fighter2HealthBefore);
+            }
 
-                // Calculate and display damage
-                int damageToFighter2 = fighter2HealthBefore - fighter2.getHealth();
-                int damageToFighter1 = fighter1HealthBefore - fighter1.getHealth();
+            combatModel.resolve(fighter1, fighter2);
 
-                System.out.println("  Damage: " + fighter1.getName() + " dealt " + damageToFighter2 + " damage | " +
-                                 fighter2.getName() + " dealt " + damageToFighter1 + " damage");
-                System.out.println("  After:  " + fighter1.getName() + " [HP: " + fighter1.getHealth() + "] | " +
-                                 fighter2.getName() + " [HP: " + fighter2.getHealth() + "]");
+            // Calculate and display damage
+            int damageToFighter2 = fighter2HealthBefore - fighter2.getHealth();
+            int damageToFighter1 = fighter1HealthBefore - fighter1.getHealth();
 
-                if (fighter2.isDead()) {
-                    System.out.println("  💀 " + fighter2.getName() + " est tombé au combat !");
-                    faction2.remove(fighter2);
-                }
-                if (fighter1.isDead()) {
-                    System.out.println("  💀 " + fighter1.getName() + " est tombé au combat !");
-                    faction1.remove(fighter1);
+            if (trace) {
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "  Damage: {} dealt {} damage | {} dealt {} damage",
+                        fighter1.getName(), damageToFighter2, fighter2.getName(), damageToFighter1);
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "  After:  {} [HP: {}] | {} [HP: {}]",
+                        fighter1.getName(), fighter1.getHealth(), fighter2.getName(), fighter2.getHealth());
+            }
+
+            if (fighter2.isDead()) {
+                if (trace) SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "  💀 {} est tombé au combat !", fighter2.getName());
+                faction2.remove(fighter2);
+                alive2--;
+            }
+            if (fighter1.isDead()) {
+                if (trace) SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "  💀 {} est tombé au combat !", fighter1.getName());
+                faction1.remove(fighter1);
+                alive1--;
+            }
+
+            // Détection d'impasse : trop d'échanges consécutifs sans aucun dégât
+            if (damageToFighter1 == 0 && damageToFighter2 == 0) {
+                wastedIterations++;
+                if (++stalledIterations >= stallLimit) {
+                    outcome = BattleOutcome.STALEMATE;
+                    break;
                 }
+            } else {
+                stalledIterations = 0;
             }
+        }
 
-            // Retirer les morts des listes
-            faction1.removeIf(GameCharacter::isDead);
-            faction2.removeIf(GameCharacter::isDead);
+        if (outcome == null) {
+            if (alive2 == 0) {
+                outcome = BattleOutcome.FACTION1_VICTORY;
+            } else if (alive1 == 0) {
+                outcome = BattleOutcome.FACTION2_VICTORY;
+            } else {
+                // Les survivants restants refusent le combat
+                outcome = BattleOutcome.STALEMATE;
+            }
         }
 
-        // Nettoyer les morts du champ de bataille
-        mainBattlefield.removeDeadCharacters();
+        return new BattleReport(outcome, iterations, wastedIterations, alive1, alive2);
+    }
 
-        System.out.println("\n╔════════════════════════════════════════════════════════╗");
-        System.out.println("║              FIN DU COMBAT                            ║");
-        System.out.println("╚════════════════════════════════════════════════════════╝");
+    /**
+     * Estime l'issue de la bataille par la loi de Lanchester et l'applique : tous les
+     * combattants belliqueux du perdant tombent, le vainqueur perd le nombre de
+     * combattants prédit (tirés au sort) et ses survivants gardent la part de points de
+     * vie prédite.
+     * <p>
+     * Les facteurs correctifs dépendent de la composition des armées (effectifs relatifs,
+     * force, points de vie, potion) : un estimateur est donc étalonné pour chaque bataille,
+     * sur des copies de ses propres combattants, plutôt que réutilisé d'une bataille à
+     * l'autre. L'étalonnage coûte {@code calibrationRuns} petites batailles d'au plus
+     * {@code calibrationSampleSize} combattants par camp, peu de chose face à une bataille
+     * assez grande pour être estimée.
+     * </p>
+     */
+    private BattleReport fastForward(AliveRoster faction1, AliveRoster faction2, int alive1, int alive2,
+                                     Random battleRandom) {
+        LanchesterEstimator estimator = new LanchesterEstimator(combatModel);
+        calibrateFastForward(estimator, faction1, faction2, battleRandom);
+
+        LanchesterEstimator.Prediction prediction = estimator.predict(
+                LanchesterEstimator.FactionAggregate.of(faction1),
+                LanchesterEstimator.FactionAggregate.of(faction2));
+
+        log("\nArmées trop nombreuses pour un combat duel par duel : issue estimée (Lanchester).");
+
+        if (prediction.getWinner() == 0) {
+            return new BattleReport(BattleOutcome.STALEMATE, 0, 0, alive1, alive2, prediction.getEstimatedError());
+        }
+
+        boolean faction1Wins = prediction.getWinner() == 1;
+        AliveRoster winner = faction1Wins ? faction1 : faction2;
+        AliveRoster loser = faction1Wins ? faction2 : faction1;
+        int winnerSurvivors = faction1Wins ? prediction.getFaction1Survivors() : prediction.getFaction2Survivors();
+        int loserCasualties = loser.size();
+
+        while (!loser.isEmpty()) {
+            GameCharacter fallen = loser.get(loser.size() - 1);
+            fallen.setHealth(0);
+            loser.remove(fallen);
+        }
+
+        int winnerCasualties = winner.size() - winnerSurvivors;
+        for (int i = 0; i < winnerCasualties; i++) {
+            GameCharacter fallen = winner.pickRandom(battleRandom);
+            fallen.setHealth(0);
+            winner.remove(fallen);
+        }
+
+        // La réserve de points de vie restante est répartie sur les survivants
+        double healthScale = Math.min(1.0, prediction.getWinnerHealthFraction()
+                * (winner.size() + winnerCasualties) / Math.max(1, winner.size()));
+        for (int i = 0; i < winner.size(); i++) {
+            GameCharacter survivor = winner.get(i);
+            survivor.setHealth(Math.max(1, (int) Math.round(survivor.getHealth() * healthScale)));
+        }
+
+        return new BattleReport(faction1Wins ? BattleOutcome.FACTION1_VICTORY : BattleOutcome.FACTION2_VICTORY,
+                prediction.getIterations(), 0,
+                faction1Wins ? alive1 - winnerCasualties : alive1 - loserCasualties,
+                faction1Wins ? alive2 - loserCasualties : alive2 - winnerCasualties,
+                prediction.getEstimatedError());
+    }
+
+    /**
+     * Étalonne l'estimateur sur de petites armées tirées au sort dans les deux factions,
+     * dans les mêmes proportions, et combattant duel par duel sur des copies.
+     */
+    private void calibrateFastForward(LanchesterEstimator estimator, AliveRoster faction1, AliveRoster faction2,
+                                      Random battleRandom) {
+        int largest = Math.max(faction1.size(), faction2.size());
+        int sample1 = Math.max(1, (int) ((long) calibrationSampleSize * faction1.size() / largest));
+        int sample2 = Math.max(1, (int) ((long) calibrationSampleSize * faction2.size() / largest));
+
+        for (int run = 0; run < calibrationRuns; run++) {
+            AliveRoster copy1 = sampleCopies(faction1, sample1, battleRandom);
+            AliveRoster copy2 = sampleCopies(faction2, sample2, battleRandom);
+            LanchesterEstimator.FactionAggregate aggregate1 = LanchesterEstimator.FactionAggregate.of(copy1);
+            LanchesterEstimator.FactionAggregate aggregate2 = LanchesterEstimator.FactionAggregate.of(copy2);
+
+            BattleReport actual = runDuels(copy1, copy2, copy1.size(), copy2.size(), false, battleRandom);
+            estimator.calibrate(aggregate1, aggregate2, actual.getIterations(),
+                    actual.getFaction1Survivors(), actual.getFaction2Survivors());
+        }
+    }
+
+    /**
+     * Tire au sort des combattants et en crée des copies indépendantes.
+     */
+    private AliveRoster sampleCopies(AliveRoster roster, int count, Random battleRandom) {
+        AliveRoster copies = new AliveRoster(count);
+        for (int i = 0; i < count; i++) {
+            GameCharacter original = roster.pickRandom(battleRandom);
+            copies.add(new GameCharacter(original.getName(), original.getGenre(), original.getFaction(),
+                    original.getHeight(), original.getAge(), original.getStrength(), original.getEndurance(),
+                    original.getHealth(), original.getHunger(), original.getBelligerence(), original.getMagicpotion()));
+        }
+        return copies;
+    }
+
+    /**
+     * Mémorise le bilan de la dernière bataille.
+     *
+     * @param report le bilan
+     * @return le même bilan
+     */
+    private BattleReport recordBattle(BattleReport report) {
+        this.lastBattleReport = report;
+        return report;
     }
 
     /**
      * Ramène les survivants dans leur lieu d'origine.
      */
     public void returnSurvivors() {
-        System.out.println("\n=== RETOUR DES SURVIVANTS ===");
+        log("\n=== RETOUR DES SURVIVANTS ===");
 
         if (mainBattlefield == null) return;
 
         List<GameCharacter> survivors = new ArrayList<>(mainBattlefield.getCharacters());
 
+        // Faction du clan 1 (celle de son premier personnage), qui ne change pas pendant le retour
+        int clan1Faction = clan1Place != null && !clan1Place.getCharacters().isEmpty()
+                ? clan1Place.getCharacters().get(0).getFactionId() : -1;
+
         for (GameCharacter survivor : survivors) {
             if (!survivor.isDead()) {
                 // Déterminer le clan d'origine par la faction
                 Place originPlace = null;
 
-                if (clan1Place != null && !clan1Place.getCharacters().isEmpty()) {
-                    String clan1Faction = clan1Place.getCharacters().get(0).getFaction();
-                    if (survivor.getFaction().equals(clan1Faction)) {
-                        originPlace = clan1Place;
-                    }
+                if (survivor.getFactionId() == clan1Faction) {
+                    originPlace = clan1Place;
                 }
 
                 if (originPlace == null && clan2Place != null) {
@@ -391,7 +945,7 @@ public class ClanWarSimulation {
                 if (originPlace != null) {
                     mainBattlefield.removeCharacter(survivor);
                     originPlace.addCharacter(survivor);
-                    System.out.println(survivor.getName() + " retourne à " + originPlace.getName());
+                    log(survivor.getName() + " retourne à " + originPlace.getName());
                 }
             }
         }
@@ -401,72 +955,60 @@ public class ClanWarSimulation {
      * Modifie aléatoirement l'état des personnages.
      */
     public void randomlyModifyCharacters() {
-        System.out.println("\n=== MODIFICATIONS ALÉATOIRES DES PERSONNAGES ===");
+        log("\n=== MODIFICATIONS ALÉATOIRES DES PERSONNAGES ===");
 
-        for (Place place : places) {
+        SimulationRandom round = random.child("modifications").child(modificationRound++);
+        for (int index = 0; index < places.size(); index++) {
+            Place place = places.get(index);
+            SimulationRandom placeRandom = round.child(index);
             for (GameCharacter character : place.getCharacters()) {
                 if (character.isDead()) continue;
 
                 // Diminution de la faim
-                if (random.nextDouble() < 0.4) {
-                    int hungerDecrease = random.nextInt(15) + 5;
+                if (placeRandom.nextDouble() < 0.4) {
+                    int hungerDecrease = placeRandom.nextInt(15) + 5;
                     character.setHunger(Math.max(0, character.getHunger() - hungerDecrease));
-                    System.out.println(character.getName() + " a faim (-" + hungerDecrease + " faim)");
+                    log(new CharacterChanged(SimulationEvent.Change.HUNGER, character.getName(), hungerDecrease));
 
                     // Si trop faible faim, perte de santé
                     if (character.getHunger() < 30) {
                         int healthLoss = 10;
                         character.setHealth(Math.max(0, character.getHealth() - healthLoss));
-                        System.out.println("  " + character.getName() + " souffre de la faim (-" + healthLoss + " PV)");
+                        log(new CharacterChanged(SimulationEvent.Change.STARVATION, character.getName(), healthLoss));
                     }
                 }
 
                 // Diminution de la potion magique
-                if (random.nextDouble() < 0.3 && character.getMagicpotion() > 0) {
-                    int potionDecrease = random.nextInt(2) + 1;
+                if (placeRandom.nextDouble() < 0.3 && character.getMagicpotion() > 0) {
+                    int potionDecrease = placeRandom.nextInt(2) + 1;
                     character.setMagicpotion(Math.max(0, character.getMagicpotion() - potionDecrease));
-                    System.out.println(character.getName() + " : effet de potion diminue (-" + potionDecrease + ")");
+                    log(new CharacterChanged(SimulationEvent.Change.POTION_WEAR_OFF, character.getName(), potionDecrease));
                 }
             }
         }
     }
 
     /**
-     * Fait apparaître de la nourriture dans les lieux (pas sur le champ de bataille).
+     * Fait apparaître de la nourriture dans les lieux (pas sur le champ de bataille),
+     * selon les poids du type de chaque lieu (voir {@link #getFoodSpawner()}).
      */
     public void spawnFood() {
-        System.out.println("\n=== APPARITION DE NOURRITURE ===");
+        log("\n=== APPARITION DE NOURRITURE ===");
 
-        for (Place place : places) {
-            if (!(place instanceof Battlefield) && random.nextDouble() < 0.5) {
-                Foods[] foodTypes = Foods.values();
-                Foods randomFoodType = foodTypes[random.nextInt(foodTypes.length)];
-                Food newFood = new Food(randomFoodType, Freshness.FRESH);
-
-                place.addFood(newFood);
-                System.out.println(randomFoodType.getLabel() + " frais apparu à " + place.getName());
-            }
-        }
+        SimulationRandom round = random.child("nourriture").child(spawnRound++);
+        foodSpawner.spawnAll(places, 0.5, round, (place, food) ->
+                log(new SimulationEvent.FoodSpawned(place.getName(), food)));
     }
 
     /**
-     * Dégrade la nourriture (frais → pas frais).
+     * Avance d'un intervalle la dégradation de la nourriture (frais → pas frais) : seuls
+     * les lots dont la fraîcheur change à cet intervalle sont touchés.
      */
     public void degradeFood() {
-        System.out.println("\n=== DÉGRADATION DE LA NOURRITURE ===");
+        log("\n=== DÉGRADATION DE LA NOURRITURE ===");
 
-        for (Place place : places) {
-            for (Food food : place.getFoods()) {
-                Freshness oldFreshness = food.getFreshness();
-                food.degrade();
-                Freshness newFreshness = food.getFreshness();
-
-                if (oldFreshness != newFreshness) {
-                    System.out.println("Nourriture à " + place.getName() + " dégradée : " +
-                                     oldFreshness.getLabel() + " → " + newFreshness.getLabel());
-                }
-            }
-        }
+        foodWheel.advance((place, food, from, to, count) ->
+                log(new SimulationEvent.FoodDegraded(place.getName(), food, from, to, count)));
     }
 
     /**
@@ -477,79 +1019,59 @@ public class ClanWarSimulation {
      * @param maxActions le nombre maximal d'actions
      */
     public void giveClanLeaderControl(ClanLeader leader, Scanner scanner, int maxActions) {
-        System.out.println("\n╔════════════════════════════════════════════════════════╗");
-        System.out.println("║  TOUR DU CHEF DE CLAN : " + leader.getName() + "                    ");
-        System.out.println("╚════════════════════════════════════════════════════════╝");
+        giveClanLeaderControl(leader, ClanLeaderPolicy.interactive(scanner), maxActions);
+    }
+
+    /**
+     * Donne le contrôle à un chef de clan, dont les décisions sont prises par une stratégie.
+     *
+     * @param leader le chef de clan
+     * @param policy la stratégie qui choisit les actions du chef
+     * @param maxActions le nombre maximal d'actions
+     * @return le nombre d'actions effectuées
+     */
+    public int giveClanLeaderControl(ClanLeader leader, ClanLeaderPolicy policy, int maxActions) {
+        log("\n╔════════════════════════════════════════════════════════╗");
+        log("║  TOUR DU CHEF DE CLAN : " + leader.getName() + "                    ");
+        log("╚════════════════════════════════════════════════════════╝");
 
         if (leader.getPlace() == null) {
-            System.out.println(leader.getName() + " n'a pas de lieu à gérer.");
-            return;
+            log(leader.getName() + " n'a pas de lieu à gérer.");
+            return 0;
         }
 
         Place place = leader.getPlace();
-        place.display();
+        if (verbose) place.display();
 
         int actionsPerformed = 0;
 
         while (actionsPerformed < maxActions) {
-            System.out.println("\n--- Action " + (actionsPerformed + 1) + "/" + maxActions + " ---");
-            System.out.println("1. Soigner l'équipe");
-            System.out.println("2. Nourrir l'équipe");
-            System.out.println("3. Examiner le lieu");
-            System.out.println("4. Passer le tour");
-            System.out.print("Choisissez une action : ");
-
-            if (!scanner.hasNextInt()) {
-                scanner.next();
-                System.out.println("Entrée invalide. Veuillez entrer un nombre.");
-                continue;
-            }
-
-            int choice = scanner.nextInt();
-            scanner.nextLine();
-
-            switch (choice) {
-                case 1:
-                    if (!place.getCharacters().isEmpty()) {
-                        place.healAll(20);
-                        System.out.println("✓ Équipe soignée !");
-                    } else {
-                        System.out.println("Aucun personnage à soigner.");
-                    }
-                    actionsPerformed++;
-                    break;
-
-                case 2:
-                    if (!place.getCharacters().isEmpty() && !place.getFoods().isEmpty()) {
-                        place.feedAll();
-                        System.out.println("✓ Équipe nourrie !");
-                    } else {
-                        System.out.println("Pas de personnages ou pas de nourriture disponible.");
-                    }
-                    actionsPerformed++;
-                    break;
-
-                case 3:
-                    leader.examinePlace();
-                    actionsPerformed++;
-                    break;
+            log("\n--- Action " + (actionsPerformed + 1) + "/" + maxActions + " ---");
 
-                case 4:
-                    System.out.println(leader.getName() + " passe les actions restantes.");
-                    return;
+            LeaderAction action = policy.chooseAction(leader, place, actionsPerformed + 1, maxActions);
+            if (action == LeaderAction.PASS) {
+                log(leader.getName() + " passe les actions restantes.");
+                return actionsPerformed;
+            }
 
-                default:
-                    System.out.println("Choix invalide. Réessayez.");
+            boolean applied = action.apply(leader, place);
+            if (action == LeaderAction.HEAL) {
+                log(applied ? "✓ Équipe soignée !" : "Aucun personnage à soigner.");
+            } else if (action == LeaderAction.FEED) {
+                log(applied ? "✓ Équipe nourrie !" : "Pas de personnages ou pas de nourriture disponible.");
             }
+            actionsPerformed++;
         }
 
-        System.out.println("\n" + leader.getName() + " a utilisé toutes ses actions.");
+        log("\n" + leader.getName() + " a utilisé toutes ses actions.");
+        return actionsPerformed;
     }
 
     /**
      * Affiche les résultats finaux de la guerre.
      */
     public void displayFinalResults() {
+        SimulationLog.flush();
         System.out.println("\n╔════════════════════════════════════════════════════════╗");
         System.out.println("║           RÉSULTATS FINAUX DE LA GUERRE               ║");
         System.out.println("╚════════════════════════════════════════════════════════╝");
@@ -610,6 +1132,7 @@ public class ClanWarSimulation {
      * @param scanner le scanner pour les entrées utilisateur
      */
     public void runSimulation(int rounds, Scanner scanner) {
+        SimulationLog.flush();
         System.out.println("\n╔════════════════════════════════════════════════════════╗");
         System.out.println("║    DÉBUT DE LA SIMULATION DE GUERRE ENTRE CLANS       ║");
         System.out.println("║    Simulation : " + name + "                           ");
@@ -629,37 +1152,14 @@ public class ClanWarSimulation {
 
         displayStatus();
 
+        PhasePipeline pipeline = createPipeline(ClanLeaderPolicy.interactive(scanner), 2);
+
         for (int round = 1; round <= rounds; round++) {
             System.out.println("\n╔════════════════════════════════════════════════════════╗");
             System.out.println("║        TOUR " + round + " / " + rounds + "                                    ║");
             System.out.println("╚════════════════════════════════════════════════════════╝");
 
-            // Déployer les guerriers sur le champ de bataille
-            deployWarriorsToBattlefield();
-
-            // Combat
-            conductBattle();
-
-            // Ramener les survivants
-            returnSurvivors();
-
-            // Modifications aléatoires
-            randomlyModifyCharacters();
-
-            // Apparition de nourriture
-            spawnFood();
-
-            // Dégradation de nourriture
-            degradeFood();
-
-            // Donner le contrôle aux chefs de clan
-            if (clanLeader1 != null) {
-                giveClanLeaderControl(clanLeader1, scanner, 2);
-            }
-
-            if (clanLeader2 != null) {
-                giveClanLeaderControl(clanLeader2, scanner, 2);
-            }
+            pipeline.runRound(round);
 
             System.out.println("\n--- Fin du tour " + round + " ---");
 
@@ -675,6 +1175,37 @@ public class ClanWarSimulation {
         System.out.println("\n╔════════════════════════════════════════════════════════╗");
         System.out.println("║         SIMULATION TERMINÉE                            ║");
         System.out.println("╚════════════════════════════════════════════════════════╝");
+        System.out.println("\nDurée des phases :");
+        System.out.print(pipeline.getTimingReport());
+    }
+
+    /**
+     * Construit le pipeline d'un tour : déploiement, bataille, retour des survivants,
+     * modifications aléatoires, apparition puis dégradation de la nourriture, et tour
+     * des deux chefs de clan.
+     *
+     * @param policy la stratégie des chefs de clan
+     * @param maxActions le nombre maximal d'actions par chef
+     * @return le pipeline, dont les phases peuvent être désactivées ou remplacées
+     */
+    public PhasePipeline createPipeline(ClanLeaderPolicy policy, int maxActions) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Clan leader policy cannot be null.");
+        }
+        return new PhasePipeline()
+                .addPhase(PHASE_DEPLOYMENT, round -> deployWarriorsToBattlefield())
+                .addPhase(InvasionTheater.PHASE_BATTLES, round -> conductBattle())
+                .addPhase(PHASE_RETURN, round -> returnSurvivors())
+                .addPhase(InvasionTheater.PHASE_STATE_CHANGES, round -> randomlyModifyCharacters())
+                .addPhase(InvasionTheater.PHASE_FOOD_SPAWN, round -> spawnFood())
+                .addPhase(InvasionTheater.PHASE_FOOD_DEGRADATION, round -> degradeFood())
+                .addPhase(InvasionTheater.PHASE_LEADERS, round -> {
+                    for (ClanLeader leader : new ClanLeader[] {clanLeader1, clanLeader2}) {
+                        if (leader != null) {
+                            round.addLeaderActions(giveClanLeaderControl(leader, policy, maxActions));
+                        }
+                    }
+                });
     }
 
     /**
@@ -698,5 +1229,27 @@ public class ClanWarSimulation {
     public List<Place> getPlaces() {
         return new ArrayList<>(places);
     }
-}
 
+    /**
+     * Journalise un message si la simulation est en mode verbeux.
+     *
+     * @param message le message à journaliser
+     */
+    private void log(String message) {
+        if (verbose) {
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, message);
+        }
+    }
+
+    /**
+     * Journalise un événement si la simulation est en mode verbeux ; son texte n'est
+     * construit que par le fil d'écriture du journal.
+     *
+     * @param event l'événement à journaliser
+     */
+    private void log(SimulationEvent event) {
+        if (verbose) {
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, event);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.PackAndAlpha.Pack;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
+import org.example.envahissementarmorique.model.event.EventScheduler;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.random.BernoulliSkipSampler;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moteur à événements discrets des phases aléatoires d'un {@link InvasionTheater}
+ * (modifications des personnages, vieillissement des lycanthropes des meutes et
+ * apparition de nourriture ; la dégradation de la nourriture passe par une
+ * {@link FoodDegradationWheel} dans les deux modes).
+ * <p>
+ * Au lieu de tirer chaque intervalle un nombre aléatoire par personnage et par effet,
+ * le moteur programme la prochaine occurrence de chaque événement de la
+ * {@link CharacterEventTable} et de chaque apparition de nourriture à une date tirée
+ * selon une loi géométrique de même probabilité par intervalle. À chaque intervalle,
+ * seules les entités dont un événement est échu sont touchées : le coût suit le nombre
+ * d'événements, pas la population.
+ * </p>
+ * <p>
+ * Les personnages ajoutés ou retirés hors du moteur sont repérés par le compteur de
+ * modifications de chaque lieu ({@link Place#getModificationCount()}), qui change même
+ * quand un départ et une arrivée laissent le nombre de personnages intact ; un
+ * personnage mort est abandonné à l'échéance de son événement suivant, sans être
+ * reprogrammé.
+ * </p>
+ * <p>
+ * Chaque membre d'une meute du théâtre vieillit une fois par période, la première fois
+ * une période après son arrivée dans le moteur. Les meutes sont suivies de la même
+ * façon que les lieux ({@link Pack#getModificationCount()}) ; un lycanthrope redevenu
+ * humain ou sorti des meutes du théâtre cesse de vieillir à son échéance suivante.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class EventDrivenEngine {
+
+    /** Lieux du théâtre (liste vivante). */
+    private final List<Place> places;
+
+    /** Meutes du théâtre (liste vivante). */
+    private final List<Pack> packs;
+
+    /** Période du vieillissement des lycanthropes, en intervalles. */
+    private final long ageingPeriod;
+
+    /** Événements aléatoires des personnages. */
+    private final CharacterEventTable table;
+
+    /** Flux aléatoire des événements. */
+    private final SimulationRandom random;
+
+    /** Choix des aliments qui apparaissent. */
+    private final FoodSpawner foodSpawner;
+
+    /** Échantillonneur des apparitions de nourriture. */
+    private final BernoulliSkipSampler spawnSampler = new BernoulliSkipSampler(InvasionTheater.FOOD_SPAWN_PROBABILITY);
+
+    /** Événements des personnages (faim, potion, blessures, vieillissement). */
+    private final EventScheduler characterEvents = new EventScheduler();
+
+    /** Événements d'apparition de nourriture. */
+    private final EventScheduler spawnEvents = new EventScheduler();
+
+    /** Personnages suivis, y compris les morts encore présents dans un lieu. */
+    private final Map<GameCharacter, TrackedCharacter> trackedCharacters = new IdentityHashMap<>();
+
+    /** Lieux dont l'apparition de nourriture est programmée. */
+    private final Map<Place, EventScheduler.Event> trackedPlaces = new IdentityHashMap<>();
+
+    /** Compteur de modifications de chaque lieu suivi, lors de la dernière mise en accord. */
+    private final Map<Place, Integer> placeVersions = new IdentityHashMap<>();
+
+    /** Compteur de modifications de chaque meute suivie, lors de la dernière mise en accord. */
+    private final Map<Pack, Integer> packVersions = new IdentityHashMap<>();
+
+    /** Lycanthropes dont le vieillissement est programmé. */
+    private final Map<Lycanthropes, Boolean> ageingLycans = new IdentityHashMap<>();
+
+    /** Événements produits par la passe en cours. */
+    private List<SimulationEvent> events = new ArrayList<>();
+
+    /**
+     * @param places la liste vivante des lieux du théâtre
+     * @param packs la liste vivante des meutes du théâtre
+     * @param table les événements aléatoires des personnages
+     * @param foodSpawner le choix des aliments qui apparaissent
+     * @param random le flux aléatoire du théâtre
+     * @param ageingPeriod la période du vieillissement des lycanthropes, en intervalles
+     */
+    EventDrivenEngine(List<Place> places, List<Pack> packs, CharacterEventTable table, FoodSpawner foodSpawner,
+                      SimulationRandom random, long ageingPeriod) {
+        if (ageingPeriod <= 0) {
+            throw new IllegalArgumentException("Ageing period must be positive.");
+        }
+        this.places = places;
+        this.packs = packs;
+        this.ageingPeriod = ageingPeriod;
+        this.table = table;
+        this.foodSpawner = foodSpawner;
+        this.random = random.child("événements");
+    }
+
+    /**
+     * Avance d'un intervalle les événements des personnages et des lycanthropes.
+     *
+     * @return les événements des changements d'état et des vieillissements
+     */
+    public List<SimulationEvent> advanceCharacters() {
+        sync();
+        return advance(characterEvents);
+    }
+
+    /**
+     * Avance d'un intervalle les événements d'apparition de nourriture.
+     *
+     * @return les événements de la nourriture apparue
+     */
+    public List<SimulationEvent> advanceSpawns() {
+        sync();
+        return advance(spawnEvents);
+    }
+
+    /** @return le nombre d'événements exécutés depuis la création du moteur */
+    public long getEventsProcessed() {
+        return characterEvents.getProcessed() + spawnEvents.getProcessed();
+    }
+
+    /** @return le nombre d'événements en attente */
+    public int getPendingEvents() {
+        return characterEvents.size() + spawnEvents.size();
+    }
+
+    private List<SimulationEvent> advance(EventScheduler scheduler) {
+        events = new ArrayList<>();
+        scheduler.runUntil(scheduler.getNow() + 1);
+        return events;
+    }
+
+    /**
+     * Met les entités suivies en accord avec le contenu des lieux et des meutes, si leur
+     * liste ou les membres de l'un d'eux ont changé depuis la dernière passe.
+     */
+    private void sync() {
+        if (placesChanged()) syncPlaces();
+        if (packsChanged()) syncPacks();
+    }
+
+    private void syncPlaces() {
+        Map<GameCharacter, Boolean> seenCharacters = new IdentityHashMap<>();
+        Map<Place, Boolean> seenPlaces = new IdentityHashMap<>();
+        placeVersions.clear();
+        for (Place place : places) {
+            seenPlaces.put(place, true);
+            placeVersions.put(place, place.getModificationCount());
+            if (!trackedPlaces.containsKey(place)) {
+                scheduleSpawn(place);
+            }
+            for (GameCharacter character : place.getCharacters()) {
+                seenCharacters.put(character, true);
+                if (!trackedCharacters.containsKey(character)) {
+                    track(character);
+                }
+            }
+        }
+
+        trackedCharacters.entrySet().removeIf(entry -> {
+            if (seenCharacters.containsKey(entry.getKey())) return false;
+            entry.getValue().active = false;
+            return true;
+        });
+        trackedPlaces.entrySet().removeIf(entry -> {
+            if (seenPlaces.containsKey(entry.getKey())) return false;
+            if (entry.getValue() != null) entry.getValue().cancel();
+            return true;
+        });
+    }
+
+    private boolean placesChanged() {
+        if (places.size() != placeVersions.size()) return true;
+
+        for (Place place : places) {
+            Integer version = placeVersions.get(place);
+            if (version == null || version != place.getModificationCount()) return true;
+        }
+        return false;
+    }
+
+    private boolean packsChanged() {
+        if (packs.size() != packVersions.size()) return true;
+
+        for (Pack pack : packs) {
+            Integer version = packVersions.get(pack);
+            if (version == null || version != pack.getModificationCount()) return true;
+        }
+        return false;
+    }
+
+    private void syncPacks() {
+        packVersions.clear();
+        for (Pack pack : packs) {
+            packVersions.put(pack, pack.getModificationCount());
+        }
+        for (Pack pack : packs) {
+            for (Lycanthropes lycan : pack.getMembers()) {
+                if (!lycan.isHuman() && ageingLycans.putIfAbsent(lycan, true) == null) {
+                    scheduleAgeing(lycan);
+                }
+            }
+        }
+    }
+
+    /**
+     * Programme le prochain vieillissement d'un lycanthrope. À l'échéance, un lycanthrope
+     * redevenu humain ou sorti des meutes du théâtre n'est plus suivi.
+     */
+    private void scheduleAgeing(Lycanthropes lycan) {
+        characterEvents.scheduleAfter(ageingPeriod, () -> {
+            if (lycan.isHuman() || !packVersions.containsKey(lycan.getPack())) {
+                ageingLycans.remove(lycan);
+                return;
+            }
+
+            lycan.age();
+            events.add(new SimulationEvent.LycanAged(lycan, lycan.getAgeCategory()));
+            scheduleAgeing(lycan);
+        });
+    }
+
+    private void track(GameCharacter character) {
+        TrackedCharacter tracked = new TrackedCharacter(character);
+        trackedCharacters.put(character, tracked);
+        if (character.isDead()) return;
+
+        for (int event = 0; event < tracked.actions.length; event++) {
+            schedule(characterEvents, table.sampler(event), tracked.actions[event]);
+        }
+    }
+
+    /**
+     * Personnage suivi par le moteur. Chaque événement de la table est une action créée
+     * une fois pour toutes et reprogrammée à chaque occurrence ; un personnage mort ou
+     * retiré du théâtre n'est plus reprogrammé, ses événements en attente s'éteignent
+     * d'eux-mêmes.
+     */
+    private final class TrackedCharacter {
+
+        private final GameCharacter character;
+        private final Runnable[] actions = new Runnable[table.size()];
+        private boolean active = true;
+
+        private TrackedCharacter(GameCharacter character) {
+            this.character = character;
+            for (int event = 0; event < actions.length; event++) {
+                int index = event;
+                actions[event] = () -> occur(index);
+            }
+        }
+
+        private void occur(int event) {
+            if (!active || character.isDead()) return;
+
+            SimulationEvent effect = table.effect(event).apply(character, random);
+            if (effect != null) {
+                events.add(effect);
+            }
+            schedule(characterEvents, table.sampler(event), actions[event]);
+        }
+    }
+
+    private void scheduleSpawn(Place place) {
+        if (!foodSpawner.canSpawn(place)) {
+            trackedPlaces.put(place, null);
+            return;
+        }
+        trackedPlaces.put(place, schedule(spawnEvents, spawnSampler, () -> {
+            Foods newFood = foodSpawner.spawn(place, random);
+            events.add(new SimulationEvent.FoodSpawned(place.getName(), newFood));
+            scheduleSpawn(place);
+        }));
+    }
+
+    /**
+     * Programme la prochaine occurrence d'un effet, après un délai géométrique tiré
+     * par l'échantillonneur (au moins un intervalle).
+     *
+     * @return l'événement programmé, ou null si l'effet ne peut plus survenir
+     */
+    private EventScheduler.Event schedule(EventScheduler scheduler, BernoulliSkipSampler sampler, Runnable action) {
+        long gap = sampler.nextGap(random);
+        if (gap >= Long.MAX_VALUE - scheduler.getNow() - 1) return null;
+
+        return scheduler.scheduleAfter(1 + gap, action);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.item.FreshnessSchedule;
+import org.example.envahissementarmorique.model.place.Place;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roue temporelle de la dégradation de la nourriture.
+ * <p>
+ * Chaque lot d'aliments arrivé dans un lieu suivi (même type, même fraîcheur, même
+ * intervalle d'arrivée) est rangé dans la case de l'intervalle où sa fraîcheur change,
+ * selon le {@link FreshnessSchedule}. À chaque intervalle, seule la case courante est
+ * parcourue : le coût suit le nombre de lots qui changent, pas la quantité de nourriture
+ * ni le nombre de lieux. Un lot devenu pourri n'est plus rangé nulle part.
+ * </p>
+ * <p>
+ * Les lots sont comptés, pas nommés : si des aliments ont été mangés entre-temps, un lot
+ * échu ne fait changer que ce qui reste en stock pour son type et sa fraîcheur.
+ * Les arrivées sont signalées par le stock de chaque lieu suivi
+ * ({@link FoodInventory#setArrivalListener}). La roue n'est pas synchronisée : la
+ * nourriture des lieux suivis doit être ajoutée depuis un seul fil à la fois.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FoodDegradationWheel {
+
+    /** Nombre de cases de la roue (puissance de deux). */
+    private static final int SLOTS = 64;
+
+    /** Cases de la roue ; un lot échu dans plus de {@link #SLOTS} intervalles fait plusieurs tours. */
+    @SuppressWarnings("unchecked")
+    private final List<Batch>[] slots = new List[SLOTS];
+
+    /** Lieux suivis. */
+    private final Map<Place, TrackedPlace> trackedPlaces = new IdentityHashMap<>();
+
+    /** Durées de vie des états de fraîcheur. */
+    private FreshnessSchedule schedule;
+
+    /** Intervalle courant. */
+    private long now;
+
+    /** Nombre de lots en attente. */
+    private int pending;
+
+    /**
+     * Observateur des changements de fraîcheur, lieu par lieu.
+     */
+    @FunctionalInterface
+    public interface DegradationListener {
+
+        /**
+         * @param place le lieu
+         * @param food le type d'aliment
+         * @param from la fraîcheur avant dégradation
+         * @param to la fraîcheur après dégradation
+         * @param count le nombre d'aliments concernés
+         */
+        void degraded(Place place, Foods food, Freshness from, Freshness to, int count);
+    }
+
+    /**
+     * @param schedule les durées de vie des états de fraîcheur
+     */
+    public FoodDegradationWheel(FreshnessSchedule schedule) {
+        setSchedule(schedule);
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new ArrayList<>();
+        }
+    }
+
+    /** @return les durées de vie des états de fraîcheur */
+    public FreshnessSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Remplace les durées de vie des états de fraîcheur. Les lots déjà rangés gardent
+     * leur échéance ; les suivants suivent le nouveau calendrier.
+     *
+     * @param schedule le nouveau calendrier
+     */
+    public void setSchedule(FreshnessSchedule schedule) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("Freshness schedule cannot be null.");
+        }
+        this.schedule = schedule;
+    }
+
+    /** @return l'intervalle courant */
+    public long getNow() {
+        return now;
+    }
+
+    /** @return le nombre de lots en attente */
+    public int getPendingBatches() {
+        return pending;
+    }
+
+    /**
+     * Suit la nourriture d'un lieu : le stock actuel est rangé comme s'il venait
+     * d'arriver, puis chaque ajout est rangé à son arrivée.
+     *
+     * @param place le lieu
+     */
+    public void track(Place place) {
+        if (trackedPlaces.containsKey(place)) return;
+
+        TrackedPlace tracked = new TrackedPlace(place);
+        trackedPlaces.put(place, tracked);
+        FoodInventory inventory = place.getFoodInventory();
+        for (FoodInventory.Stack stack : inventory) {
+            file(tracked, stack.food(), stack.freshness(), stack.count());
+        }
+        inventory.setArrivalListener((food, freshness, count) -> file(tracked, food, freshness, count));
+    }
+
+    /**
+     * Cesse de suivre la nourriture d'un lieu ; ses lots en attente s'éteignent à leur
+     * échéance.
+     *
+     * @param place le lieu
+     */
+    public void untrack(Place place) {
+        TrackedPlace tracked = trackedPlaces.remove(place);
+        if (tracked == null) return;
+
+        tracked.active = false;
+        place.getFoodInventory().setArrivalListener(null);
+    }
+
+    /**
+     * Avance d'un intervalle et fait changer de fraîcheur les lots échus.
+     *
+     * @param listener prévenu de chaque lot qui a changé de fraîcheur
+     * @return le nombre d'aliments dont la fraîcheur a changé
+     */
+    public int advance(DegradationListener listener) {
+        now++;
+        int slot = (int) (now & (SLOTS - 1));
+        List<Batch> due = slots[slot];
+        if (due.isEmpty()) return 0;
+
+        slots[slot] = new ArrayList<>();
+        int changed = 0;
+        for (Batch batch : due) {
+            if (batch.due != now) {
+                slots[slot].add(batch);
+                continue;
+            }
+            pending--;
+            if (!batch.place.active) continue;
+
+            Freshness to = batch.freshness.degrade();
+            int moved = batch.place.place.getFoodInventory().move(batch.food, batch.freshness, to, batch.count);
+            if (moved == 0) continue;
+
+            changed += moved;
+            listener.degraded(batch.place.place, batch.food, batch.freshness, to, moved);
+            file(batch.place, batch.food, to, moved);
+        }
+        return changed;
+    }
+
+    /**
+     * Range un lot dans la case de son prochain changement de fraîcheur, en le
+     * fusionnant avec le dernier lot de la case s'il lui est identique.
+     */
+    private void file(TrackedPlace place, Foods food, Freshness freshness, int count) {
+        if (!FreshnessSchedule.isPerishable(freshness) || count == 0) return;
+
+        long due = now + schedule.getDuration(freshness);
+        List<Batch> slot = slots[(int) (due & (SLOTS - 1))];
+        if (!slot.isEmpty()) {
+            Batch last = slot.get(slot.size() - 1);
+            if (last.place == place && last.food == food && last.freshness == freshness && last.due == due) {
+                last.count += count;
+                return;
+            }
+        }
+        slot.add(new Batch(place, food, freshness, count, due));
+        pending++;
+    }
+
+    /**
+     * Lieu suivi ; un lieu qui n'est plus suivi laisse ses lots s'éteindre.
+     */
+    private static final class TrackedPlace {
+
+        private final Place place;
+        private boolean active = true;
+
+        private TrackedPlace(Place place) {
+            this.place = place;
+        }
+    }
+
+    /**
+     * Lot d'aliments de même type et de même fraîcheur, échu au même intervalle.
+     */
+    private static final class Batch {
+
+        private final TrackedPlace place;
+        private final Foods food;
+        private final Freshness freshness;
+        private int count;
+        private final long due;
+
+        private Batch(TrackedPlace place, Foods food, Freshness freshness, int count, long due) {
+            this.place = place;
+            this.food = food;
+            this.freshness = freshness;
+            this.count = count;
+            this.due = due;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.place.RomanCamp;
+import org.example.envahissementarmorique.model.place.RomanCity;
+import org.example.envahissementarmorique.model.random.AliasTable;
+import org.example.envahissementarmorique.model.random.BernoulliSkipSampler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+/**
+ * Choix des aliments qui apparaissent dans les lieux.
+ * <p>
+ * Chaque type de lieu a ses propres poids par aliment (le sanglier est courant dans un
+ * village gaulois, rare dans une ville romaine...) ; les types sans poids propres
+ * utilisent les poids par défaut. Les poids sont compilés en tables d'alias
+ * ({@link AliasTable}) : un tirage coûte O(1), un seul nombre aléatoire, et n'alloue rien.
+ * Rien n'apparaît sur un champ de bataille.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class FoodSpawner {
+
+    /** Les aliments, dans l'ordre des poids (copie unique du tableau de l'énumération). */
+    private static final Foods[] FOODS = Foods.values();
+
+    /** Poids par défaut. */
+    private final double[] defaultWeights = new double[FOODS.length];
+
+    /** Table d'alias des poids par défaut. */
+    private AliasTable defaultTable;
+
+    /** Poids propres à certains types de lieux. */
+    private final Map<Class<? extends Place>, double[]> weights = new HashMap<>();
+
+    /** Tables d'alias des types de lieux qui ont des poids propres. */
+    private final Map<Class<? extends Place>, AliasTable> tables = new HashMap<>();
+
+    /**
+     * Crée un générateur où tous les aliments ont le même poids, dans tous les lieux.
+     */
+    public FoodSpawner() {
+        Arrays.fill(defaultWeights, 1.0);
+        defaultTable = new AliasTable(defaultWeights);
+    }
+
+    /**
+     * @return le générateur par défaut : sanglier, hydromel et miel courants dans les
+     *         villages gaulois ; vin courant et sanglier rare chez les Romains
+     */
+    public static FoodSpawner defaults() {
+        return new FoodSpawner()
+                .setWeight(GaulishVillage.class, Foods.BOAR, 8.0)
+                .setWeight(GaulishVillage.class, Foods.MEAD, 3.0)
+                .setWeight(GaulishVillage.class, Foods.HONEY, 2.0)
+                .setWeight(RomanCity.class, Foods.WINE, 6.0)
+                .setWeight(RomanCity.class, Foods.BOAR, 0.2)
+                .setWeight(RomanCamp.class, Foods.WINE, 3.0)
+                .setWeight(RomanCamp.class, Foods.BOAR, 0.5);
+    }
+
+    /**
+     * Change le poids d'un aliment pour un type de lieu. Un type qui n'avait pas encore
+     * de poids propres part d'une copie des poids par défaut.
+     *
+     * @param placeType le type de lieu
+     * @param food l'aliment
+     * @param weight le nouveau poids, positif ou nul
+     * @return ce générateur, pour enchaîner les réglages
+     */
+    public FoodSpawner setWeight(Class<? extends Place> placeType, Foods food, double weight) {
+        if (placeType == null || food == null) {
+            throw new IllegalArgumentException("Place type and food cannot be null.");
+        }
+        double[] typeWeights = weights.get(placeType);
+        double[] updated = (typeWeights == null ? defaultWeights : typeWeights).clone();
+        updated[food.ordinal()] = weight;
+        tables.put(placeType, new AliasTable(updated));
+        weights.put(placeType, updated);
+        return this;
+    }
+
+    /**
+     * Change le poids par défaut d'un aliment, utilisé par les types de lieux sans poids
+     * propres.
+     *
+     * @param food l'aliment
+     * @param weight le nouveau poids, positif ou nul
+     * @return ce générateur, pour enchaîner les réglages
+     */
+    public FoodSpawner setDefaultWeight(Foods food, double weight) {
+        if (food == null) {
+            throw new IllegalArgumentException("Food cannot be null.");
+        }
+        double[] updated = defaultWeights.clone();
+        updated[food.ordinal()] = weight;
+        defaultTable = new AliasTable(updated);
+        defaultWeights[food.ordinal()] = weight;
+        return this;
+    }
+
+    /**
+     * @param placeType le type de lieu
+     * @param food l'aliment
+     * @return le poids de l'aliment dans ce type de lieu
+     */
+    public double getWeight(Class<? extends Place> placeType, Foods food) {
+        double[] typeWeights = weights.get(placeType);
+        return (typeWeights == null ? defaultWeights : typeWeights)[food.ordinal()];
+    }
+
+    /**
+     * @param place le lieu
+     * @return true si de la nourriture peut apparaître dans ce lieu
+     */
+    public boolean canSpawn(Place place) {
+        return !(place instanceof Battlefield);
+    }
+
+    /**
+     * Tire un type d'aliment selon les poids du lieu.
+     *
+     * @param place le lieu
+     * @param random le flux aléatoire
+     * @return le type d'aliment tiré
+     */
+    public Foods sample(Place place, Random random) {
+        AliasTable table = tables.get(place.getClass());
+        return FOODS[(table == null ? defaultTable : table).sample(random)];
+    }
+
+    /**
+     * Fait apparaître un aliment frais dans un lieu.
+     *
+     * @param place le lieu
+     * @param random le flux aléatoire
+     * @return le type de l'aliment apparu
+     */
+    public Foods spawn(Place place, Random random) {
+        Foods food = sample(place, random);
+        place.getFoodInventory().add(food, Freshness.FRESH, 1);
+        return food;
+    }
+
+    /**
+     * Fait apparaître de la nourriture dans une série de lieux : chaque lieu où la
+     * nourriture peut apparaître reçoit un aliment avec la probabilité donnée. Les lieux
+     * servis sont choisis par sauts géométriques, sans tirage pour les autres.
+     *
+     * @param places les lieux
+     * @param probability la probabilité d'apparition par lieu
+     * @param random le flux aléatoire
+     * @param listener prévenu du type de chaque aliment apparu, avec son lieu
+     * @return le nombre d'aliments apparus
+     */
+    public int spawnAll(List<? extends Place> places, double probability, Random random,
+                        BiConsumer<Place, Foods> listener) {
+        BernoulliSkipSampler sampler = new BernoulliSkipSampler(probability);
+        int spawned = 0;
+        for (int index = sampler.nextIndex(random, 0); index < places.size();
+             index = sampler.nextIndex(random, index + 1)) {
+            Place place = places.get(index);
+            if (!canSpawn(place)) continue;
+
+            listener.accept(place, spawn(place, random));
+            spawned++;
+        }
+        return spawned;
+    }
+}
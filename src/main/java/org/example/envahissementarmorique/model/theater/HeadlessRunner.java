@@ -0,0 +1,169 @@
+package org.example.envahissementarmorique.model.theater;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Exécution sans intervention d'un {@link InvasionTheater}.
+ * <p>
+ * Les intervalles s'enchaînent sans attendre de saisie : les décisions des chefs de
+ * clan sont prises par une {@link ClanLeaderPolicy} et l'affichage console du théâtre
+ * est coupé pendant l'exécution. Chaque intervalle produit un {@link IntervalSummary}
+ * transmis au consommateur fourni (fichier, file, agrégateur...). Le bilan final
+ * indique le débit soutenu en intervalles par seconde et le temps passé dans chaque
+ * phase du {@link PhasePipeline}, dont les phases peuvent être désactivées via
+ * {@link #getPipeline()}.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class HeadlessRunner {
+
+    /** Nombre d'actions par chef de clan et par intervalle, comme en mode interactif. */
+    private static final int DEFAULT_ACTIONS_PER_LEADER = 2;
+
+    /** Théâtre simulé. */
+    private final InvasionTheater theater;
+
+    /** Stratégie des chefs de clan. */
+    private final ClanLeaderPolicy policy;
+
+    /** Phases jouées à chaque intervalle. */
+    private final PhasePipeline pipeline;
+
+    /**
+     * Crée un exécuteur sans intervention.
+     *
+     * @param theater le théâtre à simuler
+     * @param policy la stratégie des chefs de clan
+     */
+    public HeadlessRunner(InvasionTheater theater, ClanLeaderPolicy policy) {
+        if (theater == null) {
+            throw new IllegalArgumentException("Theater cannot be null.");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Clan leader policy cannot be null.");
+        }
+        this.theater = theater;
+        this.policy = policy;
+        this.pipeline = theater.createPipeline(policy, DEFAULT_ACTIONS_PER_LEADER);
+    }
+
+    /**
+     * @return le pipeline des intervalles, pour activer ou désactiver ses phases
+     */
+    public PhasePipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Définit le nombre d'actions de chaque chef de clan par intervalle.
+     *
+     * @param actionsPerLeader le nombre d'actions (0 pour ne jamais consulter les chefs)
+     */
+    public void setActionsPerLeader(int actionsPerLeader) {
+        if (actionsPerLeader < 0) {
+            throw new IllegalArgumentException("Actions per leader cannot be negative.");
+        }
+        pipeline.replacePhase(InvasionTheater.PHASE_LEADERS, theater.leaderPhase(policy, actionsPerLeader));
+    }
+
+    /**
+     * Enchaîne les intervalles sans intervention.
+     *
+     * @param intervals le nombre d'intervalles à simuler
+     * @param sink le consommateur des résumés d'intervalle
+     * @return le bilan de l'exécution
+     */
+    public RunReport run(long intervals, Consumer<IntervalSummary> sink) {
+        if (intervals < 0) {
+            throw new IllegalArgumentException("Intervals cannot be negative.");
+        }
+
+        boolean wasVerbose = theater.isVerbose();
+        theater.setVerbose(false);
+        pipeline.resetTimings();
+
+        long casualties = 0;
+        long combats = 0;
+        long start = System.nanoTime();
+        try {
+            for (long interval = 1; interval <= intervals; interval++) {
+                IntervalSummary summary = theater.runInterval(pipeline, interval);
+                casualties += summary.getCasualties();
+                combats += summary.getCombats();
+                sink.accept(summary);
+            }
+        } finally {
+            theater.setVerbose(wasVerbose);
+        }
+
+        return new RunReport(intervals, System.nanoTime() - start, combats, casualties,
+                pipeline.getTotalNanos(), pipeline.getTimingReport());
+    }
+
+    /**
+     * Bilan d'une exécution sans intervention.
+     */
+    public static final class RunReport {
+
+        private final long intervals;
+        private final long elapsedNanos;
+        private final long combats;
+        private final long casualties;
+        private final Map<String, Long> phaseNanos;
+        private final String timingReport;
+
+        private RunReport(long intervals, long elapsedNanos, long combats, long casualties,
+                          Map<String, Long> phaseNanos, String timingReport) {
+            this.intervals = intervals;
+            this.elapsedNanos = elapsedNanos;
+            this.combats = combats;
+            this.casualties = casualties;
+            this.phaseNanos = phaseNanos;
+            this.timingReport = timingReport;
+        }
+
+        /** @return le nombre d'intervalles simulés */
+        public long getIntervals() {
+            return intervals;
+        }
+
+        /** @return la durée totale de l'exécution en nanosecondes */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /** @return le nombre total de combats livrés */
+        public long getCombats() {
+            return combats;
+        }
+
+        /** @return le nombre total de morts */
+        public long getCasualties() {
+            return casualties;
+        }
+
+        /** @return la durée cumulée de chaque phase en nanosecondes, dans l'ordre d'exécution */
+        public Map<String, Long> getPhaseNanos() {
+            return phaseNanos;
+        }
+
+        /** @return le tableau des durées par phase */
+        public String getTimingReport() {
+            return timingReport;
+        }
+
+        /** @return le débit soutenu, en intervalles par seconde */
+        public double getIntervalsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : intervals * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d intervalles en %.1f ms (%.0f intervalles/s), %d combats, %d morts",
+                    intervals, elapsedNanos / 1e6, getIntervalsPerSecond(), combats, casualties);
+        }
+    }
+}
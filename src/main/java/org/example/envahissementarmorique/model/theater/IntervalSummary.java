@@ -0,0 +1,132 @@
+package org.example.envahissementarmorique.model.theater;
+
+/**
+ * Résumé compact d'un intervalle de simulation du théâtre d'invasion.
+ * <p>
+ * Contrairement à {@link RoundResult}, le résumé ne conserve que des compteurs :
+ * il peut être produit et transmis pour des millions d'intervalles sans accumuler
+ * de messages.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class IntervalSummary {
+
+    /** Numéro de l'intervalle. */
+    private final long interval;
+
+    /** Nombre de combats livrés. */
+    private final int combats;
+
+    /** Nombre de personnages morts pendant l'intervalle. */
+    private final int casualties;
+
+    /** Nombre de changements d'état aléatoires. */
+    private final int stateChanges;
+
+    /** Nombre d'aliments apparus. */
+    private final int foodSpawned;
+
+    /** Nombre d'aliments dégradés. */
+    private final int foodDegraded;
+
+    /** Nombre d'actions effectuées par les chefs de clan. */
+    private final int leaderActions;
+
+    /** Nombre de personnages vivants à la fin de l'intervalle. */
+    private final int aliveCharacters;
+
+    /** Nombre total de personnages à la fin de l'intervalle. */
+    private final int totalCharacters;
+
+    /** Durée de l'intervalle en nanosecondes. */
+    private final long durationNanos;
+
+    /**
+     * Crée le résumé d'un intervalle.
+     *
+     * @param interval le numéro de l'intervalle
+     * @param combats le nombre de combats livrés
+     * @param casualties le nombre de morts
+     * @param stateChanges le nombre de changements d'état aléatoires
+     * @param foodSpawned le nombre d'aliments apparus
+     * @param foodDegraded le nombre d'aliments dégradés
+     * @param leaderActions le nombre d'actions des chefs de clan
+     * @param aliveCharacters le nombre de personnages vivants
+     * @param totalCharacters le nombre total de personnages
+     * @param durationNanos la durée de l'intervalle en nanosecondes
+     */
+    public IntervalSummary(long interval, int combats, int casualties, int stateChanges,
+                           int foodSpawned, int foodDegraded, int leaderActions,
+                           int aliveCharacters, int totalCharacters, long durationNanos) {
+        this.interval = interval;
+        this.combats = combats;
+        this.casualties = casualties;
+        this.stateChanges = stateChanges;
+        this.foodSpawned = foodSpawned;
+        this.foodDegraded = foodDegraded;
+        this.leaderActions = leaderActions;
+        this.aliveCharacters = aliveCharacters;
+        this.totalCharacters = totalCharacters;
+        this.durationNanos = durationNanos;
+    }
+
+    /** @return le numéro de l'intervalle */
+    public long getInterval() {
+        return interval;
+    }
+
+    /** @return le nombre de combats livrés */
+    public int getCombats() {
+        return combats;
+    }
+
+    /** @return le nombre de personnages morts pendant l'intervalle */
+    public int getCasualties() {
+        return casualties;
+    }
+
+    /** @return le nombre de changements d'état aléatoires */
+    public int getStateChanges() {
+        return stateChanges;
+    }
+
+    /** @return le nombre d'aliments apparus */
+    public int getFoodSpawned() {
+        return foodSpawned;
+    }
+
+    /** @return le nombre d'aliments dégradés */
+    public int getFoodDegraded() {
+        return foodDegraded;
+    }
+
+    /** @return le nombre d'actions effectuées par les chefs de clan */
+    public int getLeaderActions() {
+        return leaderActions;
+    }
+
+    /** @return le nombre de personnages vivants à la fin de l'intervalle */
+    public int getAliveCharacters() {
+        return aliveCharacters;
+    }
+
+    /** @return le nombre total de personnages à la fin de l'intervalle */
+    public int getTotalCharacters() {
+        return totalCharacters;
+    }
+
+    /** @return la durée de l'intervalle en nanosecondes */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Intervalle %d : %d combats, %d morts, %d changements, %d aliments apparus, "
+                        + "%d dégradés, %d actions des chefs, %d/%d vivants",
+                interval, combats, casualties, stateChanges, foodSpawned, foodDegraded,
+                leaderActions, aliveCharacters, totalCharacters);
+    }
+}
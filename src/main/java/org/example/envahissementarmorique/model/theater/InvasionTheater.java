@@ -1,17 +1,30 @@
 package org.example.envahissementarmorique.model.theater;
 
+import org.example.envahissementarmorique.model.PackAndAlpha.Pack;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
 import org.example.envahissementarmorique.model.character.base.GameCharacter;
-import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
+import org.example.envahissementarmorique.model.combat.BattleMatchmaker;
+import org.example.envahissementarmorique.model.combat.CombatModel;
+import org.example.envahissementarmorique.model.combat.DefaultCombatModel;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
 import org.example.envahissementarmorique.model.item.Foods;
 import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.item.FreshnessSchedule;
 import org.example.envahissementarmorique.model.place.Battlefield;
 import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.example.envahissementarmorique.model.log.LogCategory;
+import org.example.envahissementarmorique.model.log.LogLevel;
+import org.example.envahissementarmorique.model.log.SimulationLog;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Représente un théâtre d'invasion qui gère des lieux, des personnages et des chefs de clan.
@@ -20,11 +33,14 @@ import java.util.Scanner;
  * À chaque intervalle :
  * <ul>
  *   <li>Les personnages belliqueux se battent, surtout sur les champs de bataille</li>
- *   <li>Les états des personnages (faim, potion, santé, etc.) sont modifiés aléatoirement</li>
+ *   <li>Les états des personnages (faim, potion, santé, etc.) sont modifiés aléatoirement,
+ *   et les lycanthropes des meutes vieillissent périodiquement</li>
  *   <li>De la nourriture apparaît aléatoirement dans les lieux non-bataille</li>
  *   <li>La nourriture fraîche se dégrade progressivement</li>
  *   <li>Les chefs de clan peuvent gérer les lieux qui leur sont assignés</li>
  * </ul>
+ * Ces étapes sont les phases du {@link PhasePipeline} construit par
+ * {@link #createPipeline(ClanLeaderPolicy, int)}.
  * </p>
  * <p>
  * Cette classe fournit des méthodes pour exécuter la simulation complète,
@@ -37,6 +53,27 @@ import java.util.Scanner;
  */
 public class InvasionTheater {
 
+    /** Nom de la phase des combats. */
+    public static final String PHASE_BATTLES = "combats";
+
+    /** Nom de la phase des modifications aléatoires des personnages. */
+    public static final String PHASE_STATE_CHANGES = "modifications";
+
+    /** Nom de la phase d'apparition de nourriture. */
+    public static final String PHASE_FOOD_SPAWN = "apparition";
+
+    /** Nom de la phase de dégradation de la nourriture. */
+    public static final String PHASE_FOOD_DEGRADATION = "dégradation";
+
+    /** Nom de la phase du tour des chefs de clan. */
+    public static final String PHASE_LEADERS = "chefs";
+
+    /** Probabilité, par intervalle, que de la nourriture apparaisse dans un lieu non-bataille. */
+    static final double FOOD_SPAWN_PROBABILITY = 0.4;
+
+    /** Période par défaut du vieillissement des lycanthropes des meutes, en intervalles. */
+    public static final long DEFAULT_LYCAN_AGEING_PERIOD = 10;
+
     /** Le nom du théâtre. */
     private String name;
 
@@ -49,8 +86,50 @@ public class InvasionTheater {
     /** La liste des chefs de clan présents dans le théâtre. */
     private List<ClanLeader> clanLeaders;
 
-    /** Générateur aléatoire pour les événements de la simulation. */
-    private Random random;
+    /** La liste des meutes de lycanthropes du théâtre. */
+    private final List<Pack> packs = new ArrayList<>();
+
+    /** Période du vieillissement des lycanthropes des meutes, en intervalles. */
+    private long lycanAgeingPeriod = DEFAULT_LYCAN_AGEING_PERIOD;
+
+    /** Flux aléatoire racine : chaque lieu reçoit à chaque tour son propre flux enfant. */
+    private SimulationRandom random;
+
+    /** Événements aléatoires des personnages et leurs probabilités. */
+    private CharacterEventTable characterEvents = CharacterEventTable.defaults();
+
+    /** Choix des aliments qui apparaissent selon le type de lieu. */
+    private FoodSpawner foodSpawner = FoodSpawner.defaults();
+
+    /** Échéances de dégradation de la nourriture des lieux. */
+    private final FoodDegradationWheel foodWheel = new FoodDegradationWheel(new FreshnessSchedule());
+
+    /** Nombre de passes de modifications aléatoires déjà jouées. */
+    private long modificationRound;
+
+    /** Nombre de passes d'apparition de nourriture déjà jouées. */
+    private long spawnRound;
+
+    /** Étape de mise en relation des combattants sur les champs de bataille. */
+    private final BattleMatchmaker matchmaker = new BattleMatchmaker();
+
+    /** Indique si les champs de bataille sont résolus en parallèle. */
+    private boolean parallelBattles;
+
+    /** Indique si les modifications aléatoires et la nourriture sont traitées lieu par lieu en parallèle. */
+    private boolean parallelPlaces;
+
+    /** Pool de threads utilisé pour la résolution parallèle des combats et des lieux. */
+    private ForkJoinPool battlePool = ForkJoinPool.commonPool();
+
+    /** Modèle de résolution des combats. */
+    private CombatModel combatModel = DefaultCombatModel.INSTANCE;
+
+    /** Indique si le déroulement des intervalles est affiché sur la console. */
+    private boolean verbose = true;
+
+    /** Moteur à événements discrets, ou null si les phases aléatoires parcourent tous les lieux. */
+    private EventDrivenEngine eventEngine;
 
     /**
      * Crée un nouveau théâtre d'invasion.
@@ -63,7 +142,7 @@ public class InvasionTheater {
         this.maxPlaces = maxPlaces;
         this.places = new ArrayList<>();
         this.clanLeaders = new ArrayList<>();
-        this.random = new Random();
+        this.random = new SimulationRandom();
     }
 
     /** @return le nom du théâtre */
@@ -86,6 +165,210 @@ public class InvasionTheater {
         this.maxPlaces = maxPlaces;
     }
 
+    /** @return true si les champs de bataille sont résolus en parallèle */
+    public boolean isParallelBattles() {
+        return parallelBattles;
+    }
+
+    /**
+     * Active ou désactive la résolution parallèle des champs de bataille.
+     *
+     * @param parallelBattles true pour résoudre tous les champs de bataille en même temps
+     */
+    public void setParallelBattles(boolean parallelBattles) {
+        this.parallelBattles = parallelBattles;
+    }
+
+    /** @return true si les modifications aléatoires et la nourriture sont traitées en parallèle */
+    public boolean isParallelPlaces() {
+        return parallelPlaces;
+    }
+
+    /**
+     * Active ou désactive le traitement parallèle des lieux pour les modifications
+     * aléatoires et l'apparition de la nourriture : une tâche par lieu.
+     *
+     * @param parallelPlaces true pour traiter tous les lieux en même temps
+     */
+    public void setParallelPlaces(boolean parallelPlaces) {
+        this.parallelPlaces = parallelPlaces;
+    }
+
+    /**
+     * Définit le pool utilisé en mode parallèle (par défaut le pool commun).
+     *
+     * @param battlePool le pool de threads
+     */
+    public void setBattlePool(ForkJoinPool battlePool) {
+        if (battlePool == null) {
+            throw new IllegalArgumentException("Battle pool cannot be null.");
+        }
+        this.battlePool = battlePool;
+    }
+
+    /** @return le modèle de combat utilisé par les batailles */
+    public CombatModel getCombatModel() {
+        return combatModel;
+    }
+
+    /**
+     * Remplace le modèle de combat utilisé par les batailles.
+     *
+     * @param combatModel le nouveau modèle de combat
+     */
+    public void setCombatModel(CombatModel combatModel) {
+        if (combatModel == null) {
+            throw new IllegalArgumentException("Combat model cannot be null.");
+        }
+        this.combatModel = combatModel;
+    }
+
+    /** @return true si le déroulement des intervalles est affiché sur la console */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Active ou désactive l'affichage console du déroulement des intervalles
+     * (combats, événements aléatoires, nourriture, tours des chefs).
+     *
+     * @param verbose false pour une exécution silencieuse
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /** @return la graine du flux aléatoire racine, pour rejouer la simulation */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Fixe la graine de la simulation. À graine égale et à configuration égale, deux
+     * exécutions donnent exactement les mêmes événements aléatoires.
+     *
+     * @param seed la graine du flux aléatoire racine
+     */
+    public void setSeed(long seed) {
+        this.random = new SimulationRandom(seed);
+        this.modificationRound = 0;
+        this.spawnRound = 0;
+        if (eventEngine != null) {
+            eventEngine = newEventEngine();
+        }
+    }
+
+    /** @return le générateur des aliments qui apparaissent dans les lieux */
+    public FoodSpawner getFoodSpawner() {
+        return foodSpawner;
+    }
+
+    /**
+     * Remplace le générateur des aliments qui apparaissent dans les lieux.
+     *
+     * @param foodSpawner le nouveau générateur
+     */
+    public void setFoodSpawner(FoodSpawner foodSpawner) {
+        if (foodSpawner == null) {
+            throw new IllegalArgumentException("Food spawner cannot be null.");
+        }
+        this.foodSpawner = foodSpawner;
+        if (eventEngine != null) {
+            eventEngine = newEventEngine();
+        }
+    }
+
+    /** @return les durées de vie des états de fraîcheur de la nourriture */
+    public FreshnessSchedule getFreshnessSchedule() {
+        return foodWheel.getSchedule();
+    }
+
+    /**
+     * Remplace les durées de vie des états de fraîcheur. Les aliments déjà en attente
+     * gardent leur échéance.
+     *
+     * @param schedule le nouveau calendrier
+     */
+    public void setFreshnessSchedule(FreshnessSchedule schedule) {
+        foodWheel.setSchedule(schedule);
+    }
+
+    /** @return la roue de dégradation de la nourriture des lieux du théâtre */
+    FoodDegradationWheel getFoodWheel() {
+        return foodWheel;
+    }
+
+    /** @return la table des événements aléatoires des personnages */
+    public CharacterEventTable getCharacterEvents() {
+        return characterEvents;
+    }
+
+    /**
+     * Remplace la table des événements aléatoires des personnages.
+     *
+     * @param characterEvents la nouvelle table
+     */
+    public void setCharacterEvents(CharacterEventTable characterEvents) {
+        if (characterEvents == null) {
+            throw new IllegalArgumentException("Character event table cannot be null.");
+        }
+        this.characterEvents = characterEvents;
+        if (eventEngine != null) {
+            eventEngine = newEventEngine();
+        }
+    }
+
+    /** @return true si les phases aléatoires sont pilotées par des événements programmés */
+    public boolean isEventDriven() {
+        return eventEngine != null;
+    }
+
+    /**
+     * Active ou désactive le mode à événements discrets pour les modifications aléatoires
+     * et l'apparition de la nourriture (voir {@link EventDrivenEngine}).
+     * Les probabilités par intervalle sont les mêmes dans les deux modes, mais les tirages
+     * diffèrent : à graine égale, les deux modes ne donnent pas les mêmes événements.
+     *
+     * @param eventDriven true pour ne toucher que les entités dont un événement est échu
+     */
+    public void setEventDriven(boolean eventDriven) {
+        if (eventDriven == isEventDriven()) return;
+        eventEngine = eventDriven ? newEventEngine() : null;
+    }
+
+    /**
+     * Crée le moteur à événements. Un nouveau moteur reprend tous les personnages et
+     * tous les lycanthropes des meutes ; leurs prochaines échéances sont tirées à nouveau.
+     */
+    private EventDrivenEngine newEventEngine() {
+        return new EventDrivenEngine(places, packs, characterEvents, foodSpawner, random, lycanAgeingPeriod);
+    }
+
+    /** @return la période du vieillissement des lycanthropes des meutes, en intervalles */
+    public long getLycanAgeingPeriod() {
+        return lycanAgeingPeriod;
+    }
+
+    /**
+     * Change la période du vieillissement des lycanthropes des meutes.
+     *
+     * @param lycanAgeingPeriod la nouvelle période, en intervalles
+     */
+    public void setLycanAgeingPeriod(long lycanAgeingPeriod) {
+        if (lycanAgeingPeriod <= 0) {
+            throw new IllegalArgumentException("Ageing period must be positive.");
+        }
+        this.lycanAgeingPeriod = lycanAgeingPeriod;
+        if (eventEngine != null) {
+            eventEngine = newEventEngine();
+        }
+    }
+
+    /** @return le moteur à événements discrets, ou null hors du mode à événements */
+    public EventDrivenEngine getEventEngine() {
+        return eventEngine;
+    }
+
     /** @return une copie de la liste des lieux */
     public List<Place> getPlaces() {
         return new ArrayList<>(places);
@@ -96,6 +379,11 @@ public class InvasionTheater {
         return new ArrayList<>(clanLeaders);
     }
 
+    /** @return une copie de la liste des meutes */
+    public List<Pack> getPacks() {
+        return new ArrayList<>(packs);
+    }
+
     /**
      * Ajoute un lieu au théâtre.
      *
@@ -104,17 +392,18 @@ public class InvasionTheater {
      */
     public boolean addPlace(Place place) {
         if (place == null) {
-            System.out.println("Impossible d'ajouter un lieu null");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.WARN, "Impossible d'ajouter un lieu null");
             return false;
         }
 
         if (places.size() >= maxPlaces) {
-            System.out.println("Le théâtre est plein ! Impossible d'ajouter un lieu.");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.WARN, "Le théâtre est plein ! Impossible d'ajouter un lieu.");
             return false;
         }
 
         places.add(place);
-        System.out.println("Lieu '" + place.getName() + "' ajouté au théâtre.");
+        foodWheel.track(place);
+        SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Lieu '{}' ajouté au théâtre.", place.getName());
         return true;
     }
 
@@ -127,7 +416,8 @@ public class InvasionTheater {
     public boolean removePlace(Place place) {
         boolean removed = places.remove(place);
         if (removed) {
-            System.out.println("Lieu '" + place.getName() + "' supprimé du théâtre.");
+            foodWheel.untrack(place);
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Lieu '{}' supprimé du théâtre.", place.getName());
         }
         return removed;
     }
@@ -140,7 +430,7 @@ public class InvasionTheater {
     public void addClanLeader(ClanLeader leader) {
         if (leader != null && !clanLeaders.contains(leader)) {
             clanLeaders.add(leader);
-            System.out.println("Chef de clan '" + leader.getName() + "' ajouté au théâtre.");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Chef de clan '{}' ajouté au théâtre.", leader.getName());
         }
     }
 
@@ -153,7 +443,34 @@ public class InvasionTheater {
     public boolean removeClanLeader(ClanLeader leader) {
         boolean removed = clanLeaders.remove(leader);
         if (removed) {
-            System.out.println("Chef de clan '" + leader.getName() + "' supprimé du théâtre.");
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Chef de clan '{}' supprimé du théâtre.", leader.getName());
+        }
+        return removed;
+    }
+
+    /**
+     * Ajoute une meute au théâtre : ses membres vieillissent une fois par période
+     * (voir {@link #setLycanAgeingPeriod(long)}), pendant la phase des modifications.
+     *
+     * @param pack la meute à ajouter
+     */
+    public void addPack(Pack pack) {
+        if (pack != null && !packs.contains(pack)) {
+            packs.add(pack);
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Meute '{}' ajoutée au théâtre.", pack.getName());
+        }
+    }
+
+    /**
+     * Supprime une meute du théâtre.
+     *
+     * @param pack la meute à supprimer
+     * @return true si la meute a été supprimée avec succès
+     */
+    public boolean removePack(Pack pack) {
+        boolean removed = packs.remove(pack);
+        if (removed) {
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, "Meute '{}' supprimée du théâtre.", pack.getName());
         }
         return removed;
     }
@@ -162,6 +479,7 @@ public class InvasionTheater {
      * Affiche tous les lieux présents dans le théâtre.
      */
     public void displayPlaces() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("THÉÂTRE : " + name);
         System.out.println("========================================");
@@ -195,6 +513,7 @@ public class InvasionTheater {
      * Affiche tous les personnages présents dans tous les lieux du théâtre.
      */
     public void displayAllCharacters() {
+        SimulationLog.flush();
         System.out.println("\n========================================");
         System.out.println("TOUS LES PERSONNAGES DU THÉÂTRE : " + name);
         System.out.println("Total : " + getTotalCharacters() + " personnages");
@@ -217,70 +536,42 @@ public class InvasionTheater {
 
     /**
      * Fait combattre les personnages belliqueux sur les champs de bataille.
-     * Les personnages survivants retournent à leur lieu d'origine.
+     * <p>
+     * Sur chaque champ de bataille, les combattants sont regroupés par faction par le
+     * {@link BattleMatchmaker}, qui tire des duels inter-factions : chaque combattant
+     * vivant et belliqueux livre au plus un duel par intervalle.
+     * </p>
+     * <p>
+     * En mode parallèle (voir {@link #setParallelBattles(boolean)}), chaque champ de
+     * bataille est résolu par une tâche distincte du {@link ForkJoinPool}. Les résultats
+     * et les traces de chaque champ sont fusionnés dans l'ordre des lieux du théâtre :
+     * la sortie est identique à celle du mode séquentiel.
+     * </p>
      *
      * @return liste des résultats des combats
      */
     public List<CombatResult> conductBattles() {
         List<CombatResult> results = new ArrayList<>();
-        System.out.println("\n=== COMBATS ===");
+        log("\n=== COMBATS ===");
 
+        List<Battlefield> battlefields = new ArrayList<>();
         for (Place place : places) {
             if (place instanceof Battlefield) {
-                Battlefield battlefield = (Battlefield) place;
-                List<GameCharacter> fighters = new ArrayList<>(battlefield.getCharacters());
-
-                System.out.println("\nBataille à " + battlefield.getName() + " :");
-
-                for (int i = 0; i < fighters.size() - 1; i++) {
-                    GameCharacter fighter1 = fighters.get(i);
-                    if (fighter1.isDead()) continue;
-
-                    for (int j = i + 1; j < fighters.size(); j++) {
-                        GameCharacter fighter2 = fighters.get(j);
-                        if (fighter2.isDead()) continue;
-
-                        if (!fighter1.getFaction().equals(fighter2.getFaction()) &&
-                                fighter1.isBelligerent() && fighter2.isBelligerent()) {
-
-                            int fighter1HealthBefore = fighter1.getHealth();
-                            int fighter2HealthBefore = fighter2.getHealth();
-
-                            System.out.println("\n  ⚔️ COMBAT : " + fighter1.getName() + " (" + fighter1.getFaction() + ") vs " +
-                                    fighter2.getName() + " (" + fighter2.getFaction() + ")");
-                            System.out.println("     Avant : " + fighter1.getName() + " [PV: " + fighter1HealthBefore + "] | " +
-                                    fighter2.getName() + " [PV: " + fighter2HealthBefore + "]");
-
-                            fighter1.fight(fighter2);
-
-                            int damageToFighter2 = fighter2HealthBefore - fighter2.getHealth();
-                            int damageToFighter1 = fighter1HealthBefore - fighter1.getHealth();
-
-                            System.out.println("     Dégâts : " + fighter1.getName() + " inflige " + damageToFighter2 + " | " +
-                                    fighter2.getName() + " inflige " + damageToFighter1);
-                            System.out.println("     Après : " + fighter1.getName() + " [PV: " + fighter1.getHealth() + "] | " +
-                                    fighter2.getName() + " [PV: " + fighter2.getHealth() + "]");
-
-                            CombatResult result = new CombatResult(
-                                    fighter1.getName(), fighter2.getName(),
-                                    fighter1.getFaction(), fighter2.getFaction(),
-                                    damageToFighter2, damageToFighter1,
-                                    fighter1.getHealth(), fighter2.getHealth(),
-                                    fighter1.isDead(), fighter2.isDead(),
-                                    battlefield.getName()
-                            );
-                            results.add(result);
-
-                            if (fighter2.isDead()) System.out.println("     💀 " + fighter2.getName() + " est tombé !");
-                            if (fighter1.isDead()) {
-                                System.out.println("     💀 " + fighter1.getName() + " est tombé !");
-                                break;
-                            }
-                        }
-                    }
-                }
+                battlefields.add((Battlefield) place);
+            }
+        }
 
-                battlefield.removeDeadCharacters();
+        if (parallelBattles && battlefields.size() > 1) {
+            List<ForkJoinTask<BattlefieldOutcome>> tasks = new ArrayList<>(battlefields.size());
+            for (Battlefield battlefield : battlefields) {
+                tasks.add(battlePool.submit(() -> resolveBattlefield(battlefield)));
+            }
+            for (ForkJoinTask<BattlefieldOutcome> task : tasks) {
+                task.join().mergeInto(results);
+            }
+        } else {
+            for (Battlefield battlefield : battlefields) {
+                resolveBattlefield(battlefield).mergeInto(results);
             }
         }
 
@@ -288,97 +579,251 @@ public class InvasionTheater {
     }
 
     /**
-     * Modifie aléatoirement les états des personnages (faim, potions, santé, etc.).
+     * Livre tous les duels d'un champ de bataille puis retire les morts.
+     * <p>
+     * Ne touche qu'aux personnages du champ de bataille donné : plusieurs champs
+     * peuvent donc être résolus en même temps, tant qu'aucun personnage n'est
+     * présent sur deux champs à la fois.
+     * </p>
      *
-     * @return liste des messages indiquant les changements d'état
+     * @param battlefield le champ de bataille
+     * @return les résultats des duels, dans l'ordre du matchmaking, et leur trace
      */
-    public List<String> randomlyModifyCharacters() {
-        List<String> messages = new ArrayList<>();
-        System.out.println("\n=== MODIFICATIONS ALÉATOIRES DES PERSONNAGES ===");
+    private BattlefieldOutcome resolveBattlefield(Battlefield battlefield) {
+        BattlefieldOutcome outcome = new BattlefieldOutcome();
+        StringBuilder log = outcome.log;
+        boolean trace = verbose && SimulationLog.isEnabled(LogCategory.COMBAT, LogLevel.INFO);
+        if (trace) log.append("\nBataille à ").append(battlefield.getName()).append(" :\n");
+
+        for (BattleMatchmaker.Matchup matchup : matchmaker.match(battlefield.getCharacters())) {
+            GameCharacter fighter1 = matchup.getFirst();
+            GameCharacter fighter2 = matchup.getSecond();
+
+            int fighter1HealthBefore = fighter1.getHealth();
+            int fighter2HealthBefore = fighter2.getHealth();
+
+            if (trace) {
+                log.append("\n  ⚔️ COMBAT : ").append(fighter1.getName()).append(" (").append(fighter1.getFaction())
+                        .append(") vs ").append(fighter2.getName()).append(" (").append(fighter2.getFaction()).append(")\n");
+                log.append("     Avant : ").append(fighter1.getName()).append(" [PV: ").append(fighter1HealthBefore)
+                        .append("] | ").append(fighter2.getName()).append(" [PV: ").append(fighter2HealthBefore).append("]\n");
+            }
 
-        for (Place place : places) {
-            for (GameCharacter character : place.getCharacters()) {
-                if (character.isDead()) continue;
-
-                if (random.nextDouble() < 0.3) {
-                    int hungerDecrease = random.nextInt(20) + 10;
-                    character.setHunger(Math.max(0, character.getHunger() - hungerDecrease));
-                    String message = character.getName() + " a faim (-" + hungerDecrease + ")";
-                    System.out.println(message);
-                    messages.add(message);
-                }
+            combatModel.resolve(fighter1, fighter2);
 
-                if (random.nextDouble() < 0.2 && character.getMagicpotion() > 0) {
-                    int potionDecrease = random.nextInt(3) + 1;
-                    character.setMagicpotion(Math.max(0, character.getMagicpotion() - potionDecrease));
-                    String message = character.getName() + " perd de l'effet de sa potion (-" + potionDecrease + ")";
-                    System.out.println(message);
-                    messages.add(message);
-                }
+            int damageToFighter2 = fighter2HealthBefore - fighter2.getHealth();
+            int damageToFighter1 = fighter1HealthBefore - fighter1.getHealth();
 
-                if (random.nextDouble() < 0.1) {
-                    int healthLoss = random.nextInt(10) + 5;
-                    character.setHealth(Math.max(0, character.getHealth() - healthLoss));
-                    String message = character.getName() + " subit une blessure mineure (-" + healthLoss + " PV)";
-                    System.out.println(message);
-                    messages.add(message);
-                }
+            if (trace) {
+                log.append("     Dégâts : ").append(fighter1.getName()).append(" inflige ").append(damageToFighter2)
+                        .append(" | ").append(fighter2.getName()).append(" inflige ").append(damageToFighter1).append('\n');
+                log.append("     Après : ").append(fighter1.getName()).append(" [PV: ").append(fighter1.getHealth())
+                        .append("] | ").append(fighter2.getName()).append(" [PV: ").append(fighter2.getHealth()).append("]\n");
             }
+
+            outcome.results.add(new CombatResult(
+                    fighter1.getName(), fighter2.getName(),
+                    fighter1.getFaction(), fighter2.getFaction(),
+                    damageToFighter2, damageToFighter1,
+                    fighter1.getHealth(), fighter2.getHealth(),
+                    fighter1.isDead(), fighter2.isDead(),
+                    battlefield.getName()
+            ));
+
+            if (trace && fighter2.isDead()) log.append("     💀 ").append(fighter2.getName()).append(" est tombé !\n");
+            if (trace && fighter1.isDead()) log.append("     💀 ").append(fighter1.getName()).append(" est tombé !\n");
         }
 
-        return messages;
+        battlefield.removeDeadCharacters();
+        return outcome;
     }
 
     /**
-     * Fait apparaître de la nourriture aléatoirement dans les lieux non-bataille.
+     * Résultats et trace de la résolution d'un champ de bataille.
+     */
+    private static final class BattlefieldOutcome {
+
+        /** Résultats des duels du champ de bataille. */
+        private final List<CombatResult> results = new ArrayList<>();
+
+        /** Trace à journaliser, bufferisée pour garder un ordre stable en parallèle. */
+        private final StringBuilder log = new StringBuilder();
+
+        /**
+         * Journalise la trace puis ajoute les résultats à la liste commune.
+         *
+         * @param target la liste de résultats de l'intervalle
+         */
+        private void mergeInto(List<CombatResult> target) {
+            if (log.length() > 0) {
+                log.setLength(log.length() - 1);
+                SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, log.toString());
+            }
+            target.addAll(results);
+        }
+    }
+
+    /**
+     * Modifie aléatoirement les états des personnages (faim, potions, santé, etc.)
+     * selon la table des événements (voir {@link #getCharacterEvents()}), et fait
+     * vieillir les lycanthropes des meutes une fois par période
+     * (voir {@link #setLycanAgeingPeriod(long)}).
+     * <p>
+     * Chaque lieu tire ses événements dans son propre flux aléatoire : le résultat est
+     * le même en mode séquentiel et en mode parallèle (voir {@link #setParallelPlaces(boolean)}).
+     * </p>
      *
-     * @return liste des messages indiquant la nourriture apparue
+     * @return les événements des changements d'état
      */
-    public List<String> spawnFood() {
-        List<String> messages = new ArrayList<>();
-        System.out.println("\n=== APPARITION DE NOURRITURE ===");
+    public List<SimulationEvent> randomlyModifyCharacters() {
+        log("\n=== MODIFICATIONS ALÉATOIRES DES PERSONNAGES ===");
+        if (eventEngine != null) {
+            return print(eventEngine.advanceCharacters());
+        }
 
-        for (Place place : places) {
-            if (!(place instanceof Battlefield) && random.nextDouble() < 0.4) {
-                Foods[] foodTypes = Foods.values();
-                Foods randomFoodType = foodTypes[random.nextInt(foodTypes.length)];
-                Food newFood = new Food(randomFoodType, Freshness.FRESH);
-
-                place.addFood(newFood);
-                String message = "Nourriture fraîche (" + randomFoodType.getLabel() + ") apparue à " + place.getName();
-                System.out.println(message);
-                messages.add(message);
+        SimulationRandom round = random.child("modifications").child(modificationRound++);
+        List<SimulationEvent> events = forEachPlace((index, place, placeEvents) ->
+                characterEvents.apply(place.getCharacters(), round.child(index), placeEvents));
+        if (modificationRound % lycanAgeingPeriod == 0) {
+            events.addAll(print(ageLycans()));
+        }
+        return events;
+    }
+
+    /**
+     * Fait vieillir d'un cran tous les lycanthropes des meutes.
+     *
+     * @return les événements des vieillissements
+     */
+    private List<SimulationEvent> ageLycans() {
+        List<SimulationEvent> events = new ArrayList<>();
+        for (Pack pack : packs) {
+            for (Lycanthropes lycan : pack.getMembers()) {
+                if (lycan.isHuman()) continue;
+
+                lycan.age();
+                events.add(new SimulationEvent.LycanAged(lycan, lycan.getAgeCategory()));
             }
         }
+        return events;
+    }
 
-        return messages;
+    /**
+     * Fait apparaître de la nourriture aléatoirement dans les lieux non-bataille, selon
+     * les poids du type de chaque lieu (voir {@link #getFoodSpawner()}).
+     * <p>
+     * Les lieux tirent leur aliment chacun de leur côté, éventuellement en parallèle ;
+     * les aliments sont ensuite rangés dans les stocks sur le fil appelant, dans l'ordre
+     * des lieux. Chaque arrivée est classée par la roue de dégradation, qui n'est ainsi
+     * jamais modifiée par deux fils à la fois, et dans le même ordre qu'en séquentiel.
+     * </p>
+     *
+     * @return les événements de la nourriture apparue
+     */
+    public List<SimulationEvent> spawnFood() {
+        log("\n=== APPARITION DE NOURRITURE ===");
+        if (eventEngine != null) {
+            return print(eventEngine.advanceSpawns());
+        }
+
+        SimulationRandom round = random.child("nourriture").child(spawnRound++);
+        Foods[] spawned = new Foods[places.size()];
+        List<SimulationEvent> events = forEachPlace((index, place, placeEvents) -> {
+            SimulationRandom placeRandom = round.child(index);
+            if (foodSpawner.canSpawn(place) && placeRandom.nextDouble() < FOOD_SPAWN_PROBABILITY) {
+                spawned[index] = foodSpawner.sample(place, placeRandom);
+                placeEvents.add(new SimulationEvent.FoodSpawned(place.getName(), spawned[index]));
+            }
+        });
+
+        for (int index = 0; index < spawned.length; index++) {
+            if (spawned[index] != null) {
+                places.get(index).getFoodInventory().add(spawned[index], Freshness.FRESH, 1);
+            }
+        }
+        return events;
     }
 
     /**
-     * Dégrade les aliments frais en tous les lieux.
+     * Avance d'un intervalle la dégradation de la nourriture : seuls les lots d'aliments
+     * dont la fraîcheur change à cet intervalle sont touchés (voir
+     * {@link #getFreshnessSchedule()}).
      *
-     * @return liste des messages de dégradation de la nourriture
+     * @return les événements de dégradation de la nourriture, une pile par événement
      */
-    public List<String> degradeFood() {
-        List<String> messages = new ArrayList<>();
-        System.out.println("\n=== DÉGRADATION DE LA NOURRITURE ===");
+    public List<SimulationEvent> degradeFood() {
+        log("\n=== DÉGRADATION DE LA NOURRITURE ===");
 
-        for (Place place : places) {
-            for (Food food : place.getFoods()) {
-                Freshness oldFreshness = food.getFreshness();
-                food.degrade();
-                Freshness newFreshness = food.getFreshness();
-
-                if (oldFreshness != newFreshness) {
-                    String message = "Nourriture à " + place.getName() + " dégradée : " +
-                            oldFreshness.getLabel() + " -> " + newFreshness.getLabel();
-                    System.out.println(message);
-                    messages.add(message);
-                }
+        List<SimulationEvent> events = new ArrayList<>();
+        foodWheel.advance((place, food, from, to, count) ->
+                events.add(new SimulationEvent.FoodDegraded(place.getName(), food, from, to, count)));
+        return print(events);
+    }
+
+    /**
+     * Applique un traitement à chaque lieu du théâtre.
+     * <p>
+     * Chaque lieu écrit ses événements dans son propre tampon ; les tampons sont fusionnés
+     * puis affichés dans l'ordre des lieux. En mode parallèle, les lieux sont répartis
+     * entre les threads du pool par vol de tâches, ce qui suppose que le traitement d'un
+     * lieu ne touche qu'à ce lieu et à ses personnages.
+     * </p>
+     *
+     * @param work le traitement d'un lieu
+     * @return les événements de tous les lieux, dans l'ordre des lieux
+     */
+    private List<SimulationEvent> forEachPlace(PlaceWork work) {
+        List<SimulationEvent> events = new ArrayList<>();
+
+        if (parallelPlaces && places.size() > 1) {
+            // Une seule soumission au pool : le flux parallèle découpe les lieux en
+            // sous-tâches que les threads se volent, et collecte les tampons dans l'ordre
+            List<List<SimulationEvent>> buffers = battlePool.submit(() -> IntStream.range(0, places.size()).parallel()
+                    .mapToObj(index -> runPlaceWork(work, index, places.get(index)))
+                    .collect(Collectors.toList())).join();
+            for (List<SimulationEvent> buffer : buffers) {
+                events.addAll(buffer);
+            }
+        } else {
+            for (int index = 0; index < places.size(); index++) {
+                work.apply(index, places.get(index), events);
+            }
+        }
+
+        return print(events);
+    }
+
+    /**
+     * Journalise les événements en mode verbeux ; leur texte n'est construit que par le fil
+     * d'écriture du journal.
+     */
+    private List<SimulationEvent> print(List<SimulationEvent> events) {
+        if (verbose) {
+            for (SimulationEvent event : events) {
+                SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, event);
             }
         }
+        return events;
+    }
 
-        return messages;
+    private static List<SimulationEvent> runPlaceWork(PlaceWork work, int index, Place place) {
+        List<SimulationEvent> events = new ArrayList<>();
+        work.apply(index, place, events);
+        return events;
+    }
+
+    /**
+     * Traitement d'un lieu pendant une phase de l'intervalle.
+     */
+    @FunctionalInterface
+    private interface PlaceWork {
+
+        /**
+         * @param index l'indice du lieu dans le théâtre
+         * @param place le lieu
+         * @param events le tampon des événements du lieu
+         */
+        void apply(int index, Place place, List<SimulationEvent> events);
     }
 
     /**
@@ -389,73 +834,131 @@ public class InvasionTheater {
      * @param maxActions nombre maximum d'actions autorisées
      */
     public void giveClanLeaderControl(ClanLeader leader, Scanner scanner, int maxActions) {
-        System.out.println("\n========================================");
-        System.out.println("TOUR DU CHEF DE CLAN : " + leader.getName());
-        System.out.println("========================================");
+        giveClanLeaderControl(leader, ClanLeaderPolicy.interactive(scanner), maxActions);
+    }
+
+    /**
+     * Donne le contrôle d'un lieu à un chef de clan, dont les décisions sont prises
+     * par une stratégie.
+     *
+     * @param leader le chef de clan
+     * @param policy la stratégie qui choisit les actions du chef
+     * @param maxActions nombre maximum d'actions autorisées
+     * @return le nombre d'actions effectuées
+     */
+    public int giveClanLeaderControl(ClanLeader leader, ClanLeaderPolicy policy, int maxActions) {
+        log("\n========================================");
+        log("TOUR DU CHEF DE CLAN : " + leader.getName());
+        log("========================================");
 
         if (leader.getPlace() == null) {
-            System.out.println(leader.getName() + " n'a aucun lieu à gérer.");
-            return;
+            log(leader.getName() + " n'a aucun lieu à gérer.");
+            return 0;
         }
 
         Place place = leader.getPlace();
-        place.display();
+        if (verbose) place.display();
 
         int actionsPerformed = 0;
 
         while (actionsPerformed < maxActions) {
-            System.out.println("\n--- Action " + (actionsPerformed + 1) + "/" + maxActions + " ---");
-            System.out.println("1. Soigner l'équipe");
-            System.out.println("2. Nourrir l'équipe");
-            System.out.println("3. Examiner le lieu");
-            System.out.println("4. Passer le tour");
-            System.out.print("Choisir une action : ");
-
-            if (!scanner.hasNextInt()) {
-                scanner.next();
-                System.out.println("Entrée invalide. Veuillez entrer un nombre.");
-                continue;
+            log("\n--- Action " + (actionsPerformed + 1) + "/" + maxActions + " ---");
+
+            LeaderAction action = policy.chooseAction(leader, place, actionsPerformed + 1, maxActions);
+            if (action == LeaderAction.PASS) {
+                log(leader.getName() + " passe le reste des actions.");
+                return actionsPerformed;
             }
 
-            int choice = scanner.nextInt();
-            scanner.nextLine();
-
-            switch (choice) {
-                case 1:
-                    if (!place.getCharacters().isEmpty()) {
-                        place.healAll(20);
-                        System.out.println("Équipe soignée !");
-                    } else {
-                        System.out.println("Aucun personnage à soigner.");
-                    }
-                    actionsPerformed++;
-                    break;
-
-                case 2:
-                    if (!place.getCharacters().isEmpty() && !place.getFoods().isEmpty()) {
-                        place.feedAll();
-                        System.out.println("Équipe nourrie !");
-                    } else {
-                        System.out.println("Pas de personnages ou pas de nourriture disponible.");
-                    }
-                    actionsPerformed++;
-                    break;
-
-                case 3:
-                    leader.examinePlace();
-                    actionsPerformed++;
-                    break;
-
-                case 4:
-                    System.out.println(leader.getName() + " passe le reste des actions.");
-                    return;
-
-                default:
-                    System.out.println("Choix invalide. Réessayez.");
+            boolean applied = action.apply(leader, place);
+            if (action == LeaderAction.HEAL) {
+                log(applied ? "Équipe soignée !" : "Aucun personnage à soigner.");
+            } else if (action == LeaderAction.FEED) {
+                log(applied ? "Équipe nourrie !" : "Pas de personnages ou pas de nourriture disponible.");
             }
+            actionsPerformed++;
         }
 
-        System.out.println("\n" + leader.getName() + " a utilisé toutes ses actions.");
+        log("\n" + leader.getName() + " a utilisé toutes ses actions.");
+        return actionsPerformed;
+    }
+
+    /**
+     * Construit le pipeline d'un intervalle : combats, modifications aléatoires,
+     * apparition puis dégradation de la nourriture, et tour des chefs de clan.
+     *
+     * @param policy la stratégie des chefs de clan
+     * @param maxActions nombre maximum d'actions par chef
+     * @return le pipeline, dont les phases peuvent être désactivées ou remplacées
+     */
+    public PhasePipeline createPipeline(ClanLeaderPolicy policy, int maxActions) {
+        return new PhasePipeline()
+                .addPhase(PHASE_BATTLES, round -> conductBattles().forEach(round::addCombatResult))
+                .addPhase(PHASE_STATE_CHANGES, round -> randomlyModifyCharacters().forEach(round::addStateChange))
+                .addPhase(PHASE_FOOD_SPAWN, round -> spawnFood().forEach(round::addFoodSpawning))
+                .addPhase(PHASE_FOOD_DEGRADATION, round -> degradeFood().forEach(round::addFoodDegradation))
+                .addPhase(PHASE_LEADERS, leaderPhase(policy, maxActions));
+    }
+
+    /**
+     * Construit la phase du tour des chefs de clan.
+     *
+     * @param policy la stratégie des chefs de clan
+     * @param maxActions nombre maximum d'actions par chef
+     * @return la phase, à enregistrer sous {@link #PHASE_LEADERS}
+     */
+    public SimulationPhase leaderPhase(ClanLeaderPolicy policy, int maxActions) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Clan leader policy cannot be null.");
+        }
+        return round -> {
+            for (ClanLeader leader : clanLeaders) {
+                round.addLeaderActions(giveClanLeaderControl(leader, policy, maxActions));
+            }
+        };
+    }
+
+    /**
+     * Joue un intervalle complet : combats, événements aléatoires, nourriture, puis
+     * tour de chaque chef de clan selon la stratégie donnée.
+     *
+     * @param interval le numéro de l'intervalle
+     * @param policy la stratégie des chefs de clan
+     * @param maxActions nombre maximum d'actions par chef
+     * @return le résumé de l'intervalle
+     */
+    public IntervalSummary runInterval(long interval, ClanLeaderPolicy policy, int maxActions) {
+        return runInterval(createPipeline(policy, maxActions), interval);
+    }
+
+    /**
+     * Joue un intervalle avec le pipeline donné et en résume le résultat.
+     *
+     * @param pipeline le pipeline de l'intervalle
+     * @param interval le numéro de l'intervalle
+     * @return le résumé de l'intervalle
+     */
+    public IntervalSummary runInterval(PhasePipeline pipeline, long interval) {
+        long start = System.nanoTime();
+        int aliveBefore = getAliveCharacters();
+
+        RoundResult round = pipeline.runRound(interval);
+
+        int aliveAfter = getAliveCharacters();
+        return new IntervalSummary(interval, round.getTotalBattles(), Math.max(0, aliveBefore - aliveAfter),
+                round.getStateChangeCount(), round.getFoodSpawned(), round.getFoodDegradationCount(),
+                round.getLeaderActions(), aliveAfter, getTotalCharacters(), System.nanoTime() - start);
+    }
+
+    /**
+     * @return le nombre de personnages vivants dans tous les lieux du théâtre
+     */
+    public int getAliveCharacters() {
+        int alive = 0;
+        for (Place place : places) {
+            alive += place.getAliveCharactersCount();
+        }
+        return alive;
     }
 
     /**
@@ -465,25 +968,21 @@ public class InvasionTheater {
      * @param scanner scanner pour la saisie utilisateur
      */
     public void runSimulation(int intervals, Scanner scanner) {
+        SimulationLog.flush();
         System.out.println("\n╔════════════════════════════════════════╗");
         System.out.println("║  SIMULATION DU THÉÂTRE D'INVASION     ║");
         System.out.println("║  Théâtre : " + name + "                 ");
         System.out.println("║  Intervalles : " + intervals + "                         ║");
         System.out.println("╚════════════════════════════════════════╝\n");
 
+        PhasePipeline pipeline = createPipeline(ClanLeaderPolicy.interactive(scanner), 2);
+
         for (int interval = 1; interval <= intervals; interval++) {
             System.out.println("\n╔════════════════════════════════════════╗");
             System.out.println("║        INTERVALLE " + interval + " / " + intervals + "                 ║");
             System.out.println("╚════════════════════════════════════════╝");
 
-            conductBattles();
-            randomlyModifyCharacters();
-            spawnFood();
-            degradeFood();
-
-            for (ClanLeader leader : clanLeaders) {
-                giveClanLeaderControl(leader, scanner, 2);
-            }
+            runInterval(pipeline, interval);
 
             System.out.println("\n--- Fin de l'intervalle " + interval + " ---");
             System.out.println("Nombre total de personnages : " + getTotalCharacters());
@@ -497,5 +996,18 @@ public class InvasionTheater {
         System.out.println("\n╔════════════════════════════════════════╗");
         System.out.println("║    SIMULATION TERMINÉE                 ║");
         System.out.println("╚════════════════════════════════════════");
+        System.out.println("\nDurée des phases :");
+        System.out.print(pipeline.getTimingReport());
+    }
+
+    /**
+     * Journalise un message si le théâtre est en mode verbeux.
+     *
+     * @param message le message à journaliser
+     */
+    private void log(String message) {
+        if (verbose) {
+            SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, message);
+        }
     }
 }
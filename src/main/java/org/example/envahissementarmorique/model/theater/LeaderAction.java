@@ -0,0 +1,88 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.place.Place;
+
+/**
+ * Action qu'un chef de clan peut effectuer sur son lieu pendant son tour.
+ * <p>
+ * Le numéro de chaque action est celui du menu proposé au joueur.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public enum LeaderAction {
+    /** Soigner tous les personnages vivants du lieu. */
+    HEAL(1, "Soigner l'équipe"),
+
+    /** Nourrir les personnages du lieu avec la nourriture disponible. */
+    FEED(2, "Nourrir l'équipe"),
+
+    /** Examiner le lieu. */
+    EXAMINE(3, "Examiner le lieu"),
+
+    /** Passer le reste du tour. */
+    PASS(4, "Passer le tour");
+
+    /** Points de vie rendus par l'action {@link #HEAL}. */
+    public static final int HEAL_AMOUNT = 20;
+
+    private final int menuNumber;
+    private final String label;
+
+    LeaderAction(int menuNumber, String label) {
+        this.menuNumber = menuNumber;
+        this.label = label;
+    }
+
+    /** @return le numéro de l'action dans le menu */
+    public int getMenuNumber() {
+        return menuNumber;
+    }
+
+    /** @return le libellé de l'action dans le menu */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retrouve une action à partir de son numéro dans le menu.
+     *
+     * @param menuNumber le numéro saisi
+     * @return l'action correspondante, ou null si le numéro est invalide
+     */
+    public static LeaderAction fromMenuNumber(int menuNumber) {
+        for (LeaderAction action : values()) {
+            if (action.menuNumber == menuNumber) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Effectue l'action sur le lieu du chef.
+     *
+     * @param leader le chef de clan
+     * @param place le lieu géré par le chef
+     * @return true si l'action a eu un effet, false sinon (rien à soigner ou à manger, ou tour passé)
+     */
+    public boolean apply(ClanLeader leader, Place place) {
+        switch (this) {
+            case HEAL:
+                if (place.getCharacters().isEmpty()) return false;
+                place.healAll(HEAL_AMOUNT);
+                return true;
+            case FEED:
+                if (place.getCharacters().isEmpty() || place.getFoodInventory().isEmpty()) return false;
+                place.feedAll();
+                return true;
+            case EXAMINE:
+                leader.examinePlace();
+                return true;
+            default:
+                return false;
+        }
+    }
+}
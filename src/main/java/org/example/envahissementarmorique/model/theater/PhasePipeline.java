@@ -0,0 +1,235 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.log.SimulationLog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Enchaînement des phases d'un intervalle de simulation.
+ * <p>
+ * Les phases sont exécutées dans leur ordre d'enregistrement. Chacune est chronométrée
+ * à la nanoseconde : sa durée est inscrite dans le {@link RoundResult} de l'intervalle
+ * et cumulée par le pipeline, ce qui montre quelle phase consomme le budget d'un
+ * intervalle. Une phase peut être désactivée sans être retirée ; elle est alors
+ * sautée et n'apparaît pas dans les durées de l'intervalle.
+ * </p>
+ * <p>
+ * Un observateur facultatif est prévenu à la fin de chaque phase, hors chronométrage
+ * (mise à jour de l'interface, rythme d'animation...).
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+public final class PhasePipeline {
+
+    /** Phases enregistrées, dans leur ordre d'exécution. */
+    private final List<Stage> stages = new ArrayList<>();
+
+    /** Observateur prévenu à la fin de chaque phase. */
+    private BiConsumer<String, RoundResult> phaseListener = (phase, round) -> { };
+
+    /** Nombre d'intervalles joués depuis la dernière remise à zéro des durées. */
+    private long rounds;
+
+    /**
+     * Ajoute une phase à la fin du pipeline.
+     *
+     * @param name le nom de la phase, unique dans le pipeline
+     * @param phase la phase
+     * @return ce pipeline, pour enchaîner les ajouts
+     */
+    public PhasePipeline addPhase(String name, SimulationPhase phase) {
+        if (name == null || phase == null) {
+            throw new IllegalArgumentException("Phase name and phase cannot be null.");
+        }
+        if (find(name) != null) {
+            throw new IllegalArgumentException("Phase already registered: " + name);
+        }
+        stages.add(new Stage(name, phase));
+        return this;
+    }
+
+    /**
+     * Remplace le traitement d'une phase, en gardant sa place, son état et ses durées.
+     *
+     * @param name le nom de la phase
+     * @param phase le nouveau traitement
+     */
+    public void replacePhase(String name, SimulationPhase phase) {
+        if (phase == null) {
+            throw new IllegalArgumentException("Phase cannot be null.");
+        }
+        get(name).phase = phase;
+    }
+
+    /**
+     * Active ou désactive une phase.
+     *
+     * @param name le nom de la phase
+     * @param enabled false pour sauter la phase
+     */
+    public void setEnabled(String name, boolean enabled) {
+        get(name).enabled = enabled;
+    }
+
+    /**
+     * @param name le nom de la phase
+     * @return true si la phase est exécutée
+     */
+    public boolean isEnabled(String name) {
+        return get(name).enabled;
+    }
+
+    /** @return les noms des phases, dans leur ordre d'exécution */
+    public List<String> getPhaseNames() {
+        List<String> names = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            names.add(stage.name);
+        }
+        return names;
+    }
+
+    /**
+     * Définit l'observateur prévenu à la fin de chaque phase.
+     *
+     * @param phaseListener reçoit le nom de la phase terminée et le résultat de l'intervalle
+     */
+    public void setPhaseListener(BiConsumer<String, RoundResult> phaseListener) {
+        if (phaseListener == null) {
+            throw new IllegalArgumentException("Phase listener cannot be null.");
+        }
+        this.phaseListener = phaseListener;
+    }
+
+    /**
+     * Joue un intervalle : exécute les phases actives dans l'ordre, en les chronométrant.
+     *
+     * @param roundNumber le numéro de l'intervalle
+     * @return le résultat de l'intervalle, avec la durée de chaque phase jouée
+     */
+    public RoundResult runRound(long roundNumber) {
+        RoundResult round = new RoundResult(roundNumber);
+        for (Stage stage : stages) {
+            if (!stage.enabled) continue;
+
+            long start = System.nanoTime();
+            stage.phase.execute(round);
+            long elapsed = System.nanoTime() - start;
+
+            stage.totalNanos += elapsed;
+            stage.maxNanos = Math.max(stage.maxNanos, elapsed);
+            stage.runs++;
+            round.recordPhaseDuration(stage.name, elapsed);
+            phaseListener.accept(stage.name, round);
+        }
+        // La trace de l'intervalle est écrite avant de rendre la main à l'appelant.
+        SimulationLog.flush();
+        rounds++;
+        return round;
+    }
+
+    /** @return le nombre d'intervalles joués depuis la dernière remise à zéro */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @param name le nom de la phase
+     * @return la durée cumulée de la phase en nanosecondes
+     */
+    public long getTotalNanos(String name) {
+        return get(name).totalNanos;
+    }
+
+    /**
+     * @param name le nom de la phase
+     * @return la plus longue exécution de la phase en nanosecondes
+     */
+    public long getMaxNanos(String name) {
+        return get(name).maxNanos;
+    }
+
+    /** @return la durée cumulée de chaque phase en nanosecondes, dans l'ordre d'exécution */
+    public Map<String, Long> getTotalNanos() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (Stage stage : stages) {
+            totals.put(stage.name, stage.totalNanos);
+        }
+        return totals;
+    }
+
+    /**
+     * Remet à zéro les durées cumulées et le compteur d'intervalles.
+     */
+    public void resetTimings() {
+        for (Stage stage : stages) {
+            stage.totalNanos = 0;
+            stage.maxNanos = 0;
+            stage.runs = 0;
+        }
+        rounds = 0;
+    }
+
+    /**
+     * Construit un tableau des durées : pour chaque phase, durée cumulée, durée moyenne
+     * par exécution, durée maximale et part du temps total.
+     *
+     * @return le tableau des durées, une ligne par phase
+     */
+    public String getTimingReport() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += stage.totalNanos;
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-16s %12s %12s %12s %7s%n", "Phase", "total (ms)", "moy. (µs)", "max (µs)", "part"));
+        for (Stage stage : stages) {
+            double mean = stage.runs == 0 ? 0.0 : stage.totalNanos / 1e3 / stage.runs;
+            double share = total == 0 ? 0.0 : 100.0 * stage.totalNanos / total;
+            report.append(String.format("%-16s %12.2f %12.2f %12.2f %6.1f%%%s%n", stage.name,
+                    stage.totalNanos / 1e6, mean, stage.maxNanos / 1e3, share, stage.enabled ? "" : " (désactivée)"));
+        }
+        return report.toString();
+    }
+
+    private Stage find(String name) {
+        for (Stage stage : stages) {
+            if (stage.name.equals(name)) {
+                return stage;
+            }
+        }
+        return null;
+    }
+
+    private Stage get(String name) {
+        Stage stage = find(name);
+        if (stage == null) {
+            throw new IllegalArgumentException("Unknown phase: " + name);
+        }
+        return stage;
+    }
+
+    /**
+     * Phase enregistrée, avec son état et ses durées cumulées.
+     */
+    private static final class Stage {
+
+        private final String name;
+        private SimulationPhase phase;
+        private boolean enabled = true;
+        private long totalNanos;
+        private long maxNanos;
+        private long runs;
+
+        private Stage(String name, SimulationPhase phase) {
+            this.name = name;
+            this.phase = phase;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package org.example.envahissementarmorique.model.theater;
 
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Représente les résultats d'un tour complet de simulation.
  * <p>
  * Contient tous les résultats de combats, les événements d'apparition de nourriture
- * et les changements d'état des personnages pour ce tour.
+ * et les changements d'état des personnages pour ce tour, ainsi que la durée de chaque
+ * phase jouée par le {@link PhasePipeline}.
+ * </p>
+ * <p>
+ * Les événements sont conservés tels quels ({@link SimulationEvent}) ; leur texte n'est
+ * construit que si l'on demande les messages.
  * </p>
  *
  * @author
@@ -17,19 +27,19 @@ import java.util.List;
 public class RoundResult {
 
     /** Numéro du tour. */
-    private final int roundNumber;
+    private final long roundNumber;
 
     /** Liste de tous les résultats de combats de ce tour. */
     private final List<CombatResult> combatResults;
 
-    /** Liste des messages de changement d'état des personnages. */
-    private final List<String> stateChangeMessages;
+    /** Événements de changement d'état des personnages. */
+    private final List<SimulationEvent> stateChanges;
 
-    /** Liste des messages d'apparition de nourriture. */
-    private final List<String> foodSpawningMessages;
+    /** Événements d'apparition de nourriture. */
+    private final List<SimulationEvent> foodSpawnings;
 
-    /** Liste des messages de dégradation de nourriture. */
-    private final List<String> foodDegradationMessages;
+    /** Événements de dégradation de nourriture. */
+    private final List<SimulationEvent> foodDegradations;
 
     /** Nombre de personnages décédés lors de ce tour. */
     private int casualties;
@@ -37,17 +47,23 @@ public class RoundResult {
     /** Nombre d'objets alimentaires apparus lors de ce tour. */
     private int foodSpawned;
 
+    /** Nombre d'actions effectuées par les chefs de clan lors de ce tour. */
+    private int leaderActions;
+
+    /** Durée de chaque phase jouée, en nanosecondes, dans l'ordre d'exécution. */
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+
     /**
      * Crée un nouveau résultat de tour.
      *
      * @param roundNumber numéro du tour
      */
-    public RoundResult(int roundNumber) {
+    public RoundResult(long roundNumber) {
         this.roundNumber = roundNumber;
         this.combatResults = new ArrayList<>();
-        this.stateChangeMessages = new ArrayList<>();
-        this.foodSpawningMessages = new ArrayList<>();
-        this.foodDegradationMessages = new ArrayList<>();
+        this.stateChanges = new ArrayList<>();
+        this.foodSpawnings = new ArrayList<>();
+        this.foodDegradations = new ArrayList<>();
         this.casualties = 0;
         this.foodSpawned = 0;
     }
@@ -55,7 +71,7 @@ public class RoundResult {
     // ------------------ Getters ------------------
 
     /** @return le numéro du tour */
-    public int getRoundNumber() {
+    public long getRoundNumber() {
         return roundNumber;
     }
 
@@ -64,19 +80,34 @@ public class RoundResult {
         return new ArrayList<>(combatResults);
     }
 
-    /** @return la liste des messages de changement d'état */
+    /** @return la liste des événements de changement d'état */
+    public List<SimulationEvent> getStateChanges() {
+        return new ArrayList<>(stateChanges);
+    }
+
+    /** @return la liste des événements d'apparition de nourriture */
+    public List<SimulationEvent> getFoodSpawnings() {
+        return new ArrayList<>(foodSpawnings);
+    }
+
+    /** @return la liste des événements de dégradation de nourriture */
+    public List<SimulationEvent> getFoodDegradations() {
+        return new ArrayList<>(foodDegradations);
+    }
+
+    /** @return la liste des messages de changement d'état, formatés à l'appel */
     public List<String> getStateChangeMessages() {
-        return new ArrayList<>(stateChangeMessages);
+        return format(stateChanges);
     }
 
-    /** @return la liste des messages d'apparition de nourriture */
+    /** @return la liste des messages d'apparition de nourriture, formatés à l'appel */
     public List<String> getFoodSpawningMessages() {
-        return new ArrayList<>(foodSpawningMessages);
+        return format(foodSpawnings);
     }
 
-    /** @return la liste des messages de dégradation de nourriture */
+    /** @return la liste des messages de dégradation de nourriture, formatés à l'appel */
     public List<String> getFoodDegradationMessages() {
-        return new ArrayList<>(foodDegradationMessages);
+        return format(foodDegradations);
     }
 
     /** @return le nombre de personnages décédés ce tour */
@@ -94,6 +125,43 @@ public class RoundResult {
         return combatResults.size();
     }
 
+    /** @return le nombre de changements d'état des personnages ce tour */
+    public int getStateChangeCount() {
+        return stateChanges.size();
+    }
+
+    /** @return le nombre d'aliments dégradés ce tour */
+    public int getFoodDegradationCount() {
+        return foodDegradations.size();
+    }
+
+    /** @return le nombre d'actions effectuées par les chefs de clan ce tour */
+    public int getLeaderActions() {
+        return leaderActions;
+    }
+
+    /** @return la durée de chaque phase jouée, en nanosecondes, dans l'ordre d'exécution */
+    public Map<String, Long> getPhaseDurations() {
+        return Collections.unmodifiableMap(phaseDurations);
+    }
+
+    /**
+     * @param phase le nom d'une phase
+     * @return la durée de la phase en nanosecondes, 0 si elle n'a pas été jouée
+     */
+    public long getPhaseDuration(String phase) {
+        return phaseDurations.getOrDefault(phase, 0L);
+    }
+
+    /** @return la durée totale des phases jouées, en nanosecondes */
+    public long getTotalDuration() {
+        long total = 0;
+        for (long duration : phaseDurations.values()) {
+            total += duration;
+        }
+        return total;
+    }
+
     // ------------------ Ajout d'événements ------------------
 
     /**
@@ -109,31 +177,58 @@ public class RoundResult {
     }
 
     /**
-     * Ajoute un message de changement d'état d'un personnage.
+     * Ajoute un changement d'état d'un personnage.
      *
-     * @param message le message à ajouter
+     * @param event l'événement à ajouter
      */
-    public void addStateChangeMessage(String message) {
-        stateChangeMessages.add(message);
+    public void addStateChange(SimulationEvent event) {
+        stateChanges.add(event);
     }
 
     /**
-     * Ajoute un message d'apparition de nourriture.
+     * Ajoute une apparition de nourriture.
      *
-     * @param message le message à ajouter
+     * @param event l'événement à ajouter
      */
-    public void addFoodSpawningMessage(String message) {
-        foodSpawningMessages.add(message);
+    public void addFoodSpawning(SimulationEvent event) {
+        foodSpawnings.add(event);
         foodSpawned++;
     }
 
     /**
-     * Ajoute un message de dégradation de nourriture.
+     * Ajoute une dégradation de nourriture.
      *
-     * @param message le message à ajouter
+     * @param event l'événement à ajouter
      */
-    public void addFoodDegradationMessage(String message) {
-        foodDegradationMessages.add(message);
+    public void addFoodDegradation(SimulationEvent event) {
+        foodDegradations.add(event);
+    }
+
+    /**
+     * Ajoute des actions de chef de clan à ce tour.
+     *
+     * @param actions le nombre d'actions effectuées
+     */
+    public void addLeaderActions(int actions) {
+        leaderActions += actions;
+    }
+
+    /**
+     * Enregistre la durée d'une phase de ce tour.
+     *
+     * @param phase le nom de la phase
+     * @param nanos la durée en nanosecondes
+     */
+    public void recordPhaseDuration(String phase, long nanos) {
+        phaseDurations.merge(phase, nanos, Long::sum);
+    }
+
+    private static List<String> format(List<SimulationEvent> events) {
+        List<String> messages = new ArrayList<>(events.size());
+        for (SimulationEvent event : events) {
+            messages.add(event.format());
+        }
+        return messages;
     }
 
     // ------------------ Résumé ------------------
@@ -0,0 +1,22 @@
+package org.example.envahissementarmorique.model.theater;
+
+/**
+ * Phase d'un intervalle de simulation (combats, événements aléatoires, nourriture...).
+ * <p>
+ * Une phase est enregistrée sous un nom dans un {@link PhasePipeline} ; elle inscrit
+ * ce qu'elle a produit dans le {@link RoundResult} de l'intervalle en cours.
+ * </p>
+ *
+ * @author Envahissement Armorique
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SimulationPhase {
+
+    /**
+     * Exécute la phase pour l'intervalle en cours.
+     *
+     * @param round le résultat de l'intervalle, à compléter
+     */
+    void execute(RoundResult round);
+}
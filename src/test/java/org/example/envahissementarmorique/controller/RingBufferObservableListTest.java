@@ -0,0 +1,66 @@
+package org.example.envahissementarmorique.controller;
+
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la liste observable bornée ({@link RingBufferObservableList}).
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class RingBufferObservableListTest {
+
+    @Test
+    @DisplayName("La liste garde les derniers éléments dans l'ordre, sans dépasser sa capacité")
+    void testBounded() {
+        RingBufferObservableList<Integer> list = new RingBufferObservableList<>(3);
+        list.append(List.of(1, 2));
+        assertEquals(List.of(1, 2), list);
+
+        list.append(List.of(3, 4));
+        assertEquals(List.of(2, 3, 4), list);
+
+        list.add(5);
+        assertEquals(List.of(3, 4, 5), list);
+
+        list.append(List.of(6, 7, 8, 9, 10));
+        assertEquals(List.of(8, 9, 10), list);
+        assertEquals(3, list.capacity());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferObservableList<>(0));
+    }
+
+    @Test
+    @DisplayName("Un ajout notifie en une fois les éléments retirés en tête et ajoutés en queue")
+    void testChangeEvents() {
+        RingBufferObservableList<String> list = new RingBufferObservableList<>(3);
+        list.append(List.of("a", "b", "c"));
+
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        int[] changes = new int[1];
+        list.addListener((ListChangeListener<String>) change -> {
+            changes[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        list.append(List.of("d", "e"));
+        assertEquals(1, changes[0]);
+        assertEquals(List.of("a", "b"), removed);
+        assertEquals(List.of("d", "e"), added);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, changes[0]);
+    }
+}
@@ -5,8 +5,11 @@ import org.example.envahissementarmorique.model.Yell.Yell;
 import org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge;
 import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
 import org.example.envahissementarmorique.model.character.base.Lycan.YellType;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge.ADULT;
 import static org.example.envahissementarmorique.model.character.base.Lycan.Sexe.FEMALE;
 import static org.example.envahissementarmorique.model.character.base.Lycan.Sexe.MALE;
@@ -37,7 +40,7 @@ class LycanthropesTest {
      */
     @Test
     void testLycanCreation() {
-        Lycanthropes l = new Lycanthropes(MALE, CategorieAge.YOUNG, 10, 0.3, 2);
+        Lycanthropes l = new Lycanthropes(MALE, CategorieAge.YOUNG, 10, 0.3, 2, new SimulationRandom(1L));
 
         assertEquals(MALE, l.getSexe());
         assertEquals(CategorieAge.YOUNG, l.getAgeCategory());
@@ -51,10 +54,10 @@ class LycanthropesTest {
      */
     @Test
     void testLeavePack() {
-        Lycanthropes m = new Lycanthropes(MALE, ADULT, 15, 0.2, 0);
-        Lycanthropes f = new Lycanthropes(FEMALE, ADULT, 12, 0.2, 1);
+        Lycanthropes m = new Lycanthropes(MALE, ADULT, 15, 0.2, 0, new SimulationRandom(1L));
+        Lycanthropes f = new Lycanthropes(FEMALE, ADULT, 12, 0.2, 1, new SimulationRandom(1L));
 
-        Pack p = new Pack("LuneRouge", m, f);
+        Pack p = new Pack("LuneRouge", m, f, new SimulationRandom(7L));
 
         assertEquals(p, m.getPack());
         assertEquals(p, f.getPack());
@@ -65,10 +68,10 @@ class LycanthropesTest {
      */
     @Test
     void testSeSeparer() {
-        Lycanthropes m = new Lycanthropes(MALE, ADULT, 15, 0.2, 0);
-        Lycanthropes f = new Lycanthropes(FEMALE, ADULT, 12, 0.2, 1);
+        Lycanthropes m = new Lycanthropes(MALE, ADULT, 15, 0.2, 0, new SimulationRandom(1L));
+        Lycanthropes f = new Lycanthropes(FEMALE, ADULT, 12, 0.2, 1, new SimulationRandom(1L));
 
-        Pack p = new Pack("LuneRouge", m, f);
+        Pack p = new Pack("LuneRouge", m, f, new SimulationRandom(7L));
 
         m.leavePack();
 
@@ -81,7 +84,7 @@ class LycanthropesTest {
      */
     @Test
     void testHowl() {
-        Lycanthropes m = new Lycanthropes(MALE, CategorieAge.YOUNG, 10, 0.2, 1);
+        Lycanthropes m = new Lycanthropes(MALE, CategorieAge.YOUNG, 10, 0.2, 1, new SimulationRandom(1L));
         Yell y = m.yell(YellType.BELONGING, "Je suis là");
 
         assertNotNull(y);
@@ -94,12 +97,12 @@ class LycanthropesTest {
      */
     @Test
     void testSuccessfulDomination() {
-        Lycanthropes dominant = new Lycanthropes(MALE, ADULT, 18, 0.3, 2);
-        Lycanthropes femelleAlpha = new Lycanthropes(FEMALE, ADULT, 10, 0.2, 0);
+        Lycanthropes dominant = new Lycanthropes(MALE, ADULT, 18, 0.3, 2, new SimulationRandom(1L));
+        Lycanthropes femelleAlpha = new Lycanthropes(FEMALE, ADULT, 10, 0.2, 0, new SimulationRandom(1L));
 
-        Pack p = new Pack("Meute1", dominant, femelleAlpha);
+        Pack p = new Pack("Meute1", dominant, femelleAlpha, new SimulationRandom(7L));
 
-        Lycanthropes cible = new Lycanthropes(MALE, CategorieAge.YOUNG, 5, 0.1, 5);
+        Lycanthropes cible = new Lycanthropes(MALE, CategorieAge.YOUNG, 5, 0.1, 5, new SimulationRandom(1L));
         p.addLycanthrope(cible);
 
         boolean resultat = dominant.tryDominate(cible);
@@ -114,10 +117,10 @@ class LycanthropesTest {
      */
     @Test
     void testHumanTransformation() {
-        Lycanthropes alpha = new Lycanthropes(MALE, ADULT, 30, 0.5, 0);
-        Lycanthropes femelle = new Lycanthropes(FEMALE, ADULT, 20, 0.3, 1);
+        Lycanthropes alpha = new Lycanthropes(MALE, ADULT, 30, 0.5, 0, new SimulationRandom(1L));
+        Lycanthropes femelle = new Lycanthropes(FEMALE, ADULT, 20, 0.3, 1, new SimulationRandom(1L));
 
-        Pack p = new Pack("Lune", alpha, femelle);
+        Pack p = new Pack("Lune", alpha, femelle, new SimulationRandom(7L));
 
         alpha.forceTransformHumanForTest();
 
@@ -130,10 +133,31 @@ class LycanthropesTest {
      */
     @Test
     void testAging() {
-        Lycanthropes l = new Lycanthropes(FEMALE, CategorieAge.YOUNG, 10, 0.3, 2);
+        Lycanthropes l = new Lycanthropes(FEMALE, CategorieAge.YOUNG, 10, 0.3, 2, new SimulationRandom(1L));
 
         l.age();
 
         assertEquals(ADULT, l.getAgeCategory());
     }
+
+    /**
+     * Teste que deux meutes de même graine donnent les mêmes portées.
+     */
+    @Test
+    void testSeededPackReproducesIdenticalLitters() {
+        List<Lycanthropes> first = seededPack().reproduce();
+        List<Lycanthropes> second = seededPack().reproduce();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getSexe(), second.get(i).getSexe());
+            assertEquals(first.get(i).getStrength(), second.get(i).getStrength());
+        }
+    }
+
+    private static Pack seededPack() {
+        Lycanthropes m = new Lycanthropes(MALE, ADULT, 15, 0.2, 0, new SimulationRandom(1L));
+        Lycanthropes f = new Lycanthropes(FEMALE, ADULT, 12, 0.2, 1, new SimulationRandom(1L));
+        return new Pack("Graine", m, f, new SimulationRandom(42L));
+    }
 }
@@ -0,0 +1,47 @@
+package org.example.envahissementarmorique.model.character.base;
+
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Legionnary;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link FactionRegistry}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class FactionRegistryTest {
+
+    @Test
+    @DisplayName("Un nom de faction reçoit toujours le même identifiant, et le nom reste lisible")
+    void testInterning() {
+        int id = FactionRegistry.idOf("Goths");
+
+        assertEquals(id, FactionRegistry.idOf(new String("Goths")));
+        assertEquals("Goths", FactionRegistry.nameOf(id));
+        assertTrue(id < FactionRegistry.size());
+        assertEquals(FactionRegistry.NONE, FactionRegistry.idOf(null));
+        assertNull(FactionRegistry.nameOf(FactionRegistry.NONE));
+        assertThrows(IllegalArgumentException.class, () -> FactionRegistry.nameOf(FactionRegistry.size()));
+    }
+
+    @Test
+    @DisplayName("Les personnages d'une même faction partagent son identifiant, même par des classes différentes")
+    void testCharacterFactionIds() {
+        Roman roman = new Roman("Caius", "M", 1.75, 30, 50, 50, 100, 100, 60, 0);
+        Legionnary legionnary = new Legionnary("Marcus", "M", "Roman", 1.72, 25, 60, 60, 100, 100, 70, 0);
+        Gaulois gaulois = new Gaulois("Astérix", "M", 1.65, 35, 70, 50, 100, 100, 80, 0);
+
+        assertEquals(FactionRegistry.ROMAN, roman.getFactionId());
+        assertEquals(roman.getFactionId(), legionnary.getFactionId());
+        assertEquals(FactionRegistry.GAULOIS, gaulois.getFactionId());
+
+        legionnary.setFaction("Gaulois");
+        assertEquals(gaulois.getFactionId(), legionnary.getFactionId());
+        assertEquals("Gaulois", legionnary.getFaction());
+    }
+}
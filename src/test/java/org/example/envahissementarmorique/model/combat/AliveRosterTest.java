@@ -0,0 +1,87 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour {@link AliveRoster}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests de l'effectif des combattants vivants")
+class AliveRosterTest {
+
+    private AliveRoster roster;
+    private Gaulois asterix;
+    private Gaulois obelix;
+    private Gaulois panoramix;
+
+    @BeforeEach
+    void setUp() {
+        roster = new AliveRoster();
+        asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        obelix = new Gaulois("Obélix", "M", 1.85, 35, 90, 95, 120, 100, 70, 0);
+        panoramix = new Gaulois("Panoramix", "M", 1.70, 80, 30, 40, 80, 100, 10, 0);
+    }
+
+    @Test
+    @DisplayName("Ajout sans doublon")
+    void testAddIgnoresDuplicates() {
+        assertTrue(roster.add(asterix));
+        assertFalse(roster.add(asterix));
+        assertEquals(1, roster.size());
+    }
+
+    @Test
+    @DisplayName("Le retrait remplace l'élément par le dernier")
+    void testSwapRemove() {
+        roster.add(asterix);
+        roster.add(obelix);
+        roster.add(panoramix);
+
+        assertTrue(roster.remove(asterix));
+
+        assertEquals(2, roster.size());
+        assertSame(panoramix, roster.get(0));
+        assertSame(obelix, roster.get(1));
+        assertFalse(roster.contains(asterix));
+
+        // Les positions restent cohérentes après l'échange
+        assertTrue(roster.remove(panoramix));
+        assertSame(obelix, roster.get(0));
+        assertFalse(roster.remove(panoramix));
+    }
+
+    @Test
+    @DisplayName("Le tirage aléatoire couvre tout l'effectif")
+    void testPickRandomCoversAllMembers() {
+        roster.add(asterix);
+        roster.add(obelix);
+        roster.add(panoramix);
+
+        Random random = new Random(42);
+        Set<GameCharacter> picked = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            picked.add(roster.pickRandom(random));
+        }
+
+        assertEquals(3, picked.size());
+    }
+
+    @Test
+    @DisplayName("Tirage impossible dans un effectif vide")
+    void testPickRandomOnEmptyRoster() {
+        assertTrue(roster.isEmpty());
+        assertThrows(IllegalStateException.class, () -> roster.pickRandom(new Random()));
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.FantasticCreature;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour {@link BattleMatchmaker}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests du matchmaking des combats")
+class BattleMatchmakerTest {
+
+    private final BattleMatchmaker matchmaker = new BattleMatchmaker();
+
+    private static Gaulois gaulois(String name) {
+        return new Gaulois(name, "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+    }
+
+    private static Roman roman(String name) {
+        return new Roman(name, "M", 1.75, 28, 70, 75, 90, 100, 80, 0);
+    }
+
+    @Test
+    @DisplayName("Les duels opposent toujours deux factions différentes")
+    void testPairsAreCrossFaction() {
+        List<GameCharacter> fighters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            fighters.add(gaulois("G" + i));
+            fighters.add(roman("R" + i));
+        }
+
+        List<BattleMatchmaker.Matchup> matchups = matchmaker.match(fighters);
+
+        assertEquals(10, matchups.size());
+        for (BattleMatchmaker.Matchup m : matchups) {
+            assertNotEquals(m.getFirst().getFaction(), m.getSecond().getFaction());
+        }
+    }
+
+    @Test
+    @DisplayName("Chaque combattant participe à au plus un duel")
+    void testEachFighterFightsAtMostOnce() {
+        List<GameCharacter> fighters = new ArrayList<>();
+        for (int i = 0; i < 7; i++) fighters.add(gaulois("G" + i));
+        for (int i = 0; i < 4; i++) fighters.add(roman("R" + i));
+        fighters.add(new FantasticCreature("Dragon", "M", 3.0, 100, 90, 90, 200, 100, 90, 0));
+
+        Map<GameCharacter, Integer> seen = new IdentityHashMap<>();
+        for (BattleMatchmaker.Matchup m : matchmaker.match(fighters)) {
+            seen.merge(m.getFirst(), 1, Integer::sum);
+            seen.merge(m.getSecond(), 1, Integer::sum);
+        }
+
+        assertEquals(10, seen.size());
+        assertTrue(seen.values().stream().allMatch(count -> count == 1));
+    }
+
+    @Test
+    @DisplayName("Les morts et les pacifiques sont exclus")
+    void testDeadAndPeacefulAreSkipped() {
+        Gaulois dead = gaulois("Mort");
+        dead.setHealth(0);
+        Roman peaceful = roman("Pacifique");
+        peaceful.setBelligerence(0);
+
+        List<GameCharacter> fighters = List.of(dead, peaceful, gaulois("Astérix"), roman("Caius"));
+        List<BattleMatchmaker.Matchup> matchups = matchmaker.match(fighters);
+
+        assertEquals(1, matchups.size());
+        assertEquals("Astérix", matchups.get(0).getFirst().getName());
+        assertEquals("Caius", matchups.get(0).getSecond().getName());
+    }
+
+    @Test
+    @DisplayName("Une seule faction ne produit aucun duel")
+    void testSingleFactionProducesNoMatchup() {
+        List<GameCharacter> fighters = List.of(gaulois("A"), gaulois("B"), gaulois("C"));
+        assertTrue(matchmaker.match(fighters).isEmpty());
+        assertTrue(matchmaker.match(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Un grand effectif est entièrement apparié, factions comparées par identifiant")
+    void testLargeRosterIsFullyMatched() {
+        String[] factions = {"Gaulois", "Roman", "Créature"};
+        List<GameCharacter> fighters = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Une nouvelle chaîne par combattant : seul l'identifiant de faction doit compter
+            String faction = new String(factions[i % factions.length]);
+            fighters.add(new GameCharacter("F" + i, "M", faction, 1.7, 30, 60, 60, 100, 100, 50, 0));
+        }
+
+        List<BattleMatchmaker.Matchup> matchups = matchmaker.match(fighters);
+
+        assertEquals(50_000, matchups.size());
+        Map<GameCharacter, Boolean> seen = new IdentityHashMap<>();
+        for (BattleMatchmaker.Matchup m : matchups) {
+            assertNotEquals(m.getFirst().getFactionId(), m.getSecond().getFactionId());
+            assertNull(seen.put(m.getFirst(), Boolean.TRUE));
+            assertNull(seen.put(m.getSecond(), Boolean.TRUE));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour {@link DefaultCombatModel} et le contrat de {@link CombatModel}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests du modèle de combat")
+class DefaultCombatModelTest {
+
+    private final CombatModel model = DefaultCombatModel.INSTANCE;
+    private Gaulois asterix;
+    private Roman legionnaire;
+
+    @BeforeEach
+    void setUp() {
+        asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        legionnaire = new Roman("Légionnaire", "M", 1.75, 30, 70, 75, 90, 100, 60, 0);
+    }
+
+    @Test
+    @DisplayName("L'endurance du défenseur absorbe la moitié de sa valeur")
+    void testEnduranceAbsorbsDamage() {
+        assertEquals(80 - 75 / 2, model.computeDamage(80, 100, 0, 75, 90, 0));
+    }
+
+    @Test
+    @DisplayName("Un attaquant blessé frappe moins fort")
+    void testWoundedAttackerHitsLess() {
+        int healthy = model.computeDamage(80, 100, 0, 20, 100, 0);
+        int wounded = model.computeDamage(80, 20, 0, 20, 100, 0);
+        assertTrue(wounded < healthy);
+    }
+
+    @Test
+    @DisplayName("La potion magique renforce l'attaque et protège le défenseur")
+    void testMagicPotionEffects() {
+        int base = model.computeDamage(80, 100, 0, 20, 100, 0);
+        assertTrue(model.computeDamage(80, 100, 5, 20, 100, 0) > base);
+        assertTrue(model.computeDamage(80, 100, 0, 20, 100, 5) < base);
+    }
+
+    @Test
+    @DisplayName("Dégâts minimaux de 1, nuls sans force")
+    void testMinimumDamage() {
+        assertEquals(1, model.computeDamage(10, 100, 0, 200, 100, 0));
+        assertEquals(0, model.computeDamage(0, 100, 0, 0, 100, 0));
+    }
+
+    @Test
+    @DisplayName("Échange de coups : attaque puis riposte")
+    void testResolveAppliesBothBlows() {
+        model.resolve(asterix, legionnaire);
+
+        assertTrue(legionnaire.getHealth() < 90);
+        assertTrue(asterix.getHealth() < 100);
+    }
+
+    @Test
+    @DisplayName("Pas de riposte d'un adversaire tué")
+    void testNoCounterAttackFromDeadDefender() {
+        legionnaire.setHealth(1);
+
+        model.resolve(asterix, legionnaire);
+
+        assertTrue(legionnaire.isDead());
+        assertEquals(100, asterix.getHealth());
+    }
+
+    @Test
+    @DisplayName("Un modèle personnalisé peut remplacer le modèle par défaut")
+    void testCustomModel() {
+        CombatModel flat = (strength, health, potion, endurance, defenderHealth, defenderPotion) -> 10;
+
+        flat.resolve(asterix, legionnaire);
+
+        assertEquals(80, legionnaire.getHealth());
+        assertEquals(90, asterix.getHealth());
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour {@link LanchesterEstimator}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests de l'estimation de Lanchester")
+class LanchesterEstimatorTest {
+
+    /** Chaque attaque inflige exactement 10 points. */
+    private final CombatModel tenDamage = (strength, health, potion, endurance, defenderHealth, defenderPotion) -> 10;
+
+    @Test
+    @DisplayName("Loi linéaire : la plus grande réserve de points de vie l'emporte")
+    void testLinearLaw() {
+        LanchesterEstimator estimator = new LanchesterEstimator(tenDamage);
+
+        LanchesterEstimator.Prediction prediction = estimator.predict(
+                LanchesterEstimator.FactionAggregate.of(gauls(30, 100)),
+                LanchesterEstimator.FactionAggregate.of(romans(20, 100)));
+
+        // 2 000 points de vie romains à 10 par itération ; les Gaulois en perdent autant
+        assertEquals(1, prediction.getWinner());
+        assertEquals(200, prediction.getIterations());
+        assertEquals(10, prediction.getFaction1Survivors());
+        assertEquals(0, prediction.getFaction2Survivors());
+        assertTrue(Double.isNaN(prediction.getEstimatedError()));
+    }
+
+    @Test
+    @DisplayName("Aucun vainqueur si personne ne peut blesser l'adversaire")
+    void testNoDamageMeansNoWinner() {
+        LanchesterEstimator estimator = new LanchesterEstimator(
+                (strength, health, potion, endurance, defenderHealth, defenderPotion) -> 0);
+
+        LanchesterEstimator.Prediction prediction = estimator.predict(
+                LanchesterEstimator.FactionAggregate.of(gauls(5, 100)),
+                LanchesterEstimator.FactionAggregate.of(romans(5, 100)));
+
+        assertEquals(0, prediction.getWinner());
+        assertEquals(5, prediction.getFaction1Survivors());
+        assertEquals(5, prediction.getFaction2Survivors());
+    }
+
+    @Test
+    @DisplayName("L'étalonnage rapproche la prédiction de la boucle de duels")
+    void testCalibrationAgainstDuels() {
+        LanchesterEstimator estimator = new LanchesterEstimator(DefaultCombatModel.INSTANCE);
+        Random random = new Random(3);
+
+        for (int run = 0; run < 8; run++) {
+            AliveRoster gauls = mixedGauls(150);
+            AliveRoster romans = mixedRomans(120);
+            LanchesterEstimator.FactionAggregate aggregate1 = LanchesterEstimator.FactionAggregate.of(gauls);
+            LanchesterEstimator.FactionAggregate aggregate2 = LanchesterEstimator.FactionAggregate.of(romans);
+            long iterations = duel(gauls, romans, random);
+            estimator.calibrate(aggregate1, aggregate2, iterations, gauls.size(), romans.size());
+        }
+
+        AliveRoster gauls = mixedGauls(3_000);
+        AliveRoster romans = mixedRomans(2_400);
+        LanchesterEstimator.Prediction prediction = estimator.predict(
+                LanchesterEstimator.FactionAggregate.of(gauls), LanchesterEstimator.FactionAggregate.of(romans));
+        long iterations = duel(gauls, romans, random);
+
+        assertEquals(8, estimator.getCalibrationRuns());
+        assertFalse(Double.isNaN(prediction.getEstimatedError()));
+        assertEquals(gauls.isEmpty() ? 2 : 1, prediction.getWinner());
+        assertEquals(iterations, prediction.getIterations(), iterations * 0.1);
+        int actualSurvivors = Math.max(gauls.size(), romans.size());
+        int predictedSurvivors = Math.max(prediction.getFaction1Survivors(), prediction.getFaction2Survivors());
+        assertEquals(actualSurvivors, predictedSurvivors, actualSurvivors * 0.1);
+    }
+
+    /** Boucle de duels silencieuse, identique à celle de {@code ClanWarSimulation}. */
+    private static long duel(AliveRoster faction1, AliveRoster faction2, Random random) {
+        long iterations = 0;
+        while (!faction1.isEmpty() && !faction2.isEmpty()) {
+            iterations++;
+            GameCharacter fighter1 = faction1.pickRandom(random);
+            GameCharacter fighter2 = faction2.pickRandom(random);
+            DefaultCombatModel.INSTANCE.resolve(fighter1, fighter2);
+            if (fighter2.isDead()) faction2.remove(fighter2);
+            if (fighter1.isDead()) faction1.remove(fighter1);
+        }
+        return iterations;
+    }
+
+    private static AliveRoster gauls(int count, int health) {
+        AliveRoster roster = new AliveRoster(count);
+        for (int i = 0; i < count; i++) {
+            roster.add(new Gaulois("Gaulois" + i, "M", 1.70, 30, 50, 40, health, 100, 50, 0));
+        }
+        return roster;
+    }
+
+    private static AliveRoster romans(int count, int health) {
+        AliveRoster roster = new AliveRoster(count);
+        for (int i = 0; i < count; i++) {
+            roster.add(new Roman("Romain" + i, "M", 1.75, 30, 50, 40, health, 100, 50, 0));
+        }
+        return roster;
+    }
+
+    private static AliveRoster mixedGauls(int count) {
+        AliveRoster roster = new AliveRoster(count);
+        for (int i = 0; i < count; i++) {
+            roster.add(new Gaulois("Gaulois" + i, "M", 1.70, 30, 50 + i % 30, 40 + i % 10, 90 + i % 20, 100, 50, i % 3));
+        }
+        return roster;
+    }
+
+    private static AliveRoster mixedRomans(int count) {
+        AliveRoster roster = new AliveRoster(count);
+        for (int i = 0; i < count; i++) {
+            roster.add(new Roman("Romain" + i, "M", 1.75, 30, 55 + i % 25, 45 + i % 15, 95 + i % 15, 100, 50, 0));
+        }
+        return roster;
+    }
+}
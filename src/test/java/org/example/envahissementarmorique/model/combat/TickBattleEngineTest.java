@@ -0,0 +1,132 @@
+package org.example.envahissementarmorique.model.combat;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour {@link TickBattleEngine}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests du moteur de bataille synchrone")
+class TickBattleEngineTest {
+
+    /** Chaque attaque inflige exactement 10 points. */
+    private final CombatModel tenDamage = (strength, health, potion, endurance, defenderHealth, defenderPotion) -> 10;
+
+    @Test
+    @DisplayName("Les deux adversaires frappent simultanément")
+    void testSimultaneousBlows() {
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 10, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 10, 100, 80, 0);
+
+        long damage = new TickBattleEngine(tenDamage).tick(List.of(asterix, legionnaire));
+
+        // En séquentiel, le défenseur tué ne riposterait pas
+        assertEquals(20, damage);
+        assertTrue(asterix.isDead());
+        assertTrue(legionnaire.isDead());
+    }
+
+    @Test
+    @DisplayName("Les dégâts sont calculés sur l'instantané du début de tick")
+    void testDamageUsesSnapshot() {
+        List<Integer> attackerHealths = new ArrayList<>();
+        CombatModel recording = (strength, health, potion, endurance, defenderHealth, defenderPotion) -> {
+            attackerHealths.add(health);
+            return 50;
+        };
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 90, 100, 80, 0);
+
+        new TickBattleEngine(recording).tick(List.of(asterix, legionnaire));
+
+        assertEquals(List.of(100, 90), attackerHealths);
+        assertEquals(50, asterix.getHealth());
+        assertEquals(40, legionnaire.getHealth());
+    }
+
+    @Test
+    @DisplayName("Le résultat ne dépend pas de l'ordre des combattants au sein d'une paire")
+    void testNoOrderBias() {
+        List<GameCharacter> forward = List.of(gaul(0), roman(0));
+        List<GameCharacter> backward = List.of(roman(0), gaul(0));
+
+        new TickBattleEngine(DefaultCombatModel.INSTANCE).tick(forward);
+        new TickBattleEngine(DefaultCombatModel.INSTANCE).tick(backward);
+
+        assertEquals(forward.get(0).getHealth(), backward.get(1).getHealth());
+        assertEquals(forward.get(1).getHealth(), backward.get(0).getHealth());
+    }
+
+    @Test
+    @DisplayName("Le calcul parallèle donne le même résultat que le calcul séquentiel")
+    void testParallelMatchesSequential() {
+        List<GameCharacter> sequential = army(5_000);
+        List<GameCharacter> parallel = army(5_000);
+
+        TickBattleEngine sequentialEngine = new TickBattleEngine(DefaultCombatModel.INSTANCE);
+        TickBattleEngine parallelEngine = new TickBattleEngine(DefaultCombatModel.INSTANCE);
+        parallelEngine.setParallel(true);
+        parallelEngine.setParallelThreshold(1);
+
+        assertEquals(sequentialEngine.run(sequential, 1_000), parallelEngine.run(parallel, 1_000));
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getHealth(), parallel.get(i).getHealth());
+        }
+    }
+
+    @Test
+    @DisplayName("La bataille s'arrête quand plus aucune attaque ne porte")
+    void testRunStopsWithoutProgress() {
+        CombatModel harmless = (strength, health, potion, endurance, defenderHealth, defenderPotion) -> 0;
+        List<GameCharacter> fighters = army(10);
+
+        assertEquals(0, new TickBattleEngine(harmless).run(fighters, 100));
+        assertTrue(new TickBattleEngine(tenDamage).run(fighters, 100) > 0);
+    }
+
+    @Test
+    @DisplayName("Le champ de bataille peut jouer en mode synchrone")
+    void testBattlefieldTickMode() {
+        Battlefield battlefield = new Battlefield("Plaine", 1000);
+        battlefield.setTickSynchronous(true);
+        battlefield.setCombatModel(tenDamage);
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 30, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 30, 100, 80, 0);
+        battlefield.addCharacter(asterix);
+        battlefield.addCharacter(legionnaire);
+
+        battlefield.organizeBattle();
+
+        assertTrue(asterix.isDead());
+        assertTrue(legionnaire.isDead());
+    }
+
+    private static List<GameCharacter> army(int perSide) {
+        List<GameCharacter> fighters = new ArrayList<>(perSide * 2);
+        for (int i = 0; i < perSide; i++) {
+            fighters.add(gaul(i));
+            fighters.add(roman(i));
+        }
+        return fighters;
+    }
+
+    private static GameCharacter gaul(int i) {
+        return new Gaulois("Gaulois" + i, "M", 1.70, 30, 50 + i % 30, 40, 100 + i % 7, 100, 50, i % 3);
+    }
+
+    private static GameCharacter roman(int i) {
+        return new Roman("Romain" + i, "M", 1.70, 30, 45 + i % 25, 45, 100 + i % 5, 100, 50, 0);
+    }
+}
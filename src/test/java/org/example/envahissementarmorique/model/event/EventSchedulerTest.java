@@ -0,0 +1,94 @@
+package org.example.envahissementarmorique.model.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'échéancier d'événements discrets.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class EventSchedulerTest {
+
+    @Test
+    @DisplayName("Les événements s'exécutent par date, puis dans leur ordre de programmation")
+    void testOrdering() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> calls = new ArrayList<>();
+        scheduler.schedule(3, () -> calls.add("c"));
+        scheduler.schedule(1, () -> calls.add("a"));
+        scheduler.schedule(3, () -> calls.add("d"));
+        scheduler.schedule(2, () -> calls.add("b"));
+
+        assertEquals(4, scheduler.runUntil(3));
+        assertEquals(List.of("a", "b", "c", "d"), calls);
+        assertEquals(3, scheduler.getNow());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    @DisplayName("Seuls les événements échus sont exécutés")
+    void testOnlyDueEventsRun() {
+        EventScheduler scheduler = new EventScheduler();
+        List<Long> dates = new ArrayList<>();
+        scheduler.schedule(5, () -> dates.add(scheduler.getNow()));
+        scheduler.schedule(10, () -> dates.add(scheduler.getNow()));
+
+        assertEquals(0, scheduler.runUntil(4));
+        assertEquals(1, scheduler.runUntil(7));
+        assertEquals(List.of(5L), dates);
+        assertEquals(7, scheduler.getNow());
+        assertEquals(1, scheduler.size());
+        assertEquals(1, scheduler.getProcessed());
+    }
+
+    @Test
+    @DisplayName("Un événement répété se reprogramme lui-même")
+    void testRecurringEvent() {
+        EventScheduler scheduler = new EventScheduler();
+        int[] count = {0};
+        Runnable[] tick = new Runnable[1];
+        tick[0] = () -> {
+            count[0]++;
+            scheduler.scheduleAfter(2, tick[0]);
+        };
+        scheduler.scheduleAfter(2, tick[0]);
+
+        scheduler.runUntil(10);
+
+        assertEquals(5, count[0]);
+        assertEquals(12, scheduler.schedule(12, () -> { }).getTime());
+    }
+
+    @Test
+    @DisplayName("Un événement annulé est ignoré")
+    void testCancelledEventIsSkipped() {
+        EventScheduler scheduler = new EventScheduler();
+        List<String> calls = new ArrayList<>();
+        EventScheduler.Event event = scheduler.schedule(1, () -> calls.add("annulé"));
+        scheduler.schedule(1, () -> calls.add("gardé"));
+        event.cancel();
+
+        assertEquals(1, scheduler.runUntil(1));
+        assertTrue(event.isCancelled());
+        assertEquals(List.of("gardé"), calls);
+    }
+
+    @Test
+    @DisplayName("Le passé est refusé")
+    void testPastIsRejected() {
+        EventScheduler scheduler = new EventScheduler();
+        scheduler.runUntil(5);
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(4, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.scheduleAfter(-1, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.runUntil(3));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(6, null));
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.envahissementarmorique.model.event;
+
+import org.example.envahissementarmorique.model.event.SimulationEvent.Change;
+import org.example.envahissementarmorique.model.event.SimulationEvent.CharacterChanged;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les événements de simulation ({@link SimulationEvent}).
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class SimulationEventTest {
+
+    @Test
+    @DisplayName("Chaque événement construit son texte à la demande")
+    void testFormat() {
+        assertEquals("Astérix a faim (-12)", new CharacterChanged(Change.HUNGER, "Astérix", 12).format());
+        assertEquals("Obélix subit une blessure mineure (-7 PV)", new CharacterChanged(Change.INJURY, "Obélix", 7).format());
+        assertEquals("Nourriture fraîche (" + Foods.BOAR.getLabel() + ") apparue à Village",
+                new SimulationEvent.FoodSpawned("Village", Foods.BOAR).format());
+        assertEquals("Nourriture à Village dégradée : " + Foods.WINE.getLabel() + " x3 ("
+                        + Freshness.FRESH.getLabel() + " -> " + Freshness.OKAY.getLabel() + ")",
+                new SimulationEvent.FoodDegraded("Village", Foods.WINE, Freshness.FRESH, Freshness.OKAY, 3).format());
+    }
+
+    @Test
+    @DisplayName("Deux événements aux mêmes données sont égaux, sans passer par leur texte")
+    void testEquality() {
+        assertEquals(new CharacterChanged(Change.POTION_WEAR_OFF, "Astérix", 2),
+                new CharacterChanged(Change.POTION_WEAR_OFF, "Astérix", 2));
+        assertNotEquals(new CharacterChanged(Change.HUNGER, "Astérix", 2),
+                new CharacterChanged(Change.STARVATION, "Astérix", 2));
+    }
+}
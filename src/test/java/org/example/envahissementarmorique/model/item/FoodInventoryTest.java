@@ -0,0 +1,75 @@
+package org.example.envahissementarmorique.model.item;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link FoodInventory}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class FoodInventoryTest {
+
+    @Test
+    @DisplayName("Les compteurs suivent les ajouts et les retraits par type et par fraîcheur")
+    void testAddRemoveCount() {
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.BOAR, Freshness.FRESH, 3);
+        inventory.add(new Food(Foods.BOAR, Freshness.ROTTEN));
+        inventory.add(Foods.WINE, Freshness.OKAY, 2);
+
+        assertEquals(6, inventory.size());
+        assertEquals(3, inventory.count(Foods.BOAR, Freshness.FRESH));
+        assertEquals(4, inventory.count(Foods.BOAR));
+        assertEquals(2, inventory.count(Freshness.OKAY));
+
+        assertTrue(inventory.remove(Foods.BOAR, Freshness.FRESH, 2));
+        assertFalse(inventory.remove(Foods.WINE, Freshness.OKAY, 3));
+        assertTrue(inventory.remove(new Food(Foods.BOAR, Freshness.ROTTEN)));
+        assertEquals(3, inventory.size());
+        assertThrows(IllegalArgumentException.class, () -> inventory.add(Foods.BOAR, Freshness.FRESH, -1));
+    }
+
+    @Test
+    @DisplayName("Un changement de fraîcheur ne passe que ce que le stock contient, sans prévenir l'observateur")
+    void testMove() {
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.BOAR, Freshness.FRESH, 5);
+        inventory.add(Foods.BOAR, Freshness.OKAY, 2);
+        List<String> arrivals = new ArrayList<>();
+        inventory.setArrivalListener((food, freshness, count) -> arrivals.add(food + " " + freshness));
+
+        assertEquals(3, inventory.move(Foods.BOAR, Freshness.FRESH, Freshness.OKAY, 3));
+        assertEquals(2, inventory.move(Foods.BOAR, Freshness.FRESH, Freshness.OKAY, 10));
+        assertEquals(0, inventory.move(Foods.WINE, Freshness.FRESH, Freshness.OKAY, 1));
+
+        assertEquals(0, inventory.count(Foods.BOAR, Freshness.FRESH));
+        assertEquals(7, inventory.count(Foods.BOAR, Freshness.OKAY));
+        assertEquals(7, inventory.size());
+        assertTrue(arrivals.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Une copie est indépendante et le parcours donne une pile par couple non vide")
+    void testCopyAndStacks() {
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.BOAR, Freshness.OKAY, 2);
+        inventory.add(Foods.WINE, Freshness.FRESH, 1);
+
+        FoodInventory copy = inventory.copy();
+        copy.clear();
+        assertEquals(3, inventory.size());
+
+        List<FoodInventory.Stack> stacks = new ArrayList<>();
+        inventory.forEach(stacks::add);
+        assertEquals(List.of(new FoodInventory.Stack(Foods.WINE, Freshness.FRESH, 1),
+                new FoodInventory.Stack(Foods.BOAR, Freshness.OKAY, 2)), stacks);
+        assertEquals(3, inventory.toFoodList().size());
+    }
+}
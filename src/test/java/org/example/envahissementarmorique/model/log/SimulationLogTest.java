@@ -0,0 +1,100 @@
+package org.example.envahissementarmorique.model.log;
+
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le journal de la simulation ({@link SimulationLog}).
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class SimulationLogTest {
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        SimulationLog.flush();
+        SimulationLog.setOutput(new PrintStream(captured, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.flush();
+        SimulationLog.setOutput(null);
+        SimulationLog.resetLevels();
+    }
+
+    private String written() {
+        SimulationLog.flush();
+        return captured.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    @Test
+    @DisplayName("Les messages sont écrits dans l'ordre, motifs complétés")
+    void testOrderAndPatterns() {
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} entre dans {}", "Astérix", "Village");
+        SimulationLog.log(LogCategory.FOOD, LogLevel.INFO, "{} a mangé {} et a gagné {} de faim !", "Obélix", "Sanglier", 20);
+        SimulationLog.log(LogCategory.THEATER, LogLevel.INFO, new SimulationEvent.Message("Fin du tour"));
+        SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Motif {} sans {} assez d'arguments", "un");
+
+        assertEquals("Astérix entre dans Village\n"
+                + "Obélix a mangé Sanglier et a gagné 20 de faim !\n"
+                + "Fin du tour\n"
+                + "Motif un sans {} assez d'arguments\n", written());
+    }
+
+    @Test
+    @DisplayName("Un niveau coupé n'écrit rien et ne met pas les arguments en forme")
+    void testDisabledLevel() {
+        SimulationLog.setLevel(LogCategory.PLACE, LogLevel.WARN);
+        Object costly = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("argument mis en forme alors que le niveau est coupé");
+            }
+        };
+
+        assertFalse(SimulationLog.isEnabled(LogCategory.PLACE, LogLevel.INFO));
+        SimulationLog.log(LogCategory.PLACE, LogLevel.INFO, "{} quitte le village", costly);
+        SimulationLog.log(LogCategory.PLACE, LogLevel.WARN, "Refus");
+        SimulationLog.log(LogCategory.FOOD, LogLevel.INFO, "Repas");
+
+        assertEquals("Refus\nRepas\n", written());
+        assertEquals(LogLevel.WARN, SimulationLog.getLevel(LogCategory.PLACE));
+    }
+
+    @Test
+    @DisplayName("OFF coupe toutes les catégories")
+    void testOff() {
+        SimulationLog.setLevel(LogLevel.OFF);
+        for (LogCategory category : LogCategory.values()) {
+            SimulationLog.log(category, LogLevel.WARN, "Message");
+        }
+        assertEquals("", written());
+        assertThrows(IllegalArgumentException.class, () -> SimulationLog.setLevel(null));
+    }
+
+    @Test
+    @DisplayName("Un flot de messages plus long que la file est écrit en entier")
+    void testBackpressure() {
+        int count = AsyncLogWriter.CAPACITY * 3;
+        for (int i = 0; i < count; i++) {
+            SimulationLog.log(LogCategory.COMBAT, LogLevel.INFO, "{}", i);
+        }
+
+        String[] lines = written().split("\n");
+        assertEquals(count, lines.length);
+        assertEquals(String.valueOf(count - 1), lines[count - 1]);
+    }
+}
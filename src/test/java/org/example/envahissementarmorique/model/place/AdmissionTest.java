@@ -0,0 +1,85 @@
+package org.example.envahissementarmorique.model.place;
+
+import org.example.envahissementarmorique.model.character.base.CharacterKind;
+import org.example.envahissementarmorique.model.character.base.FantasticCreature;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Druid;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.General;
+import org.example.envahissementarmorique.model.character.base.Roman.Legionnary;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la matrice d'admission ({@link Admission}) et les types de personnages.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class AdmissionTest {
+
+    private final Gaulois gaulois = new Gaulois("Astérix", "M", 1.65, 35, 70, 50, 100, 100, 80, 0);
+    private final Druid druid = new Druid("Panoramix", "M", "Gaulois", 1.70, 80, 30, 30, 100, 100, 10, 0);
+    private final Roman roman = new Roman("Caius", "M", 1.75, 30, 50, 50, 100, 100, 60, 0);
+    private final Legionnary legionnary = new Legionnary("Marcus", "M", "Roman", 1.72, 25, 60, 60, 100, 100, 70, 0);
+    private final General general = new General("Julius", "M", "Roman", 1.80, 50, 70, 70, 100, 100, 80, 0);
+    private final FantasticCreature creature = new FantasticCreature("Idéfix", "M", 0.5, 5, 15, 25, 50, 100, 30, 0);
+
+    @Test
+    @DisplayName("Chaque classe de personnage porte son propre type")
+    void testKinds() {
+        assertEquals(CharacterKind.GAULOIS, gaulois.getKind());
+        assertEquals(CharacterKind.DRUID, druid.getKind());
+        assertEquals(CharacterKind.LEGIONNARY, legionnary.getKind());
+        assertEquals(CharacterKind.GENERAL, general.getKind());
+        assertEquals(CharacterKind.CREATURE, creature.getKind());
+        assertTrue(druid.getKind().isGaulish());
+        assertTrue(general.getKind().isRoman());
+        assertFalse(creature.getKind().isRoman());
+    }
+
+    @Test
+    @DisplayName("La matrice reprend les règles d'entrée de chaque type de lieu")
+    void testMatrixRules() {
+        for (CharacterKind kind : CharacterKind.values()) {
+            assertTrue(Admission.admits(Battlefield.class, kind));
+        }
+        assertTrue(Admission.admits(GaulishVillage.class, CharacterKind.GAULOIS));
+        assertTrue(Admission.admits(GaulishVillage.class, CharacterKind.CREATURE));
+        assertFalse(Admission.admits(GaulishVillage.class, CharacterKind.ROMAN));
+        assertTrue(Admission.admits(GalloRomanTown.class, CharacterKind.ROMAN));
+        assertFalse(Admission.admits(GalloRomanTown.class, CharacterKind.CREATURE));
+        assertTrue(Admission.admits(Village.class, CharacterKind.DRUID));
+        assertFalse(Admission.admits(RomanCity.class, CharacterKind.GAULOIS));
+        assertFalse(Admission.admits(Enclosure.class, CharacterKind.GAULOIS));
+    }
+
+    @Test
+    @DisplayName("Le camp accueille légionnaires et généraux et les retrouve par leur type")
+    void testCampRoles() {
+        Camp camp = new Camp("Babaorum", 2000, null);
+        camp.setVerbose(false);
+        for (GameCharacter c : List.of(roman, legionnary, general, creature)) {
+            assertTrue(camp.addCharacter(c), c.getName());
+        }
+        assertFalse(camp.addCharacter(gaulois));
+
+        assertEquals(List.of(legionnary), camp.getLegionnaires());
+        assertEquals(List.of(general), camp.getGenerals());
+        assertTrue(camp.isDefended());
+    }
+
+    @Test
+    @DisplayName("L'enclos garde son contrôle de capacité en plus de la matrice")
+    void testEnclosureCapacity() {
+        Enclosure enclosure = new Enclosure("Enclos", 100, 1);
+        assertFalse(enclosure.addCharacter(gaulois));
+        assertTrue(enclosure.addCharacter(creature));
+        assertFalse(enclosure.addCharacter(new FantasticCreature("Autre", "F", 1.0, 3, 10, 10, 50, 100, 10, 0)));
+    }
+}
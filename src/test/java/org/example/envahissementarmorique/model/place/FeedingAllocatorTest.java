@@ -0,0 +1,89 @@
+package org.example.envahissementarmorique.model.place;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link FeedingAllocator}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class FeedingAllocatorTest {
+
+    private static Gaulois gaulois(String name, int hunger) {
+        Gaulois gaulois = new Gaulois(name, "M", 1.70, 30, 50, 40, 100, 100, 50, 0);
+        gaulois.setHunger(hunger);
+        return gaulois;
+    }
+
+    @Test
+    @DisplayName("Le plus affamé reçoit l'aliment le plus nourrissant, puis le plus frais")
+    void testHungriestGetsBestFood() {
+        Gaulois satisfied = gaulois("Repu", 90);
+        Gaulois starving = gaulois("Affamé", 10);
+        Gaulois hungry = gaulois("Creux", 40);
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.CARROT, Freshness.FRESH, 1);
+        inventory.add(Foods.BOAR, Freshness.OKAY, 1);
+        inventory.add(Foods.LOBSTER, Freshness.FRESH, 1);
+
+        int fed = FeedingAllocator.feed(List.of(satisfied, starving, hungry), inventory);
+
+        assertEquals(3, fed);
+        assertEquals(10 + 50, starving.getHunger());
+        assertEquals(40 + 30, hungry.getHunger());
+        assertEquals(90 + 5, satisfied.getHunger());
+        assertTrue(inventory.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Les aliments pourris ne sont servis qu'en dernier recours ; morts et rassasiés ne mangent pas")
+    void testRottenFoodLast() {
+        Gaulois starving = gaulois("Affamé", 10);
+        Gaulois hungry = gaulois("Creux", 40);
+        Gaulois full = gaulois("Plein", FeedingAllocator.SATED);
+        Gaulois dead = gaulois("Mort", 0);
+        dead.setHealth(0);
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.BOAR, Freshness.ROTTEN, 5);
+        inventory.add(Foods.SALT, Freshness.FRESH, 1);
+
+        int fed = FeedingAllocator.feed(List.of(full, dead, hungry, starving), inventory);
+
+        assertEquals(2, fed);
+        assertEquals(11, starving.getHunger());
+        assertTrue(hungry.getHealth() < 100);
+        assertEquals(FeedingAllocator.SATED, full.getHunger());
+        assertEquals(4, inventory.count(Foods.BOAR, Freshness.ROTTEN));
+    }
+
+    @Test
+    @DisplayName("Quand la nourriture manque, seuls les plus affamés sont servis")
+    void testShortageServesHungriest() {
+        List<GameCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            characters.add(gaulois("G" + i, i % 100));
+        }
+        FoodInventory inventory = new FoodInventory();
+        inventory.add(Foods.WINE, Freshness.FRESH, 100);
+
+        int fed = FeedingAllocator.feed(characters, inventory);
+
+        assertEquals(100, fed);
+        for (GameCharacter character : characters) {
+            int initial = Integer.parseInt(character.getName().substring(1)) % 100;
+            assertEquals(initial < 10 ? initial + 10 : initial, character.getHunger(), character.getName());
+        }
+    }
+}
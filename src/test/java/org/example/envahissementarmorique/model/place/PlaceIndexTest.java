@@ -0,0 +1,137 @@
+package org.example.envahissementarmorique.model.place;
+
+import org.example.envahissementarmorique.model.character.base.FantasticCreature;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.character.interfaces.Fighter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les index de personnages d'un {@link Place}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class PlaceIndexTest {
+
+    private Battlefield place;
+    private Gaulois asterix;
+    private Gaulois obelix;
+    private Roman roman;
+    private FantasticCreature idefix;
+
+    @BeforeEach
+    void setUp() {
+        place = new Battlefield("Plaine", 1000);
+        place.setVerbose(false);
+        asterix = new Gaulois("Astérix", "M", 1.65, 35, 70, 50, 100, 100, 80, 0);
+        obelix = new Gaulois("Obélix", "M", 1.90, 35, 90, 80, 100, 100, 0, 0);
+        roman = new Roman("Caius", "M", 1.75, 30, 50, 50, 100, 100, 60, 0);
+        idefix = new FantasticCreature("Idéfix", "M", 0.5, 5, 15, 25, 50, 100, 30, 0);
+        for (GameCharacter c : List.of(asterix, roman, obelix, idefix)) {
+            place.addCharacter(c);
+        }
+    }
+
+    @Test
+    @DisplayName("Les recherches par nom et par type suivent les entrées, sorties et renommages")
+    void testNameAndTypeIndexes() {
+        assertSame(obelix, place.getCharacterByName("Obélix"));
+        assertEquals(List.of(asterix, obelix), place.getCharactersByType(Gaulois.class));
+        assertEquals(4, place.getCharactersByType(Fighter.class).size());
+        assertSame(place, roman.getCurrentPlace());
+
+        place.removeCharacter(obelix);
+        assertNull(place.getCharacterByName("Obélix"));
+        assertNull(obelix.getCurrentPlace());
+        assertEquals(List.of(asterix), place.getCharactersByType(Gaulois.class));
+
+        roman.setName("Obélix");
+        assertNull(place.getCharacterByName("Caius"));
+        assertSame(roman, place.getCharacterByName("Obélix"));
+    }
+
+    @Test
+    @DisplayName("Un nom porté deux fois désigne le premier arrivé, puis le suivant s'il part")
+    void testDuplicateNames() {
+        Gaulois otherAsterix = new Gaulois("Astérix", "M", 1.60, 20, 40, 40, 100, 100, 10, 0);
+        place.addCharacter(otherAsterix);
+
+        assertSame(asterix, place.getCharacterByName("Astérix"));
+        place.removeCharacter(asterix);
+        assertSame(otherAsterix, place.getCharacterByName("Astérix"));
+    }
+
+    @Test
+    @DisplayName("Les compteurs de vivants et de belliqueux suivent les changements d'état")
+    void testAliveAndBelligerentCounters() {
+        assertEquals(4, place.getAliveCharactersCount());
+        assertEquals(3, place.getBelligerentCharactersCount());
+        assertEquals(2, place.countAlive(Gaulois.class));
+
+        asterix.takeDamage(1000);
+        assertEquals(3, place.getAliveCharactersCount());
+        assertEquals(2, place.getBelligerentCharactersCount());
+        assertEquals(1, place.countAlive(Gaulois.class));
+        assertEquals(1, place.countDeaths());
+
+        obelix.setBelligerence(50);
+        assertEquals(3, place.getBelligerentCharactersCount());
+
+        asterix.setHealth(10);
+        asterix.ToHeal(20);
+        assertEquals(4, place.getAliveCharactersCount());
+
+        roman.setHealth(0);
+        place.removeDeadCharacters();
+        assertEquals(3, place.getNumberOfCharacters());
+        assertEquals(3, place.getAliveCharactersCount());
+        assertTrue(place.getCharactersByType(Roman.class).isEmpty());
+        assertNull(place.getCharacterByName("Caius"));
+    }
+
+    @Test
+    @DisplayName("Un mort retiré du lieu ne fausse plus ses compteurs s'il est soigné ou renommé")
+    void testRemovedDeadCharacterIsDetached() {
+        asterix.setHealth(0);
+        place.removeDeadCharacters();
+        assertNull(asterix.getCurrentPlace());
+        assertEquals(3, place.getAliveCharactersCount());
+        assertEquals(1, place.countAlive(Gaulois.class));
+
+        asterix.setHealth(50);
+        asterix.setName("Astérix le Revenant");
+        assertEquals(3, place.getAliveCharactersCount());
+        assertEquals(2, place.getBelligerentCharactersCount());
+        assertEquals(1, place.countAlive(Gaulois.class));
+        assertNull(place.getCharacterByName("Astérix le Revenant"));
+
+        obelix.setHealth(0);
+        place.removeDeadCharacters();
+        assertEquals(2, place.getNumberOfCharacters());
+        assertEquals(2, place.getAliveCharactersCount());
+        assertEquals(0, place.countAlive(Gaulois.class));
+    }
+
+    @Test
+    @DisplayName("La liste des personnages n'est pas modifiable et une copie a ses propres index")
+    void testViewAndCopy() {
+        assertThrows(UnsupportedOperationException.class, () -> place.getCharacters().add(roman));
+
+        Place copy = place.copy();
+        GameCharacter copiedAsterix = copy.getCharacterByName("Astérix");
+        assertNotSame(asterix, copiedAsterix);
+        assertSame(copy, copiedAsterix.getCurrentPlace());
+
+        copiedAsterix.setHealth(0);
+        assertEquals(3, copy.getAliveCharactersCount());
+        assertEquals(4, place.getAliveCharactersCount());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.envahissementarmorique.model.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la table d'alias de Walker.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class AliasTableTest {
+
+    @Test
+    @DisplayName("Les indices sont tirés en proportion de leurs poids")
+    void testFrequenciesFollowWeights() {
+        double[] weights = {1.0, 0.0, 3.0, 6.0};
+        AliasTable table = new AliasTable(weights);
+        SimulationRandom random = new SimulationRandom(4L);
+        int[] counts = new int[weights.length];
+        int draws = 1_000_000;
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        assertEquals(4, table.size());
+        assertEquals(0.1, counts[0] / (double) draws, 0.002);
+        assertEquals(0, counts[1]);
+        assertEquals(0.3, counts[2] / (double) draws, 0.002);
+        assertEquals(0.6, counts[3] / (double) draws, 0.002);
+    }
+
+    @Test
+    @DisplayName("Un seul poids non nul donne toujours le même indice")
+    void testSinglePositiveWeight() {
+        AliasTable table = new AliasTable(new double[] {0.0, 0.0, 2.5});
+        SimulationRandom random = new SimulationRandom(1L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(2, table.sample(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Des poids vides, négatifs ou tous nuls sont refusés")
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(null));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1.0, -1.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {Double.NaN}));
+    }
+}
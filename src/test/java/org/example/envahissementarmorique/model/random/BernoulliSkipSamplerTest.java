@@ -0,0 +1,61 @@
+package org.example.envahissementarmorique.model.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'échantillonneur de Bernoulli par sauts géométriques.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class BernoulliSkipSamplerTest {
+
+    @Test
+    @DisplayName("La fréquence des succès est la probabilité demandée")
+    void testSuccessRate() {
+        for (double p : new double[] {0.01, 0.1, 0.3, 0.9}) {
+            BernoulliSkipSampler sampler = new BernoulliSkipSampler(p);
+            SimulationRandom random = new SimulationRandom(5L);
+            int trials = 1_000_000;
+            int successes = 0;
+            for (int index = sampler.nextIndex(random, 0); index < trials; index = sampler.nextIndex(random, index + 1)) {
+                successes++;
+            }
+            assertEquals(p, successes / (double) trials, 0.003, "p = " + p);
+        }
+    }
+
+    @Test
+    @DisplayName("Les sauts suivent une loi géométrique de moyenne (1 - p) / p")
+    void testMeanGap() {
+        BernoulliSkipSampler sampler = new BernoulliSkipSampler(0.2);
+        SimulationRandom random = new SimulationRandom(11L);
+        long total = 0;
+        int draws = 200_000;
+        for (int i = 0; i < draws; i++) {
+            total += sampler.nextGap(random);
+        }
+        assertEquals(4.0, total / (double) draws, 0.05);
+    }
+
+    @Test
+    @DisplayName("Les probabilités extrêmes sont exactes")
+    void testEdgeProbabilities() {
+        SimulationRandom random = new SimulationRandom(1L);
+        assertEquals(Long.MAX_VALUE, new BernoulliSkipSampler(0.0).nextGap(random));
+        assertEquals(Integer.MAX_VALUE, new BernoulliSkipSampler(0.0).nextIndex(random, 10));
+        assertEquals(0, new BernoulliSkipSampler(1.0).nextGap(random));
+        assertEquals(7, new BernoulliSkipSampler(1.0).nextIndex(random, 7));
+    }
+
+    @Test
+    @DisplayName("Une probabilité hors de [0, 1] est refusée")
+    void testInvalidProbability() {
+        assertThrows(IllegalArgumentException.class, () -> new BernoulliSkipSampler(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new BernoulliSkipSampler(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new BernoulliSkipSampler(Double.NaN));
+    }
+}
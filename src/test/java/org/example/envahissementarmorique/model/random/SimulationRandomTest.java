@@ -0,0 +1,105 @@
+package org.example.envahissementarmorique.model.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le générateur aléatoire de la simulation.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class SimulationRandomTest {
+
+    @Test
+    @DisplayName("Une même graine donne la même suite")
+    void testSameSeedSameSequence() {
+        SimulationRandom first = new SimulationRandom(123L);
+        SimulationRandom second = new SimulationRandom(123L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertEquals(123L, first.getSeed());
+    }
+
+    @Test
+    @DisplayName("Un enfant ne dépend que de la graine et de sa clé")
+    void testChildIgnoresParentConsumption() {
+        SimulationRandom fresh = new SimulationRandom(99L);
+        SimulationRandom used = new SimulationRandom(99L);
+        for (int i = 0; i < 57; i++) {
+            used.nextInt();
+        }
+
+        SimulationRandom a = fresh.child("lieu").child(3);
+        SimulationRandom b = used.child("lieu").child(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextDouble(), b.nextDouble());
+        }
+    }
+
+    @Test
+    @DisplayName("Des clés différentes donnent des flux différents")
+    void testDistinctKeysDistinctStreams() {
+        SimulationRandom root = new SimulationRandom(7L);
+        Set<Long> seeds = new HashSet<>();
+        for (int key = 0; key < 10_000; key++) {
+            seeds.add(root.child(key).getSeed());
+        }
+        seeds.add(root.child("bataille").getSeed());
+        seeds.add(root.child("nourriture").getSeed());
+
+        assertEquals(10_002, seeds.size());
+        assertNotEquals(root.child(1).nextLong(), root.child(2).nextLong());
+    }
+
+    @Test
+    @DisplayName("Les tirages parallèles sur des flux enfants égalent les tirages séquentiels")
+    void testParallelMatchesSequential() {
+        SimulationRandom root = new SimulationRandom(2024L);
+        long[] sequential = new long[256];
+        for (int i = 0; i < sequential.length; i++) {
+            sequential[i] = root.child(i).nextLong();
+        }
+
+        ConcurrentHashMap<Integer, Long> parallel = new ConcurrentHashMap<>();
+        IntStream.range(0, sequential.length).parallel()
+                .forEach(i -> parallel.put(i, root.child(i).nextLong()));
+
+        for (int i = 0; i < sequential.length; i++) {
+            assertEquals(sequential[i], parallel.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Les tirages bornés restent dans leur intervalle")
+    void testBoundedDraws() {
+        SimulationRandom random = new SimulationRandom(5L);
+        int[] counts = new int[6];
+        for (int i = 0; i < 60_000; i++) {
+            int value = random.nextInt(6);
+            counts[value]++;
+            double d = random.nextDouble();
+            assertTrue(d >= 0.0 && d < 1.0);
+            int ranged = random.nextInt(-3, 4);
+            assertTrue(ranged >= -3 && ranged < 4);
+        }
+        for (int count : counts) {
+            assertEquals(10_000, count, 500);
+        }
+    }
+
+    @Test
+    @DisplayName("Un nom de flux nul est refusé")
+    void testNullChildName() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationRandom(1L).child(null));
+    }
+}
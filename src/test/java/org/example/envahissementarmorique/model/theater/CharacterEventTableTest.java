@@ -0,0 +1,109 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.event.SimulationEvent.Change;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la table des événements aléatoires des personnages.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class CharacterEventTableTest {
+
+    private static List<GameCharacter> population(int size) {
+        List<GameCharacter> characters = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Gaulois gaulois = new Gaulois("G" + i, "M", 1.70, 30, 50, 40, 100, 100, 50, 5);
+            gaulois.setHealth(1_000_000);
+            characters.add(gaulois);
+        }
+        return characters;
+    }
+
+    private static long count(List<SimulationEvent> events, Change change) {
+        return events.stream()
+                .filter(event -> event instanceof SimulationEvent.CharacterChanged changed && changed.change() == change)
+                .count();
+    }
+
+    @Test
+    @DisplayName("La table par défaut reprend faim, potion et blessure")
+    void testDefaults() {
+        CharacterEventTable table = CharacterEventTable.defaults();
+
+        assertEquals(List.of(CharacterEventTable.HUNGER, CharacterEventTable.POTION_WEAR_OFF,
+                CharacterEventTable.INJURY), table.getEventNames());
+        assertEquals(0.3, table.getProbability(CharacterEventTable.HUNGER));
+        assertEquals(0.2, table.getProbability(CharacterEventTable.POTION_WEAR_OFF));
+        assertEquals(0.1, table.getProbability(CharacterEventTable.INJURY));
+    }
+
+    @Test
+    @DisplayName("Chaque événement touche la proportion attendue de personnages")
+    void testRates() {
+        CharacterEventTable table = CharacterEventTable.defaults();
+        List<GameCharacter> characters = population(100_000);
+        List<SimulationEvent> events = new ArrayList<>();
+
+        table.apply(characters, new SimulationRandom(9L), events);
+
+        long hunger = count(events, Change.HUNGER);
+        long potion = count(events, Change.POTION_WEAR_OFF);
+        long injury = count(events, Change.INJURY);
+        assertEquals(0.3, hunger / 100_000.0, 0.01);
+        assertEquals(0.2, potion / 100_000.0, 0.01);
+        assertEquals(0.1, injury / 100_000.0, 0.01);
+    }
+
+    @Test
+    @DisplayName("Les événements sortent groupés par entrée de la table, dans l'ordre des personnages")
+    void testMessageOrder() {
+        CharacterEventTable table = new CharacterEventTable()
+                .add("a", 1.0, (character, random) -> new SimulationEvent.Message(character.getName() + ":a"))
+                .add("b", 1.0, (character, random) -> new SimulationEvent.Message(character.getName() + ":b"));
+        List<SimulationEvent> events = new ArrayList<>();
+
+        table.apply(population(2), new SimulationRandom(1L), events);
+
+        assertEquals(List.of("G0:a", "G1:a", "G0:b", "G1:b"), events.stream().map(SimulationEvent::format).toList());
+    }
+
+    @Test
+    @DisplayName("Un événement de probabilité nulle ne survient jamais, et les morts ne subissent rien")
+    void testDisabledEventAndDeadCharacters() {
+        CharacterEventTable table = CharacterEventTable.defaults();
+        table.setProbability(CharacterEventTable.HUNGER, 0.0);
+        table.setProbability(CharacterEventTable.INJURY, 1.0);
+        List<GameCharacter> characters = population(50);
+        characters.get(0).setHealth(0);
+        List<SimulationEvent> events = new ArrayList<>();
+
+        table.apply(characters, new SimulationRandom(2L), events);
+
+        assertEquals(0, count(events, Change.HUNGER));
+        assertEquals(49, count(events, Change.INJURY));
+        assertEquals(0, characters.get(0).getHealth());
+    }
+
+    @Test
+    @DisplayName("Les noms en double ou inconnus sont refusés")
+    void testInvalidEvents() {
+        CharacterEventTable table = CharacterEventTable.defaults();
+
+        assertThrows(IllegalArgumentException.class, () -> table.add(CharacterEventTable.HUNGER, 0.5, (c, r) -> null));
+        assertThrows(IllegalArgumentException.class, () -> table.setProbability("inconnu", 0.5));
+        assertThrows(IllegalArgumentException.class, () -> table.setProbability(CharacterEventTable.HUNGER, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> table.add("x", 0.5, null));
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.place.RomanCamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'exécution Monte-Carlo des guerres de clans.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class ClanWarEnsembleTest {
+
+    private ClanWarSimulation scenario;
+    private GaulishVillage village;
+    private RomanCamp camp;
+
+    @BeforeEach
+    void setUp() {
+        scenario = new ClanWarSimulation("Ensemble", 10);
+        scenario.setVerbose(false);
+
+        village = new GaulishVillage("Village", 5000, null);
+        village.setVerbose(false);
+        ClanLeader chefGaulois = new ClanLeader("Chef Gaulois", "M", 50, village);
+        village.setChief(chefGaulois);
+        scenario.setClan1(chefGaulois, village);
+
+        camp = new RomanCamp("Camp", 8000, null);
+        camp.setVerbose(false);
+        ClanLeader chefRomain = new ClanLeader("Chef Romain", "M", 45, camp);
+        camp.setChief(chefRomain);
+        scenario.setClan2(chefRomain, camp);
+
+        Battlefield battlefield = new Battlefield("Plaine", 10000);
+        battlefield.setVerbose(false);
+        scenario.setBattlefield(battlefield);
+
+        for (int i = 0; i < 12; i++) {
+            scenario.addCharacterToClan1(new Gaulois("Gaulois " + i, "M", 1.70, 30, 40 + i * 3, 40, 60 + i * 4, 100, 70, 0));
+            scenario.addCharacterToClan2(new Roman("Romain " + i, "M", 1.75, 28, 45 + i * 2, 45, 70 + i * 3, 100, 80, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Une même graine donne le même bilan, quel que soit le nombre de threads")
+    void testSameSeedIsReproducible() {
+        ClanWarEnsemble ensemble = new ClanWarEnsemble(scenario);
+        ClanWarEnsemble.EnsembleReport first = ensemble.run(200, 42L);
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        ClanWarEnsemble.EnsembleReport second;
+        try {
+            ensemble.setPool(pool);
+            second = ensemble.run(200, 42L);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (BattleOutcome outcome : BattleOutcome.values()) {
+            assertEquals(first.getCount(outcome), second.getCount(outcome), outcome.name());
+        }
+        assertEquals(first.getFaction1Survivors().getMean(), second.getFaction1Survivors().getMean());
+        assertEquals(first.getFaction2Survivors().getMean(), second.getFaction2Survivors().getMean());
+        assertEquals(first.getMeanIterations(), second.getMeanIterations());
+    }
+
+    @Test
+    @DisplayName("Les répliques ne modifient pas le scénario")
+    void testScenarioIsUntouched() {
+        new ClanWarEnsemble(scenario).run(50, 7L);
+
+        assertEquals(12, village.getNumberOfCharacters());
+        assertEquals(12, camp.getNumberOfCharacters());
+        assertEquals(0, scenario.getPlaces().get(2).getNumberOfCharacters());
+        for (GameCharacter character : village.getCharacters()) {
+            assertEquals(character.getMaxHealth(), character.getHealth());
+        }
+    }
+
+    @Test
+    @DisplayName("Une copie ne partage ni lieu ni personnage avec le scénario")
+    void testCopySharesNoState() {
+        ClanWarSimulation copy = scenario.copy(1L);
+
+        Set<Object> original = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Place place : scenario.getPlaces()) {
+            original.add(place);
+            original.addAll(place.getCharacters());
+        }
+        for (Place place : copy.getPlaces()) {
+            assertFalse(original.contains(place));
+            for (GameCharacter character : place.getCharacters()) {
+                assertFalse(original.contains(character));
+            }
+        }
+        Place villageCopy = copy.getPlaces().get(0);
+        assertNotSame(village, villageCopy);
+        assertSame(villageCopy, villageCopy.getChief().getPlace());
+        assertEquals(village.getNumberOfCharacters(), villageCopy.getNumberOfCharacters());
+    }
+
+    @Test
+    @DisplayName("Les taux de victoire sont cohérents et encadrés par leur intervalle")
+    void testRatesAndIntervals() {
+        ClanWarEnsemble.EnsembleReport report = new ClanWarEnsemble(scenario).run(300, 2024L);
+
+        assertEquals(300, report.getReplicas());
+        double total = 0;
+        int count = 0;
+        for (BattleOutcome outcome : BattleOutcome.values()) {
+            double rate = report.getRate(outcome);
+            ClanWarEnsemble.Interval interval = report.getRateInterval(outcome);
+            assertTrue(interval.getLow() <= rate && rate <= interval.getHigh(), outcome.name());
+            total += rate;
+            count += report.getCount(outcome);
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(300, count);
+
+        ClanWarEnsemble.SurvivorDistribution survivors = report.getFaction1Survivors();
+        assertTrue(survivors.getMin() <= survivors.getPercentile(0.5));
+        assertTrue(survivors.getPercentile(0.5) <= survivors.getMax());
+        assertTrue(survivors.getMeanInterval().getLow() <= survivors.getMean());
+        assertTrue(report.getMeanIterations() > 0);
+    }
+
+    @Test
+    @DisplayName("L'intervalle de Wilson reste dans [0, 1]")
+    void testWilsonInterval() {
+        ClanWarEnsemble.Interval none = ClanWarEnsemble.wilson(0, 100);
+        assertEquals(0.0, none.getLow());
+        assertTrue(none.getHigh() > 0 && none.getHigh() < 0.05);
+
+        ClanWarEnsemble.Interval half = ClanWarEnsemble.wilson(50, 100);
+        assertEquals(0.5, (half.getLow() + half.getHigh()) / 2, 1e-9);
+        assertEquals(0.404, half.getLow(), 1e-3);
+    }
+
+    @Test
+    @DisplayName("Les paramètres invalides sont refusés")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ClanWarEnsemble(null));
+        ClanWarEnsemble ensemble = new ClanWarEnsemble(scenario);
+        assertThrows(IllegalArgumentException.class, () -> ensemble.run(0, 1L));
+        assertThrows(IllegalArgumentException.class, () -> ensemble.setPool(null));
+    }
+}
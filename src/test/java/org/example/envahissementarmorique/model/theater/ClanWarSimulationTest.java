@@ -3,6 +3,7 @@ package org.example.envahissementarmorique.model.theater;
 import org.example.envahissementarmorique.model.character.base.ClanLeader;
 import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
 import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.combat.DefaultCombatModel;
 import org.example.envahissementarmorique.model.place.Battlefield;
 import org.example.envahissementarmorique.model.place.GaulishVillage;
 import org.example.envahissementarmorique.model.place.RomanCamp;
@@ -270,5 +271,176 @@ class ClanWarSimulationTest {
         assertTrue(battlefield.addCharacter(legionnaire));
         assertEquals(2, battlefield.getNumberOfCharacters());
     }
-}
 
+    @Test
+    void testConductBattleReportsVictory() {
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 90, 100, 80, 0);
+        simulation.addCharacterToClan1(asterix);
+        simulation.addCharacterToClan2(legionnaire);
+        simulation.deployWarriorsToBattlefield();
+
+        BattleReport report = simulation.conductBattle();
+
+        assertSame(report, simulation.getLastBattleReport());
+        assertEquals(BattleOutcome.FACTION1_VICTORY, report.getOutcome());
+        assertTrue(report.getIterations() > 0);
+        assertEquals(0, report.getWastedIterations());
+        assertEquals(1, report.getFaction1Survivors());
+        assertEquals(0, report.getFaction2Survivors());
+    }
+
+    @Test
+    void testConductBattleDetectsStallWithoutDamage() {
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 90, 100, 80, 0);
+        simulation.addCharacterToClan1(asterix);
+        simulation.addCharacterToClan2(legionnaire);
+        simulation.deployWarriorsToBattlefield();
+        simulation.setCombatModel((strength, health, potion, endurance, defenderHealth, defenderPotion) -> 0);
+        simulation.setStallLimit(50);
+
+        BattleReport report = simulation.conductBattle();
+
+        assertEquals(BattleOutcome.STALEMATE, report.getOutcome());
+        assertEquals(50, report.getIterations());
+        assertEquals(50, report.getWastedIterations());
+        assertEquals(1.0, report.getWastedRatio());
+    }
+
+    @Test
+    void testConductBattleStopsAtStepBudget() {
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 10_000, 100, 75, 0);
+        Roman legionnaire = new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 10_000, 100, 80, 0);
+        simulation.addCharacterToClan1(asterix);
+        simulation.addCharacterToClan2(legionnaire);
+        simulation.deployWarriorsToBattlefield();
+        simulation.setMaxBattleSteps(10);
+
+        BattleReport report = simulation.conductBattle();
+
+        assertEquals(BattleOutcome.STEP_BUDGET_EXHAUSTED, report.getOutcome());
+        assertEquals(10, report.getIterations());
+        assertEquals(1, report.getFaction1Survivors());
+        assertEquals(1, report.getFaction2Survivors());
+    }
+
+    @Test
+    void testConductBattleWithPeacefulFactionIsStalemate() {
+        Gaulois asterix = new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0);
+        Roman pacifiste = new Roman("Pacifiste", "M", 1.75, 28, 70, 75, 90, 100, 0, 0);
+        simulation.addCharacterToClan1(asterix);
+        simulation.addCharacterToClan2(pacifiste);
+        simulation.deployWarriorsToBattlefield();
+
+        BattleReport report = simulation.conductBattle();
+
+        assertEquals(BattleOutcome.STALEMATE, report.getOutcome());
+        assertEquals(0, report.getIterations());
+    }
+
+    @Test
+    void testConductBattleWithoutOpponents() {
+        simulation.addCharacterToClan1(new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0));
+        simulation.addCharacterToClan1(new Gaulois("Obélix", "M", 1.85, 35, 90, 95, 120, 100, 70, 0));
+        simulation.deployWarriorsToBattlefield();
+
+        assertEquals(BattleOutcome.NO_BATTLE, simulation.conductBattle().getOutcome());
+    }
+
+    @Test
+    void testLargeDuelLoopRemovesEveryDeadFighter() {
+        simulation.setVerbose(false);
+        simulation.setSeed(7L);
+        for (int i = 0; i < 3_000; i++) {
+            simulation.addCharacterToClan1(new Gaulois("Gaulois" + i, "M", 1.70, 30, 40 + i % 20, 30, 100, 100, 50, 0));
+        }
+        for (int i = 0; i < 2_000; i++) {
+            simulation.addCharacterToClan2(new Roman("Romain" + i, "M", 1.75, 30, 40 + i % 20, 30, 100, 100, 50, 0));
+        }
+        simulation.deployWarriorsToBattlefield();
+
+        BattleReport report = simulation.conductBattle();
+
+        assertFalse(report.isEstimated());
+        assertEquals(BattleOutcome.FACTION1_VICTORY, report.getOutcome());
+        assertEquals(0, report.getFaction2Survivors());
+        assertTrue(report.getFaction1Survivors() > 0);
+        assertEquals(report.getFaction1Survivors(), battlefield.getAliveCharactersCount());
+        assertEquals(report.getFaction1Survivors(), battlefield.getNumberOfCharacters());
+    }
+
+    @Test
+    void testInvalidBattleLimitsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> simulation.setMaxBattleSteps(0));
+        assertThrows(IllegalArgumentException.class, () -> simulation.setStallLimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> simulation.setCombatModel(null));
+    }
+
+    @Test
+    void testLargeBattleIsFastForwarded() {
+        for (int i = 0; i < 60; i++) {
+            simulation.addCharacterToClan1(new Gaulois("Gaulois" + i, "M", 1.70, 30, 60, 40, 100, 100, 50, 0));
+        }
+        for (int i = 0; i < 40; i++) {
+            simulation.addCharacterToClan2(new Roman("Romain" + i, "M", 1.75, 30, 60, 40, 100, 100, 50, 0));
+        }
+        simulation.deployWarriorsToBattlefield();
+        simulation.setFastForwardThreshold(50);
+        simulation.setFastForwardCalibration(30, 4);
+
+        BattleReport report = simulation.conductBattle();
+
+        assertTrue(report.isEstimated());
+        assertFalse(Double.isNaN(report.getEstimatedError()));
+        assertEquals(BattleOutcome.FACTION1_VICTORY, report.getOutcome());
+        assertEquals(0, report.getFaction2Survivors());
+        assertTrue(report.getIterations() > 0);
+        // Les morts ont été retirés : seuls les survivants estimés restent
+        assertEquals(report.getFaction1Survivors(), battlefield.getAliveCharactersCount());
+        assertEquals(report.getFaction1Survivors(), battlefield.getNumberOfCharacters());
+    }
+
+    @Test
+    void testEachFastForwardedBattleIsCalibratedOnItsOwnArmies() {
+        int[] damageComputations = new int[1];
+        simulation.setCombatModel((strength, health, potion, endurance, defenderHealth, defenderPotion) -> {
+            damageComputations[0]++;
+            return DefaultCombatModel.INSTANCE.computeDamage(strength, health, potion,
+                    endurance, defenderHealth, defenderPotion);
+        });
+        for (int i = 0; i < 60; i++) {
+            simulation.addCharacterToClan1(new Gaulois("Gaulois" + i, "M", 1.70, 30, 60, 40, 100, 100, 50, 0));
+        }
+        for (int i = 0; i < 40; i++) {
+            simulation.addCharacterToClan2(new Roman("Romain" + i, "M", 1.75, 30, 60, 40, 100, 100, 50, 0));
+        }
+        simulation.deployWarriorsToBattlefield();
+        simulation.setFastForwardThreshold(50);
+        simulation.setFastForwardCalibration(30, 4);
+        assertTrue(simulation.conductBattle().isEstimated());
+
+        // Une seconde armée, bien plus forte, rejoint le champ de bataille
+        for (int i = 0; i < 60; i++) {
+            battlefield.addCharacter(new Roman("Renfort" + i, "M", 1.75, 30, 200, 150, 300, 100, 50, 5));
+        }
+        damageComputations[0] = 0;
+        BattleReport report = simulation.conductBattle();
+
+        assertTrue(report.isEstimated());
+        assertEquals(BattleOutcome.FACTION2_VICTORY, report.getOutcome());
+        // La prédiction seule calcule deux dégâts moyens ; le reste vient des duels d'étalonnage
+        assertTrue(damageComputations[0] > 2);
+    }
+
+    @Test
+    void testSmallBattleIsNotFastForwarded() {
+        simulation.addCharacterToClan1(new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0));
+        simulation.addCharacterToClan2(new Roman("Légionnaire", "M", 1.75, 28, 70, 75, 90, 100, 80, 0));
+        simulation.deployWarriorsToBattlefield();
+
+        assertFalse(simulation.conductBattle().isEstimated());
+        assertThrows(IllegalArgumentException.class, () -> simulation.setFastForwardThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> simulation.setFastForwardCalibration(0, 1));
+    }
+}
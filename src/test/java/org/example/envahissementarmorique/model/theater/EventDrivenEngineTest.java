@@ -0,0 +1,235 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.PackAndAlpha.Pack;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge;
+import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
+import org.example.envahissementarmorique.model.character.base.Lycan.Sexe;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.event.SimulationEvent.Change;
+import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le mode à événements discrets du théâtre.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class EventDrivenEngineTest {
+
+    private static InvasionTheater theater(Battlefield place) {
+        InvasionTheater theater = new InvasionTheater("Armorique", 1);
+        theater.setVerbose(false);
+        theater.setSeed(3L);
+        theater.addPlace(place);
+        theater.setEventDriven(true);
+        return theater;
+    }
+
+    private static Gaulois gaulois(String name) {
+        return new Gaulois(name, "M", 1.70, 30, 50, 40, 100, 100, 50, 5);
+    }
+
+    private static Pack pack() {
+        Lycanthropes male = new Lycanthropes(Sexe.MALE, CategorieAge.YOUNG, 10, 0.5, 0, new SimulationRandom(1L));
+        Lycanthropes female = new Lycanthropes(Sexe.FEMALE, CategorieAge.YOUNG, 10, 0.5, 0, new SimulationRandom(1L));
+        return new Pack("Meute", male, female, new SimulationRandom(5L));
+    }
+
+    private static long aged(List<SimulationEvent> events) {
+        return events.stream().filter(event -> event instanceof SimulationEvent.LycanAged).count();
+    }
+
+    private static boolean isChange(SimulationEvent event, Change change) {
+        return event instanceof SimulationEvent.CharacterChanged changed && changed.change() == change;
+    }
+
+    @Test
+    @DisplayName("Un personnage mort et un aliment avarié ne coûtent aucun événement")
+    void testIdleEntitiesAreNotTouched() {
+        Battlefield place = new Battlefield("Plaine", 100);
+        Gaulois dead = gaulois("Mort");
+        dead.setHealth(0);
+        place.addCharacter(dead);
+        place.addFood(new Food(Foods.BOAR, Freshness.ROTTEN));
+        InvasionTheater theater = theater(place);
+
+        for (int round = 0; round < 50; round++) {
+            assertTrue(theater.randomlyModifyCharacters().isEmpty());
+            assertTrue(theater.spawnFood().isEmpty());
+            assertTrue(theater.degradeFood().isEmpty());
+        }
+        assertEquals(0, theater.getEventEngine().getEventsProcessed());
+        assertEquals(0, theater.getEventEngine().getPendingEvents());
+    }
+
+    @Test
+    @DisplayName("Un aliment frais se dégrade à chaque intervalle jusqu'à être avarié, puis n'est plus touché")
+    void testFoodDegradesUntilRotten() {
+        Battlefield place = new Battlefield("Plaine", 100);
+        place.addFood(new Food(Foods.BOAR, Freshness.FRESH));
+        InvasionTheater theater = theater(place);
+
+        assertEquals(1, theater.degradeFood().size());
+        assertEquals(1, place.getFoodInventory().count(Foods.BOAR, Freshness.OKAY));
+        assertEquals(1, theater.degradeFood().size());
+        assertEquals(1, place.getFoodInventory().count(Foods.BOAR, Freshness.ROTTEN));
+        assertTrue(theater.degradeFood().isEmpty());
+        assertEquals(0, theater.getEventEngine().getPendingEvents());
+    }
+
+    @Test
+    @DisplayName("Un aliment mangé entre deux intervalles est abandonné")
+    void testEatenFoodIsDropped() {
+        Battlefield place = new Battlefield("Plaine", 100);
+        place.addFood(new Food(Foods.BOAR, Freshness.FRESH));
+        InvasionTheater theater = theater(place);
+        theater.degradeFood();
+
+        place.removeFood(new Food(Foods.BOAR, Freshness.OKAY));
+
+        assertTrue(theater.degradeFood().isEmpty());
+        assertTrue(place.getFoodInventory().isEmpty());
+        assertEquals(0, theater.getEventEngine().getPendingEvents());
+    }
+
+    @Test
+    @DisplayName("Les effets suivent les probabilités par intervalle du mode classique")
+    void testEventRatesMatchProbabilities() {
+        Battlefield place = new Battlefield("Plaine", 100_000);
+        for (int i = 0; i < 2000; i++) {
+            Gaulois gaulois = gaulois("G" + i);
+            gaulois.setHealth(100_000);
+            place.addCharacter(gaulois);
+        }
+        InvasionTheater theater = theater(place);
+
+        int rounds = 50;
+        long hunger = 0;
+        long injuries = 0;
+        for (int round = 0; round < rounds; round++) {
+            List<SimulationEvent> events = theater.randomlyModifyCharacters();
+            hunger += events.stream().filter(event -> isChange(event, Change.HUNGER)).count();
+            injuries += events.stream().filter(event -> isChange(event, Change.INJURY)).count();
+        }
+
+        double trials = 2000.0 * rounds;
+        assertEquals(theater.getCharacterEvents().getProbability(CharacterEventTable.HUNGER), hunger / trials, 0.01);
+        assertEquals(theater.getCharacterEvents().getProbability(CharacterEventTable.INJURY), injuries / trials, 0.01);
+    }
+
+    @Test
+    @DisplayName("Un personnage arrivé pendant qu'un mort est retiré reçoit ses événements")
+    void testReplacedCharacterIsTracked() {
+        Battlefield place = new Battlefield("Plaine", 100);
+        GameCharacter asterix = gaulois("Astérix");
+        GameCharacter obelix = gaulois("Obélix");
+        place.addCharacter(asterix);
+        place.addCharacter(obelix);
+        InvasionTheater theater = theater(place);
+        theater.getCharacterEvents().setProbability(CharacterEventTable.HUNGER, 1.0);
+        theater.randomlyModifyCharacters();
+
+        // Un départ et une arrivée dans le même intervalle : le nombre de personnages ne change pas
+        obelix.setHealth(0);
+        place.removeDeadCharacters();
+        GameCharacter idefix = gaulois("Idéfix");
+        idefix.setHealth(100_000);
+        place.addCharacter(idefix);
+        assertEquals(2, place.getNumberOfCharacters());
+
+        long hunger = 0;
+        for (int round = 0; round < 20; round++) {
+            hunger += theater.randomlyModifyCharacters().stream()
+                    .filter(event -> isChange(event, Change.HUNGER))
+                    .filter(event -> ((SimulationEvent.CharacterChanged) event).character().equals("Idéfix"))
+                    .count();
+        }
+        assertEquals(20, hunger);
+    }
+
+    @Test
+    @DisplayName("Un personnage mort en cours de route n'a plus d'événement")
+    void testDeadCharacterIsDropped() {
+        Battlefield place = new Battlefield("Plaine", 100);
+        GameCharacter gaulois = gaulois("Astérix");
+        place.addCharacter(gaulois);
+        InvasionTheater theater = theater(place);
+        theater.randomlyModifyCharacters();
+
+        gaulois.setHealth(0);
+        for (int round = 0; round < 100; round++) {
+            assertTrue(theater.randomlyModifyCharacters().isEmpty());
+        }
+        assertEquals(0, theater.getEventEngine().getPendingEvents());
+    }
+
+    @Test
+    @DisplayName("Les lycanthropes d'une meute vieillissent toutes les périodes")
+    void testPackLycansAgeEveryPeriod() {
+        Pack pack = pack();
+        InvasionTheater theater = theater(new Battlefield("Plaine", 100));
+        theater.setLycanAgeingPeriod(3);
+        theater.addPack(pack);
+
+        assertEquals(0, aged(theater.randomlyModifyCharacters()));
+        assertEquals(0, aged(theater.randomlyModifyCharacters()));
+        assertEquals(2, aged(theater.randomlyModifyCharacters()));
+        for (Lycanthropes lycan : pack.getMembers()) {
+            assertEquals(CategorieAge.ADULT, lycan.getAgeCategory());
+        }
+
+        assertEquals(0, aged(theater.randomlyModifyCharacters()));
+        assertEquals(0, aged(theater.randomlyModifyCharacters()));
+        assertEquals(2, aged(theater.randomlyModifyCharacters()));
+        for (Lycanthropes lycan : pack.getMembers()) {
+            assertEquals(CategorieAge.OLD, lycan.getAgeCategory());
+        }
+    }
+
+    @Test
+    @DisplayName("Le vieillissement survit au remplacement du moteur par les réglages du théâtre")
+    void testAgeingSurvivesEngineRebuild() {
+        Pack pack = pack();
+        InvasionTheater theater = theater(new Battlefield("Plaine", 100));
+        theater.setLycanAgeingPeriod(2);
+        theater.addPack(pack);
+        theater.randomlyModifyCharacters();
+
+        theater.setSeed(4L);
+        theater.setFoodSpawner(FoodSpawner.defaults());
+        theater.setCharacterEvents(CharacterEventTable.defaults());
+
+        assertEquals(0, aged(theater.randomlyModifyCharacters()));
+        assertEquals(2, aged(theater.randomlyModifyCharacters()));
+        assertEquals(CategorieAge.ADULT, pack.getAlphaCouple().getMale().getAgeCategory());
+    }
+
+    @Test
+    @DisplayName("Un lycanthrope redevenu humain ne vieillit plus")
+    void testHumanLycanStopsAgeing() {
+        Pack pack = pack();
+        Lycanthropes female = pack.getAlphaCouple().getFemale();
+        InvasionTheater theater = theater(new Battlefield("Plaine", 100));
+        theater.setLycanAgeingPeriod(1);
+        theater.addPack(pack);
+        assertEquals(2, aged(theater.randomlyModifyCharacters()));
+
+        female.forceTransformHumanForTest();
+
+        assertEquals(1, aged(theater.randomlyModifyCharacters()));
+        assertEquals(CategorieAge.ADULT, female.getAgeCategory());
+        assertEquals(1, aged(theater.randomlyModifyCharacters()));
+    }
+}
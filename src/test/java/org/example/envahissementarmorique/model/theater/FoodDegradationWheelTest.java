@@ -0,0 +1,113 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.item.FreshnessSchedule;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.example.envahissementarmorique.model.place.Place;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe {@link FoodDegradationWheel}.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class FoodDegradationWheelTest {
+
+    private static List<String> advance(FoodDegradationWheel wheel) {
+        List<String> changes = new ArrayList<>();
+        wheel.advance((place, food, from, to, count) -> changes.add(food + ":" + from + "->" + to + "x" + count));
+        return changes;
+    }
+
+    @Test
+    @DisplayName("Par défaut, un aliment perd un cran par intervalle, puis n'est plus touché une fois pourri")
+    void testDefaultScheduleOneStepPerTick() {
+        FoodDegradationWheel wheel = new FoodDegradationWheel(new FreshnessSchedule());
+        Place village = new GaulishVillage("Village", 5000, null);
+        village.getFoodInventory().add(Foods.BOAR, Freshness.FRESH, 3);
+        wheel.track(village);
+
+        assertEquals(List.of("BOAR:FRESH->OKAYx3"), advance(wheel));
+        assertEquals(List.of("BOAR:OKAY->ROTTENx3"), advance(wheel));
+        assertEquals(0, wheel.getPendingBatches());
+        assertTrue(advance(wheel).isEmpty());
+        assertEquals(3, village.getFoodInventory().count(Foods.BOAR, Freshness.ROTTEN));
+    }
+
+    @Test
+    @DisplayName("Les durées configurées fixent l'intervalle de chaque changement, même au-delà d'un tour de roue")
+    void testConfiguredDurations() {
+        FreshnessSchedule schedule = new FreshnessSchedule()
+                .setDuration(Freshness.FRESH, 3)
+                .setDuration(Freshness.OKAY, 100);
+        FoodDegradationWheel wheel = new FoodDegradationWheel(schedule);
+        Place village = new GaulishVillage("Village", 5000, null);
+        wheel.track(village);
+        village.addFood(new Food(Foods.HONEY, Freshness.FRESH));
+
+        List<Long> changeTicks = new ArrayList<>();
+        for (int tick = 0; tick < 200; tick++) {
+            if (!advance(wheel).isEmpty()) changeTicks.add(wheel.getNow());
+        }
+
+        assertEquals(List.of(3L, 103L), changeTicks);
+        assertEquals(1, village.getFoodInventory().count(Foods.HONEY, Freshness.ROTTEN));
+    }
+
+    @Test
+    @DisplayName("Les arrivées d'un même intervalle forment un seul lot ; seuls les lots échus sont touchés")
+    void testBatchesByArrival() {
+        FoodDegradationWheel wheel = new FoodDegradationWheel(new FreshnessSchedule().setDuration(Freshness.FRESH, 2));
+        Place village = new GaulishVillage("Village", 5000, null);
+        wheel.track(village);
+        FoodInventory inventory = village.getFoodInventory();
+        inventory.add(Foods.BOAR, Freshness.FRESH, 1);
+        inventory.add(Foods.BOAR, Freshness.FRESH, 1);
+        assertEquals(1, wheel.getPendingBatches());
+
+        assertTrue(advance(wheel).isEmpty());
+        inventory.add(Foods.BOAR, Freshness.FRESH, 5);
+
+        assertEquals(List.of("BOAR:FRESH->OKAYx2"), advance(wheel));
+        assertEquals(5, inventory.count(Foods.BOAR, Freshness.FRESH));
+        assertEquals(List.of("BOAR:FRESH->OKAYx5", "BOAR:OKAY->ROTTENx2"), advance(wheel));
+    }
+
+    @Test
+    @DisplayName("Un lot échu ne change que les aliments restés en stock ; un lieu retiré n'est plus touché")
+    void testEatenFoodAndUntrackedPlace() {
+        FoodDegradationWheel wheel = new FoodDegradationWheel(new FreshnessSchedule());
+        Place village = new GaulishVillage("Village", 5000, null);
+        Place other = new GaulishVillage("Autre", 5000, null);
+        wheel.track(village);
+        wheel.track(other);
+        village.getFoodInventory().add(Foods.BOAR, Freshness.FRESH, 4);
+        other.getFoodInventory().add(Foods.WINE, Freshness.FRESH, 1);
+
+        village.getFoodInventory().remove(Foods.BOAR, Freshness.FRESH, 3);
+        wheel.untrack(other);
+
+        assertEquals(List.of("BOAR:FRESH->OKAYx1"), advance(wheel));
+        assertEquals(1, other.getFoodInventory().count(Foods.WINE, Freshness.FRESH));
+    }
+
+    @Test
+    @DisplayName("Un état pourri n'a pas de durée et une durée doit valoir au moins un intervalle")
+    void testScheduleValidation() {
+        FreshnessSchedule schedule = new FreshnessSchedule();
+        assertEquals(1, schedule.getDuration(Freshness.OKAY));
+        assertThrows(IllegalArgumentException.class, () -> schedule.getDuration(Freshness.ROTTEN));
+        assertThrows(IllegalArgumentException.class, () -> schedule.setDuration(Freshness.ROTTEN, 2));
+        assertThrows(IllegalArgumentException.class, () -> schedule.setDuration(Freshness.FRESH, 0));
+    }
+}
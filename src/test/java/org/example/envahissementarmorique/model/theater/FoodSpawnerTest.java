@@ -0,0 +1,87 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.place.RomanCity;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le générateur d'aliments pondéré par type de lieu.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class FoodSpawnerTest {
+
+    private static double boarShare(FoodSpawner spawner, Place place) {
+        SimulationRandom random = new SimulationRandom(8L);
+        int boars = 0;
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            if (spawner.sample(place, random) == Foods.BOAR) boars++;
+        }
+        return boars / (double) draws;
+    }
+
+    @Test
+    @DisplayName("Le sanglier est courant au village gaulois et rare à la ville romaine")
+    void testDefaultWeightsPerPlaceType() {
+        FoodSpawner spawner = FoodSpawner.defaults();
+        GaulishVillage village = new GaulishVillage("Village", 5000, null);
+        RomanCity city = new RomanCity("Rome", 5000, null);
+
+        double villageBoar = boarShare(spawner, village);
+        double cityBoar = boarShare(spawner, city);
+
+        double villageTotal = 0.0;
+        double cityTotal = 0.0;
+        for (Foods food : Foods.values()) {
+            villageTotal += spawner.getWeight(GaulishVillage.class, food);
+            cityTotal += spawner.getWeight(RomanCity.class, food);
+        }
+        assertEquals(8.0 / villageTotal, villageBoar, 0.01);
+        assertEquals(0.2 / cityTotal, cityBoar, 0.005);
+        assertTrue(villageBoar > 10 * cityBoar);
+    }
+
+    @Test
+    @DisplayName("Un aliment de poids nul n'apparaît jamais")
+    void testZeroWeight() {
+        FoodSpawner spawner = new FoodSpawner().setWeight(GaulishVillage.class, Foods.BOAR, 0.0);
+        GaulishVillage village = new GaulishVillage("Village", 5000, null);
+
+        assertEquals(0.0, boarShare(spawner, village));
+        assertEquals(1.0, spawner.getWeight(RomanCity.class, Foods.BOAR));
+        assertThrows(IllegalArgumentException.class, () -> spawner.setWeight(RomanCity.class, Foods.WINE, -1.0));
+    }
+
+    @Test
+    @DisplayName("L'apparition en série sert la proportion attendue de lieux, jamais un champ de bataille")
+    void testSpawnAll() {
+        FoodSpawner spawner = FoodSpawner.defaults();
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            places.add(i % 2 == 0 ? new GaulishVillage("V" + i, 5000, null) : new Battlefield("B" + i, 5000));
+        }
+
+        List<Place> served = new ArrayList<>();
+        int spawned = spawner.spawnAll(places, 0.4, new SimulationRandom(6L), (place, food) -> {
+            served.add(place);
+            assertEquals(1, place.getFoodInventory().count(food, Freshness.FRESH));
+        });
+
+        assertEquals(served.size(), spawned);
+        assertTrue(served.stream().noneMatch(place -> place instanceof Battlefield));
+        assertEquals(0.4, spawned / 5000.0, 0.03);
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.ClanLeader;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.item.Food;
+import org.example.envahissementarmorique.model.item.Foods;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'exécution sans intervention et les stratégies des chefs de clan.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests de l'exécution sans intervention")
+class HeadlessRunnerTest {
+
+    private InvasionTheater theater;
+    private GaulishVillage village;
+    private ClanLeader chief;
+
+    @BeforeEach
+    void setUp() {
+        theater = new InvasionTheater("Armorique", 5);
+
+        village = new GaulishVillage("Village", 5000, null);
+        chief = new ClanLeader("Abraracourcix", "M", 50, village);
+        village.setChief(chief);
+        village.addCharacter(new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0));
+        theater.addPlace(village);
+        theater.addClanLeader(chief);
+
+        Battlefield battlefield = new Battlefield("Plaine", 10000);
+        for (int i = 0; i < 5; i++) {
+            battlefield.addCharacter(new Gaulois("G" + i, "M", 1.60, 35, 60, 50, 100, 100, 75, 0));
+            battlefield.addCharacter(new Roman("R" + i, "M", 1.75, 28, 55, 45, 90, 100, 80, 0));
+        }
+        theater.addPlace(battlefield);
+    }
+
+    @Test
+    @DisplayName("Les intervalles s'enchaînent et chaque résumé est transmis dans l'ordre")
+    void testRunStreamsSummaries() {
+        List<IntervalSummary> summaries = new ArrayList<>();
+
+        HeadlessRunner.RunReport report = new HeadlessRunner(theater, ClanLeaderPolicy.caretaker())
+                .run(500, summaries::add);
+
+        assertEquals(500, summaries.size());
+        for (int i = 0; i < summaries.size(); i++) {
+            assertEquals(i + 1, summaries.get(i).getInterval());
+        }
+        assertEquals(500, report.getIntervals());
+        assertTrue(report.getIntervalsPerSecond() > 0);
+        assertEquals(summaries.stream().mapToLong(IntervalSummary::getCasualties).sum(), report.getCasualties());
+        assertTrue(report.getCombats() > 0);
+        assertTrue(theater.isVerbose());
+    }
+
+    @Test
+    @DisplayName("Une stratégie passive n'effectue aucune action")
+    void testPassivePolicy() {
+        List<IntervalSummary> summaries = new ArrayList<>();
+
+        new HeadlessRunner(theater, ClanLeaderPolicy.passive()).run(20, summaries::add);
+
+        assertTrue(summaries.stream().allMatch(summary -> summary.getLeaderActions() == 0));
+    }
+
+    @Test
+    @DisplayName("L'intendant nourrit les affamés, puis soigne les blessés")
+    void testCaretakerPolicy() {
+        ClanLeaderPolicy caretaker = ClanLeaderPolicy.caretaker();
+        Gaulois asterix = (Gaulois) village.getCharacters().get(0);
+
+        assertEquals(LeaderAction.PASS, caretaker.chooseAction(chief, village, 1, 2));
+
+        asterix.setHealth(50);
+        assertEquals(LeaderAction.HEAL, caretaker.chooseAction(chief, village, 1, 2));
+
+        asterix.setHunger(40);
+        village.addFood(new Food(Foods.BOAR, Freshness.FRESH));
+        assertEquals(LeaderAction.FEED, caretaker.chooseAction(chief, village, 1, 2));
+    }
+
+    @Test
+    @DisplayName("La stratégie interactive ignore les saisies invalides")
+    void testInteractivePolicy() {
+        ClanLeaderPolicy interactive = ClanLeaderPolicy.interactive(new Scanner("abc\n9\n1\n"));
+
+        assertEquals(LeaderAction.HEAL, interactive.chooseAction(chief, village, 1, 2));
+    }
+
+    @Test
+    @DisplayName("Paramètres invalides refusés")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(null, ClanLeaderPolicy.passive()));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunner(theater, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HeadlessRunner(theater, ClanLeaderPolicy.passive()).run(-1, summary -> { }));
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.PackAndAlpha.Pack;
+import org.example.envahissementarmorique.model.character.base.GameCharacter;
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Lycan.CategorieAge;
+import org.example.envahissementarmorique.model.character.base.Lycan.Lycanthropes;
+import org.example.envahissementarmorique.model.character.base.Lycan.Sexe;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.event.SimulationEvent;
+import org.example.envahissementarmorique.model.item.FoodInventory;
+import org.example.envahissementarmorique.model.item.Freshness;
+import org.example.envahissementarmorique.model.item.FreshnessSchedule;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.example.envahissementarmorique.model.place.GaulishVillage;
+import org.example.envahissementarmorique.model.place.Place;
+import org.example.envahissementarmorique.model.random.SimulationRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le théâtre d'invasion.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+@DisplayName("Tests de la classe InvasionTheater")
+class InvasionTheaterTest {
+
+    /** Pool des tests en mode parallèle, propre à chaque test. */
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Crée un théâtre avec plusieurs champs de bataille peuplés de Gaulois et de Romains.
+     */
+    private static InvasionTheater createTheater(int battlefields, int fightersPerSide) {
+        InvasionTheater theater = new InvasionTheater("Armorique", battlefields);
+        for (int b = 0; b < battlefields; b++) {
+            Battlefield battlefield = new Battlefield("Champ " + b, 10000);
+            for (int i = 0; i < fightersPerSide; i++) {
+                battlefield.addCharacter(new Gaulois("G" + b + "-" + i, "M", 1.60, 35, 60 + i, 50, 100, 100, 75, 0));
+                battlefield.addCharacter(new Roman("R" + b + "-" + i, "M", 1.75, 28, 55 + i, 45, 90, 100, 80, 0));
+            }
+            theater.addPlace(battlefield);
+        }
+        return theater;
+    }
+
+    @Test
+    @DisplayName("Chaque combattant livre au plus un duel par intervalle")
+    void testConductBattlesOneDuelPerFighter() {
+        InvasionTheater theater = createTheater(1, 5);
+
+        List<CombatResult> results = theater.conductBattles();
+
+        assertEquals(5, results.size());
+        for (CombatResult result : results) {
+            assertNotEquals(result.getFighter1Faction(), result.getFighter2Faction());
+        }
+    }
+
+    @Test
+    @DisplayName("Les duels suivent le modèle de combat du théâtre")
+    void testConductBattlesUsesCombatModel() {
+        InvasionTheater theater = createTheater(2, 5);
+        theater.setCombatModel((strength, health, potion, endurance, defenderHealth, defenderPotion) -> 10);
+
+        List<CombatResult> results = theater.conductBattles();
+
+        assertEquals(10, results.size());
+        for (CombatResult result : results) {
+            assertEquals(10, result.getDamageToFighter2());
+            assertEquals(10, result.getDamageToFighter1());
+        }
+    }
+
+    @Test
+    @DisplayName("Le mode parallèle produit les mêmes résultats, dans le même ordre")
+    void testParallelBattlesMatchSequential() {
+        InvasionTheater sequential = createTheater(8, 20);
+        InvasionTheater parallel = createTheater(8, 20);
+        parallel.setParallelBattles(true);
+        parallel.setBattlePool(pool);
+
+        List<CombatResult> expected = sequential.conductBattles();
+        List<CombatResult> actual = parallel.conductBattles();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getFighter1HealthAfter(), actual.get(i).getFighter1HealthAfter());
+            assertEquals(expected.get(i).getFighter2HealthAfter(), actual.get(i).getFighter2HealthAfter());
+        }
+    }
+
+    @Test
+    @DisplayName("Une même graine rejoue exactement les mêmes événements aléatoires")
+    void testSeedReproducesRandomEvents() {
+        InvasionTheater first = createTheater(3, 10);
+        InvasionTheater second = createTheater(3, 10);
+        first.setVerbose(false);
+        second.setVerbose(false);
+        first.setSeed(42L);
+        second.setSeed(42L);
+
+        for (int round = 0; round < 5; round++) {
+            assertEquals(first.randomlyModifyCharacters(), second.randomlyModifyCharacters());
+            assertEquals(first.spawnFood(), second.spawnFood());
+        }
+        assertEquals(42L, first.getSeed());
+    }
+
+    @Test
+    @DisplayName("Le traitement parallèle des lieux donne les mêmes événements que le séquentiel")
+    void testParallelPlacesMatchSequential() {
+        InvasionTheater sequential = createTheater(40, 10);
+        InvasionTheater parallel = createTheater(40, 10);
+        for (InvasionTheater theater : List.of(sequential, parallel)) {
+            theater.setVerbose(false);
+            theater.setSeed(7L);
+            GaulishVillage village = new GaulishVillage("Village", 5000, null);
+            village.setVerbose(false);
+            for (int i = 0; i < 5; i++) {
+                village.addCharacter(new Gaulois("V" + i, "M", 1.70, 30, 50, 40, 100, 100, 50, 0));
+            }
+            theater.setMaxPlaces(41);
+            theater.addPlace(village);
+        }
+        parallel.setParallelPlaces(true);
+        parallel.setBattlePool(pool);
+
+        for (int round = 0; round < 5; round++) {
+            assertEquals(sequential.randomlyModifyCharacters(), parallel.randomlyModifyCharacters());
+            assertEquals(sequential.spawnFood(), parallel.spawnFood());
+            assertEquals(sequential.degradeFood(), parallel.degradeFood());
+        }
+
+        List<Place> expected = sequential.getPlaces();
+        List<Place> actual = parallel.getPlaces();
+        for (int p = 0; p < expected.size(); p++) {
+            List<GameCharacter> expectedCharacters = expected.get(p).getCharacters();
+            List<GameCharacter> actualCharacters = actual.get(p).getCharacters();
+            for (int c = 0; c < expectedCharacters.size(); c++) {
+                assertEquals(expectedCharacters.get(c).getHealth(), actualCharacters.get(c).getHealth());
+                assertEquals(expectedCharacters.get(c).getHunger(), actualCharacters.get(c).getHunger());
+            }
+            assertEquals(expected.get(p).getFoods().size(), actual.get(p).getFoods().size());
+        }
+    }
+
+    @Test
+    @DisplayName("En parallèle, la nourriture apparue est rangée dans la roue comme en séquentiel")
+    void testParallelFoodSpawnMatchesSequentialWheel() {
+        InvasionTheater sequential = new InvasionTheater("Armorique", 200);
+        InvasionTheater parallel = new InvasionTheater("Armorique", 200);
+        for (InvasionTheater theater : List.of(sequential, parallel)) {
+            theater.setVerbose(false);
+            theater.setSeed(11L);
+            theater.setFreshnessSchedule(new FreshnessSchedule()
+                    .setDuration(Freshness.FRESH, 2)
+                    .setDuration(Freshness.OKAY, 3));
+            for (int p = 0; p < 200; p++) {
+                GaulishVillage village = new GaulishVillage("Village " + p, 5000, null);
+                village.setVerbose(false);
+                theater.addPlace(village);
+            }
+        }
+        parallel.setParallelPlaces(true);
+        parallel.setBattlePool(pool);
+
+        for (int round = 0; round < 20; round++) {
+            assertEquals(sequential.spawnFood(), parallel.spawnFood());
+            assertEquals(sequential.getFoodWheel().getPendingBatches(), parallel.getFoodWheel().getPendingBatches());
+            assertEquals(sequential.degradeFood(), parallel.degradeFood());
+        }
+
+        for (int p = 0; p < 200; p++) {
+            assertEquals(stacks(sequential.getPlaces().get(p)), stacks(parallel.getPlaces().get(p)));
+        }
+    }
+
+    private static List<FoodInventory.Stack> stacks(Place place) {
+        List<FoodInventory.Stack> stacks = new ArrayList<>();
+        place.getFoodInventory().forEach(stacks::add);
+        return stacks;
+    }
+
+    @Test
+    @DisplayName("Un pool null est refusé")
+    void testNullBattlePoolRejected() {
+        InvasionTheater theater = createTheater(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> theater.setBattlePool(null));
+    }
+
+    @Test
+    @DisplayName("Hors mode à événements, les lycanthropes des meutes vieillissent aussi toutes les périodes")
+    void testPackLycansAgeInClassicMode() {
+        Lycanthropes male = new Lycanthropes(Sexe.MALE, CategorieAge.YOUNG, 10, 0.5, 0, new SimulationRandom(1L));
+        Lycanthropes female = new Lycanthropes(Sexe.FEMALE, CategorieAge.YOUNG, 10, 0.5, 0, new SimulationRandom(1L));
+        InvasionTheater theater = createTheater(1, 1);
+        theater.setVerbose(false);
+        theater.setLycanAgeingPeriod(2);
+        theater.addPack(new Pack("Meute", male, female, new SimulationRandom(5L)));
+
+        theater.randomlyModifyCharacters();
+        assertEquals(CategorieAge.YOUNG, male.getAgeCategory());
+
+        long aged = theater.randomlyModifyCharacters().stream()
+                .filter(event -> event instanceof SimulationEvent.LycanAged)
+                .count();
+        assertEquals(2, aged);
+        assertEquals(CategorieAge.ADULT, male.getAgeCategory());
+        assertEquals(CategorieAge.ADULT, female.getAgeCategory());
+    }
+}
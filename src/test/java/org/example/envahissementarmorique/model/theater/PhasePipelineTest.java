@@ -0,0 +1,134 @@
+package org.example.envahissementarmorique.model.theater;
+
+import org.example.envahissementarmorique.model.character.base.Gaulish.Gaulois;
+import org.example.envahissementarmorique.model.character.base.Roman.Roman;
+import org.example.envahissementarmorique.model.place.Battlefield;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le pipeline des phases d'un intervalle.
+ *
+ * @author Envahissement Armorique Team
+ * @version 1.0
+ */
+class PhasePipelineTest {
+
+    @Test
+    @DisplayName("Les phases s'exécutent dans l'ordre et sont chronométrées")
+    void testPhasesRunInOrderAndAreTimed() {
+        List<String> calls = new ArrayList<>();
+        PhasePipeline pipeline = new PhasePipeline()
+                .addPhase("a", round -> calls.add("a"))
+                .addPhase("b", round -> calls.add("b"))
+                .addPhase("c", round -> calls.add("c"));
+
+        RoundResult round = pipeline.runRound(7);
+
+        assertEquals(List.of("a", "b", "c"), calls);
+        assertEquals(7, round.getRoundNumber());
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(round.getPhaseDurations().keySet()));
+        assertTrue(round.getPhaseDurations().values().stream().allMatch(nanos -> nanos >= 0));
+        assertEquals(1, pipeline.getRounds());
+    }
+
+    @Test
+    @DisplayName("Une phase désactivée est sautée")
+    void testDisabledPhaseIsSkipped() {
+        List<String> calls = new ArrayList<>();
+        PhasePipeline pipeline = new PhasePipeline()
+                .addPhase("a", round -> calls.add("a"))
+                .addPhase("b", round -> calls.add("b"));
+        pipeline.setEnabled("a", false);
+
+        RoundResult round = pipeline.runRound(1);
+
+        assertEquals(List.of("b"), calls);
+        assertFalse(pipeline.isEnabled("a"));
+        assertFalse(round.getPhaseDurations().containsKey("a"));
+        assertEquals(0, round.getPhaseDuration("a"));
+        assertTrue(pipeline.getTimingReport().contains("désactivée"));
+    }
+
+    @Test
+    @DisplayName("Les durées cumulées mesurent le temps passé dans chaque phase")
+    void testTotalsAccumulate() {
+        PhasePipeline pipeline = new PhasePipeline()
+                .addPhase("lente", round -> busyWait(2_000_000))
+                .addPhase("rapide", round -> { });
+
+        for (int i = 1; i <= 3; i++) {
+            pipeline.runRound(i);
+        }
+
+        assertEquals(3, pipeline.getRounds());
+        assertTrue(pipeline.getTotalNanos("lente") >= 6_000_000);
+        assertTrue(pipeline.getTotalNanos("lente") > pipeline.getTotalNanos("rapide"));
+        assertTrue(pipeline.getMaxNanos("lente") >= 2_000_000);
+
+        pipeline.resetTimings();
+        assertEquals(0, pipeline.getRounds());
+        assertEquals(0, pipeline.getTotalNanos("lente"));
+    }
+
+    @Test
+    @DisplayName("L'observateur est prévenu après chaque phase, et une phase peut être remplacée")
+    void testListenerAndReplacement() {
+        List<String> notified = new ArrayList<>();
+        PhasePipeline pipeline = new PhasePipeline()
+                .addPhase("a", round -> round.addLeaderActions(1))
+                .addPhase("b", round -> { });
+        pipeline.setPhaseListener((phase, round) -> notified.add(phase + ":" + round.getLeaderActions()));
+        pipeline.replacePhase("a", round -> round.addLeaderActions(5));
+
+        pipeline.runRound(1);
+
+        assertEquals(List.of("a:5", "b:5"), notified);
+    }
+
+    @Test
+    @DisplayName("Les noms inconnus ou en double sont refusés")
+    void testInvalidPhases() {
+        PhasePipeline pipeline = new PhasePipeline().addPhase("a", round -> { });
+
+        assertThrows(IllegalArgumentException.class, () -> pipeline.addPhase("a", round -> { }));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.setEnabled("inconnue", false));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.addPhase("b", null));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.setPhaseListener(null));
+    }
+
+    @Test
+    @DisplayName("Le pipeline du théâtre remplit le résultat de l'intervalle")
+    void testTheaterPipeline() {
+        InvasionTheater theater = new InvasionTheater("Armorique", 2);
+        theater.setVerbose(false);
+        Battlefield battlefield = new Battlefield("Plaine", 10000);
+        battlefield.addCharacter(new Gaulois("Astérix", "M", 1.60, 35, 80, 85, 100, 100, 75, 0));
+        battlefield.addCharacter(new Roman("Brutus", "M", 1.75, 28, 70, 75, 90, 100, 80, 0));
+        theater.addPlace(battlefield);
+
+        PhasePipeline pipeline = theater.createPipeline(ClanLeaderPolicy.passive(), 2);
+        assertEquals(List.of(InvasionTheater.PHASE_BATTLES, InvasionTheater.PHASE_STATE_CHANGES,
+                InvasionTheater.PHASE_FOOD_SPAWN, InvasionTheater.PHASE_FOOD_DEGRADATION,
+                InvasionTheater.PHASE_LEADERS), pipeline.getPhaseNames());
+
+        RoundResult round = pipeline.runRound(1);
+        assertEquals(1, round.getTotalBattles());
+        assertEquals(5, round.getPhaseDurations().size());
+
+        pipeline.setEnabled(InvasionTheater.PHASE_BATTLES, false);
+        assertEquals(0, pipeline.runRound(2).getTotalBattles());
+    }
+
+    private static void busyWait(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}